@@ -0,0 +1,121 @@
+package com.demo.testclient;
+
+import com.demo.testclient.dto.PagedResponseDTO;
+import com.demo.testclient.dto.TaskDTO;
+import com.demo.testclient.enums.TaskPriority;
+import com.demo.testclient.enums.TaskStatus;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.*;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Compares JSON, CBOR and Smile payload size and encode/decode time for a page of tasks.
+// The in-process benchmark needs no server; the live comparison runs only if the application is up.
+public class TestPayloadFormats {
+
+    private static final int PAGE_SIZE = 100;
+    private static final int COMMENTS_PER_TASK = 20;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    private static final TypeReference<PagedResponseDTO<TaskDTO>> PAGE_TYPE = new TypeReference<>() {};
+
+    public static void main(String[] args) throws Exception {
+        Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+        mappers.put("JSON", new ObjectMapper());
+        mappers.put("CBOR", new ObjectMapper(new CBORFactory()));
+        mappers.put("Smile", new ObjectMapper(new SmileFactory()));
+
+        PagedResponseDTO<TaskDTO> page = createPage();
+
+        System.out.println("In-process benchmark: " + PAGE_SIZE + " tasks, " + COMMENTS_PER_TASK
+                + " comment ids per task, " + MEASURED_ITERATIONS + " iterations");
+        System.out.printf("%-6s %12s %14s %14s%n", "Format", "Size (bytes)", "Encode (us)", "Decode (us)");
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            benchmark(entry.getKey(), entry.getValue(), page);
+        }
+
+        try {
+            compareLivePayloads();
+        } catch (Exception e) {
+            System.out.println("Live comparison skipped, application is not reachable: " + e.getMessage());
+        }
+    }
+
+    private static void benchmark(String format, ObjectMapper mapper, PagedResponseDTO<TaskDTO> page)
+            throws Exception {
+        byte[] encoded = mapper.writeValueAsBytes(page);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(page), PAGE_TYPE);
+        }
+
+        long encodeStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            encoded = mapper.writeValueAsBytes(page);
+        }
+        long encodeNanos = System.nanoTime() - encodeStart;
+
+        long decodeStart = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            mapper.readValue(encoded, PAGE_TYPE);
+        }
+        long decodeNanos = System.nanoTime() - decodeStart;
+
+        System.out.printf("%-6s %12d %14.2f %14.2f%n", format, encoded.length,
+                encodeNanos / 1_000.0 / MEASURED_ITERATIONS, decodeNanos / 1_000.0 / MEASURED_ITERATIONS);
+    }
+
+    private static PagedResponseDTO<TaskDTO> createPage() {
+        List<TaskDTO> tasks = new ArrayList<>();
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            List<Long> commentIds = new ArrayList<>();
+            for (long c = 0; c < COMMENTS_PER_TASK; c++) {
+                commentIds.add(id * 1_000 + c);
+            }
+            tasks.add(new TaskDTO(id, "Task" + id, "Description for task " + id + " with some detail text.",
+                    TaskStatus.values()[(int) (id % 3)], TaskPriority.values()[(int) (id % 3)],
+                    1L, 2L, commentIds));
+        }
+        return new PagedResponseDTO<>(tasks, 0, PAGE_SIZE, 10_000, 10_000 / PAGE_SIZE);
+    }
+
+    private static void compareLivePayloads() {
+        RestTemplate restTemplate = new RestTemplate();
+        String token = login(restTemplate);
+        URI url = UriComponentsBuilder.fromHttpUrl("http://localhost:8080/api/tasks")
+                .queryParam("page", 0).queryParam("size", PAGE_SIZE).build().toUri();
+
+        System.out.println("Live payload sizes for GET /api/tasks?size=" + PAGE_SIZE + ":");
+        for (String mediaType : List.of("application/json", "application/cbor", "application/x-jackson-smile")) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set("Authorization", "Bearer " + token);
+            headers.setAccept(List.of(MediaType.valueOf(mediaType)));
+            ResponseEntity<byte[]> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers),
+                    byte[].class);
+            byte[] body = response.getBody();
+            System.out.printf("%-30s %8d bytes (%s)%n", mediaType, body != null ? body.length : 0,
+                    response.getHeaders().getContentType());
+        }
+    }
+
+    private static String login(RestTemplate restTemplate) {
+        URI loginUrl = UriComponentsBuilder.fromHttpUrl("http://localhost:8080/auth/login")
+                .queryParam("email", "admin@example.com").queryParam("password", "123").build().toUri();
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        ResponseEntity<Map<String, String>> response = restTemplate.exchange(loginUrl, HttpMethod.POST,
+                new HttpEntity<>(headers), new ParameterizedTypeReference<>() {});
+        return response.getBody().get("token");
+    }
+}
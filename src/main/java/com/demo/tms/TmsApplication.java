@@ -5,6 +5,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.web.config.EnableSpringDataWebSupport;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * The main entry point for the Task Management System (TMS) application.
@@ -20,12 +21,14 @@ import org.springframework.retry.annotation.EnableRetry;
  *     <li>{@code @EnableCaching}: Enables caching functionality in the application to improve performance by
  *     caching data.</li>
  *     <li>{@code @EnableSpringDataWebSupport}: Allows pagination and sorting of data in REST endpoints.</li>
+ *     <li>{@code @EnableScheduling}: Enables scheduled jobs such as the nightly snapshot export.</li>
  * </ul>
  */
 @SpringBootApplication
 @EnableRetry
 @EnableCaching
 @EnableSpringDataWebSupport(pageSerializationMode = EnableSpringDataWebSupport.PageSerializationMode.VIA_DTO)
+@EnableScheduling
 public class TmsApplication {
 
     /**
@@ -0,0 +1,93 @@
+package com.demo.tms.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread-safe Bloom filter over {@code long} values.
+ * <p>
+ * Each value sets {@code k} bits derived from two 64-bit hashes by double hashing. A value that was put is always
+ * reported as possibly contained; a value that was not is reported as possibly contained with roughly the false
+ * positive rate the filter was sized for, as long as no more than the expected number of values were put.
+ * </p>
+ */
+final class BloomFilter {
+
+    private static final int MAX_WORDS = Integer.MAX_VALUE - 8;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Constructs an empty {@code BloomFilter}.
+     *
+     * @param expectedValues    the number of values the filter is sized for
+     * @param falsePositiveRate the false positive rate at the expected number of values, between 0 and 1
+     */
+    BloomFilter(long expectedValues, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("The false positive rate must be between 0 and 1.");
+        }
+        long values = Math.max(1, expectedValues);
+        double optimalBits = -values * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        int wordCount = (int) Math.min(MAX_WORDS, Math.max(1, (long) Math.ceil(optimalBits / Long.SIZE)));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / values * Math.log(2)));
+    }
+
+    /**
+     * Adds a value to the filter.
+     *
+     * @param value the value to add
+     */
+    void put(long value) {
+        long hash1 = mix(value);
+        long hash2 = mix(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words.get(word) & mask) == 0) {
+                words.accumulateAndGet(word, mask, (current, set) -> current | set);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a value may have been added to the filter.
+     *
+     * @param value the value to check
+     * @return {@code false} if the value was certainly never added, {@code true} otherwise
+     */
+    boolean mightContain(long value) {
+        long hash1 = mix(value);
+        long hash2 = mix(hash1) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the heap memory used by the bits of the filter.
+     *
+     * @return the size of the filter in bytes
+     */
+    long sizeInBytes() {
+        return bitCount / Byte.SIZE;
+    }
+
+    /**
+     * Scrambles a value with the SplitMix64 finalizer, so consecutive IDs spread over the whole filter.
+     */
+    private static long mix(long value) {
+        long z = value + 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,128 @@
+package com.demo.tms.cache;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * {@code ExistenceIndex} defines in-memory existence checks for user and task IDs, used to validate references and
+ * to reject unknown IDs without a database round trip.
+ * <p>
+ * For each kind of ID the index keeps a Bloom filter over all IDs, which answers definite negatives, and a bounded set
+ * of IDs confirmed to exist. An ID that passes the filter but is not confirmed is looked up in the database. The
+ * index is built when the application is ready and kept current by the user and task write operations.
+ * </p>
+ */
+public interface ExistenceIndex {
+
+    /**
+     * The answer of the index for a single ID.
+     */
+    enum Existence {
+        /**
+         * The ID does not exist.
+         */
+        ABSENT,
+        /**
+         * The ID exists.
+         */
+        PRESENT,
+        /**
+         * The index cannot tell, and the database has to be queried.
+         */
+        UNKNOWN
+    }
+
+    /**
+     * Checks whether a user exists, from memory only.
+     *
+     * @param userId the ID of the user
+     * @return the {@link Existence} of the user
+     */
+    Existence checkUser(Long userId);
+
+    /**
+     * Checks whether a task exists, from memory only.
+     *
+     * @param taskId the ID of the task
+     * @return the {@link Existence} of the task
+     */
+    Existence checkTask(Long taskId);
+
+    /**
+     * Checks whether a user exists, querying the database only if the index cannot tell.
+     *
+     * @param userId the ID of the user
+     * @return {@code true} if the user exists, {@code false} otherwise
+     */
+    boolean userExists(Long userId);
+
+    /**
+     * Checks whether a task exists, querying the database only if the index cannot tell.
+     *
+     * @param taskId the ID of the task
+     * @return {@code true} if the task exists, {@code false} otherwise
+     */
+    boolean taskExists(Long taskId);
+
+    /**
+     * Finds which of the given user IDs exist, querying the IDs the index cannot tell about in a single query.
+     *
+     * @param userIds the IDs of the users
+     * @return the {@link Set} of the given IDs that belong to existing users
+     */
+    Set<Long> findExistingUserIds(Collection<Long> userIds);
+
+    /**
+     * Records that a user was found to exist by a database query.
+     *
+     * @param userId the ID of the user
+     */
+    void confirmUser(Long userId);
+
+    /**
+     * Records that a task was found to exist by a database query.
+     *
+     * @param taskId the ID of the task
+     */
+    void confirmTask(Long taskId);
+
+    /**
+     * Adds a created user. If called inside a transaction, the user is confirmed once it commits.
+     *
+     * @param userId the ID of the user
+     */
+    void addUser(Long userId);
+
+    /**
+     * Adds a created task. If called inside a transaction, the task is confirmed once it commits.
+     *
+     * @param taskId the ID of the task
+     */
+    void addTask(Long taskId);
+
+    /**
+     * Removes a deleted user. The user is no longer answered as existing, but stays in the Bloom filter until the
+     * next rebuild.
+     *
+     * @param userId the ID of the user
+     */
+    void removeUser(Long userId);
+
+    /**
+     * Removes a deleted task. The task is no longer answered as existing, but stays in the Bloom filter until the
+     * next rebuild.
+     *
+     * @param taskId the ID of the task
+     */
+    void removeTask(Long taskId);
+
+    /**
+     * Rebuilds the Bloom filters from the database, e.g. after a bulk import.
+     * <p>
+     * The filters are set aside at once, so IDs written without the index are never answered as absent. Until the
+     * rebuild completes, IDs that are not confirmed are looked up in the database. If called inside a transaction,
+     * the rebuild runs once it commits.
+     * </p>
+     */
+    void rebuild();
+}
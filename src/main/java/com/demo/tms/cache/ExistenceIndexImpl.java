@@ -0,0 +1,377 @@
+package com.demo.tms.cache;
+
+import com.demo.tms.repository.TaskRepository;
+import com.demo.tms.repository.UserRepository;
+import com.demo.tms.utils.TransactionUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * {@code ExistenceIndexImpl} is the implementation of the {@link ExistenceIndex} interface.
+ * <p>
+ * The Bloom filters are sized for twice the number of IDs at build time, so IDs created until the next rebuild keep
+ * the false positive rate close to the configured one. They are rebuilt when the application is ready and on a fixed
+ * delay, which also drops deleted IDs from them. IDs are scanned page by page in ID order; IDs created during the scan
+ * are added to the filter being built, and a build that was set aside by a later rebuild is discarded.
+ * </p>
+ * <p>
+ * IDs are not committed in the order they are drawn from their sequence, so a scan may miss an ID below the highest
+ * one it read because the transaction creating it was still running. A filter therefore only rules out IDs up to the
+ * highest ID read by the previous scan, which completed before the current scan started: a transaction that drew such
+ * an ID before the previous scan ended and had not committed by the start of the current one would have to span a full
+ * rebuild interval. IDs above that horizon, and all IDs until the second scan after startup, are answered as unknown
+ * unless they were added or confirmed here, and looked up in the database. The first rebuild after startup therefore
+ * runs after {@code tms.existence.initial-rebuild-delay} rather than after a full interval.
+ * </p>
+ * <p>
+ * Created IDs are added to the filters at once and confirmed once their transaction commits. Deleted IDs are
+ * unconfirmed at once and again after the commit. A lookup racing with a delete may still confirm the deleted ID, in
+ * which case the foreign key constraint rejects the write that relied on it. IDs deleted by another application
+ * instance are not unconfirmed here, so confirmations expire after one rebuild interval.
+ * </p>
+ */
+@Component
+@Slf4j
+public class ExistenceIndexImpl implements ExistenceIndex {
+
+    private static final long MIN_EXPECTED_IDS = 1024;
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final double falsePositiveRate;
+    private final int pageSize;
+    private final Ids users;
+    private final Ids tasks;
+
+    /**
+     * Constructs a new {@code ExistenceIndexImpl}.
+     *
+     * @param userRepository     the {@link UserRepository} the user IDs are read from
+     * @param taskRepository     the {@link TaskRepository} the task IDs are read from
+     * @param transactionManager the {@link PlatformTransactionManager} used for the read-only scans
+     * @param falsePositiveRate  the rate of absent IDs the Bloom filters let through to the database
+     * @param confirmedSize      the maximum number of confirmed IDs kept per kind of ID
+     * @param rebuildInterval    the interval in milliseconds at which the filters are rebuilt, after which
+     *                           confirmations expire
+     * @param pageSize           the number of IDs read from the database per query while building
+     */
+    public ExistenceIndexImpl(UserRepository userRepository, TaskRepository taskRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${tms.existence.false-positive-rate:0.01}") double falsePositiveRate,
+                              @Value("${tms.existence.confirmed-size:100000}") long confirmedSize,
+                              @Value("${tms.existence.rebuild-interval:3600000}") long rebuildInterval,
+                              @Value("${tms.export.fetch-size:1000}") int pageSize) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("The false positive rate must be between 0 and 1.");
+        }
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.falsePositiveRate = falsePositiveRate;
+        this.pageSize = pageSize;
+        this.users = new Ids("user", confirmedSize, Duration.ofMillis(rebuildInterval));
+        this.tasks = new Ids("task", confirmedSize, Duration.ofMillis(rebuildInterval));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Existence checkUser(Long userId) {
+        return users.check(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Existence checkTask(Long taskId) {
+        return tasks.check(taskId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean userExists(Long userId) {
+        return switch (users.check(userId)) {
+            case ABSENT -> false;
+            case PRESENT -> true;
+            case UNKNOWN -> users.confirmIf(userId, userRepository.existsById(userId));
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean taskExists(Long taskId) {
+        return switch (tasks.check(taskId)) {
+            case ABSENT -> false;
+            case PRESENT -> true;
+            case UNKNOWN -> tasks.confirmIf(taskId, taskRepository.existsById(taskId));
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Long> findExistingUserIds(Collection<Long> userIds) {
+        Set<Long> existingIds = new HashSet<>();
+        List<Long> unknownIds = new ArrayList<>();
+        for (Long userId : userIds) {
+            switch (users.check(userId)) {
+                case PRESENT -> existingIds.add(userId);
+                case UNKNOWN -> unknownIds.add(userId);
+                case ABSENT -> {
+                }
+            }
+        }
+        if (!unknownIds.isEmpty()) {
+            Set<Long> foundIds = userRepository.findExistingIds(unknownIds);
+            foundIds.forEach(users::confirm);
+            existingIds.addAll(foundIds);
+        }
+        return existingIds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void confirmUser(Long userId) {
+        users.confirm(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void confirmTask(Long taskId) {
+        tasks.confirm(taskId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addUser(Long userId) {
+        users.add(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addTask(Long taskId) {
+        tasks.add(taskId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeUser(Long userId) {
+        users.remove(userId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeTask(Long taskId) {
+        tasks.remove(taskId);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tms.existence.rebuild-interval:3600000}",
+            initialDelayString = "${tms.existence.initial-rebuild-delay:60000}")
+    public void rebuild() {
+        users.setAside();
+        tasks.setAside();
+        TransactionUtils.afterCommit(this::build);
+    }
+
+    /**
+     * Scans all user and task IDs into new Bloom filters. Concurrent rebuilds run one after the other. A failed scan
+     * leaves its filter set aside until the next rebuild, which only costs queries.
+     */
+    private synchronized void build() {
+        try {
+            build(users, userRepository::count, userRepository::findIdsAfter);
+            build(tasks, taskRepository::count, taskRepository::findIdsAfter);
+        } catch (RuntimeException e) {
+            log.warn("Building the existence filters failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Scans all IDs of one kind into a new Bloom filter and swaps it in, unless the scan failed or the filters were set
+     * aside meanwhile.
+     *
+     * @param ids        the IDs to build the filter of
+     * @param counter    counts the IDs in the database
+     * @param pageReader reads the IDs following an ID, in ascending order
+     */
+    private void build(Ids ids, Supplier<Long> counter, BiFunction<Long, Limit, List<Long>> pageReader) {
+        long start = System.nanoTime();
+        long count = transactionTemplate.execute(status -> counter.get());
+        BloomFilter filter = new BloomFilter(Math.max(MIN_EXPECTED_IDS, 2 * count), falsePositiveRate);
+        long generation = ids.startBuild(filter);
+        long scanned = 0;
+        long afterId = 0;
+        boolean complete = false;
+        try {
+            List<Long> page;
+            do {
+                long from = afterId;
+                page = transactionTemplate.execute(status -> pageReader.apply(from, Limit.of(pageSize)));
+                for (Long id : page) {
+                    filter.put(id);
+                }
+                scanned += page.size();
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1);
+                }
+            } while (page.size() == pageSize);
+            complete = true;
+        } finally {
+            ids.finishBuild(filter, afterId, generation, complete);
+        }
+        log.info("Built {} existence filter with {} IDs, {} KB, in {} ms", ids.name, scanned,
+                filter.sizeInBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * The existence state of one kind of ID.
+     */
+    private static final class Ids {
+
+        private final String name;
+        private final Cache<Long, Boolean> confirmed;
+        private volatile ScannedFilter filter; // null until built and while set aside
+        private BloomFilter building; // non-null while a filter is built, guarded by this
+        private long generation; // incremented whenever the filter is set aside, guarded by this
+        private long scannedMaxId; // highest ID read by the last complete scan, guarded by this
+
+        Ids(String name, long confirmedSize, Duration confirmedExpiry) {
+            this.name = name;
+            this.confirmed = Caffeine.newBuilder().maximumSize(confirmedSize).expireAfterWrite(confirmedExpiry).build();
+        }
+
+        Existence check(Long id) {
+            if (id == null) {
+                return Existence.ABSENT;
+            }
+            ScannedFilter current = filter;
+            if (current != null && current.rulesOut(id)) {
+                return Existence.ABSENT;
+            }
+            return confirmed.getIfPresent(id) != null ? Existence.PRESENT : Existence.UNKNOWN;
+        }
+
+        void confirm(Long id) {
+            confirmed.put(id, Boolean.TRUE);
+        }
+
+        boolean confirmIf(Long id, boolean exists) {
+            if (exists) {
+                confirm(id);
+            }
+            return exists;
+        }
+
+        /**
+         * Puts an ID into the filters at once, so it is never answered as absent to its own transaction, and again
+         * once the transaction commits, so a scan that started before the commit cannot miss it.
+         */
+        void add(Long id) {
+            put(id);
+            TransactionUtils.afterCommit(() -> {
+                put(id);
+                confirm(id);
+            });
+        }
+
+        void remove(Long id) {
+            confirmed.invalidate(id);
+            TransactionUtils.afterCommit(() -> confirmed.invalidate(id));
+        }
+
+        synchronized void put(long id) {
+            if (filter != null) {
+                filter.bloom().put(id);
+            }
+            if (building != null) {
+                building.put(id);
+            }
+        }
+
+        synchronized void setAside() {
+            filter = null;
+            generation++;
+        }
+
+        synchronized long startBuild(BloomFilter built) {
+            building = built;
+            return generation;
+        }
+
+        /**
+         * Swaps in a built filter, which rules out IDs up to the highest ID read by the previous complete scan.
+         */
+        synchronized void finishBuild(BloomFilter built, long maxId, long startGeneration, boolean complete) {
+            building = null;
+            if (!complete) {
+                return;
+            }
+            if (generation == startGeneration) {
+                filter = new ScannedFilter(built, scannedMaxId);
+            }
+            scannedMaxId = maxId;
+        }
+    }
+
+    /**
+     * A built Bloom filter and the highest ID it rules out.
+     *
+     * @param bloom   the filter of the scanned IDs and the IDs added since
+     * @param horizon the highest ID read by the previous complete scan, or {@code 0} if there was none
+     */
+    private record ScannedFilter(BloomFilter bloom, long horizon) {
+
+        /**
+         * Tells whether an ID certainly does not exist: it is not above the horizon and the filter misses it.
+         */
+        boolean rulesOut(long id) {
+            return id <= horizon && !bloom.mightContain(id);
+        }
+    }
+}
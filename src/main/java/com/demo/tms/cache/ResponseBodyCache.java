@@ -0,0 +1,58 @@
+package com.demo.tms.cache;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * {@code ResponseBodyCache} defines a cache of pre-serialized JSON response bodies for single-resource reads.
+ * <p>
+ * Each entry holds the encoded bytes of a resource together with the version they were serialized from, so a
+ * cached body is only served while the resource still has that version. Hits are written straight to the servlet
+ * output stream, skipping DTO conversion and JSON serialization.
+ * </p>
+ */
+public interface ResponseBodyCache {
+
+    /**
+     * Indicates whether cached JSON bodies may be served for a request with the given {@code Accept} header.
+     * <p>
+     * Requests that ask for a binary encoding such as CBOR or Smile bypass the cache and go through regular
+     * content negotiation.
+     * </p>
+     *
+     * @param accept the raw {@code Accept} request header, may be {@code null}
+     * @return {@code true} if the cache is enabled and the client accepts JSON, otherwise {@code false}
+     */
+    boolean isEnabledFor(String accept);
+
+    /**
+     * Retrieves the cached body of a resource if it was serialized from the given version.
+     *
+     * @param cacheName the name of the response cache, e.g. {@code "taskResponses"}
+     * @param id        the ID of the resource
+     * @param version   the current version of the resource
+     * @return the encoded JSON body, or {@code null} if there is no entry for this version
+     */
+    byte[] get(String cacheName, Long id, Long version);
+
+    /**
+     * Serializes a response body and stores it for the given resource version.
+     *
+     * @param cacheName the name of the response cache, e.g. {@code "taskResponses"}
+     * @param id        the ID of the resource
+     * @param version   the version of the resource the body was built from
+     * @param body      the response body to serialize
+     */
+    void put(String cacheName, Long id, Long version, Object body);
+
+    /**
+     * Writes a cached JSON body directly to the servlet response.
+     *
+     * @param response the servlet response to write to
+     * @param eTag     the ETag of the cached resource version
+     * @param body     the encoded JSON body
+     * @throws IOException if writing to the response fails
+     */
+    void write(HttpServletResponse response, String eTag, byte[] body) throws IOException;
+}
@@ -0,0 +1,115 @@
+package com.demo.tms.cache;
+
+import com.demo.tms.utils.ETagUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * {@code ResponseBodyCacheImpl} is the implementation of the {@link ResponseBodyCache} interface.
+ * <p>
+ * Bodies are stored in the Spring caches named {@code "taskResponses"} and {@code "commentResponses"}, keyed by
+ * resource ID. These caches are evicted by the same {@code @CacheEvict} annotations as the entity caches, so cached
+ * bodies are invalidated in lockstep with the cached entities. The stored version is additionally checked on every
+ * read, so a body serialized from an outdated version is never served. Only JSON bodies are cached; clients
+ * negotiating CBOR or Smile are served through the regular message converters. The negotiated representation is
+ * determined by {@link ETagUtils#negotiatedMediaType(String)}, the same method that suffixes the ETags.
+ * </p>
+ */
+@Component
+@Slf4j
+public class ResponseBodyCacheImpl implements ResponseBodyCache {
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    /**
+     * Constructs a new {@code ResponseBodyCacheImpl}.
+     *
+     * @param cacheManager the {@link CacheManager} holding the response caches
+     * @param objectMapper the {@link ObjectMapper} used to serialize response bodies
+     * @param enabled      whether the response body cache is enabled
+     */
+    public ResponseBodyCacheImpl(CacheManager cacheManager, ObjectMapper objectMapper,
+                                 @Value("${tms.response-cache.enabled:true}") boolean enabled) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabledFor(String accept) {
+        return enabled && MediaType.APPLICATION_JSON.equals(ETagUtils.negotiatedMediaType(accept));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] get(String cacheName, Long id, Long version) {
+        if (!enabled) {
+            return null;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        CachedBody cached = cache != null ? cache.get(id, CachedBody.class) : null;
+        if (cached == null || !Objects.equals(cached.version(), version)) {
+            return null;
+        }
+        return cached.body();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(String cacheName, Long id, Long version, Object body) {
+        if (!enabled || body == null) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.put(id, new CachedBody(version, objectMapper.writeValueAsBytes(body)));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to cache response body for {} {}: {}", cacheName, id, e.getMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void write(HttpServletResponse response, String eTag, byte[] body) throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+    }
+
+    /**
+     * A cached response body together with the resource version it was serialized from.
+     *
+     * @param version the version of the resource
+     * @param body    the encoded JSON body
+     */
+    private record CachedBody(Long version, byte[] body) {
+    }
+}
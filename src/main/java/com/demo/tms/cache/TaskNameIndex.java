@@ -0,0 +1,58 @@
+package com.demo.tms.cache;
+
+import com.demo.tms.dto.TaskDTO;
+
+import java.util.List;
+
+/**
+ * {@code TaskNameIndex} defines an in-memory prefix index over task names used for type-ahead suggestions.
+ * <p>
+ * The index is built from a scan of all tasks and kept current by the task write operations, so suggestions are
+ * answered without a database round trip. Changes made inside a transaction are applied once it commits.
+ * </p>
+ */
+public interface TaskNameIndex {
+
+    /**
+     * Finds the tasks whose names start with the given prefix, ignoring case.
+     *
+     * @param prefix the prefix typed so far
+     * @param limit  the maximum number of suggestions
+     * @return the matching tasks ordered by name, as {@link TaskDTO} with only {@code taskId} and {@code name} set
+     */
+    List<TaskDTO> suggest(String prefix, int limit);
+
+    /**
+     * Adds a task to the index or replaces its name if it is already indexed.
+     *
+     * @param taskId the ID of the task
+     * @param name   the name of the task
+     */
+    void put(Long taskId, String name);
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param taskId the ID of the task
+     */
+    void remove(Long taskId);
+
+    /**
+     * Rebuilds the whole index from the database, e.g. after a bulk import.
+     */
+    void rebuild();
+
+    /**
+     * Returns the number of indexed tasks.
+     *
+     * @return the number of indexed tasks
+     */
+    int size();
+
+    /**
+     * Returns an estimate of the heap memory used by the index.
+     *
+     * @return the estimated size of the index in bytes
+     */
+    long estimatedMemoryBytes();
+}
@@ -0,0 +1,477 @@
+package com.demo.tms.cache;
+
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.repository.TaskRepository;
+import com.demo.tms.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * {@code TaskNameIndexImpl} is the implementation of the {@link TaskNameIndex} interface.
+ * <p>
+ * The index is an immutable snapshot of a large base run and a small delta. A run is three parallel arrays: the
+ * lower-cased names sorted by name and task ID, the original names and the task IDs. Writes remove entries from the
+ * base by recording their positions and add entries to the delta run, so a write only copies the delta. Once the
+ * delta holds {@value #MAX_DELTA} changes it is merged into a new base run, which spreads the {@code O(n)} copy over
+ * that many writes. A lookup binary searches the first name with the prefix in both runs and merges them, so it
+ * never blocks and costs {@code O(log n + limit)}.
+ * </p>
+ * <p>
+ * Writers find the current entry of a task through a map from task ID to its lower-cased name, which is only used
+ * under the write lock. The index is built when the application is ready. Writes arriving while it is rebuilt are
+ * recorded and replayed on the rebuilt snapshot, so no change is lost to the scan.
+ * </p>
+ */
+@Component
+@Slf4j
+public class TaskNameIndexImpl implements TaskNameIndex {
+
+    /**
+     * The number of removed base entries and added entries after which the delta is merged into the base.
+     */
+    static final int MAX_DELTA = 1024;
+
+    // a HashMap node, a boxed ID and a table slot per indexed task, assuming compressed references
+    private static final long KEY_MAP_ENTRY_BYTES = 32 + 16 + 8;
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    private final Object writeLock = new Object();
+    private volatile Snapshot snapshot = Snapshot.of(new Entry[0]);
+    private Map<Long, String> keysById = new HashMap<>(); // guarded by writeLock
+    private List<Entry> pendingWrites; // non-null while the index is rebuilt, guarded by writeLock
+
+    /**
+     * Constructs a new {@code TaskNameIndexImpl}.
+     *
+     * @param taskRepository     the {@link TaskRepository} the index is built from
+     * @param transactionManager the {@link PlatformTransactionManager} used for the read-only scan
+     * @param fetchSize          the number of rows fetched from the database per round trip while building
+     */
+    public TaskNameIndexImpl(TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                             @Value("${tms.export.fetch-size:1000}") int fetchSize) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TaskDTO> suggest(String prefix, int limit) {
+        Snapshot current = snapshot;
+        String key = prefix.trim().toLowerCase(Locale.ROOT);
+        Run base = current.base();
+        Run added = current.added();
+        int[] removed = current.removed();
+        int i = base.lowerBound(key, Long.MIN_VALUE);
+        int j = added.lowerBound(key, Long.MIN_VALUE);
+        int r = lowerBound(removed, i);
+        List<TaskDTO> suggestions = new ArrayList<>();
+        while (suggestions.size() < limit) {
+            if (r < removed.length && removed[r] == i) {
+                i++;
+                r++;
+                continue;
+            }
+            boolean inBase = i < base.size() && base.keys[i].startsWith(key);
+            boolean inAdded = j < added.size() && added.keys[j].startsWith(key);
+            if (!inBase && !inAdded) {
+                break;
+            }
+            if (inBase && (!inAdded || base.compare(i, added.keys[j], added.ids[j]) < 0)) {
+                suggestions.add(suggestion(base, i++));
+            } else {
+                suggestions.add(suggestion(added, j++));
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void put(Long taskId, String name) {
+        TransactionUtils.afterCommit(() -> apply(new Entry(taskId, name)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(Long taskId) {
+        TransactionUtils.afterCommit(() -> apply(new Entry(taskId, null)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        TransactionUtils.afterCommit(this::build);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long estimatedMemoryBytes() {
+        Snapshot current = snapshot;
+        return current.estimatedMemoryBytes() + KEY_MAP_ENTRY_BYTES * current.size();
+    }
+
+    /**
+     * Scans all task names into a new snapshot and swaps it in, replaying the writes made during the scan.
+     * Concurrent rebuilds run one after the other.
+     */
+    private synchronized void build() {
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            pendingWrites = new ArrayList<>();
+        }
+        try {
+            List<Entry> entries = transactionTemplate.execute(status -> {
+                try (Stream<TaskDTO> tasks = taskRepository.streamNames(fetchSize)) {
+                    return tasks.map(task -> new Entry(task.getTaskId(), task.getName())).toList();
+                }
+            });
+            Entry[] sorted = entries.toArray(Entry[]::new);
+            Arrays.sort(sorted, Comparator.comparing(Entry::key).thenComparingLong(Entry::taskId));
+            Snapshot built = Snapshot.of(sorted);
+            Map<Long, String> builtKeys = HashMap.newHashMap(sorted.length);
+            for (int i = 0; i < built.base().size(); i++) {
+                builtKeys.put(built.base().ids[i], built.base().keys[i]);
+            }
+            synchronized (writeLock) {
+                keysById = builtKeys;
+                snapshot = built;
+                for (Entry write : pendingWrites) {
+                    applyLocked(write);
+                }
+            }
+        } finally {
+            synchronized (writeLock) {
+                pendingWrites = null;
+            }
+        }
+        log.info("Built task name index with {} tasks, about {} KB, in {} ms", size(),
+                estimatedMemoryBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Applies a single write to the current snapshot.
+     *
+     * @param write the task to add or replace, or a removal if its name is {@code null}
+     */
+    private void apply(Entry write) {
+        synchronized (writeLock) {
+            if (pendingWrites != null) {
+                pendingWrites.add(write);
+            }
+            applyLocked(write);
+        }
+    }
+
+    /**
+     * Applies a single write to the current snapshot, merging the delta into the base once it is full. Must be
+     * called holding the write lock.
+     *
+     * @param write the task to add or replace, or a removal if its name is {@code null}
+     */
+    private void applyLocked(Entry write) {
+        Snapshot current = snapshot;
+        String previousKey = write.name() == null ? keysById.remove(write.taskId())
+                : keysById.put(write.taskId(), write.key());
+        if (previousKey != null) {
+            current = current.without(previousKey, write.taskId());
+        }
+        if (write.name() != null) {
+            current = current.with(write);
+        }
+        if (current.removed().length + current.added().size() > MAX_DELTA) {
+            current = current.merged();
+        }
+        snapshot = current;
+    }
+
+    /**
+     * Builds the suggestion of an indexed task.
+     *
+     * @param run      the run holding the task
+     * @param position the position of the task in the run
+     * @return the {@link TaskDTO} with only {@code taskId} and {@code name} set
+     */
+    private static TaskDTO suggestion(Run run, int position) {
+        TaskDTO suggestion = new TaskDTO();
+        suggestion.setTaskId(run.ids[position]);
+        suggestion.setName(run.names[position]);
+        suggestion.setCommentIds(null);
+        return suggestion;
+    }
+
+    /**
+     * Finds the first position of a sorted array whose value is not less than the given one.
+     *
+     * @param values the sorted values
+     * @param value  the value to search
+     * @return the position, or the length of the array if all values are less
+     */
+    private static int lowerBound(int[] values, int value) {
+        int position = Arrays.binarySearch(values, value);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * A task name as stored in the index.
+     *
+     * @param taskId the ID of the task
+     * @param name   the name of the task, or {@code null} for a removal
+     */
+    record Entry(long taskId, String name) {
+
+        String key() {
+            return name.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * An immutable state of the index.
+     *
+     * @param base    the base run
+     * @param removed the sorted positions of the base entries that were removed or renamed
+     * @param added   the entries added since the base run was built
+     */
+    record Snapshot(Run base, int[] removed, Run added) {
+
+        static Snapshot of(Entry[] sorted) {
+            return new Snapshot(Run.of(sorted), new int[0], Run.of(new Entry[0]));
+        }
+
+        int size() {
+            return base.size() - removed.length + added.size();
+        }
+
+        /**
+         * Returns a copy of this snapshot without the entry of a task.
+         *
+         * @param key    the lower-cased name the task is indexed under
+         * @param taskId the ID of the task
+         */
+        Snapshot without(String key, long taskId) {
+            int position = added.lowerBound(key, taskId);
+            if (position < added.size() && added.ids[position] == taskId) {
+                return new Snapshot(base, removed, added.without(position));
+            }
+            position = base.lowerBound(key, taskId);
+            if (position == base.size() || base.ids[position] != taskId) {
+                return this;
+            }
+            int index = lowerBound(removed, position);
+            int[] newRemoved = new int[removed.length + 1];
+            System.arraycopy(removed, 0, newRemoved, 0, index);
+            newRemoved[index] = position;
+            System.arraycopy(removed, index, newRemoved, index + 1, removed.length - index);
+            return new Snapshot(base, newRemoved, added);
+        }
+
+        /**
+         * Returns a copy of this snapshot with an entry added to the delta.
+         *
+         * @param write the task to add, which must not be indexed yet
+         */
+        Snapshot with(Entry write) {
+            return new Snapshot(base, removed, added.with(write));
+        }
+
+        /**
+         * Returns a copy of this snapshot with the delta merged into a new base run.
+         */
+        Snapshot merged() {
+            int length = size();
+            String[] keys = new String[length];
+            String[] names = new String[length];
+            long[] ids = new long[length];
+            int i = 0;
+            int j = 0;
+            int r = 0;
+            for (int target = 0; target < length; target++) {
+                while (r < removed.length && removed[r] == i) {
+                    i++;
+                    r++;
+                }
+                Run source;
+                int position;
+                if (j == added.size() || (i < base.size() && base.compare(i, added.keys[j], added.ids[j]) < 0)) {
+                    source = base;
+                    position = i++;
+                } else {
+                    source = added;
+                    position = j++;
+                }
+                keys[target] = source.keys[position];
+                names[target] = source.names[position];
+                ids[target] = source.ids[position];
+            }
+            return new Snapshot(new Run(keys, names, ids), new int[0], Run.of(new Entry[0]));
+        }
+
+        /**
+         * Estimates the retained heap size, assuming compressed references and compact strings.
+         */
+        long estimatedMemoryBytes() {
+            long bytes = 16L + 4L * removed.length;
+            for (int i = 0, r = 0; i < base.size(); i++) {
+                if (r < removed.length && removed[r] == i) {
+                    r++;
+                } else {
+                    bytes += base.entryBytes(i);
+                }
+            }
+            for (int i = 0; i < added.size(); i++) {
+                bytes += added.entryBytes(i);
+            }
+            return bytes + base.arrayBytes() + added.arrayBytes();
+        }
+    }
+
+    /**
+     * A sorted run of index entries.
+     *
+     * @param keys  the lower-cased names, sorted by name and then task ID
+     * @param names the original names, sharing the key instance when the name is already lower case
+     * @param ids   the task IDs
+     */
+    record Run(String[] keys, String[] names, long[] ids) {
+
+        static Run of(Entry[] sorted) {
+            String[] keys = new String[sorted.length];
+            String[] names = new String[sorted.length];
+            long[] ids = new long[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                keys[i] = sorted[i].key();
+                names[i] = keys[i].equals(sorted[i].name()) ? keys[i] : sorted[i].name();
+                ids[i] = sorted[i].taskId();
+            }
+            return new Run(keys, names, ids);
+        }
+
+        int size() {
+            return ids.length;
+        }
+
+        /**
+         * Compares the entry at a position with the given key and task ID.
+         */
+        int compare(int position, String key, long taskId) {
+            int cmp = keys[position].compareTo(key);
+            return cmp != 0 ? cmp : Long.compare(ids[position], taskId);
+        }
+
+        /**
+         * Finds the first position whose key and task ID are not less than the given ones.
+         */
+        int lowerBound(String key, long taskId) {
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(mid, key, taskId) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns a copy of this run with an entry inserted at its sorted position.
+         */
+        Run with(Entry write) {
+            int position = lowerBound(write.key(), write.taskId());
+            String[] newKeys = new String[size() + 1];
+            String[] newNames = new String[size() + 1];
+            long[] newIds = new long[size() + 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(names, 0, newNames, 0, position);
+            System.arraycopy(ids, 0, newIds, 0, position);
+            newKeys[position] = write.key();
+            newNames[position] = newKeys[position].equals(write.name()) ? newKeys[position] : write.name();
+            newIds[position] = write.taskId();
+            System.arraycopy(keys, position, newKeys, position + 1, size() - position);
+            System.arraycopy(names, position, newNames, position + 1, size() - position);
+            System.arraycopy(ids, position, newIds, position + 1, size() - position);
+            return new Run(newKeys, newNames, newIds);
+        }
+
+        /**
+         * Returns a copy of this run without the entry at a position.
+         */
+        Run without(int position) {
+            String[] newKeys = new String[size() - 1];
+            String[] newNames = new String[size() - 1];
+            long[] newIds = new long[size() - 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(names, 0, newNames, 0, position);
+            System.arraycopy(ids, 0, newIds, 0, position);
+            System.arraycopy(keys, position + 1, newKeys, position, size() - position - 1);
+            System.arraycopy(names, position + 1, newNames, position, size() - position - 1);
+            System.arraycopy(ids, position + 1, newIds, position, size() - position - 1);
+            return new Run(newKeys, newNames, newIds);
+        }
+
+        /**
+         * Estimates the size of the three arrays, assuming compressed references.
+         */
+        long arrayBytes() {
+            return 3 * 16L + 8L * size() + 2 * 4L * size();
+        }
+
+        /**
+         * Estimates the size of the strings of the entry at a position, assuming compact strings.
+         */
+        long entryBytes(int position) {
+            long bytes = stringBytes(keys[position]);
+            if (names[position] != keys[position]) {
+                bytes += stringBytes(names[position]);
+            }
+            return bytes;
+        }
+
+        private static long stringBytes(String value) {
+            boolean latin1 = value.chars().allMatch(c -> c < 256);
+            long array = 16L + (long) value.length() * (latin1 ? 1 : 2);
+            return 24L + ((array + 7) & ~7L);
+        }
+    }
+}
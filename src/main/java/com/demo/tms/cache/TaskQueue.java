@@ -0,0 +1,56 @@
+package com.demo.tms.cache;
+
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+
+import java.util.List;
+
+/**
+ * {@code TaskQueue} defines in-memory per-assignee queues of pending tasks, ordered by priority and age.
+ * <p>
+ * The queues are built from a scan of all pending tasks and kept current by the task write operations, so the next
+ * task of an assignee is found without sorting or paging through the tasks table. Changes made inside a transaction
+ * are applied once it commits.
+ * </p>
+ */
+public interface TaskQueue {
+
+    /**
+     * Returns the IDs of the first tasks in the queue of an assignee: the highest priority first and, within a
+     * priority, the oldest task first.
+     *
+     * @param assigneeId the ID of the assignee
+     * @param count      the maximum number of task IDs
+     * @return the IDs of the first pending tasks of the assignee, possibly empty
+     */
+    List<Long> peek(Long assigneeId, int count);
+
+    /**
+     * Records the current state of a task: pending tasks are queued for their assignee, others are dequeued.
+     *
+     * @param taskId     the ID of the task
+     * @param assigneeId the ID of the assignee of the task
+     * @param status     the status of the task
+     * @param priority   the priority of the task
+     */
+    void update(Long taskId, Long assigneeId, TaskStatus status, TaskPriority priority);
+
+    /**
+     * Removes a task from the queue it is in.
+     *
+     * @param taskId the ID of the task
+     */
+    void remove(Long taskId);
+
+    /**
+     * Rebuilds all queues from the database, e.g. after a bulk import.
+     */
+    void rebuild();
+
+    /**
+     * Returns the number of queued tasks over all assignees.
+     *
+     * @return the number of queued tasks
+     */
+    int size();
+}
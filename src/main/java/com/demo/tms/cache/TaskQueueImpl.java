@@ -0,0 +1,194 @@
+package com.demo.tms.cache;
+
+import com.demo.tms.repository.TaskRepository;
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+import com.demo.tms.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * {@code TaskQueueImpl} is the implementation of the {@link TaskQueue} interface.
+ * <p>
+ * Every assignee has a {@link ConcurrentSkipListSet} of pending tasks ordered by {@link TaskPriority} declaration
+ * order and then by task ID. Task IDs are assigned in insertion order, so a lower ID means an older task. Reads
+ * iterate the skip list without locking; writes are serialized so that a task is never queued twice.
+ * </p>
+ * <p>
+ * The queues are built when the application is ready. Writes arriving while they are rebuilt are recorded and
+ * replayed on the rebuilt queues, so no change is lost to the scan.
+ * </p>
+ */
+@Component
+@Slf4j
+public class TaskQueueImpl implements TaskQueue {
+
+    private static final Comparator<Entry> ORDER =
+            Comparator.comparingInt(Entry::priority).thenComparingLong(Entry::taskId);
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Object writeLock = new Object();
+    private volatile State state = new State();
+    private List<Entry> pendingWrites; // non-null while the queues are rebuilt, guarded by writeLock
+
+    /**
+     * Constructs a new {@code TaskQueueImpl}.
+     *
+     * @param taskRepository     the {@link TaskRepository} the queues are built from
+     * @param transactionManager the {@link PlatformTransactionManager} used for the read-only scan
+     */
+    public TaskQueueImpl(TaskRepository taskRepository, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> peek(Long assigneeId, int count) {
+        NavigableSet<Entry> queue = state.queues.get(assigneeId);
+        List<Long> taskIds = new ArrayList<>(count);
+        if (queue != null) {
+            Iterator<Entry> iterator = queue.iterator();
+            while (iterator.hasNext() && taskIds.size() < count) {
+                taskIds.add(iterator.next().taskId());
+            }
+        }
+        return taskIds;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void update(Long taskId, Long assigneeId, TaskStatus status, TaskPriority priority) {
+        Entry entry = status == TaskStatus.PENDING && assigneeId != null
+                ? new Entry(taskId, assigneeId, priority.ordinal())
+                : new Entry(taskId, null, -1);
+        TransactionUtils.afterCommit(() -> apply(entry));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(Long taskId) {
+        TransactionUtils.afterCommit(() -> apply(new Entry(taskId, null, -1)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        TransactionUtils.afterCommit(this::build);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return state.entries.size();
+    }
+
+    /**
+     * Scans all pending tasks into new queues and swaps them in, replaying the writes made during the scan.
+     * Concurrent rebuilds run one after the other.
+     */
+    private synchronized void build() {
+        long start = System.nanoTime();
+        synchronized (writeLock) {
+            pendingWrites = new ArrayList<>();
+        }
+        try {
+            List<Object[]> rows = transactionTemplate.execute(status -> taskRepository.findPendingQueueEntries());
+            State built = new State();
+            for (Object[] row : rows) {
+                built.apply(new Entry((Long) row[0], (Long) row[1], ((TaskPriority) row[2]).ordinal()));
+            }
+            synchronized (writeLock) {
+                for (Entry write : pendingWrites) {
+                    built.apply(write);
+                }
+                state = built;
+            }
+        } finally {
+            synchronized (writeLock) {
+                pendingWrites = null;
+            }
+        }
+        log.info("Built task queues with {} pending tasks in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Applies a single write to the current queues.
+     *
+     * @param write the task to queue, or a removal if its assignee is {@code null}
+     */
+    private void apply(Entry write) {
+        synchronized (writeLock) {
+            if (pendingWrites != null) {
+                pendingWrites.add(write);
+            }
+            state.apply(write);
+        }
+    }
+
+    /**
+     * A queued task.
+     *
+     * @param taskId     the ID of the task
+     * @param assigneeId the ID of the assignee, or {@code null} for a removal
+     * @param priority   the ordinal of the task priority, lower is more urgent
+     */
+    record Entry(long taskId, Long assigneeId, int priority) {
+    }
+
+    /**
+     * The queues of all assignees together with the entry of every queued task.
+     */
+    private static final class State {
+
+        private final ConcurrentMap<Long, NavigableSet<Entry>> queues = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+        /**
+         * Dequeues the task of the write and, unless it is a removal, queues it again with its new assignee and
+         * priority. Callers must hold the write lock or own the state exclusively.
+         */
+        void apply(Entry write) {
+            Entry previous = write.assigneeId() == null ? entries.remove(write.taskId())
+                    : entries.put(write.taskId(), write);
+            if (previous != null) {
+                NavigableSet<Entry> queue = queues.get(previous.assigneeId());
+                if (queue != null) {
+                    queue.remove(previous);
+                }
+            }
+            if (write.assigneeId() != null) {
+                queues.computeIfAbsent(write.assigneeId(), id -> new ConcurrentSkipListSet<>(ORDER)).add(write);
+            }
+        }
+    }
+}
@@ -11,7 +11,8 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * The {@code CacheConfig} class configures caching for the application using Caffeine.
- * It enables caching and defines a {@link CacheManager} bean that manages the cache for tasks and comments.
+ * It enables caching and defines a {@link CacheManager} bean that manages the cache for tasks and comments,
+ * as well as the caches of pre-serialized task and comment response bodies.
  * The cache is configured to expire entries 10 minutes after they are written and have a maximum size of 100 entries.
  */
 @Configuration
@@ -21,7 +22,8 @@ public class CacheConfig {
     /**
      * Creates and configures a {@link CacheManager} bean.
      * <p>
-     * This method sets up a {@link CaffeineCacheManager} with two caches: "tasks" and "comments".
+     * This method sets up a {@link CaffeineCacheManager} with the entity caches "tasks" and "comments" and the
+     * response body caches "taskResponses" and "commentResponses".
      * The cache is configured to expire entries after 10 minutes and to hold a maximum of 100 entries.
      * </p>
      *
@@ -29,7 +31,8 @@ public class CacheConfig {
      */
     @Bean
     public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("tasks", "comments");
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("tasks", "comments", "taskResponses",
+                "commentResponses");
         cacheManager.setCaffeine(Caffeine.newBuilder()
                 .expireAfterWrite(10, TimeUnit.MINUTES)
                 .maximumSize(100));
@@ -0,0 +1,81 @@
+package com.demo.tms.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * The {@code ContentNegotiationConfig} class registers the binary message converters used for content negotiation.
+ * <p>
+ * In addition to JSON, every REST endpoint can read and write CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}) payloads, selected through the {@code Accept} and {@code Content-Type}
+ * headers. JSON remains the default when the client does not ask for a binary format. The binary converters are
+ * built from the application's {@link Jackson2ObjectMapperBuilder}, so they share the JSON mapper's settings.
+ * </p>
+ * <p>
+ * Since the representation depends on the {@code Accept} header, every API response carries {@code Vary: Accept},
+ * so shared caches keep the representations apart.
+ * </p>
+ */
+@Configuration
+public class ContentNegotiationConfig {
+
+    /**
+     * Creates the message converter for CBOR payloads.
+     *
+     * @param builder The application's {@link Jackson2ObjectMapperBuilder}.
+     * @return A {@link MappingJackson2CborHttpMessageConverter} backed by a CBOR object mapper.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * Creates the message converter for Smile payloads.
+     *
+     * @param builder The application's {@link Jackson2ObjectMapperBuilder}.
+     * @return A {@link MappingJackson2SmileHttpMessageConverter} backed by a Smile object mapper.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+
+    /**
+     * Registers the filter adding {@code Vary: Accept} to every API response.
+     * <p>
+     * The header is added before the request is handled, so it is present on {@code 304 Not Modified} responses and
+     * on cached bodies written straight to the response as well.
+     * </p>
+     *
+     * @return A {@link FilterRegistrationBean} for the {@code /api/*} paths.
+     */
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> varyAcceptFilter() {
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(
+                new OncePerRequestFilter() {
+                    @Override
+                    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                                    FilterChain filterChain) throws ServletException, IOException {
+                        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                        filterChain.doFilter(request, response);
+                    }
+                });
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
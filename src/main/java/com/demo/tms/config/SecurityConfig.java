@@ -3,6 +3,7 @@ package com.demo.tms.config;
 import com.demo.tms.jwt.JwtAuthenticationFilter;
 import com.demo.tms.jwt.JwtService;
 import com.demo.tms.repository.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -125,8 +126,11 @@ public class SecurityConfig {
                     .authorizeHttpRequests((authorize) -> authorize
                             .requestMatchers("/auth/login", "/v3/api-docs/**", "/swagger-ui/**",
                                     "/swagger-ui.html", "/").permitAll()
-                            .requestMatchers("/api/users/**", "/api/roles/**", "/api/roles", "/api/users")
+                            .requestMatchers("/api/users/**", "/api/roles/**", "/api/roles", "/api/users",
+                                    "/api/export/**", "/api/import", "/api/snapshots", "/api/outbox/**")
                             .hasRole("ADMIN")
+                            // multi-get by IDs is open to the same users as the single gets it batches
+                            .requestMatchers(SecurityConfig::isTaskOrCommentMultiGet).authenticated()
                             .requestMatchers(HttpMethod.GET, "/api/tasks", "/api/comments").hasRole("ADMIN")
                             .requestMatchers((request) ->
                                     isTaskOrCommentRelated(request.getRequestURI()))
@@ -153,6 +157,19 @@ public class SecurityConfig {
         }
     }
 
+    /**
+     * Checks if the given request reads several tasks or comments by their IDs, i.e. {@code GET /api/tasks?ids=...}
+     * or {@code GET /api/comments?ids=...}.
+     *
+     * @param request The HTTP request.
+     * @return {@code true} if the request is a task or comment multi-get, {@code false} otherwise.
+     */
+    static boolean isTaskOrCommentMultiGet(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return HttpMethod.GET.matches(request.getMethod()) && request.getParameter("ids") != null
+                && (path.equals("/api/tasks") || path.equals("/api/comments"));
+    }
+
     /**
      * Checks if the given path is related to tasks or comments.
      *
@@ -0,0 +1,54 @@
+package com.demo.tms.controller;
+
+import com.demo.tms.service.ChangeEventService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * The {@code ChangeEventController} class handles HTTP requests for change event subscriptions.
+ * It provides a Server-Sent Events endpoint that pushes committed task and comment changes to clients, as an
+ * alternative to polling the task and comment endpoints. The class utilizes the {@link ChangeEventService}
+ * to manage the subscriptions.
+ */
+@RestController
+@RequestMapping("/api/events")
+@Slf4j
+public class ChangeEventController {
+
+    private final ChangeEventService changeEventService;
+
+    /**
+     * Constructs a new {@code ChangeEventController} with the specified dependencies.
+     *
+     * @param changeEventService The service responsible for the change event subscriptions.
+     */
+    @Autowired
+    public ChangeEventController(ChangeEventService changeEventService) {
+        this.changeEventService = changeEventService;
+    }
+
+    /**
+     * Subscribes to the changes of a task, of the tasks of an assignee or of the tasks of an author.
+     * <p>
+     * Each change is sent as a {@code task} or {@code comment} event holding a
+     * {@link com.demo.tms.dto.ChangeEventDTO}, once the change is committed. Idle connections receive a heartbeat
+     * comment periodically. Subscriptions that fall behind are closed; clients then reconnect and catch up through
+     * {@code /api/sync}.
+     * </p>
+     *
+     * @param taskId     The ID of the task to subscribe to.
+     * @param assigneeId The ID of the assignee whose tasks to subscribe to.
+     * @param authorId   The ID of the author whose tasks to subscribe to.
+     * @return The {@link SseEmitter} streaming the change events.
+     * @throws IllegalArgumentException If not exactly one of the IDs is given.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestParam(required = false) Long taskId,
+                                @RequestParam(required = false) Long assigneeId,
+                                @RequestParam(required = false) Long authorId) {
+        return changeEventService.subscribe(taskId, assigneeId, authorId);
+    }
+}
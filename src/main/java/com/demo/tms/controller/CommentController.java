@@ -1,19 +1,32 @@
 package com.demo.tms.controller;
 
+import com.demo.tms.cache.ResponseBodyCache;
 import com.demo.tms.converter.Converter;
 import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.dto.MultiGetResponseDTO;
 import com.demo.tms.dto.PagedResponseDTO;
 import com.demo.tms.entity.Comment;
 import com.demo.tms.exception.ResourceNotFoundException;
+import com.demo.tms.service.CommentIngestionService;
 import com.demo.tms.service.CommentService;
+import com.demo.tms.service.IdempotencyService;
+import com.demo.tms.utils.ETagUtils;
+import com.demo.tms.utils.MultiGet;
+import com.demo.tms.utils.SparseFields;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The {@code CommentController} class handles HTTP requests related to comments.
@@ -27,17 +40,28 @@ public class CommentController {
 
     private final CommentService commentService;
     private final Converter converter;
+    private final ResponseBodyCache responseBodyCache;
+    private final CommentIngestionService commentIngestionService;
+    private final IdempotencyService idempotencyService;
 
     /**
      * Constructs a new {@code CommentController} with the specified dependencies.
      *
-     * @param commentService The service responsible for managing comment data.
-     * @param converter      The converter used to transform between {@link CommentDTO} and {@link Comment} entities.
+     * @param commentService    The service responsible for managing comment data.
+     * @param converter         The converter used to transform between {@link CommentDTO} and {@link Comment} entities.
+     * @param responseBodyCache The cache of pre-serialized comment response bodies.
+     * @param commentIngestionService The service creating comments in batches when the ingestion mode is enabled.
+     * @param idempotencyService The service executing create requests at most once per idempotency key.
      */
     @Autowired
-    public CommentController(CommentService commentService, Converter converter) {
+    public CommentController(CommentService commentService, Converter converter,
+                             ResponseBodyCache responseBodyCache, CommentIngestionService commentIngestionService,
+                             IdempotencyService idempotencyService) {
         this.commentService = commentService;
         this.converter = converter;
+        this.responseBodyCache = responseBodyCache;
+        this.commentIngestionService = commentIngestionService;
+        this.idempotencyService = idempotencyService;
     }
 
     /**
@@ -45,16 +69,32 @@ public class CommentController {
      * <p>
      * The method accepts a {@link CommentDTO} object, converts it to a {@link Comment} entity,
      * saves it through the {@code commentService}, and returns the saved comment as a {@link CommentDTO}.
+     * If the ingestion mode is enabled, the comment is instead validated and inserted together with the other
+     * comments submitted within a few milliseconds through the {@code commentIngestionService}.
+     * If an {@code Idempotency-Key} header is sent, the comment is always saved through the {@code commentService},
+     * in the transaction the key is claimed in, and a retried request with the same key returns the comment
+     * created by the first request instead of creating another one.
      * </p>
      *
-     * @param commentDTO The {@link CommentDTO} object containing the comment data to be saved.
+     * @param commentDTO     The {@link CommentDTO} object containing the comment data to be saved.
+     * @param idempotencyKey The optional idempotency key of the request.
      * @return A {@link ResponseEntity} containing the saved comment as a {@link CommentDTO}.
      */
     @PostMapping
-    public ResponseEntity<CommentDTO> createComment(@Valid @RequestBody CommentDTO commentDTO) {
-        Comment comment = converter.convertToComment(commentDTO);
-        Comment savedComment = commentService.saveComment(comment);
-        return ResponseEntity.ok(converter.convertToCommentDTO(savedComment));
+    public ResponseEntity<CommentDTO> createComment(@Valid @RequestBody CommentDTO commentDTO,
+                                                    @RequestHeader(value = IdempotencyService.KEY_HEADER,
+                                                            required = false) String idempotencyKey) {
+        if (idempotencyKey != null) {
+            IdempotencyService.Outcome<CommentDTO> outcome = idempotencyService.execute(idempotencyKey,
+                    "POST /api/comments", commentDTO, CommentDTO.class, () -> saveComment(commentDTO));
+            return ResponseEntity.ok()
+                    .header(IdempotencyService.REPLAYED_HEADER, String.valueOf(outcome.replayed()))
+                    .body(outcome.body());
+        }
+        if (commentIngestionService.isEnabled()) {
+            return ResponseEntity.ok(commentIngestionService.ingest(commentDTO));
+        }
+        return ResponseEntity.ok(saveComment(commentDTO));
     }
 
     /**
@@ -106,81 +146,215 @@ public class CommentController {
      * Retrieves a comment by its ID.
      * <p>
      * The method fetches the comment with the given {@code commentId}. If the comment is found,
-     * it returns the comment as a {@link CommentDTO}. If not, it returns a {@code 404 Not Found} response.
+     * it returns the comment as a {@link CommentDTO} together with a strong {@code ETag} derived from the comment ID
+     * and version. If not, it returns a {@code 404 Not Found} response.
+     * </p>
+     * <p>
+     * If the request carries an {@code If-None-Match} header or the response body cache applies, the current
+     * version is looked up first (from the comment cache when possible). A {@code 304 Not Modified} response is
+     * returned when the client's copy is still current, and a cached JSON body of the current version is written
+     * straight to the response, in both cases without loading, converting or serializing the comment.
      * </p>
      *
-     * @param commentId The ID of the comment to be retrieved.
-     * @return A {@link ResponseEntity} containing the comment as a {@link CommentDTO} or a {@code 404 Not Found} response.
+     * @param commentId   The ID of the comment to be retrieved.
+     * @param ifNoneMatch The optional {@code If-None-Match} request header.
+     * @param accept      The optional {@code Accept} request header.
+     * @param response    The servlet response that cached bodies are written to.
+     * @return A {@link ResponseEntity} containing the comment as a {@link CommentDTO}, a {@code 304 Not Modified}
+     * or a {@code 404 Not Found} response, or {@code null} if a cached body was written to the response.
+     * @throws IOException If writing a cached body to the response fails.
      */
     @GetMapping("/{commentId}")
-    public ResponseEntity<CommentDTO> getCommentById(@PathVariable Long commentId) {
+    public ResponseEntity<CommentDTO> getCommentById(
+            @PathVariable Long commentId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletResponse response) throws IOException {
+        boolean bodyCacheable = responseBodyCache.isEnabledFor(accept);
+        if (ifNoneMatch != null || bodyCacheable) {
+            Long version = commentService.getCommentVersion(commentId);
+            String eTag = ETagUtils.forRepresentation(ETagUtils.forResource("comment", commentId, version), accept);
+            if (ETagUtils.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            byte[] cachedBody = bodyCacheable ? responseBodyCache.get("commentResponses", commentId, version) : null;
+            if (cachedBody != null) {
+                responseBodyCache.write(response, eTag, cachedBody);
+                return null;
+            }
+        }
         Comment comment = commentService.getCommentById(commentId);
-        return comment != null ? ResponseEntity.ok(converter.convertToCommentDTO(comment)) :
-                ResponseEntity.notFound().build();
+        if (comment == null) {
+            return ResponseEntity.notFound().build();
+        }
+        CommentDTO commentDTO = converter.convertToCommentDTO(comment);
+        if (bodyCacheable) {
+            responseBodyCache.put("commentResponses", comment.getCommentId(), comment.getVersion(), commentDTO);
+        }
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.forRepresentation(
+                        ETagUtils.forResource("comment", comment.getCommentId(), comment.getVersion()), accept))
+                .body(commentDTO);
     }
 
     /**
      * Retrieves all comments, with pagination support.
      * <p>
      * The method returns a paginated list of comments, with each comment represented as a {@link CommentDTO}.
+     * If {@code fields} is given, only the listed properties are selected and returned.
      * </p>
      *
-     * @param pageable The pagination information (page number, page size, etc.).
+     * @param pageable    The pagination information (page number, page size, etc.).
+     * @param fields      The optional comma separated list of {@link CommentDTO} properties to return.
+     * @param ifNoneMatch The optional {@code If-None-Match} request header.
+     * @param accept      The optional {@code Accept} request header.
      * @return A {@link ResponseEntity} containing a {@link PagedResponseDTO} with the list of comments.
      */
     @GetMapping
-    public ResponseEntity<PagedResponseDTO<CommentDTO>> getAllComments(Pageable pageable) {
+    public ResponseEntity<PagedResponseDTO<CommentDTO>> getAllComments(
+            Pageable pageable,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (fields != null) {
+            return createSparseResponse(null, null, fields, pageable);
+        }
         Page<Comment> comments = commentService.getAllComments(pageable);
-        List<CommentDTO> commentDTOs = comments.getContent().stream()
-                .map(converter::convertToCommentDTO)
-                .toList();
+        return createConditionalResponse(comments, ifNoneMatch, accept);
+    }
 
-        PagedResponseDTO<CommentDTO> response = createResponse(commentDTOs, comments);
-        return ResponseEntity.ok(response);
+    /**
+     * Retrieves several comments by their IDs at once.
+     * <p>
+     * The IDs are given as a comma separated list, e.g. {@code ?ids=3,1,2}, such as the {@code commentIds} of a task.
+     * Cached comments are served from the comment cache and the others are loaded with one query. The comments are
+     * returned in request order, and the IDs of comments that do not exist are reported in {@code missingIds}.
+     * </p>
+     *
+     * @param ids The IDs of the comments to retrieve, at most {@link MultiGet#MAX_IDS} distinct ones.
+     * @return A {@link ResponseEntity} containing the found comments and the missing IDs as a
+     * {@link MultiGetResponseDTO}.
+     * @throws IllegalArgumentException If no ID or too many IDs are given.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponseDTO<CommentDTO>> getCommentsByIds(@RequestParam List<Long> ids) {
+        Set<Long> commentIds = MultiGet.parse(ids);
+        Map<Long, Comment> comments = commentService.getCommentsByIds(commentIds);
+        return ResponseEntity.ok(MultiGet.toResponse(commentIds, comments, converter::convertToCommentDTO));
     }
 
     /**
      * Retrieves all comments associated with a specific task, with pagination support.
      * <p>
      * The method returns a paginated list of comments related to the task with the given {@code taskId}.
+     * If {@code fields} is given, only the listed properties are selected and returned.
      * </p>
      *
-     * @param taskId  The ID of the task for which to retrieve comments.
-     * @param pageable The pagination information (page number, page size, etc.).
+     * @param taskId      The ID of the task for which to retrieve comments.
+     * @param pageable    The pagination information (page number, page size, etc.).
+     * @param fields      The optional comma separated list of {@link CommentDTO} properties to return.
+     * @param ifNoneMatch The optional {@code If-None-Match} request header.
+     * @param accept      The optional {@code Accept} request header.
      * @return A {@link ResponseEntity} containing a {@link PagedResponseDTO} with the list of comments for the task.
      */
     @GetMapping("/task/{taskId}")
-    public ResponseEntity<PagedResponseDTO<CommentDTO>> getCommentsByTask(@PathVariable Long taskId,
-                                                                          Pageable pageable) {
+    public ResponseEntity<PagedResponseDTO<CommentDTO>> getCommentsByTask(
+            @PathVariable Long taskId, Pageable pageable,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (fields != null) {
+            return createSparseResponse(taskId, null, fields, pageable);
+        }
         Page<Comment> comments = commentService.getCommentsByTask(taskId, pageable);
-        List<CommentDTO> commentDTOs = comments.getContent().stream()
-                .map(converter::convertToCommentDTO)
-                .toList();
-
-        PagedResponseDTO<CommentDTO> response = createResponse(commentDTOs, comments);
-        return ResponseEntity.ok(response);
+        return createConditionalResponse(comments, ifNoneMatch, accept);
     }
 
     /**
      * Retrieves all comments associated with a specific user, with pagination support.
      * <p>
      * The method returns a paginated list of comments made by the user with the given {@code userId}.
+     * If {@code fields} is given, only the listed properties are selected and returned.
      * </p>
      *
-     * @param userId  The ID of the user for whom to retrieve comments.
-     * @param pageable The pagination information (page number, page size, etc.).
+     * @param userId      The ID of the user for whom to retrieve comments.
+     * @param pageable    The pagination information (page number, page size, etc.).
+     * @param fields      The optional comma separated list of {@link CommentDTO} properties to return.
+     * @param ifNoneMatch The optional {@code If-None-Match} request header.
+     * @param accept      The optional {@code Accept} request header.
      * @return A {@link ResponseEntity} containing a {@link PagedResponseDTO} with the list of comments by the user.
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<PagedResponseDTO<CommentDTO>> getCommentsByUser(@PathVariable Long userId,
-                                                                          Pageable pageable) {
+    public ResponseEntity<PagedResponseDTO<CommentDTO>> getCommentsByUser(
+            @PathVariable Long userId, Pageable pageable,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (fields != null) {
+            return createSparseResponse(null, userId, fields, pageable);
+        }
         Page<Comment> comments = commentService.getCommentsByUser(userId, pageable);
+        return createConditionalResponse(comments, ifNoneMatch, accept);
+    }
+
+    /**
+     * Converts and saves a new comment.
+     *
+     * @param commentDTO The {@link CommentDTO} object containing the comment data to be saved.
+     * @return The saved comment as a {@link CommentDTO}.
+     */
+    private CommentDTO saveComment(CommentDTO commentDTO) {
+        Comment comment = converter.convertToComment(commentDTO);
+        Comment savedComment = commentService.saveComment(comment);
+        return converter.convertToCommentDTO(savedComment);
+    }
+
+    /**
+     * Creates a conditional paginated response for comments.
+     * <p>
+     * A list {@code ETag} is computed from the IDs and versions of the page content. If it matches the
+     * {@code If-None-Match} header, a {@code 304 Not Modified} response is returned without converting or
+     * serializing the comments.
+     * </p>
+     *
+     * @param comments    The {@link Page} object containing the comments and pagination data.
+     * @param ifNoneMatch The optional {@code If-None-Match} request header.
+     * @param accept      The optional {@code Accept} request header.
+     * @return A {@link ResponseEntity} containing the comment DTOs and pagination information,
+     * or a {@code 304 Not Modified}.
+     */
+    private ResponseEntity<PagedResponseDTO<CommentDTO>> createConditionalResponse(Page<Comment> comments,
+                                                                                   String ifNoneMatch, String accept) {
+        String eTag = ETagUtils.forRepresentation(
+                ETagUtils.forPage("comments", comments, Comment::getCommentId, Comment::getVersion), accept);
+        if (ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         List<CommentDTO> commentDTOs = comments.getContent().stream()
                 .map(converter::convertToCommentDTO)
                 .toList();
+        return ResponseEntity.ok().eTag(eTag).body(createResponse(commentDTOs, comments));
+    }
 
-        PagedResponseDTO<CommentDTO> response = createResponse(commentDTOs, comments);
-        return ResponseEntity.ok(response);
+    /**
+     * Creates a paginated sparse fieldset response for comments.
+     * <p>
+     * Only the columns backing the requested properties are selected. Sparse responses are not conditional and
+     * carry no {@code ETag}.
+     * </p>
+     *
+     * @param taskId   The ID of the task to restrict the comments to, or {@code null}.
+     * @param userId   The ID of the user to restrict the comments to, or {@code null}.
+     * @param fields   The comma separated list of {@link CommentDTO} properties to return.
+     * @param pageable The pagination information (page number, page size, etc.).
+     * @return A {@link ResponseEntity} containing the partially populated comment DTOs and pagination information.
+     * @throws IllegalArgumentException If {@code fields} contains an unknown property.
+     */
+    private ResponseEntity<PagedResponseDTO<CommentDTO>> createSparseResponse(Long taskId, Long userId,
+                                                                              String fields, Pageable pageable) {
+        Page<CommentDTO> comments = commentService.getCommentFields(taskId, userId,
+                SparseFields.parse(fields, SparseFields.COMMENT_FIELDS), pageable);
+        return ResponseEntity.ok(createResponse(comments.getContent(), comments));
     }
 
     /**
@@ -190,7 +364,7 @@ public class CommentController {
      * @param comments    The {@link Page} object containing the comments and pagination data.
      * @return A {@link PagedResponseDTO} containing the comment DTOs and pagination information.
      */
-    private PagedResponseDTO<CommentDTO> createResponse(List<CommentDTO> commentDTOs, Page<Comment> comments) {
+    private PagedResponseDTO<CommentDTO> createResponse(List<CommentDTO> commentDTOs, Page<?> comments) {
         return new PagedResponseDTO<>(
                 commentDTOs,
                 comments.getNumber(),
@@ -0,0 +1,92 @@
+package com.demo.tms.controller;
+
+import com.demo.tms.service.ExportService;
+import com.demo.tms.utils.ExportFormat;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The {@code ExportController} class handles HTTP requests for bulk exports of tasks and comments.
+ * It provides streaming endpoints that write every row to the response as it is read from the database,
+ * as an alternative to paging through the list endpoints. The class utilizes the {@link ExportService}
+ * to read and write the rows.
+ */
+@RestController
+@RequestMapping("/api/export")
+@Slf4j
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * Constructs a new {@code ExportController} with the specified dependencies.
+     *
+     * @param exportService The service responsible for exporting task and comment data.
+     */
+    @Autowired
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * Exports all tasks.
+     * <p>
+     * The tasks are written to the response as NDJSON (one JSON object per line) or as CSV with a header line,
+     * ordered by task ID. The export runs a single query and uses constant memory regardless of the number of tasks.
+     * </p>
+     *
+     * @param format   The export format, {@code ndjson} (default) or {@code csv}.
+     * @param response The servlet response the tasks are written to.
+     * @throws IOException              If writing to the response fails.
+     * @throws IllegalArgumentException If the export format is not supported.
+     */
+    @GetMapping("/tasks")
+    public void exportTasks(@RequestParam(defaultValue = "ndjson") String format,
+                            HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        prepareResponse(response, exportFormat, "tasks");
+        exportService.exportTasks(exportFormat, response.getWriter());
+    }
+
+    /**
+     * Exports all comments.
+     * <p>
+     * The comments are written to the response as NDJSON (one JSON object per line) or as CSV with a header line,
+     * ordered by comment ID. The export runs a single query and uses constant memory regardless of the number of
+     * comments.
+     * </p>
+     *
+     * @param format   The export format, {@code ndjson} (default) or {@code csv}.
+     * @param response The servlet response the comments are written to.
+     * @throws IOException              If writing to the response fails.
+     * @throws IllegalArgumentException If the export format is not supported.
+     */
+    @GetMapping("/comments")
+    public void exportComments(@RequestParam(defaultValue = "ndjson") String format,
+                               HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        prepareResponse(response, exportFormat, "comments");
+        exportService.exportComments(exportFormat, response.getWriter());
+    }
+
+    /**
+     * Sets the status and headers of an export response.
+     *
+     * @param response The servlet response to prepare.
+     * @param format   The export format.
+     * @param name     The base name of the exported file.
+     */
+    private void prepareResponse(HttpServletResponse response, ExportFormat format, String name) {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + "." + format.name().toLowerCase() + "\"");
+    }
+}
@@ -0,0 +1,64 @@
+package com.demo.tms.controller;
+
+import com.demo.tms.dto.ImportResultDTO;
+import com.demo.tms.service.ImportService;
+import com.demo.tms.utils.ExportFormat;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The {@code ImportController} class handles HTTP requests for bulk imports of tasks and comments.
+ * It provides an endpoint that loads large task and comment files, such as exports of another tracker,
+ * in a single transaction. The class utilizes the {@link ImportService} to stage, validate and merge the rows.
+ */
+@RestController
+@RequestMapping("/api/import")
+@Slf4j
+public class ImportController {
+
+    private final ImportService importService;
+
+    /**
+     * Constructs a new {@code ImportController} with the specified dependencies.
+     *
+     * @param importService The service responsible for importing task and comment data.
+     */
+    @Autowired
+    public ImportController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    /**
+     * Imports tasks and comments.
+     * <p>
+     * The request is a multipart request with a {@code tasks} part, a {@code comments} part, or both, in the format
+     * produced by the export endpoints. Rows with an existing ID update that task or comment, rows without an ID are
+     * inserted. Invalid rows are rejected and reported in the response; all other rows are imported.
+     * </p>
+     *
+     * @param format   The input format, {@code csv} (default) or {@code ndjson}.
+     * @param tasks    The optional task file.
+     * @param comments The optional comment file.
+     * @return A {@link ResponseEntity} containing the {@link ImportResultDTO} of the import.
+     * @throws IOException              If reading an uploaded file fails.
+     * @throws IllegalArgumentException If the format is not supported or no file was uploaded.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultDTO> importData(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestPart(value = "tasks", required = false) MultipartFile tasks,
+            @RequestPart(value = "comments", required = false) MultipartFile comments) throws IOException {
+        ExportFormat importFormat = ExportFormat.fromParameter(format);
+        try (InputStream taskInput = tasks != null ? tasks.getInputStream() : null;
+             InputStream commentInput = comments != null ? comments.getInputStream() : null) {
+            return ResponseEntity.ok(importService.importData(importFormat, taskInput, commentInput));
+        }
+    }
+}
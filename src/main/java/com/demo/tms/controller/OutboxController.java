@@ -0,0 +1,42 @@
+package com.demo.tms.controller;
+
+import com.demo.tms.dto.OutboxStatusDTO;
+import com.demo.tms.service.OutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * The {@code OutboxController} class handles HTTP requests for the transactional outbox.
+ * It provides an endpoint to monitor the lag of the relay delivering task and comment changes to the outbox sink.
+ * The class utilizes the {@link OutboxService} to read the lag.
+ */
+@RestController
+@RequestMapping("/api/outbox")
+@Slf4j
+public class OutboxController {
+
+    private final OutboxService outboxService;
+
+    /**
+     * Constructs a new {@code OutboxController} with the specified dependencies.
+     *
+     * @param outboxService The service responsible for the transactional outbox.
+     */
+    @Autowired
+    public OutboxController(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    /**
+     * Retrieves the lag of the outbox relay: the number and age of the messages waiting in the outbox, and the
+     * number, time and lag of the delivered messages.
+     *
+     * @return A {@link ResponseEntity} containing the {@link OutboxStatusDTO} of the relay.
+     */
+    @GetMapping("/status")
+    public ResponseEntity<OutboxStatusDTO> getStatus() {
+        return ResponseEntity.ok(outboxService.getStatus());
+    }
+}
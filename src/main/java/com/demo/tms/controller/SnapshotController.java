@@ -0,0 +1,45 @@
+package com.demo.tms.controller;
+
+import com.demo.tms.dto.SnapshotManifestDTO;
+import com.demo.tms.service.SnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * The {@code SnapshotController} class handles HTTP requests for snapshot exports.
+ * It provides an endpoint to export a consistent snapshot of the users, tasks and comments tables on demand.
+ * The class utilizes the {@link SnapshotService} to export the snapshot.
+ */
+@RestController
+@RequestMapping("/api/snapshots")
+@Slf4j
+public class SnapshotController {
+
+    private final SnapshotService snapshotService;
+
+    /**
+     * Constructs a new {@code SnapshotController} with the specified dependencies.
+     *
+     * @param snapshotService The service responsible for exporting snapshots.
+     */
+    @Autowired
+    public SnapshotController(SnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    /**
+     * Exports a snapshot of the users, tasks and comments tables.
+     * <p>
+     * The tables are exported in parallel, by primary key range, into gzip compressed CSV part files on the server.
+     * The response is the manifest of the snapshot, including the row count and timing of every part.
+     * </p>
+     *
+     * @return A {@link ResponseEntity} containing the {@link SnapshotManifestDTO} of the snapshot.
+     */
+    @PostMapping
+    public ResponseEntity<SnapshotManifestDTO> createSnapshot() {
+        return ResponseEntity.ok(snapshotService.createSnapshot());
+    }
+}
@@ -0,0 +1,58 @@
+package com.demo.tms.controller;
+
+import com.demo.tms.dto.ChangeSetDTO;
+import com.demo.tms.service.SyncService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * The {@code SyncController} class handles HTTP requests for the change feed.
+ * It lets clients keep the tasks of an assignee and their comments in sync by fetching only what changed since
+ * their last sync, instead of downloading the whole list again. The class utilizes the {@link SyncService}
+ * to read the changes.
+ */
+@RestController
+@RequestMapping("/api/sync")
+@Slf4j
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * Constructs a new {@code SyncController} with the specified dependencies.
+     *
+     * @param syncService The service responsible for reading the changes.
+     */
+    @Autowired
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    /**
+     * Retrieves the tasks of an assignee and their comments that were created, updated or deleted after a watermark.
+     * <p>
+     * Clients start without a watermark to receive everything, and then pass the {@code watermark} of each response
+     * as {@code since} of the next request, repeating immediately while {@code hasMore} is {@code true}. If nothing
+     * changed after {@code since}, the response is {@code 304 Not Modified} without a body.
+     * </p>
+     *
+     * @param assigneeId The ID of the assignee.
+     * @param since      The optional watermark of the previous response.
+     * @param limit      The maximum number of changes to return, at most 1000 (default 500).
+     * @return A {@link ResponseEntity} containing the {@link ChangeSetDTO}, or {@code 304 Not Modified}.
+     * @throws IllegalArgumentException If the limit is out of range, or the watermark is invalid or has expired.
+     */
+    @GetMapping("/assignee/{assigneeId}")
+    public ResponseEntity<ChangeSetDTO> getChanges(@PathVariable Long assigneeId,
+                                                   @RequestParam(required = false) String since,
+                                                   @RequestParam(defaultValue = "500") int limit) {
+        ChangeSetDTO changes = syncService.getChanges(assigneeId, since, limit);
+        if (since != null && since.equals(changes.getWatermark())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok(changes);
+    }
+}
@@ -1,22 +1,49 @@
 package com.demo.tms.controller;
 
+import com.demo.tms.cache.ResponseBodyCache;
 import com.demo.tms.converter.Converter;
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.dto.CursorPageDTO;
+import com.demo.tms.dto.MultiGetResponseDTO;
 import com.demo.tms.dto.PagedResponseDTO;
+import com.demo.tms.dto.TaskBoardDTO;
 import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.dto.TaskDetailsDTO;
+import com.demo.tms.dto.TaskFilterDTO;
+import com.demo.tms.dto.TaskSearchHitDTO;
+import com.demo.tms.dto.TaskStatisticsDTO;
+import com.demo.tms.dto.TimeBucketDTO;
+import com.demo.tms.entity.Comment;
 import com.demo.tms.entity.Task;
+import com.demo.tms.entity.User;
 import com.demo.tms.exception.ResourceNotFoundException;
+import com.demo.tms.service.CommentService;
+import com.demo.tms.service.IdempotencyService;
 import com.demo.tms.service.TaskService;
+import com.demo.tms.service.TaskStatisticsService;
+import com.demo.tms.service.TaskWriteSerializer;
+import com.demo.tms.utils.ETagUtils;
+import com.demo.tms.utils.MultiGet;
+import com.demo.tms.utils.SparseFields;
 import com.demo.tms.utils.TaskStatus;
+import com.demo.tms.utils.TimeInterval;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * The {@code TaskController} class handles HTTP requests related to tasks.
@@ -30,18 +57,35 @@ import java.util.Map;
 public class TaskController {
 
     private final TaskService taskService;
+    private final CommentService commentService;
     private final Converter converter;
+    private final ResponseBodyCache responseBodyCache;
+    private final TaskStatisticsService taskStatisticsService;
+    private final IdempotencyService idempotencyService;
+    private final TaskWriteSerializer taskWriteSerializer;
 
     /**
      * Constructs a new {@code TaskController} with the specified dependencies.
      *
-     * @param taskService The service responsible for managing task data.
-     * @param converter   The converter used to transform between {@link TaskDTO} and {@link Task} entities.
+     * @param taskService           The service responsible for managing task data.
+     * @param commentService        The service responsible for managing comment data.
+     * @param converter             The converter used to transform between {@link TaskDTO} and {@link Task} entities.
+     * @param responseBodyCache     The cache of pre-serialized task response bodies.
+     * @param taskStatisticsService The service holding the task counts.
+     * @param idempotencyService    The service executing create requests at most once per idempotency key.
+     * @param taskWriteSerializer   The serializer queuing concurrent writes to the same task.
      */
     @Autowired
-    public TaskController(TaskService taskService, Converter converter) {
+    public TaskController(TaskService taskService, CommentService commentService, Converter converter,
+                          ResponseBodyCache responseBodyCache, TaskStatisticsService taskStatisticsService,
+                          IdempotencyService idempotencyService, TaskWriteSerializer taskWriteSerializer) {
         this.taskService = taskService;
+        this.commentService = commentService;
         this.converter = converter;
+        this.responseBodyCache = responseBodyCache;
+        this.taskStatisticsService = taskStatisticsService;
+        this.idempotencyService = idempotencyService;
+        this.taskWriteSerializer = taskWriteSerializer;
     }
 
     /**
@@ -49,16 +93,26 @@ public class TaskController {
      * <p>
      * The method accepts a {@link TaskDTO} object, converts it to a {@link Task} entity,
      * saves it through the {@code taskService}, and returns the saved task as a {@link TaskDTO}.
+     * If an {@code Idempotency-Key} header is sent, a retried request with the same key returns the task
+     * created by the first request instead of creating another one.
      * </p>
      *
-     * @param taskDTO The {@link TaskDTO} object containing the task data to be saved.
+     * @param taskDTO        The {@link TaskDTO} object containing the task data to be saved.
+     * @param idempotencyKey The optional idempotency key of the request.
      * @return A {@link ResponseEntity} containing the saved task as a {@link TaskDTO}.
      */
     @PostMapping
-    public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody TaskDTO taskDTO) {
-        Task task = converter.convertToTask(taskDTO);
-        Task savedTask = taskService.saveTask(task);
-        return ResponseEntity.ok(converter.convertToTaskDTO(savedTask));
+    public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody TaskDTO taskDTO,
+                                              @RequestHeader(value = IdempotencyService.KEY_HEADER, required = false)
+                                              String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(saveTask(taskDTO));
+        }
+        IdempotencyService.Outcome<TaskDTO> outcome = idempotencyService.execute(idempotencyKey, "POST /api/tasks",
+                taskDTO, TaskDTO.class, () -> saveTask(taskDTO));
+        return ResponseEntity.ok()
+                .header(IdempotencyService.REPLAYED_HEADER, String.valueOf(outcome.replayed()))
+                .body(outcome.body());
     }
 
     /**
@@ -66,7 +120,8 @@ public class TaskController {
      * <p>
      * The method accepts a {@link TaskDTO} object with updated data, converts it to a {@link Task} entity,
      * and updates the task with the given {@code taskId}. If the task is not found,
-     * a {@link ResourceNotFoundException} is thrown.
+     * a {@link ResourceNotFoundException} is thrown. Concurrent updates of the same task are applied one after
+     * another through the {@code taskWriteSerializer}.
      * </p>
      *
      * @param taskId   The ID of the task to be updated.
@@ -78,7 +133,7 @@ public class TaskController {
     public ResponseEntity<TaskDTO> updateTask(@Valid @PathVariable Long taskId, @RequestBody TaskDTO taskDTO) {
         Task updatedTask = converter.convertToTask(taskDTO);
         updatedTask.setTaskId(taskId);
-        Task task = taskService.updateTask(taskId, updatedTask);
+        Task task = taskWriteSerializer.execute(taskId, () -> taskService.updateTask(taskId, updatedTask));
         if (task == null) {
             throw new ResourceNotFoundException("Task with ID " + taskId + " not found");
         }
@@ -91,7 +146,8 @@ public class TaskController {
      * The method accepts a task ID and a map containing the new status. If the status is valid,
      * it updates the task's status
      * through the {@code taskService}. If the status is invalid or missing,
-     * it throws an {@link IllegalArgumentException}.
+     * it throws an {@link IllegalArgumentException}. Concurrent updates of the same task are applied one after
+     * another through the {@code taskWriteSerializer}.
      * </p>
      *
      * @param taskId      The ID of the task to update.
@@ -116,7 +172,7 @@ public class TaskController {
         }
 
         // Update task status
-        Task task = taskService.updateTaskStatus(taskId, statusEnum);
+        Task task = taskWriteSerializer.execute(taskId, () -> taskService.updateTaskStatus(taskId, statusEnum));
         return ResponseEntity.ok(converter.convertToTaskDTO(task));
     }
 
@@ -133,7 +189,7 @@ public class TaskController {
      */
     @DeleteMapping("/{taskId}")
     public ResponseEntity<Void> deleteTask(@PathVariable Long taskId) {
-        boolean isDeleted = taskService.deleteTask(taskId);
+        boolean isDeleted = taskWriteSerializer.execute(taskId, () -> taskService.deleteTask(taskId));
         if (!isDeleted) {
             throw new ResourceNotFoundException("Task with ID " + taskId + " not found");
         }
@@ -144,81 +200,418 @@ public class TaskController {
      * Retrieves a task by its ID.
      * <p>
      * The method fetches the task with the given {@code taskId}. If the task is found,
-     * it returns the task as a {@link TaskDTO}. If not, it returns a {@code 404 Not Found} response.
+     * it returns the task as a {@link TaskDTO} together with a strong {@code ETag} derived from the task ID, its
+     * version and the IDs of its comments. If not, it returns a {@code 404 Not Found} response.
+     * </p>
+     * <p>
+     * If the request carries an {@code If-None-Match} header or the response body cache applies, the current
+     * representation version is looked up first (from the task cache when possible). A {@code 304 Not Modified}
+     * response is returned when the client's copy is still current, and a cached JSON body of the current version is
+     * written straight to the response, in both cases without loading, converting or serializing the task.
      * </p>
      *
-     * @param taskId The ID of the task to be retrieved.
-     * @return A {@link ResponseEntity} containing the task as a {@link TaskDTO} or a {@code 404 Not Found} response.
+     * @param taskId      The ID of the task to be retrieved.
+     * @param ifNoneMatch The optional {@code If-None-Match} request header.
+     * @param accept      The optional {@code Accept} request header.
+     * @param response    The servlet response that cached bodies are written to.
+     * @return A {@link ResponseEntity} containing the task as a {@link TaskDTO}, a {@code 304 Not Modified}
+     * or a {@code 404 Not Found} response, or {@code null} if a cached body was written to the response.
+     * @throws IOException If writing a cached body to the response fails.
      */
     @GetMapping("/{taskId}")
-    public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long taskId) {
+    public ResponseEntity<TaskDTO> getTaskById(
+            @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletResponse response) throws IOException {
+        boolean bodyCacheable = responseBodyCache.isEnabledFor(accept);
+        if (ifNoneMatch != null || bodyCacheable) {
+            Long version = taskService.getTaskRepresentationVersion(taskId);
+            String eTag = ETagUtils.forRepresentation(ETagUtils.forResource("task", taskId, version), accept);
+            if (ETagUtils.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            byte[] cachedBody = bodyCacheable ? responseBodyCache.get("taskResponses", taskId, version) : null;
+            if (cachedBody != null) {
+                responseBodyCache.write(response, eTag, cachedBody);
+                return null;
+            }
+        }
         Task task = taskService.getTaskById(taskId);
-        return task != null ? ResponseEntity.ok(converter.convertToTaskDTO(task)) : ResponseEntity.notFound().build();
+        if (task == null) {
+            return ResponseEntity.notFound().build();
+        }
+        TaskDTO taskDTO = converter.convertToTaskDTO(task);
+        Long version = ETagUtils.representationVersion(task);
+        if (bodyCacheable) {
+            responseBodyCache.put("taskResponses", task.getTaskId(), version, taskDTO);
+        }
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.forRepresentation(ETagUtils.forResource("task", task.getTaskId(), version), accept))
+                .body(taskDTO);
+    }
+
+    /**
+     * Retrieves a task together with a page of its comments and the usernames of the involved users.
+     * <p>
+     * The response contains everything needed to render a task detail view, so clients do not have to fetch
+     * the task, its comments and every involved user separately. The data is loaded with a fixed number of queries
+     * regardless of the number of comments: the task with its author and assignee, the task's comment IDs,
+     * and the requested page of comments with their users plus its count.
+     * </p>
+     *
+     * @param taskId   The ID of the task to be retrieved.
+     * @param pageable Pageable object for the pagination of the comments.
+     * @return A {@link ResponseEntity} containing the task details as a {@link TaskDetailsDTO}.
+     * @throws ResourceNotFoundException If the task with the given {@code taskId} is not found.
+     */
+    @GetMapping("/{taskId}/details")
+    public ResponseEntity<TaskDetailsDTO> getTaskDetails(@PathVariable Long taskId, Pageable pageable) {
+        Task task = taskService.getTaskWithUsers(taskId);
+        Page<Comment> comments = commentService.getCommentsWithUsersByTask(taskId, pageable);
+
+        Map<Long, String> usernames = new LinkedHashMap<>();
+        addUsername(usernames, task.getAuthor());
+        addUsername(usernames, task.getAssignee());
+        comments.getContent().forEach(comment -> addUsername(usernames, comment.getUser()));
+
+        List<CommentDTO> commentDTOs = comments.getContent().stream()
+                .map(converter::convertToCommentDTO)
+                .toList();
+        PagedResponseDTO<CommentDTO> commentPage = new PagedResponseDTO<>(
+                commentDTOs,
+                comments.getNumber(),
+                comments.getSize(),
+                comments.getTotalElements(),
+                comments.getTotalPages()
+        );
+        return ResponseEntity.ok(new TaskDetailsDTO(converter.convertToTaskDTO(task), commentPage, usernames));
+    }
+
+    /**
+     * Searches tasks by keywords.
+     * <p>
+     * The query is matched against the names, descriptions and comments of all tasks using the database's full-text
+     * search, and the matching tasks are returned ordered by relevance. The next page is requested by passing the
+     * {@code nextCursor} of the response as {@code cursor}.
+     * </p>
+     *
+     * @param q      The search query in web search syntax, e.g. {@code "login bug" -android}.
+     * @param cursor The optional cursor of the requested page.
+     * @param size   The maximum number of tasks per page.
+     * @return A {@link ResponseEntity} containing the matching tasks as a {@link CursorPageDTO}.
+     * @throws IllegalArgumentException If the query is blank, the size is out of range or the cursor is invalid.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageDTO<TaskSearchHitDTO>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(taskService.searchTasks(q, cursor, size));
+    }
+
+    /**
+     * Suggests tasks whose names start with the given prefix.
+     * <p>
+     * Intended for type-ahead task pickers that query on every keystroke. Suggestions are served from an in-memory
+     * index and only contain the task ID and name.
+     * </p>
+     *
+     * @param prefix The prefix of the task name, matched ignoring case.
+     * @param limit  The maximum number of suggestions.
+     * @return A {@link ResponseEntity} containing the suggested tasks ordered by name.
+     * @throws IllegalArgumentException If the prefix is blank or the limit is out of range.
+     */
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<TaskDTO>> suggestTasks(@RequestParam String prefix,
+                                                      @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(taskService.suggestTasks(prefix, limit));
+    }
+
+    /**
+     * Retrieves the task counts by status and priority.
+     * <p>
+     * The counts are maintained in memory as tasks are written, so the endpoint can be polled frequently by
+     * dashboards without querying the database.
+     * </p>
+     *
+     * @param assigneeId The optional ID of the assignee to count the tasks of; all tasks are counted if omitted.
+     * @return A {@link ResponseEntity} containing the counts as a {@link TaskStatisticsDTO}.
+     */
+    @GetMapping("/statistics")
+    public ResponseEntity<TaskStatisticsDTO> getTaskStatistics(@RequestParam(required = false) Long assigneeId) {
+        return ResponseEntity.ok(taskStatisticsService.getStatistics(assigneeId));
+    }
+
+    /**
+     * Retrieves the number of tasks per time interval in which they were created or last modified.
+     * <p>
+     * For example, {@code ?timestamp=updated&interval=day&status=COMPLETED&from=...&to=...} returns the number of
+     * tasks completed per day. Intervals are aligned to UTC and intervals without tasks are omitted.
+     * </p>
+     *
+     * @param timestamp The timestamp to bucket by, {@code created} (default) or {@code updated}.
+     * @param interval  The interval size: {@code hour}, {@code day} (default), {@code week} or {@code month}.
+     * @param from      The inclusive start of the time range as an ISO-8601 instant.
+     * @param to        The exclusive end of the time range as an ISO-8601 instant.
+     * @param status    The optional status of the counted tasks.
+     * @return A {@link ResponseEntity} containing the non-empty intervals as a list of {@link TimeBucketDTO}.
+     */
+    @GetMapping("/statistics/timeline")
+    public ResponseEntity<List<TimeBucketDTO>> getTaskTimeline(
+            @RequestParam(defaultValue = "created") String timestamp,
+            @RequestParam(defaultValue = "day") String interval,
+            @RequestParam Instant from,
+            @RequestParam Instant to,
+            @RequestParam(required = false) TaskStatus status) {
+        return ResponseEntity.ok(taskService.getTaskTimeline(timestamp, TimeInterval.fromParameter(interval), from,
+                to, status));
     }
 
     /**
      * Retrieves all tasks with pagination.
      * <p>
      * The method returns a paginated list of all tasks, with each task represented as a {@link TaskDTO}.
+     * If {@code fields} is given, only the listed properties are selected and returned.
      * </p>
      *
-     * @param pageable Pageable object for pagination.
+     * @param pageable    Pageable object for pagination.
+     * @param fields      The optional comma separated list of {@link TaskDTO} properties to return.
+     * @param ifNoneMatch The optional {@code If-None-Match} request header.
+     * @param accept      The optional {@code Accept} request header.
      * @return A {@link ResponseEntity} containing the paginated tasks as a {@link PagedResponseDTO} of {@link TaskDTO}.
      */
     @GetMapping
-    public ResponseEntity<PagedResponseDTO<TaskDTO>> getAllTasks(Pageable pageable) {
+    public ResponseEntity<PagedResponseDTO<TaskDTO>> getAllTasks(
+            Pageable pageable,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (fields != null) {
+            return createSparseResponse(null, null, fields, pageable);
+        }
         Page<Task> tasks = taskService.getAllTasks(pageable);
-        List<TaskDTO> taskDTOs = tasks.getContent().stream()
-                .map(converter::convertToTaskDTO)
-                .toList();
+        return createConditionalResponse(tasks, ifNoneMatch, accept);
+    }
 
-        PagedResponseDTO<TaskDTO> response = createResponse(taskDTOs, tasks);
-        return ResponseEntity.ok(response);
+    /**
+     * Retrieves several tasks by their IDs at once.
+     * <p>
+     * The IDs are given as a comma separated list, e.g. {@code ?ids=3,1,2}, such as the {@code assignedTaskIds} of
+     * a user. Cached tasks are served from the task cache and the others are loaded with one query. The tasks are
+     * returned in request order, and the IDs of tasks that do not exist are reported in {@code missingIds}.
+     * </p>
+     *
+     * @param ids The IDs of the tasks to retrieve, at most {@link MultiGet#MAX_IDS} distinct ones.
+     * @return A {@link ResponseEntity} containing the found tasks and the missing IDs as a {@link MultiGetResponseDTO}.
+     * @throws IllegalArgumentException If no ID or too many IDs are given.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponseDTO<TaskDTO>> getTasksByIds(@RequestParam List<Long> ids) {
+        Set<Long> taskIds = MultiGet.parse(ids);
+        Map<Long, Task> tasks = taskService.getTasksByIds(taskIds);
+        return ResponseEntity.ok(MultiGet.toResponse(taskIds, tasks, converter::convertToTaskDTO));
+    }
+
+    /**
+     * Retrieves the tasks matching all given criteria with pagination.
+     * <p>
+     * Each criterion is optional. Several statuses or priorities can be given, e.g.
+     * {@code ?assigneeId=2&status=PENDING&priority=HIGH} returns the pending high priority tasks of user 2.
+     * Creation and modification time ranges are given as ISO-8601 instants, e.g.
+     * {@code ?createdFrom=2025-01-01T00:00:00Z&createdTo=2025-02-01T00:00:00Z}.
+     * </p>
+     *
+     * @param filter      The {@link TaskFilterDTO} bound from the request parameters.
+     * @param pageable    Pageable object for pagination.
+     * @param ifNoneMatch The optional {@code If-None-Match} request header.
+     * @param accept      The optional {@code Accept} request header.
+     * @return A {@link ResponseEntity} containing the paginated tasks as a {@link PagedResponseDTO} of {@link TaskDTO}.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<PagedResponseDTO<TaskDTO>> filterTasks(
+            TaskFilterDTO filter, Pageable pageable,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Page<Task> tasks = taskService.filterTasks(filter, pageable);
+        return createConditionalResponse(tasks, ifNoneMatch, accept);
     }
 
     /**
      * Retrieves tasks assigned to a specific author with pagination.
      * <p>
      * The method returns a paginated list of tasks authored by the given {@code authorId},
-     * with each task represented as a {@link TaskDTO}.
+     * with each task represented as a {@link TaskDTO}. If {@code fields} is given, only the listed properties are
+     * selected and returned.
      * </p>
      *
-     * @param authorId The ID of the author whose tasks are to be retrieved.
-     * @param pageable Pageable object for pagination.
+     * @param authorId    The ID of the author whose tasks are to be retrieved.
+     * @param pageable    Pageable object for pagination.
+     * @param fields      The optional comma separated list of {@link TaskDTO} properties to return.
+     * @param ifNoneMatch The optional {@code If-None-Match} request header.
+     * @param accept      The optional {@code Accept} request header.
      * @return A {@link ResponseEntity} containing the paginated tasks as a {@link PagedResponseDTO} of {@link TaskDTO}.
      */
     @GetMapping("/author/{authorId}")
-    public ResponseEntity<PagedResponseDTO<TaskDTO>> getTasksByAuthor(@PathVariable Long authorId, Pageable pageable) {
+    public ResponseEntity<PagedResponseDTO<TaskDTO>> getTasksByAuthor(
+            @PathVariable Long authorId, Pageable pageable,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (fields != null) {
+            return createSparseResponse(authorId, null, fields, pageable);
+        }
         Page<Task> tasks = taskService.getTasksByAuthor(authorId, pageable);
-        List<TaskDTO> taskDTOs = tasks.getContent().stream()
-                .map(converter::convertToTaskDTO)
-                .toList();
-
-        PagedResponseDTO<TaskDTO> response = createResponse(taskDTOs, tasks);
-        return ResponseEntity.ok(response);
+        return createConditionalResponse(tasks, ifNoneMatch, accept);
     }
 
     /**
      * Retrieves tasks assigned to a specific assignee with pagination.
      * <p>
      * The method returns a paginated list of tasks assigned to the given {@code assigneeId},
-     * with each task represented as a {@link TaskDTO}.
+     * with each task represented as a {@link TaskDTO}. If {@code fields} is given, only the listed properties are
+     * selected and returned.
      * </p>
      *
-     * @param assigneeId The ID of the assignee whose tasks are to be retrieved.
-     * @param pageable Pageable object for pagination.
+     * @param assigneeId  The ID of the assignee whose tasks are to be retrieved.
+     * @param pageable    Pageable object for pagination.
+     * @param fields      The optional comma separated list of {@link TaskDTO} properties to return.
+     * @param ifNoneMatch The optional {@code If-None-Match} request header.
+     * @param accept      The optional {@code Accept} request header.
      * @return A {@link ResponseEntity} containing the paginated tasks as a {@link PagedResponseDTO} of {@link TaskDTO}.
      */
     @GetMapping("/assignee/{assigneeId}")
-    public ResponseEntity<PagedResponseDTO<TaskDTO>> getTasksByAssignee(@PathVariable Long assigneeId,
-                                                                        Pageable pageable) {
+    public ResponseEntity<PagedResponseDTO<TaskDTO>> getTasksByAssignee(
+            @PathVariable Long assigneeId, Pageable pageable,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        if (fields != null) {
+            return createSparseResponse(null, assigneeId, fields, pageable);
+        }
         Page<Task> tasks = taskService.getTasksByAssignee(assigneeId, pageable);
+        return createConditionalResponse(tasks, ifNoneMatch, accept);
+    }
+
+    /**
+     * Retrieves the kanban board of an assignee.
+     * <p>
+     * The board has one column per task status. Each column holds up to {@code limit} tasks ordered by priority,
+     * most urgent first, and the total number of tasks in the column.
+     * </p>
+     *
+     * @param assigneeId The ID of the assignee whose board is to be retrieved.
+     * @param limit      The maximum number of tasks per column.
+     * @return A {@link ResponseEntity} containing the board as a {@link TaskBoardDTO}.
+     * @throws IllegalArgumentException If the limit is out of range.
+     */
+    @GetMapping("/assignee/{assigneeId}/board")
+    public ResponseEntity<TaskBoardDTO> getTaskBoard(@PathVariable Long assigneeId,
+                                                     @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(taskService.getTaskBoard(assigneeId, limit));
+    }
+
+    /**
+     * Retrieves the pending task an assignee should work on next.
+     * <p>
+     * Tasks are ordered by priority, the most urgent first, and then by age, the oldest first.
+     * </p>
+     *
+     * @param assigneeId The ID of the assignee.
+     * @return A {@link ResponseEntity} containing the next task as a {@link TaskDTO}.
+     * @throws ResourceNotFoundException If the assignee has no pending task.
+     */
+    @GetMapping("/assignee/{assigneeId}/next")
+    public ResponseEntity<TaskDTO> getNextTask(@PathVariable Long assigneeId) {
+        Task task = taskService.getNextTask(assigneeId);
+        return ResponseEntity.ok(converter.convertToTaskDTO(task));
+    }
+
+    /**
+     * Claims the pending task an assignee should work on next by moving it to {@link TaskStatus#PROCESSING}.
+     * <p>
+     * Concurrent workers claiming tasks of the same assignee never receive the same task.
+     * </p>
+     *
+     * @param assigneeId The ID of the assignee.
+     * @return A {@link ResponseEntity} containing the claimed task as a {@link TaskDTO}.
+     * @throws ResourceNotFoundException If the assignee has no pending task left to claim.
+     */
+    @PostMapping("/assignee/{assigneeId}/next/claim")
+    public ResponseEntity<TaskDTO> claimNextTask(@PathVariable Long assigneeId) {
+        Task task = taskService.claimNextTask(assigneeId);
+        return ResponseEntity.ok(converter.convertToTaskDTO(task));
+    }
+
+    /**
+     * Converts and saves a new task.
+     *
+     * @param taskDTO The {@link TaskDTO} object containing the task data to be saved.
+     * @return The saved task as a {@link TaskDTO}.
+     */
+    private TaskDTO saveTask(TaskDTO taskDTO) {
+        Task task = converter.convertToTask(taskDTO);
+        Task savedTask = taskService.saveTask(task);
+        return converter.convertToTaskDTO(savedTask);
+    }
+
+    /**
+     * Creates a conditional paginated response for tasks.
+     * <p>
+     * A list {@code ETag} is computed from the IDs and representation versions of the page content. If it matches the
+     * {@code If-None-Match} header, a {@code 304 Not Modified} response is returned without converting or
+     * serializing the tasks.
+     * </p>
+     *
+     * @param tasks       The paginated list of tasks.
+     * @param ifNoneMatch The optional {@code If-None-Match} request header.
+     * @param accept      The optional {@code Accept} request header.
+     * @return A {@link ResponseEntity} containing the task DTOs and pagination details, or a {@code 304 Not Modified}.
+     */
+    private ResponseEntity<PagedResponseDTO<TaskDTO>> createConditionalResponse(Page<Task> tasks, String ifNoneMatch,
+                                                                                String accept) {
+        String eTag = ETagUtils.forRepresentation(
+                ETagUtils.forPage("tasks", tasks, Task::getTaskId, ETagUtils::representationVersion), accept);
+        if (ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         List<TaskDTO> taskDTOs = tasks.getContent().stream()
                 .map(converter::convertToTaskDTO)
                 .toList();
+        return ResponseEntity.ok().eTag(eTag).body(createResponse(taskDTOs, tasks));
+    }
 
-        PagedResponseDTO<TaskDTO> response = createResponse(taskDTOs, tasks);
-        return ResponseEntity.ok(response);
+    /**
+     * Creates a paginated sparse fieldset response for tasks.
+     * <p>
+     * Only the columns backing the requested properties are selected, and comment IDs are only loaded when
+     * requested. Sparse responses are not conditional and carry no {@code ETag}.
+     * </p>
+     *
+     * @param authorId   The ID of the author to restrict the tasks to, or {@code null}.
+     * @param assigneeId The ID of the assignee to restrict the tasks to, or {@code null}.
+     * @param fields     The comma separated list of {@link TaskDTO} properties to return.
+     * @param pageable   Pageable object for pagination.
+     * @return A {@link ResponseEntity} containing the partially populated task DTOs and pagination details.
+     * @throws IllegalArgumentException If {@code fields} contains an unknown property.
+     */
+    private ResponseEntity<PagedResponseDTO<TaskDTO>> createSparseResponse(Long authorId, Long assigneeId,
+                                                                           String fields, Pageable pageable) {
+        Page<TaskDTO> tasks = taskService.getTaskFields(authorId, assigneeId,
+                SparseFields.parse(fields, SparseFields.TASK_FIELDS), pageable);
+        return ResponseEntity.ok(createResponse(tasks.getContent(), tasks));
+    }
+
+    /**
+     * Adds the username of a user to the given map, keyed by user ID.
+     *
+     * @param usernames The map of usernames keyed by user ID.
+     * @param user      The user to add, may be {@code null}.
+     */
+    private void addUsername(Map<Long, String> usernames, User user) {
+        if (user != null) {
+            usernames.putIfAbsent(user.getUserId(), user.getUsername());
+        }
     }
 
     /**
@@ -232,7 +625,7 @@ public class TaskController {
      * @param tasks The paginated list of tasks.
      * @return A {@link PagedResponseDTO} containing the task DTOs and pagination details.
      */
-    private PagedResponseDTO<TaskDTO> createResponse(List<TaskDTO> taskDTOs, Page<Task> tasks) {
+    private PagedResponseDTO<TaskDTO> createResponse(List<TaskDTO> taskDTOs, Page<?> tasks) {
         return new PagedResponseDTO<>(
                 taskDTOs,
                 tasks.getNumber(),
@@ -1,11 +1,13 @@
 package com.demo.tms.controller;
 
+import com.demo.tms.dto.MultiGetResponseDTO;
 import com.demo.tms.dto.PagedResponseDTO;
 import com.demo.tms.dto.UserDTO;
 import com.demo.tms.entity.User;
 import com.demo.tms.exception.ResourceNotFoundException;
 import com.demo.tms.service.UserService;
 import com.demo.tms.converter.Converter;
+import com.demo.tms.utils.MultiGet;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,6 +17,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The {@code UserController} class handles HTTP requests related to users.
@@ -140,6 +144,25 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Retrieves several users by their IDs at once.
+     * <p>
+     * The IDs are given as a comma separated list, e.g. {@code ?ids=3,1,2}. The users are loaded together with their
+     * roles and task IDs with a fixed number of queries, returned in request order, and the IDs of users that do
+     * not exist are reported in {@code missingIds}.
+     * </p>
+     *
+     * @param ids The IDs of the users to retrieve, at most {@link MultiGet#MAX_IDS} distinct ones.
+     * @return A {@link ResponseEntity} containing the found users and the missing IDs as a {@link MultiGetResponseDTO}.
+     * @throws IllegalArgumentException If no ID or too many IDs are given.
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponseDTO<UserDTO>> getUsersByIds(@RequestParam List<Long> ids) {
+        Set<Long> userIds = MultiGet.parse(ids);
+        Map<Long, User> users = userService.getUsersByIds(userIds);
+        return ResponseEntity.ok(MultiGet.toResponse(userIds, users, converter::convertToUserDTO));
+    }
+
     /**
      * Creates a paginated response for users.
      * <p>
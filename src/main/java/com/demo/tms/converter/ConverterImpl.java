@@ -8,7 +8,7 @@ import com.demo.tms.entity.Comment;
 import com.demo.tms.entity.Role;
 import com.demo.tms.entity.Task;
 import com.demo.tms.entity.User;
-import com.demo.tms.service.TaskService;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -20,24 +20,27 @@ import java.util.stream.Collectors;
  * {@code ConverterImpl} is the implementation of the {@link Converter} interface.
  * It provides methods for converting between entity and DTO (Data Transfer Object)
  * objects for various entities such as {@link Task}, {@link Comment}, {@link User},
- * and {@link Role}. The class utilizes the {@link TaskService} to fetch associated
- * entities during conversions, such as converting a {@link CommentDTO} to a {@link Comment}
- * entity and linking it to the correct {@link Task}.
+ * and {@link Role}.
+ * <p>
+ * The associations of converted tasks and comments are bound as lazy references obtained from the
+ * {@link EntityManager}, which carry the ID without loading the referenced entity. Whether the referenced
+ * entities exist is checked by the service layer when the entity is saved.
+ * </p>
  */
 @Component
 @Slf4j
 public class ConverterImpl implements Converter {
 
-    private final TaskService taskService;
+    private final EntityManager entityManager;
 
     /**
-     * Constructs a {@code ConverterImpl} with the specified {@link TaskService}.
+     * Constructs a {@code ConverterImpl} with the specified {@link EntityManager}.
      *
-     * @param taskService The {@link TaskService} to interact with for task-related conversions.
+     * @param entityManager The {@link EntityManager} providing the references of associated entities.
      */
     @Autowired
-    public ConverterImpl(TaskService taskService) {
-        this.taskService = taskService;
+    public ConverterImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
     }
 
     /**
@@ -61,6 +64,8 @@ public class ConverterImpl implements Converter {
                 ? task.getComments().stream().map(Comment::getCommentId).collect(Collectors.toList())
                 : new ArrayList<>());
         dto.setVersion(task.getVersion());
+        dto.setCreatedAt(task.getCreatedAt());
+        dto.setUpdatedAt(task.getUpdatedAt());
         return dto;
     }
 
@@ -79,10 +84,11 @@ public class ConverterImpl implements Converter {
         task.setDescription(dto.getDescription());
         task.setStatus(dto.getStatus());
         task.setPriority(dto.getPriority());
-        task.setAuthor(convertToUser(dto.getAuthorId()));
-        task.setAssignee(convertToUser(dto.getAssigneeId()));
+        task.setAuthor(reference(User.class, dto.getAuthorId()));
+        task.setAssignee(reference(User.class, dto.getAssigneeId()));
         task.setComments(dto.getCommentIds() != null
-                ? dto.getCommentIds().stream().map(this::convertToComment).collect(Collectors.toList())
+                ? dto.getCommentIds().stream().map(commentId -> reference(Comment.class, commentId))
+                .collect(Collectors.toList())
                 : new ArrayList<>());
         task.setVersion(dto.getVersion());
         return task;
@@ -103,6 +109,8 @@ public class ConverterImpl implements Converter {
         dto.setUserId(comment.getUser() != null ? comment.getUser().getUserId() : null);
         dto.setTaskId(comment.getTask() != null ? comment.getTask().getTaskId() : null);
         dto.setVersion(comment.getVersion());
+        dto.setCreatedAt(comment.getCreatedAt());
+        dto.setUpdatedAt(comment.getUpdatedAt());
         return dto;
     }
 
@@ -118,13 +126,8 @@ public class ConverterImpl implements Converter {
         Comment comment = new Comment();
         comment.setCommentId(dto.getCommentId());
         comment.setText(dto.getText());
-        comment.setUser(convertToUser(dto.getUserId()));
-        if (dto.getTaskId() != null) {
-            Task task = taskService.getTaskById(dto.getTaskId());
-            if (task != null) {
-                comment.setTask(task);
-            }
-        }
+        comment.setUser(reference(User.class, dto.getUserId()));
+        comment.setTask(reference(Task.class, dto.getTaskId()));
         comment.setVersion(dto.getVersion());
         return comment;
     }
@@ -263,4 +266,16 @@ public class ConverterImpl implements Converter {
         comment.setCommentId(commentId);
         return comment;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns a lazy reference to an entity, which is not loaded until one of its fields other than the ID is read.
+     *
+     * @param entityClass The class of the entity.
+     * @param id          The ID of the entity.
+     * @param <T>         The type of the entity.
+     * @return The reference, or {@code null} if the ID is {@code null}.
+     */
+    private <T> T reference(Class<T> entityClass, Long id) {
+        return id != null ? entityManager.getReference(entityClass, id) : null;
+    }
+}
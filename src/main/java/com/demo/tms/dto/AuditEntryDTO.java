@@ -0,0 +1,49 @@
+package com.demo.tms.dto;
+
+import com.demo.tms.utils.ChangeAction;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * {@code AuditEntryDTO} is a Data Transfer Object (DTO) used to represent a committed change of a task, comment,
+ * user or role in the audit trail.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEntryDTO {
+
+    /**
+     * The kind of the changed entity, {@code task}, {@code comment}, {@code user} or {@code role}.
+     */
+    private String entityType;
+
+    /**
+     * The ID of the changed entity.
+     */
+    private Long entityId;
+
+    /**
+     * The kind of the change.
+     */
+    private ChangeAction action;
+
+    /**
+     * The email of the authenticated user who made the change, or {@code null} if there was none.
+     */
+    private String actor;
+
+    /**
+     * The changed fields by name.
+     */
+    private Map<String, FieldChangeDTO> changes;
+
+    /**
+     * The time the change was made.
+     */
+    private Instant recordedAt;
+}
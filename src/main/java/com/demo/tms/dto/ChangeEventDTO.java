@@ -0,0 +1,62 @@
+package com.demo.tms.dto;
+
+import com.demo.tms.utils.ChangeAction;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code ChangeEventDTO} is a Data Transfer Object (DTO) used to represent a committed change of a task or comment
+ * pushed to change event subscribers.
+ * <p>
+ * The event identifies the changed task or comment and its new version, so subscribers only fetch it again when
+ * their copy is outdated. Properties with {@code null} values are omitted.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeEventDTO {
+
+    /**
+     * The kind of the changed entity, {@code task} or {@code comment}.
+     */
+    private String entity;
+
+    /**
+     * The kind of the change.
+     */
+    private ChangeAction action;
+
+    /**
+     * The ID of the changed task, or of the task of the changed comment.
+     */
+    private Long taskId;
+
+    /**
+     * The ID of the changed comment, or {@code null} for task changes.
+     */
+    private Long commentId;
+
+    /**
+     * The version of the task or comment after the change, or {@code null} if it was deleted.
+     */
+    private Long version;
+
+    /**
+     * The ID of the author of the task.
+     */
+    private Long authorId;
+
+    /**
+     * The ID of the assignee of the task.
+     */
+    private Long assigneeId;
+
+    /**
+     * The ID of the previous assignee of a reassigned task, or {@code null} if the assignee did not change.
+     */
+    private Long previousAssigneeId;
+}
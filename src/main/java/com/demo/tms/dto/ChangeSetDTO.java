@@ -0,0 +1,52 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * {@code ChangeSetDTO} is a Data Transfer Object (DTO) used to represent the tasks and comments of an assignee that
+ * were created, updated or deleted after a sync watermark.
+ * <p>
+ * A task or comment appears at most once with its current state. A deleted task ID means the task was deleted or
+ * assigned to someone else, and its comments should be dropped along with it. The next change set is requested by
+ * passing {@code watermark} back.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeSetDTO {
+
+    /**
+     * The tasks created or updated after the watermark, without comment IDs.
+     */
+    private List<TaskDTO> tasks;
+
+    /**
+     * The comments created or updated after the watermark.
+     */
+    private List<CommentDTO> comments;
+
+    /**
+     * The IDs of the tasks deleted or reassigned after the watermark.
+     */
+    private List<Long> deletedTaskIds;
+
+    /**
+     * The IDs of the comments deleted after the watermark.
+     */
+    private List<Long> deletedCommentIds;
+
+    /**
+     * The opaque watermark to request the next change set with.
+     */
+    private String watermark;
+
+    /**
+     * Whether more changes are available after the watermark.
+     */
+    private boolean hasMore;
+}
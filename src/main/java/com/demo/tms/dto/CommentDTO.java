@@ -1,5 +1,7 @@
 package com.demo.tms.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -8,14 +10,18 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 /**
  * {@code CommentDTO} is a Data Transfer Object (DTO) that represents a comment in the system.
  * It is used for transferring comment data between layers, such as from the controller to the service.
  * This class is annotated with validation constraints to ensure proper data integrity.
+ * Properties with {@code null} values are omitted from serialized responses, so sparse fieldset responses contain
+ * only the requested properties.
  */
 @Data
 @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @AllArgsConstructor
 public class CommentDTO implements Serializable {
 
@@ -57,6 +63,20 @@ public class CommentDTO implements Serializable {
      */
     private Long version;
 
+    /**
+     * The time the comment was created.
+     * This field is set by the server and ignored in requests.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant createdAt;
+
+    /**
+     * The time the comment was last modified.
+     * This field is set by the server and ignored in requests.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant updatedAt;
+
     /**
      * Constructor for creating a new {@code CommentDTO} without a commentId.
      *
@@ -0,0 +1,32 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * {@code CursorPageDTO} is a Data Transfer Object (DTO) used to represent a page of a keyset paginated response.
+ * <p>
+ * Unlike {@link PagedResponseDTO}, it carries no page number or total count. The next page is requested by passing
+ * {@code nextCursor} back, so fetching a page costs the same no matter how deep into the results it is.
+ * </p>
+ *
+ * @param <T> The type of the content in the page, typically a DTO.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+    /**
+     * The content of the page.
+     */
+    private List<T> content;
+
+    /**
+     * The opaque cursor of the next page, or {@code null} if this is the last page.
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,25 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code FieldChangeDTO} is a Data Transfer Object (DTO) used to represent the change of a single field in an
+ * audit entry.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FieldChangeDTO {
+
+    /**
+     * The value before the change, or {@code null} if the entity was created.
+     */
+    private Object from;
+
+    /**
+     * The value after the change, or {@code null} if the entity was deleted.
+     */
+    private Object to;
+}
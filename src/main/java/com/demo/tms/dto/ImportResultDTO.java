@@ -0,0 +1,46 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * {@code ImportResultDTO} is a Data Transfer Object (DTO) used to report the outcome of a bulk import of tasks
+ * and comments.
+ * <p>
+ * It contains the number of imported and rejected rows per input and the first rejected rows with the reasons
+ * they were rejected. Rejected rows do not prevent the remaining rows from being imported.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDTO {
+
+    /**
+     * The number of tasks inserted or updated.
+     */
+    private long tasksImported;
+
+    /**
+     * The number of task rows rejected.
+     */
+    private long tasksRejected;
+
+    /**
+     * The number of comments inserted or updated.
+     */
+    private long commentsImported;
+
+    /**
+     * The number of comment rows rejected.
+     */
+    private long commentsRejected;
+
+    /**
+     * The first rejected rows, ordered by input and row number.
+     */
+    private List<RejectedRowDTO> rejectedRows;
+}
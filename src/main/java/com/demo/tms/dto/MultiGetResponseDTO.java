@@ -0,0 +1,30 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * {@code MultiGetResponseDTO} is a Data Transfer Object (DTO) used to represent the response of a multi-get request,
+ * which retrieves several resources by their IDs at once.
+ * It contains the found resources in the order their IDs were requested, and the requested IDs that were not found.
+ *
+ * @param <T> The type of the found resources, typically a DTO.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiGetResponseDTO<T> {
+
+    /**
+     * The found resources, in the order their IDs were requested.
+     */
+    private List<T> items;
+
+    /**
+     * The requested IDs that do not belong to an existing resource, in request order.
+     */
+    private List<Long> missingIds;
+}
@@ -0,0 +1,52 @@
+package com.demo.tms.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * {@code OutboxMessageDTO} is a Data Transfer Object (DTO) used to represent a change event read from the
+ * transactional outbox and handed to the outbox sink.
+ * <p>
+ * The payload is the JSON of the {@link ChangeEventDTO} written with the change, and is serialized as is.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessageDTO {
+
+    /**
+     * The ID of the message, increasing in the order the messages were written.
+     */
+    private Long id;
+
+    /**
+     * The kind of the changed entity, {@code task} or {@code comment}.
+     */
+    private String aggregateType;
+
+    /**
+     * The ID of the changed task or comment.
+     */
+    private Long aggregateId;
+
+    /**
+     * The kind of the change, e.g. {@code UPDATED}.
+     */
+    private String eventType;
+
+    /**
+     * The JSON of the change event.
+     */
+    @JsonRawValue
+    private String payload;
+
+    /**
+     * The time the message was written.
+     */
+    private Instant createdAt;
+}
@@ -0,0 +1,52 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * {@code OutboxStatusDTO} is a Data Transfer Object (DTO) used to represent the lag of the outbox relay, i.e. how
+ * far the delivery of change events to the outbox sink is behind the changes.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxStatusDTO {
+
+    /**
+     * The number of messages waiting in the outbox.
+     */
+    private long pending;
+
+    /**
+     * The age in milliseconds of the oldest waiting message, or {@code 0} if the outbox is empty.
+     */
+    private long oldestPendingAgeMillis;
+
+    /**
+     * The number of messages delivered since the application started.
+     */
+    private long relayed;
+
+    /**
+     * The number of batches that failed to be delivered since the application started.
+     */
+    private long failedBatches;
+
+    /**
+     * The time the relay last delivered a batch, or {@code null} if it has not delivered any yet.
+     */
+    private Instant lastRelayAt;
+
+    /**
+     * The number of messages in the last delivered batch.
+     */
+    private int lastBatchSize;
+
+    /**
+     * The time in milliseconds the oldest message of the last delivered batch waited in the outbox.
+     */
+    private long lastLagMillis;
+}
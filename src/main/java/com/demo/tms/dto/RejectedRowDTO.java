@@ -0,0 +1,31 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code RejectedRowDTO} is a Data Transfer Object (DTO) used to report an input row that was rejected by a
+ * bulk import, together with the reason it was rejected.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RejectedRowDTO {
+
+    /**
+     * The name of the input the row was read from, {@code "tasks"} or {@code "comments"}.
+     */
+    private String input;
+
+    /**
+     * The number of the rejected row. For NDJSON input this is the line number; for CSV input it is the number
+     * of the data record, not counting the header line.
+     */
+    private long row;
+
+    /**
+     * The reason the row was rejected.
+     */
+    private String reason;
+}
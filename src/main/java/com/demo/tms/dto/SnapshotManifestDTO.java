@@ -0,0 +1,65 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * {@code SnapshotManifestDTO} is a Data Transfer Object (DTO) used to describe a completed snapshot export.
+ * <p>
+ * It is written as {@code manifest.json} next to the part files and returned to the caller. All parts were read
+ * from the same database snapshot, so together they form a consistent copy of the exported tables.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotManifestDTO {
+
+    /**
+     * The identifier of the exported PostgreSQL snapshot all parts were read from.
+     */
+    private String snapshotId;
+
+    /**
+     * The directory the part files and the manifest were written to.
+     */
+    private String directory;
+
+    /**
+     * The start time of the export, in ISO-8601 format.
+     */
+    private String startedAt;
+
+    /**
+     * The total duration of the export, in milliseconds.
+     */
+    private long durationMillis;
+
+    /**
+     * The number of connections the parts were exported over.
+     */
+    private int parallelism;
+
+    /**
+     * The total number of rows exported.
+     */
+    private long totalRows;
+
+    /**
+     * The total size of all part files in bytes.
+     */
+    private long totalBytes;
+
+    /**
+     * The export throughput in rows per second.
+     */
+    private long rowsPerSecond;
+
+    /**
+     * The exported part files, ordered by table and primary key range.
+     */
+    private List<SnapshotPartDTO> parts;
+}
@@ -0,0 +1,50 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code SnapshotPartDTO} is a Data Transfer Object (DTO) used to describe one part file of a snapshot export.
+ * Each part holds the rows of one table within a primary key range.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotPartDTO {
+
+    /**
+     * The name of the exported table.
+     */
+    private String table;
+
+    /**
+     * The name of the gzip compressed CSV part file, relative to the snapshot directory.
+     */
+    private String file;
+
+    /**
+     * The lowest primary key of the range, inclusive.
+     */
+    private long fromId;
+
+    /**
+     * The highest primary key of the range, inclusive.
+     */
+    private long toId;
+
+    /**
+     * The number of rows exported.
+     */
+    private long rows;
+
+    /**
+     * The size of the compressed part file in bytes.
+     */
+    private long bytes;
+
+    /**
+     * The time it took to export the range, in milliseconds.
+     */
+    private long durationMillis;
+}
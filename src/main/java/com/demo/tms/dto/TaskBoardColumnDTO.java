@@ -0,0 +1,33 @@
+package com.demo.tms.dto;
+
+import com.demo.tms.utils.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * {@code TaskBoardColumnDTO} is a Data Transfer Object (DTO) used to represent one status column of a task board:
+ * the first tasks of the column and the number of all tasks in it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardColumnDTO {
+
+    /**
+     * The status of the tasks in the column.
+     */
+    private TaskStatus status;
+
+    /**
+     * The total number of tasks in the column, including those not returned.
+     */
+    private long total;
+
+    /**
+     * The first tasks of the column, ordered by priority. Comment IDs are not included.
+     */
+    private List<TaskDTO> tasks;
+}
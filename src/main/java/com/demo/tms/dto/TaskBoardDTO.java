@@ -0,0 +1,27 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * {@code TaskBoardDTO} is a Data Transfer Object (DTO) used to represent the kanban board of an assignee, with one
+ * column per task status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBoardDTO {
+
+    /**
+     * The ID of the assignee whose tasks are on the board.
+     */
+    private Long assigneeId;
+
+    /**
+     * The columns of the board, one per task status in workflow order.
+     */
+    private List<TaskBoardColumnDTO> columns;
+}
@@ -4,12 +4,15 @@ import com.demo.tms.utils.TaskPriority;
 import com.demo.tms.utils.TaskStatus;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,9 +25,14 @@ import java.util.List;
  * This DTO includes validation constraints to ensure that the task information meets required criteria,
  * such as non-null fields, size limits, and proper enum values for status and priority.
  * </p>
+ * <p>
+ * Properties with {@code null} values are omitted from serialized responses, so sparse fieldset responses contain
+ * only the requested properties.
+ * </p>
  */
 @Data
 @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @AllArgsConstructor
 public class TaskDTO implements Serializable {
 
@@ -94,6 +102,20 @@ public class TaskDTO implements Serializable {
      */
     private Long version;
 
+    /**
+     * The time the task was created.
+     * This field is set by the server and ignored in requests.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant createdAt;
+
+    /**
+     * The time the task was last modified.
+     * This field is set by the server and ignored in requests.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Instant updatedAt;
+
     /**
      * Constructor without taskId, used for cases where the taskId is not required (e.g., task creation).
      *
@@ -0,0 +1,38 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * {@code TaskDetailsDTO} is a Data Transfer Object (DTO) used to represent everything needed to render a task
+ * detail view in a single response: the task itself, a page of its comments and the usernames of the users
+ * involved in the task.
+ * <p>
+ * The involved users are the author and assignee of the task and the users who wrote the comments on the returned
+ * page. They are keyed by user ID, so the {@code authorId}, {@code assigneeId} and {@code userId} properties of the
+ * task and comments can be resolved without further requests.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDetailsDTO {
+
+    /**
+     * The task.
+     */
+    private TaskDTO task;
+
+    /**
+     * The requested page of comments on the task.
+     */
+    private PagedResponseDTO<CommentDTO> comments;
+
+    /**
+     * The usernames of the users involved in the task, keyed by user ID.
+     */
+    private Map<Long, String> usernames;
+}
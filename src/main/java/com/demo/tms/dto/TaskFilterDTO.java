@@ -0,0 +1,63 @@
+package com.demo.tms.dto;
+
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * {@code TaskFilterDTO} is a Data Transfer Object (DTO) used to represent the criteria of a task filter request.
+ * <p>
+ * Every criterion is optional. Time ranges are half-open: a task matches if its timestamp is at or after the
+ * {@code from} bound and before the {@code to} bound.
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterDTO {
+
+    /**
+     * The ID of the author of the tasks.
+     */
+    private Long authorId;
+
+    /**
+     * The ID of the assignee of the tasks.
+     */
+    private Long assigneeId;
+
+    /**
+     * The accepted statuses of the tasks.
+     */
+    private Set<TaskStatus> status;
+
+    /**
+     * The accepted priorities of the tasks.
+     */
+    private Set<TaskPriority> priority;
+
+    /**
+     * The inclusive lower bound of the creation time of the tasks.
+     */
+    private Instant createdFrom;
+
+    /**
+     * The exclusive upper bound of the creation time of the tasks.
+     */
+    private Instant createdTo;
+
+    /**
+     * The inclusive lower bound of the last modification time of the tasks.
+     */
+    private Instant updatedFrom;
+
+    /**
+     * The exclusive upper bound of the last modification time of the tasks.
+     */
+    private Instant updatedTo;
+}
@@ -0,0 +1,25 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code TaskSearchHitDTO} is a Data Transfer Object (DTO) used to represent a task matching a full-text search,
+ * together with its relevance rank.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchHitDTO {
+
+    /**
+     * The matching task. Comment IDs are not included.
+     */
+    private TaskDTO task;
+
+    /**
+     * The relevance of the task for the search query; higher is more relevant.
+     */
+    private float rank;
+}
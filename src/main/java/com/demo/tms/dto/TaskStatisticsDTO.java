@@ -0,0 +1,44 @@
+package com.demo.tms.dto;
+
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * {@code TaskStatisticsDTO} is a Data Transfer Object (DTO) used to represent task counts by status and priority,
+ * either over all tasks or over the tasks of a single assignee.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatisticsDTO {
+
+    /**
+     * The ID of the assignee the counts are restricted to, or {@code null} for all tasks.
+     */
+    private Long assigneeId;
+
+    /**
+     * The total number of tasks.
+     */
+    private long total;
+
+    /**
+     * The number of tasks per status.
+     */
+    private Map<TaskStatus, Long> byStatus;
+
+    /**
+     * The number of tasks per priority.
+     */
+    private Map<TaskPriority, Long> byPriority;
+
+    /**
+     * The number of tasks per status and priority.
+     */
+    private Map<TaskStatus, Map<TaskPriority, Long>> byStatusAndPriority;
+}
@@ -0,0 +1,27 @@
+package com.demo.tms.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * {@code TimeBucketDTO} is a Data Transfer Object (DTO) used to represent the number of tasks falling into one
+ * interval of a timeline.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeBucketDTO {
+
+    /**
+     * The start of the interval, in UTC.
+     */
+    private Instant start;
+
+    /**
+     * The number of tasks in the interval.
+     */
+    private long count;
+}
@@ -4,8 +4,11 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.io.Serializable;
+import java.time.Instant;
 
 /**
  * {@code Comment} represents a comment made by a user on a specific task in the system.
@@ -16,7 +19,7 @@ import java.io.Serializable;
  * </p>
  * <p>
  * The {@code Comment} class includes fields for the comment's ID, text, associated user, associated task,
- * and version control for concurrency management.
+ * version control for concurrency management, and creation and modification times.
  * </p>
  */
 @Entity
@@ -69,6 +72,22 @@ public class Comment implements Serializable {
     @Column(name = "version", nullable = false)
     private Long version;
 
+    /**
+     * The time the comment was created.
+     * This field is set by Hibernate when the comment is first persisted and is never updated afterwards.
+     */
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * The time the comment was last modified.
+     * This field is set by Hibernate whenever the comment is persisted or updated.
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
     /**
      * Constructor used for creating a new comment without an ID.
      * This constructor is typically used when creating a new comment.
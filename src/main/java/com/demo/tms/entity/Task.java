@@ -6,8 +6,11 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -21,8 +24,8 @@ import java.util.List;
  * </p>
  * <p>
  * The {@code Task} class includes fields for the task's ID, name, description, status, priority, author, assignee,
- * comments, and version. It also defines a one-to-many relationship with comments, where each task can have multiple
- * comments associated with it.
+ * comments, version and creation and modification times. It also defines a one-to-many relationship with comments,
+ * where each task can have multiple comments associated with it.
  * </p>
  */
 @Entity
@@ -108,6 +111,22 @@ public class Task implements Serializable {
     @Column(name = "version", nullable = false)
     private Long version;
 
+    /**
+     * The time the task was created.
+     * This field is set by Hibernate when the task is first persisted and is never updated afterwards.
+     */
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    /**
+     * The time the task was last modified.
+     * This field is set by Hibernate whenever the task is persisted or updated.
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
     /**
      * Constructor used for creating a new task without an ID.
      * This constructor is typically used when creating a new task in the system.
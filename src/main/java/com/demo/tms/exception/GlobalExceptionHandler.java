@@ -2,6 +2,7 @@ package com.demo.tms.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +11,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 import java.nio.file.AccessDeniedException;
 import java.util.HashMap;
@@ -36,11 +38,13 @@ import java.util.Objects;
  * Handled exceptions include:
  * - {@code ResourceNotFoundException}: Triggered when a requested resource is not found.
  * - {@code ObjectOptimisticLockingFailureException}: Triggered in case of a conflict due to concurrent modifications.
+ * - {@code CannotAcquireLockException}: Triggered when a write times out waiting for concurrent writes.
  * - {@code MethodArgumentNotValidException}: Triggered for validation errors during request processing.
  * - {@code IllegalArgumentException}: Triggered for invalid arguments in the request.
  * - {@code AccessDeniedException}: Triggered when a user does not have the necessary permissions.
  * - {@code DataIntegrityViolationException}: Triggered when a database constraint is violated.
  * - {@code MethodArgumentTypeMismatchException}: Triggered when there is a type mismatch in request parameters.
+ * - {@code MaxUploadSizeExceededException}: Triggered when an uploaded file exceeds the multipart size limits.
  * - {@code Exception}: A fallback handler for all other unexpected errors.
  * </p>
  */
@@ -91,6 +95,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    /**
+     * Handles the {@link CannotAcquireLockException} and returns a {@link ProblemDetailResponse} with a 409 status.
+     *
+     * @param ex The exception object.
+     * @param request The HTTP request that caused the exception.
+     * @return A {@link ResponseEntity} containing the problem details.
+     */
+    @ExceptionHandler(CannotAcquireLockException.class)
+    public ResponseEntity<ProblemDetailResponse> handleCannotAcquireLock(CannotAcquireLockException ex,
+                                                                         HttpServletRequest request) {
+        log.warn("Lock acquisition failed: {}", ex.getMessage());
+        ProblemDetailResponse response = createProblemDetailResponse(
+                "lock-timeout",
+                HttpStatus.CONFLICT,
+                "Conflict",
+                "The resource is being modified by other requests. Please try again later.",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+
     /**
      * Handles the {@link MethodArgumentNotValidException} and returns a {@link ProblemDetailResponse}
      * with a 400 status. This handles validation errors that occur when the request parameters do not pass validation.
@@ -206,6 +231,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    /**
+     * Handles the {@link MaxUploadSizeExceededException} and returns a {@link ProblemDetailResponse} with a 413 status.
+     *
+     * @param ex The exception object.
+     * @param request The HTTP request that caused the exception.
+     * @return A {@link ResponseEntity} containing the problem details.
+     */
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ProblemDetailResponse> handleMaxUploadSizeExceeded(MaxUploadSizeExceededException ex,
+                                                                             HttpServletRequest request) {
+        log.warn("Upload too large: {}", ex.getMessage());
+        ProblemDetailResponse response = createProblemDetailResponse(
+                "payload-too-large",
+                HttpStatus.PAYLOAD_TOO_LARGE,
+                "Payload Too Large",
+                "The uploaded files exceed the maximum upload size.",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
+    }
+
     /**
      * Handles all other unexpected exceptions and returns a {@link ProblemDetailResponse} with a 500 status.
      *
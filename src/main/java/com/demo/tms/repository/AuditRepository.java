@@ -0,0 +1,25 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.AuditEntryDTO;
+
+import java.util.List;
+
+/**
+ * {@code AuditRepository} declares the writes of the audit trail. The {@code tms.audit_log} table is append-only,
+ * a trigger rejects updates and deletes.
+ */
+public interface AuditRepository {
+
+    /**
+     * The maximum number of entries written by one call of {@link #insertBatch(List)}, bounded by the number of
+     * parameters of a PostgreSQL statement.
+     */
+    int MAX_BATCH_SIZE = 10_000;
+
+    /**
+     * Writes audit entries with a single multi-row {@code INSERT}.
+     *
+     * @param entries the entries, at most {@link #MAX_BATCH_SIZE}
+     */
+    void insertBatch(List<AuditEntryDTO> entries);
+}
@@ -0,0 +1,81 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.AuditEntryDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code AuditRepositoryImpl} implements {@link AuditRepository} with plain JDBC.
+ */
+@Repository
+public class AuditRepositoryImpl implements AuditRepository {
+
+    private static final String INSERT = "INSERT INTO tms.audit_log " +
+            "(entity_type, entity_id, action, actor, changes, recorded_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?::jsonb, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs a new {@code AuditRepositoryImpl}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used to write the entries
+     * @param objectMapper the {@link ObjectMapper} used to serialize the changed fields
+     */
+    @Autowired
+    public AuditRepositoryImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void insertBatch(List<AuditEntryDTO> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (entries.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " audit entries can be written at once");
+        }
+        StringBuilder sql = new StringBuilder(INSERT);
+        List<Object> args = new ArrayList<>(entries.size() * 6);
+        for (AuditEntryDTO entry : entries) {
+            if (!args.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+            args.add(entry.getEntityType());
+            args.add(entry.getEntityId());
+            args.add(entry.getAction().name());
+            args.add(entry.getActor());
+            args.add(toJson(entry));
+            args.add(Timestamp.from(entry.getRecordedAt()));
+        }
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    /**
+     * Serializes the changed fields of an entry.
+     *
+     * @param entry the audit entry
+     * @return the JSON of the changed fields
+     */
+    private String toJson(AuditEntryDTO entry) {
+        try {
+            return objectMapper.writeValueAsString(entry.getChanges());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize audit entry of " + entry.getEntityType() + " " +
+                    entry.getEntityId(), e);
+        }
+    }
+}
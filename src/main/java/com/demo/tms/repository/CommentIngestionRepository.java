@@ -0,0 +1,64 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.CommentDTO;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code CommentIngestionRepository} declares the set-based queries used to validate and insert batches of new
+ * comments. All methods must run in the same transaction.
+ */
+public interface CommentIngestionRepository {
+
+    /**
+     * The maximum number of comments inserted by one call of {@link #insertAll(List)}, bounded by the number of
+     * parameters of a PostgreSQL statement.
+     */
+    int MAX_BATCH_SIZE = 10_000;
+
+    /**
+     * Finds which of the given users exist, and locks them against deletion until the transaction ends.
+     *
+     * @param userIds the IDs of the users
+     * @return the IDs of the existing users
+     */
+    Set<Long> findExistingUserIds(Collection<Long> userIds);
+
+    /**
+     * Finds the author and assignee of the given tasks, and locks the tasks against deletion until the transaction
+     * ends.
+     *
+     * @param taskIds the IDs of the tasks
+     * @return the {@link TaskUsers} of the existing tasks by task ID
+     */
+    Map<Long, TaskUsers> findTaskUsers(Collection<Long> taskIds);
+
+    /**
+     * Allocates comment IDs from the sequence of the comments table.
+     *
+     * @param count the number of IDs to allocate
+     * @return the allocated IDs
+     */
+    List<Long> nextIds(int count);
+
+    /**
+     * Inserts comments with a single multi-row {@code INSERT}.
+     *
+     * @param comments the comments with allocated IDs, at most {@link #MAX_BATCH_SIZE}
+     * @return the creation time of the comments
+     */
+    Instant insertAll(List<CommentDTO> comments);
+
+    /**
+     * The users of a task.
+     *
+     * @param authorId   the ID of the author of the task
+     * @param assigneeId the ID of the assignee of the task, or {@code null} if it has none
+     */
+    record TaskUsers(Long authorId, Long assigneeId) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.CommentDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code CommentIngestionRepositoryImpl} implements {@link CommentIngestionRepository} with plain JDBC.
+ * <p>
+ * The users and tasks of a batch are looked up with one {@code = ANY(?)} query each, and the referenced rows are
+ * locked {@code FOR KEY SHARE}, which blocks their deletion but no updates, so the foreign keys cannot fail on insert.
+ * </p>
+ */
+@Repository
+public class CommentIngestionRepositoryImpl implements CommentIngestionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new {@code CommentIngestionRepositoryImpl}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used to run the queries
+     */
+    @Autowired
+    public CommentIngestionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Long> findExistingUserIds(Collection<Long> userIds) {
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id FROM tms.users WHERE id = ANY(?) FOR KEY SHARE");
+            statement.setArray(1, connection.createArrayOf("bigint", userIds.toArray()));
+            return statement;
+        }, (rs, rowNum) -> rs.getLong("id")));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<Long, TaskUsers> findTaskUsers(Collection<Long> taskIds) {
+        Map<Long, TaskUsers> tasks = new HashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT id, author_id, assignee_id FROM tms.tasks WHERE id = ANY(?) FOR KEY SHARE");
+            statement.setArray(1, connection.createArrayOf("bigint", taskIds.toArray()));
+            return statement;
+        }, rs -> {
+            tasks.put(rs.getLong("id"), new TaskUsers(rs.getObject("author_id", Long.class),
+                    rs.getObject("assignee_id", Long.class)));
+        });
+        return tasks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Long> nextIds(int count) {
+        return jdbcTemplate.queryForList("SELECT nextval('tms.comments_id_seq') FROM generate_series(1, ?)",
+                Long.class, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Instant insertAll(List<CommentDTO> comments) {
+        if (comments.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " comments can be inserted at once");
+        }
+        StringBuilder sql = new StringBuilder("INSERT INTO tms.comments (id, text, user_id, task_id, version) VALUES ");
+        List<Object> args = new ArrayList<>(comments.size() * 4);
+        for (CommentDTO comment : comments) {
+            if (!args.isEmpty()) {
+                sql.append(", ");
+            }
+            sql.append("(?, ?, ?, ?, 0)");
+            args.add(comment.getCommentId());
+            args.add(comment.getText());
+            args.add(comment.getUserId());
+            args.add(comment.getTaskId());
+        }
+        // every row gets the same default, the start time of the transaction
+        sql.append(" RETURNING created_at");
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> rs.getObject("created_at", OffsetDateTime.class),
+                args.toArray()).get(0).toInstant();
+    }
+}
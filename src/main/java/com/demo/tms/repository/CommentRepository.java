@@ -6,6 +6,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Optional;
+
 /**
  * {@code CommentRepository} is a Spring Data JPA repository interface for performing CRUD operations
  * and custom queries related to {@link Comment} entities in the database.
@@ -13,7 +15,7 @@ import org.springframework.data.jpa.repository.Query;
  * This repository provides methods to retrieve comments based on task and user IDs, with support for pagination.
  * </p>
  */
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
     /**
      * Finds comments associated with a specific task, with support for pagination.
@@ -34,4 +36,25 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("SELECT c FROM Comment c WHERE c.user.userId = ?1")
     Page<Comment> findByUserId(Long userId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Finds the optimistic locking version of a comment without loading the comment itself.
+     *
+     * @param commentId The ID of the comment.
+     * @return An {@link Optional} containing the version, or an empty {@link Optional} if the comment does not exist.
+     */
+    @Query("SELECT c.version FROM Comment c WHERE c.commentId = ?1")
+    Optional<Long> findVersionById(Long commentId);
+
+    /**
+     * Finds comments associated with a specific task together with their users, with support for pagination.
+     * The users are fetched in the same query as the comments.
+     *
+     * @param taskId The ID of the task for which comments are to be fetched.
+     * @param pageable The pagination information (page number, size, etc.).
+     * @return A page of comments associated with the given task ID, with their users initialized.
+     */
+    @Query(value = "SELECT c FROM Comment c JOIN FETCH c.user WHERE c.task.taskId = ?1",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.task.taskId = ?1")
+    Page<Comment> findWithUserByTaskId(Long taskId, Pageable pageable);
+}
@@ -0,0 +1,41 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.entity.Comment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * {@code CommentRepositoryCustom} declares custom query methods of {@link CommentRepository} that cannot be
+ * expressed as derived or annotated queries.
+ */
+public interface CommentRepositoryCustom {
+
+    /**
+     * Finds a page of comments, selecting only the columns needed for the requested {@link CommentDTO} properties.
+     * The comment ID is always selected.
+     *
+     * @param spec     the {@link Specification} restricting the comments, may be {@code null}
+     * @param fields   the requested {@link CommentDTO} property names
+     * @param pageable the pagination information
+     * @return a {@link Page} of {@link CommentDTO} with only the requested properties set
+     */
+    Page<CommentDTO> findAllProjected(Specification<Comment> spec, Set<String> fields, Pageable pageable);
+
+    /**
+     * Streams all comments ordered by ID through a forward-only, read-only database cursor.
+     * <p>
+     * Rows are fetched from the database in batches of {@code fetchSize} and mapped to {@link CommentDTO} objects
+     * that are not attached to the persistence context, so the memory used is independent of the number of comments.
+     * The stream must be consumed inside a transaction and closed after use.
+     * </p>
+     *
+     * @param fetchSize the number of rows fetched from the database per round trip
+     * @return a {@link Stream} of fully populated {@link CommentDTO}
+     */
+    Stream<CommentDTO> streamAll(int fetchSize);
+}
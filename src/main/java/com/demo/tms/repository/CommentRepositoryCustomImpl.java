@@ -0,0 +1,138 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.entity.Comment;
+import com.demo.tms.utils.SparseFields;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * {@code CommentRepositoryCustomImpl} implements the custom query methods declared in
+ * {@link CommentRepositoryCustom} using the JPA Criteria API.
+ */
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<CommentDTO> findAllProjected(Specification<Comment> spec, Set<String> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Comment> root = query.from(Comment.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("commentId").alias("commentId"));
+        for (String field : fields) {
+            Path<?> path = switch (field) {
+                case "text", "version" -> root.get(field);
+                case "userId" -> root.get("user").get("userId");
+                case "taskId" -> root.get("task").get("taskId");
+                default -> null; // commentId is always selected
+            };
+            if (path != null) {
+                selections.add(path.alias(field));
+            }
+        }
+        query.multiselect(selections);
+        applySpecification(spec, root, query, cb);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<CommentDTO> content = typedQuery.getResultList().stream()
+                .map(tuple -> toCommentDTO(tuple, fields))
+                .toList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<CommentDTO> streamAll(int fetchSize) {
+        return entityManager.createQuery(
+                        "SELECT c.commentId AS commentId, c.text AS text, c.user.userId AS userId, " +
+                                "c.task.taskId AS taskId, c.version AS version " +
+                                "FROM Comment c ORDER BY c.commentId", Tuple.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(tuple -> toCommentDTO(tuple, SparseFields.COMMENT_FIELDS));
+    }
+
+    /**
+     * Maps a result tuple to a {@link CommentDTO} with only the requested properties set.
+     *
+     * @param tuple  the result tuple
+     * @param fields the requested property names
+     * @return the partially populated {@link CommentDTO}
+     */
+    private CommentDTO toCommentDTO(Tuple tuple, Set<String> fields) {
+        CommentDTO dto = new CommentDTO();
+        dto.setCommentId(tuple.get("commentId", Long.class));
+        if (fields.contains("text")) dto.setText(tuple.get("text", String.class));
+        if (fields.contains("userId")) dto.setUserId(tuple.get("userId", Long.class));
+        if (fields.contains("taskId")) dto.setTaskId(tuple.get("taskId", Long.class));
+        if (fields.contains("version")) dto.setVersion(tuple.get("version", Long.class));
+        return dto;
+    }
+
+    /**
+     * Counts the comments matching the given specification.
+     *
+     * @param spec the {@link Specification} restricting the comments, may be {@code null}
+     * @return the number of matching comments
+     */
+    private long count(Specification<Comment> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Comment> root = query.from(Comment.class);
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Applies the given specification as the {@code WHERE} clause of a query.
+     *
+     * @param spec  the {@link Specification} to apply, may be {@code null}
+     * @param root  the query root
+     * @param query the query
+     * @param cb    the criteria builder
+     */
+    private void applySpecification(Specification<Comment> spec, Root<Comment> root, CriteriaQuery<?> query,
+                                    CriteriaBuilder cb) {
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+    }
+}
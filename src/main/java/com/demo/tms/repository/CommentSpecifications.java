@@ -0,0 +1,37 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.entity.Comment;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * {@code CommentSpecifications} provides reusable JPA {@link Specification} predicates for {@link Comment} queries.
+ * <p>
+ * Each factory method returns {@code null} when its argument is {@code null}, so the specifications can be
+ * combined freely and absent criteria are simply ignored.
+ * </p>
+ */
+public final class CommentSpecifications {
+
+    private CommentSpecifications() {
+    }
+
+    /**
+     * Restricts comments to those attached to the given task.
+     *
+     * @param taskId the ID of the task, or {@code null} for no restriction
+     * @return the specification, or {@code null} if {@code taskId} is {@code null}
+     */
+    public static Specification<Comment> hasTask(Long taskId) {
+        return taskId == null ? null : (root, query, cb) -> cb.equal(root.get("task").get("taskId"), taskId);
+    }
+
+    /**
+     * Restricts comments to those written by the given user.
+     *
+     * @param userId the ID of the user, or {@code null} for no restriction
+     * @return the specification, or {@code null} if {@code userId} is {@code null}
+     */
+    public static Specification<Comment> hasUser(Long userId) {
+        return userId == null ? null : (root, query, cb) -> cb.equal(root.get("user").get("userId"), userId);
+    }
+}
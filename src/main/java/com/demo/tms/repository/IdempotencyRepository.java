@@ -0,0 +1,64 @@
+package com.demo.tms.repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * {@code IdempotencyRepository} declares the queries of the idempotency keys of create requests.
+ * <p>
+ * A key is claimed in the transaction of the request it guards and its response is stored in the same transaction,
+ * so a key is visible to other transactions only together with its response. A transaction claiming a key that
+ * another transaction claimed but has not yet committed waits for it on the primary key.
+ * </p>
+ */
+public interface IdempotencyRepository {
+
+    /**
+     * Claims a key in the current transaction, replacing a claim created before the cutoff.
+     *
+     * @param principal   the name of the authenticated user the key belongs to
+     * @param key         the idempotency key
+     * @param endpoint    the method and path of the request
+     * @param requestHash the hash of the request
+     * @param cutoff      the creation time before which an existing claim has expired
+     * @return {@code true} if the key was claimed, {@code false} if a claim that has not expired exists
+     */
+    boolean claim(String principal, String key, String endpoint, String requestHash, Instant cutoff);
+
+    /**
+     * Stores the response of a claimed key in the current transaction.
+     *
+     * @param principal the name of the authenticated user the key belongs to
+     * @param key       the idempotency key
+     * @param response  the JSON of the response
+     */
+    void complete(String principal, String key, String response);
+
+    /**
+     * Finds the stored response of a key.
+     *
+     * @param principal the name of the authenticated user the key belongs to
+     * @param key       the idempotency key
+     * @return an {@link Optional} containing the {@link StoredResponse}, or an empty {@link Optional} if the key is
+     * not claimed
+     */
+    Optional<StoredResponse> find(String principal, String key);
+
+    /**
+     * Deletes the keys created before the cutoff.
+     *
+     * @param cutoff the creation time before which keys are deleted
+     * @return the number of deleted keys
+     */
+    int purge(Instant cutoff);
+
+    /**
+     * The request a key was claimed for and its response.
+     *
+     * @param endpoint    the method and path of the request
+     * @param requestHash the hash of the request
+     * @param response    the JSON of the response
+     */
+    record StoredResponse(String endpoint, String requestHash, String response) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.demo.tms.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * {@code IdempotencyRepositoryImpl} implements {@link IdempotencyRepository} with plain JDBC.
+ * <p>
+ * A key is claimed with a single {@code INSERT ... ON CONFLICT} statement that only overwrites expired claims, so
+ * claiming costs one round trip and concurrent claims of the same key are serialized by the primary key.
+ * </p>
+ */
+@Repository
+public class IdempotencyRepositoryImpl implements IdempotencyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new {@code IdempotencyRepositoryImpl}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used to claim and read keys
+     */
+    @Autowired
+    public IdempotencyRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean claim(String principal, String key, String endpoint, String requestHash, Instant cutoff) {
+        return jdbcTemplate.update("INSERT INTO tms.idempotency_keys AS k " +
+                        "(principal, idempotency_key, endpoint, request_hash) VALUES (?, ?, ?, ?) " +
+                        "ON CONFLICT (principal, idempotency_key) DO UPDATE SET endpoint = EXCLUDED.endpoint, " +
+                        "request_hash = EXCLUDED.request_hash, response = NULL, created_at = now() " +
+                        "WHERE k.created_at < ?",
+                principal, key, endpoint, requestHash, Timestamp.from(cutoff)) == 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void complete(String principal, String key, String response) {
+        jdbcTemplate.update("UPDATE tms.idempotency_keys SET response = ?::jsonb " +
+                "WHERE principal = ? AND idempotency_key = ?", response, principal, key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<StoredResponse> find(String principal, String key) {
+        return jdbcTemplate.query("SELECT endpoint, request_hash, response FROM tms.idempotency_keys " +
+                                "WHERE principal = ? AND idempotency_key = ?",
+                        (rs, rowNum) -> new StoredResponse(rs.getString("endpoint"), rs.getString("request_hash"),
+                                rs.getString("response")),
+                        principal, key)
+                .stream().findFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int purge(Instant cutoff) {
+        return jdbcTemplate.update("DELETE FROM tms.idempotency_keys WHERE created_at < ?", Timestamp.from(cutoff));
+    }
+}
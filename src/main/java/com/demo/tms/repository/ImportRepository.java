@@ -0,0 +1,90 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.RejectedRowDTO;
+
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * {@code ImportRepository} declares the bulk import operations for tasks and comments.
+ * <p>
+ * Input rows are copied into temporary staging tables with PostgreSQL's {@code COPY}, validated with set-based SQL
+ * and merged into {@code tms.tasks} and {@code tms.comments}. The staging tables are dropped when the transaction
+ * commits, so all methods must be called within the same transaction.
+ * </p>
+ */
+public interface ImportRepository {
+
+    /**
+     * Creates the task staging table and copies the given CSV rows into it.
+     * <p>
+     * Plain CSV has a header line followed by the columns {@code taskId, name, description, status, priority,
+     * authorId, assigneeId, version}. Numbered CSV has no header line and two leading columns holding the row number
+     * and an optional error message.
+     * </p>
+     *
+     * @param csv      the CSV rows
+     * @param numbered whether the rows carry their own row number and error columns
+     * @return the number of rows copied
+     */
+    long stageTasks(Reader csv, boolean numbered);
+
+    /**
+     * Validates the staged tasks and inserts or updates the valid ones. Rows with an existing task ID update that
+     * task, rows without a task ID are inserted with a generated ID.
+     *
+     * @return the number of tasks inserted or updated
+     */
+    long mergeTasks();
+
+    /**
+     * Counts the staged task rows that were rejected.
+     *
+     * @return the number of rejected task rows
+     */
+    long countRejectedTasks();
+
+    /**
+     * Finds the staged task rows that were rejected, ordered by row number.
+     *
+     * @param limit the maximum number of rows to return
+     * @return the rejected task rows with the reasons they were rejected
+     */
+    List<RejectedRowDTO> findRejectedTasks(int limit);
+
+    /**
+     * Creates the comment staging table and copies the given CSV rows into it.
+     * <p>
+     * Plain CSV has a header line followed by the columns {@code commentId, text, userId, taskId, version}.
+     * Numbered CSV has no header line and two leading columns holding the row number and an optional error message.
+     * </p>
+     *
+     * @param csv      the CSV rows
+     * @param numbered whether the rows carry their own row number and error columns
+     * @return the number of rows copied
+     */
+    long stageComments(Reader csv, boolean numbered);
+
+    /**
+     * Validates the staged comments and inserts or updates the valid ones. Rows with an existing comment ID update
+     * that comment, rows without a comment ID are inserted with a generated ID.
+     *
+     * @return the number of comments inserted or updated
+     */
+    long mergeComments();
+
+    /**
+     * Counts the staged comment rows that were rejected.
+     *
+     * @return the number of rejected comment rows
+     */
+    long countRejectedComments();
+
+    /**
+     * Finds the staged comment rows that were rejected, ordered by row number.
+     *
+     * @param limit the maximum number of rows to return
+     * @return the rejected comment rows with the reasons they were rejected
+     */
+    List<RejectedRowDTO> findRejectedComments(int limit);
+}
@@ -0,0 +1,248 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.RejectedRowDTO;
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * {@code ImportRepositoryImpl} implements {@link ImportRepository} with plain JDBC on the connection of the current
+ * transaction.
+ * <p>
+ * All staging columns are {@code text}, so malformed values never abort the {@code COPY}; they are rejected by the
+ * validation statements instead. Validation runs in passes over the whole staging table: format checks first, then
+ * duplicate IDs within the input, then anti-joins against the referenced tables. Each pass only looks at rows that
+ * are still valid, so values are only cast once they are known to be well-formed.
+ * </p>
+ */
+@Repository
+public class ImportRepositoryImpl implements ImportRepository {
+
+    private static final String ID = "'^[0-9]{1,18}$'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new {@code ImportRepositoryImpl}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used to run the import statements
+     */
+    @Autowired
+    public ImportRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long stageTasks(Reader csv, boolean numbered) {
+        jdbcTemplate.execute("CREATE TEMPORARY TABLE task_import (row_no bigserial, error text, id text, " +
+                "name text, description text, status text, priority text, author_id text, assignee_id text, " +
+                "version text) ON COMMIT DROP");
+        return copy("task_import", "id, name, description, status, priority, author_id, assignee_id, version",
+                csv, numbered);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long mergeTasks() {
+        jdbcTemplate.update("UPDATE task_import SET error = CASE " +
+                "WHEN id IS NOT NULL AND id !~ " + ID + " THEN 'invalid taskId' " +
+                "WHEN name IS NULL OR btrim(name) = '' THEN 'name is required' " +
+                "WHEN length(name) > 255 THEN 'name must not exceed 255 characters' " +
+                "WHEN description IS NULL OR btrim(description) = '' THEN 'description is required' " +
+                "WHEN status IS NULL OR status NOT IN (" + values(TaskStatus.values()) + ") " +
+                "THEN 'invalid status' " +
+                "WHEN priority IS NULL OR priority NOT IN (" + values(TaskPriority.values()) + ") " +
+                "THEN 'invalid priority' " +
+                "WHEN author_id IS NULL OR author_id !~ " + ID + " THEN 'invalid authorId' " +
+                "WHEN assignee_id IS NULL OR assignee_id !~ " + ID + " THEN 'invalid assigneeId' " +
+                "WHEN version IS NOT NULL AND version !~ " + ID + " THEN 'invalid version' " +
+                "END WHERE error IS NULL");
+        rejectDuplicates("task_import", "taskId");
+        jdbcTemplate.update("UPDATE task_import s SET error = 'author not found' WHERE s.error IS NULL " +
+                "AND NOT EXISTS (SELECT 1 FROM tms.users u WHERE u.id = s.author_id::bigint)");
+        jdbcTemplate.update("UPDATE task_import s SET error = 'assignee not found' WHERE s.error IS NULL " +
+                "AND NOT EXISTS (SELECT 1 FROM tms.users u WHERE u.id = s.assignee_id::bigint)");
+
+        reserveIds("task_import", "tms.tasks_id_seq");
+        return jdbcTemplate.update("INSERT INTO tms.tasks AS t " +
+                "(id, name, description, status, priority, author_id, assignee_id, version) " +
+                "SELECT COALESCE(s.id::bigint, nextval('tms.tasks_id_seq')), s.name, s.description, s.status, " +
+                "s.priority, s.author_id::bigint, s.assignee_id::bigint, COALESCE(s.version::bigint, 0) " +
+                "FROM task_import s WHERE s.error IS NULL ORDER BY s.row_no " +
+                "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, description = EXCLUDED.description, " +
+                "status = EXCLUDED.status, priority = EXCLUDED.priority, author_id = EXCLUDED.author_id, " +
+                "assignee_id = EXCLUDED.assignee_id, version = t.version + 1, updated_at = now()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countRejectedTasks() {
+        return countRejected("task_import");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<RejectedRowDTO> findRejectedTasks(int limit) {
+        return findRejected("task_import", "tasks", limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long stageComments(Reader csv, boolean numbered) {
+        jdbcTemplate.execute("CREATE TEMPORARY TABLE comment_import (row_no bigserial, error text, id text, " +
+                "text text, user_id text, task_id text, version text) ON COMMIT DROP");
+        return copy("comment_import", "id, text, user_id, task_id, version", csv, numbered);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long mergeComments() {
+        jdbcTemplate.update("UPDATE comment_import SET error = CASE " +
+                "WHEN id IS NOT NULL AND id !~ " + ID + " THEN 'invalid commentId' " +
+                "WHEN text IS NULL OR btrim(text) = '' THEN 'text is required' " +
+                "WHEN length(text) > 1000 THEN 'text must not exceed 1000 characters' " +
+                "WHEN user_id IS NULL OR user_id !~ " + ID + " THEN 'invalid userId' " +
+                "WHEN task_id IS NULL OR task_id !~ " + ID + " THEN 'invalid taskId' " +
+                "WHEN version IS NOT NULL AND version !~ " + ID + " THEN 'invalid version' " +
+                "END WHERE error IS NULL");
+        rejectDuplicates("comment_import", "commentId");
+        jdbcTemplate.update("UPDATE comment_import s SET error = 'user not found' WHERE s.error IS NULL " +
+                "AND NOT EXISTS (SELECT 1 FROM tms.users u WHERE u.id = s.user_id::bigint)");
+        jdbcTemplate.update("UPDATE comment_import s SET error = 'task not found' WHERE s.error IS NULL " +
+                "AND NOT EXISTS (SELECT 1 FROM tms.tasks t WHERE t.id = s.task_id::bigint)");
+
+        reserveIds("comment_import", "tms.comments_id_seq");
+        return jdbcTemplate.update("INSERT INTO tms.comments AS c (id, text, user_id, task_id, version) " +
+                "SELECT COALESCE(s.id::bigint, nextval('tms.comments_id_seq')), s.text, s.user_id::bigint, " +
+                "s.task_id::bigint, COALESCE(s.version::bigint, 0) " +
+                "FROM comment_import s WHERE s.error IS NULL ORDER BY s.row_no " +
+                "ON CONFLICT (id) DO UPDATE SET text = EXCLUDED.text, user_id = EXCLUDED.user_id, " +
+                "task_id = EXCLUDED.task_id, version = c.version + 1, updated_at = now()");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long countRejectedComments() {
+        return countRejected("comment_import");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<RejectedRowDTO> findRejectedComments(int limit) {
+        return findRejected("comment_import", "comments", limit);
+    }
+
+    /**
+     * Copies CSV rows into a staging table through the {@code COPY} API of the PostgreSQL driver.
+     *
+     * @param table    the staging table
+     * @param columns  the data columns of the staging table, in CSV column order
+     * @param csv      the CSV rows
+     * @param numbered whether the rows carry their own row number and error columns
+     * @return the number of rows copied
+     */
+    private long copy(String table, String columns, Reader csv, boolean numbered) {
+        String sql = numbered
+                ? "COPY " + table + " (row_no, error, " + columns + ") FROM STDIN WITH (FORMAT csv)"
+                : "COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv, HEADER true)";
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, csv);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read import input", e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * Rejects rows whose ID already appeared in an earlier valid row of the same input.
+     *
+     * @param table the staging table
+     * @param field the name of the ID field used in the error message
+     */
+    private void rejectDuplicates(String table, String field) {
+        jdbcTemplate.update("UPDATE " + table + " s SET error = 'duplicate " + field + "' " +
+                "WHERE s.error IS NULL AND s.id IS NOT NULL AND EXISTS (SELECT 1 FROM " + table + " d " +
+                "WHERE d.error IS NULL AND d.id IS NOT NULL AND d.id::bigint = s.id::bigint " +
+                "AND d.row_no < s.row_no)");
+    }
+
+    /**
+     * Advances an ID sequence past the largest explicit ID of the valid staged rows, so IDs generated for rows
+     * without an ID never collide with explicit IDs of the same input. The sequence is never moved backwards.
+     *
+     * @param table    the staging table
+     * @param sequence the ID sequence of the target table
+     */
+    private void reserveIds(String table, String sequence) {
+        jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', GREATEST(nextval('" + sequence + "'), " +
+                "(SELECT COALESCE(MAX(id::bigint), 0) + 1 FROM " + table + " WHERE error IS NULL)), false)",
+                Long.class);
+    }
+
+    /**
+     * Counts the rejected rows of a staging table.
+     *
+     * @param table the staging table
+     * @return the number of rejected rows
+     */
+    private long countRejected(String table) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE error IS NOT NULL",
+                Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Finds the rejected rows of a staging table, ordered by row number.
+     *
+     * @param table the staging table
+     * @param input the name of the input reported with the rows
+     * @param limit the maximum number of rows to return
+     * @return the rejected rows
+     */
+    private List<RejectedRowDTO> findRejected(String table, String input, int limit) {
+        return jdbcTemplate.query("SELECT row_no, error FROM " + table + " WHERE error IS NOT NULL " +
+                        "ORDER BY row_no LIMIT ?",
+                (rs, rowNum) -> new RejectedRowDTO(input, rs.getLong("row_no"), rs.getString("error")), limit);
+    }
+
+    /**
+     * Formats enum constants as a list of SQL string literals.
+     *
+     * @param constants the enum constants
+     * @return the constants as quoted, comma separated SQL literals
+     */
+    private static String values(Enum<?>[] constants) {
+        return Arrays.stream(constants).map(constant -> "'" + constant.name() + "'")
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,66 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.OutboxMessageDTO;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * {@code OutboxRepository} declares the queries of the transactional outbox.
+ * <p>
+ * Messages are written in the transaction of the change they describe, so a message exists if and only if the
+ * change committed. The relay claims messages with {@code FOR UPDATE SKIP LOCKED}, so several application instances
+ * can relay concurrently without delivering the same message twice, unless a delivery fails after the sink accepted
+ * part of a batch.
+ * </p>
+ */
+public interface OutboxRepository {
+
+    /**
+     * Flushes the pending entity changes of the current persistence context, so the versions of changed entities are
+     * final before they are written to a message.
+     */
+    void flush();
+
+    /**
+     * Writes a message to the outbox in the current transaction.
+     *
+     * @param aggregateType the kind of the changed entity, {@code task} or {@code comment}
+     * @param aggregateId   the ID of the changed entity
+     * @param eventType     the kind of the change
+     * @param payload       the JSON of the change event
+     */
+    void append(String aggregateType, Long aggregateId, String eventType, String payload);
+
+    /**
+     * Writes messages to the outbox in the current transaction with a single batched statement.
+     *
+     * @param messages the messages, their IDs and creation times are ignored
+     */
+    void appendAll(List<OutboxMessageDTO> messages);
+
+    /**
+     * Deletes and returns the oldest messages not claimed by another transaction. The messages are restored if the
+     * current transaction rolls back.
+     *
+     * @param limit the maximum number of messages to claim
+     * @return the claimed messages, in ID order
+     */
+    List<OutboxMessageDTO> claimBatch(int limit);
+
+    /**
+     * Returns the number of messages in the outbox and the time the oldest was written.
+     *
+     * @return the {@link Backlog} of the outbox
+     */
+    Backlog findBacklog();
+
+    /**
+     * The messages waiting in the outbox.
+     *
+     * @param pending         the number of messages
+     * @param oldestCreatedAt the time the oldest message was written, or {@code null} if there are none
+     */
+    record Backlog(long pending, Instant oldestCreatedAt) {
+    }
+}
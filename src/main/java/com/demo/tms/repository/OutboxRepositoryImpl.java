@@ -0,0 +1,97 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.OutboxMessageDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@code OutboxRepositoryImpl} implements {@link OutboxRepository} with plain JDBC.
+ * <p>
+ * A batch is claimed with a single {@code DELETE ... RETURNING} statement, so relaying costs one round trip per
+ * batch in addition to the commit.
+ * </p>
+ */
+@Repository
+public class OutboxRepositoryImpl implements OutboxRepository {
+
+    private static final String INSERT = "INSERT INTO tms.outbox (aggregate_type, aggregate_id, event_type, payload) " +
+            "VALUES (?, ?, ?, ?::jsonb)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Constructs a new {@code OutboxRepositoryImpl}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used to write and claim messages
+     */
+    @Autowired
+    public OutboxRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() {
+        entityManager.flush();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void append(String aggregateType, Long aggregateId, String eventType, String payload) {
+        jdbcTemplate.update(INSERT, aggregateType, aggregateId, eventType, payload);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendAll(List<OutboxMessageDTO> messages) {
+        jdbcTemplate.batchUpdate(INSERT, messages.stream()
+                .map(message -> new Object[]{message.getAggregateType(), message.getAggregateId(),
+                        message.getEventType(), message.getPayload()})
+                .toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<OutboxMessageDTO> claimBatch(int limit) {
+        List<OutboxMessageDTO> messages = jdbcTemplate.query("DELETE FROM tms.outbox WHERE id IN " +
+                        "(SELECT id FROM tms.outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED) " +
+                        "RETURNING id, aggregate_type, aggregate_id, event_type, payload, created_at",
+                (rs, rowNum) -> new OutboxMessageDTO(rs.getLong("id"), rs.getString("aggregate_type"),
+                        rs.getLong("aggregate_id"), rs.getString("event_type"), rs.getString("payload"),
+                        rs.getObject("created_at", OffsetDateTime.class).toInstant()),
+                limit);
+        // RETURNING does not preserve the order of the subquery
+        messages.sort(Comparator.comparing(OutboxMessageDTO::getId));
+        return messages;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Backlog findBacklog() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) AS pending, MIN(created_at) AS oldest FROM tms.outbox",
+                (rs, rowNum) -> {
+                    OffsetDateTime oldest = rs.getObject("oldest", OffsetDateTime.class);
+                    return new Backlog(rs.getLong("pending"), oldest != null ? oldest.toInstant() : null);
+                });
+    }
+}
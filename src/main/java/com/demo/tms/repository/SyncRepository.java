@@ -0,0 +1,111 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.dto.TaskDTO;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * {@code SyncRepository} declares the queries of the task and comment change feed.
+ * <p>
+ * Database triggers stamp every written task and comment with the ID of the writing transaction and a value of the
+ * {@code tms.change_seq} sequence, and record deletions as tombstones stamped the same way. Changes are read in
+ * {@link Position} order, and only changes of transactions older than a {@link #findHorizon() horizon} are read,
+ * because a transaction still running may commit changes positioned before those already read.
+ * </p>
+ */
+public interface SyncRepository {
+
+    /**
+     * Returns the ID of the oldest transaction that may still be running. All transactions with a lower ID have
+     * finished, so their changes are either visible or rolled back.
+     *
+     * @return the transaction ID horizon
+     */
+    long findHorizon();
+
+    /**
+     * Returns the position of the newest purged tombstone. Deletions positioned up to it can no longer be read.
+     *
+     * @return the position of the newest purged tombstone
+     */
+    Position findPurgedPosition();
+
+    /**
+     * Finds the current state of the tasks of an assignee changed after a position, in position order.
+     *
+     * @param assigneeId the ID of the assignee
+     * @param after      the position to read after
+     * @param horizon    the transaction ID horizon
+     * @param limit      the maximum number of tasks to return
+     * @return the changed tasks, without comment IDs
+     */
+    List<Change<TaskDTO>> findTaskChanges(Long assigneeId, Position after, long horizon, int limit);
+
+    /**
+     * Finds the current state of the comments on tasks of an assignee changed after a position, in position order.
+     *
+     * @param assigneeId the ID of the assignee of the tasks
+     * @param after      the position to read after
+     * @param horizon    the transaction ID horizon
+     * @param limit      the maximum number of comments to return
+     * @return the changed comments
+     */
+    List<Change<CommentDTO>> findCommentChanges(Long assigneeId, Position after, long horizon, int limit);
+
+    /**
+     * Finds the tombstones of the tasks and comments deleted from, or reassigned away from, an assignee after a
+     * position, in position order.
+     *
+     * @param assigneeId the ID of the assignee
+     * @param after      the position to read after
+     * @param horizon    the transaction ID horizon
+     * @param limit      the maximum number of tombstones to return
+     * @return the tombstones
+     */
+    List<Change<Tombstone>> findTombstones(Long assigneeId, Position after, long horizon, int limit);
+
+    /**
+     * Deletes the tombstones recorded before a point in time, together with all tombstones positioned before them,
+     * and records the position of the newest deleted tombstone.
+     *
+     * @param cutoff the point in time before which tombstones are deleted
+     * @return the number of deleted tombstones
+     */
+    int purgeTombstones(Instant cutoff);
+
+    /**
+     * The position of a change in the feed: the ID of the writing transaction, then the change sequence number.
+     *
+     * @param xid the ID of the writing transaction
+     * @param seq the change sequence number
+     */
+    record Position(long xid, long seq) implements Comparable<Position> {
+
+        @Override
+        public int compareTo(Position other) {
+            int result = Long.compare(xid, other.xid);
+            return result != 0 ? result : Long.compare(seq, other.seq);
+        }
+    }
+
+    /**
+     * A changed task, comment or tombstone and its position in the feed.
+     *
+     * @param position the position of the change
+     * @param value    the changed value
+     * @param <T>      the type of the changed value
+     */
+    record Change<T>(Position position, T value) {
+    }
+
+    /**
+     * The record of a deleted or reassigned task, or of a deleted comment.
+     *
+     * @param entityType {@code TASK} or {@code COMMENT}
+     * @param entityId   the ID of the task or comment
+     */
+    record Tombstone(String entityType, long entityId) {
+    }
+}
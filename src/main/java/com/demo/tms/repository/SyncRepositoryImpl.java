@@ -0,0 +1,143 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * {@code SyncRepositoryImpl} implements {@link SyncRepository} with plain JDBC.
+ * <p>
+ * Every query is a range scan of an index on {@code (assignee_id, change_xid, change_seq)} or
+ * {@code (change_xid, change_seq)} starting at the requested position, so polling with a current watermark reads
+ * no rows.
+ * </p>
+ */
+@Repository
+public class SyncRepositoryImpl implements SyncRepository {
+
+    private static final String AFTER = "(%1$s.change_xid, %1$s.change_seq) > (?, ?) AND %1$s.change_xid < ? " +
+            "ORDER BY %1$s.change_xid, %1$s.change_seq LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new {@code SyncRepositoryImpl}.
+     *
+     * @param jdbcTemplate the {@link JdbcTemplate} used to run the change feed queries
+     */
+    @Autowired
+    public SyncRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long findHorizon() {
+        return jdbcTemplate.queryForObject("SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint",
+                Long.class);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Position findPurgedPosition() {
+        return jdbcTemplate.queryForObject("SELECT purged_xid, purged_seq FROM tms.sync_state WHERE id = 1",
+                (rs, rowNum) -> new Position(rs.getLong("purged_xid"), rs.getLong("purged_seq")));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Change<TaskDTO>> findTaskChanges(Long assigneeId, Position after, long horizon, int limit) {
+        return jdbcTemplate.query("SELECT t.id, t.name, t.description, t.status, t.priority, t.author_id, " +
+                        "t.assignee_id, t.version, t.created_at, t.updated_at, t.change_xid, t.change_seq " +
+                        "FROM tms.tasks t WHERE t.assignee_id = ? AND " + AFTER.formatted("t"),
+                (rs, rowNum) -> new Change<>(position(rs), new TaskDTO(rs.getLong("id"), rs.getString("name"),
+                        rs.getString("description"), TaskStatus.valueOf(rs.getString("status")),
+                        TaskPriority.valueOf(rs.getString("priority")), rs.getLong("author_id"),
+                        rs.getLong("assignee_id"), null, rs.getLong("version"), instant(rs, "created_at"),
+                        instant(rs, "updated_at"))),
+                assigneeId, after.xid(), after.seq(), horizon, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Change<CommentDTO>> findCommentChanges(Long assigneeId, Position after, long horizon, int limit) {
+        return jdbcTemplate.query("SELECT c.id, c.text, c.user_id, c.task_id, c.version, c.created_at, " +
+                        "c.updated_at, c.change_xid, c.change_seq FROM tms.comments c " +
+                        "JOIN tms.tasks t ON t.id = c.task_id WHERE t.assignee_id = ? AND " + AFTER.formatted("c"),
+                (rs, rowNum) -> new Change<>(position(rs), new CommentDTO(rs.getLong("id"), rs.getString("text"),
+                        rs.getLong("user_id"), rs.getLong("task_id"), rs.getLong("version"),
+                        instant(rs, "created_at"), instant(rs, "updated_at"))),
+                assigneeId, after.xid(), after.seq(), horizon, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Change<Tombstone>> findTombstones(Long assigneeId, Position after, long horizon, int limit) {
+        return jdbcTemplate.query("SELECT d.entity_type, d.entity_id, d.change_xid, d.change_seq " +
+                        "FROM tms.tombstones d WHERE d.assignee_id = ? AND " + AFTER.formatted("d"),
+                (rs, rowNum) -> new Change<>(position(rs),
+                        new Tombstone(rs.getString("entity_type"), rs.getLong("entity_id"))),
+                assigneeId, after.xid(), after.seq(), horizon, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int purgeTombstones(Instant cutoff) {
+        Integer purged = jdbcTemplate.queryForObject("WITH boundary AS (SELECT change_xid, change_seq " +
+                        "FROM tms.tombstones WHERE deleted_at < ? " +
+                        "ORDER BY change_xid DESC, change_seq DESC LIMIT 1), " +
+                        "purged AS (DELETE FROM tms.tombstones d USING boundary b " +
+                        "WHERE (d.change_xid, d.change_seq) <= (b.change_xid, b.change_seq) RETURNING 1), " +
+                        "state AS (UPDATE tms.sync_state s SET purged_xid = b.change_xid, purged_seq = b.change_seq " +
+                        "FROM boundary b WHERE s.id = 1) " +
+                        "SELECT COUNT(*) FROM purged",
+                Integer.class, Timestamp.from(cutoff));
+        return purged == null ? 0 : purged;
+    }
+
+    /**
+     * Reads the position of the change in the current row.
+     *
+     * @param rs the result set positioned on the row
+     * @return the position of the change
+     * @throws SQLException if a column cannot be read
+     */
+    private Position position(ResultSet rs) throws SQLException {
+        return new Position(rs.getLong("change_xid"), rs.getLong("change_seq"));
+    }
+
+    /**
+     * Reads a {@code timestamptz} column of the current row.
+     *
+     * @param rs     the result set positioned on the row
+     * @param column the name of the column
+     * @return the timestamp
+     * @throws SQLException if the column cannot be read
+     */
+    private Instant instant(ResultSet rs, String column) throws SQLException {
+        return rs.getObject(column, OffsetDateTime.class).toInstant();
+    }
+}
@@ -1,20 +1,29 @@
 package com.demo.tms.repository;
 
 import com.demo.tms.entity.Task;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * {@code TaskRepository} is a Spring Data JPA repository interface for performing CRUD operations
  * related to {@link Task} entities in the database.
  * <p>
  * This repository provides methods to find tasks by author or assignee, check if a task exists
  * with a specific author or assignee, and paginate the results for both author and assignee tasks.
+ * Arbitrary combinations of criteria are queried with the {@link TaskSpecifications} predicates.
  * </p>
  */
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskRepositoryCustom {
 
     /**
      * Finds tasks assigned to a specific author identified by their {@code authorId}.
@@ -57,4 +66,79 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      */
     @Query("SELECT COUNT(t) > 0 FROM Task t WHERE t.taskId = ?1 AND t.author.userId = ?2")
     boolean existsByTaskIdAndAuthorId(Long taskId, Long userId);
-}
\ No newline at end of file
+
+    /**
+     * Checks whether a task and a user both exist, in a single query.
+     *
+     * @param taskId the ID of the task
+     * @param userId the ID of the user
+     * @return {@code true} if both the task and the user exist, {@code false} otherwise
+     */
+    @Query("SELECT COUNT(t) > 0 FROM Task t WHERE t.taskId = ?1 AND EXISTS (SELECT u FROM User u WHERE u.userId = ?2)")
+    boolean existsWithUser(Long taskId, Long userId);
+
+    /**
+     * Finds the IDs of the author and assignee of a task without loading the task.
+     *
+     * @param taskId the ID of the task
+     * @return a single {@code [authorId, assigneeId]} row, or no rows if the task does not exist
+     */
+    @Query("SELECT t.author.userId, t.assignee.userId FROM Task t WHERE t.taskId = ?1")
+    List<Object[]> findUserIdsById(Long taskId);
+
+    /**
+     * Finds the IDs of the author and assignee of a task if both the task and the given user exist, in a single
+     * query and without loading the task.
+     *
+     * @param taskId the ID of the task
+     * @param userId the ID of the user
+     * @return a single {@code [authorId, assigneeId]} row, or no rows if the task or the user does not exist
+     */
+    @Query("SELECT t.author.userId, t.assignee.userId FROM Task t " +
+            "WHERE t.taskId = ?1 AND EXISTS (SELECT u FROM User u WHERE u.userId = ?2)")
+    List<Object[]> findUserIdsByIdWithUser(Long taskId, Long userId);
+
+    /**
+     * Finds the IDs of the tasks following the given ID, in ascending order, for scanning all IDs page by page.
+     *
+     * @param afterId the ID to continue after, or {@code 0} to start with the first task
+     * @param limit   the maximum number of IDs to return
+     * @return the {@link List} of task IDs
+     */
+    @Query("SELECT t.taskId FROM Task t WHERE t.taskId > ?1 ORDER BY t.taskId")
+    List<Long> findIdsAfter(Long afterId, Limit limit);
+
+    /**
+     * Finds the optimistic locking version of a task and the IDs of its comments in one query, without loading the
+     * task or its comments.
+     *
+     * @param taskId the ID of the task
+     * @return one {@code [version, commentId]} row per comment, a single row with a {@code null} comment ID if the
+     * task has no comments, or no rows if the task does not exist
+     */
+    @Query("SELECT t.version, c.commentId FROM Task t LEFT JOIN t.comments c WHERE t.taskId = ?1")
+    List<Object[]> findVersionAndCommentIdsById(Long taskId);
+
+    /**
+     * Finds the tasks with the given IDs together with their comments in a single query.
+     *
+     * @param taskIds the IDs of the tasks
+     * @return the {@link List} of found {@link Task} entities with their comments initialized, in no particular order
+     */
+    @Query("SELECT DISTINCT t FROM Task t LEFT JOIN FETCH t.comments WHERE t.taskId IN ?1")
+    List<Task> findAllWithCommentsByIdIn(Collection<Long> taskIds);
+
+    @Query("SELECT t.assignee.userId, t.status, t.priority, COUNT(t) FROM Task t " +
+            "GROUP BY t.assignee.userId, t.status, t.priority")
+    List<Object[]> countByAssigneeStatusAndPriority();
+
+    @Query("SELECT t.taskId, t.assignee.userId, t.priority FROM Task t " +
+            "WHERE t.status = com.demo.tms.utils.TaskStatus.PENDING")
+    List<Object[]> findPendingQueueEntries();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = com.demo.tms.utils.TaskStatus.PROCESSING, t.version = t.version + 1, " +
+            "t.updatedAt = ?3 " +
+            "WHERE t.taskId = ?1 AND t.assignee.userId = ?2 AND t.status = com.demo.tms.utils.TaskStatus.PENDING")
+    int claimPendingTask(Long taskId, Long assigneeId, Instant now);
+}
@@ -0,0 +1,125 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.TaskBoardColumnDTO;
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.dto.TaskSearchHitDTO;
+import com.demo.tms.dto.TimeBucketDTO;
+import com.demo.tms.entity.Task;
+import com.demo.tms.utils.TaskStatus;
+import com.demo.tms.utils.TimeInterval;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * {@code TaskRepositoryCustom} declares custom query methods of {@link TaskRepository} that cannot be expressed
+ * as derived or annotated queries.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Finds a page of tasks, selecting only the columns needed for the requested {@link TaskDTO} properties.
+     * <p>
+     * The task ID is always selected. Comment IDs are loaded with one additional batched query, and only when
+     * {@code commentIds} is requested.
+     * </p>
+     *
+     * @param spec     the {@link Specification} restricting the tasks, may be {@code null}
+     * @param fields   the requested {@link TaskDTO} property names
+     * @param pageable the pagination information
+     * @return a {@link Page} of {@link TaskDTO} with only the requested properties set
+     */
+    Page<TaskDTO> findAllProjected(Specification<Task> spec, Set<String> fields, Pageable pageable);
+
+    /**
+     * Finds a task together with its author and assignee and the IDs of its comments.
+     * <p>
+     * The task, author and assignee are fetched with one query and the comment IDs are selected with a second one,
+     * so the comments themselves are never loaded. The returned task is detached, and its comments hold only their
+     * IDs.
+     * </p>
+     *
+     * @param taskId the ID of the task
+     * @return an {@link Optional} containing the detached {@link Task}, or an empty {@link Optional} if the task
+     * does not exist
+     */
+    Optional<Task> findWithUsersAndCommentIdsById(Long taskId);
+
+    /**
+     * Streams all tasks ordered by ID through a forward-only, read-only database cursor.
+     * <p>
+     * Rows are fetched from the database in batches of {@code fetchSize} and mapped to {@link TaskDTO} objects that
+     * are not attached to the persistence context, so the memory used is independent of the number of tasks.
+     * Comment IDs are not loaded. The stream must be consumed inside a transaction and closed after use.
+     * </p>
+     *
+     * @param fetchSize the number of rows fetched from the database per round trip
+     * @return a {@link Stream} of {@link TaskDTO} with all properties except {@code commentIds} set
+     */
+    Stream<TaskDTO> streamAll(int fetchSize);
+
+    /**
+     * Streams the ID and name of all tasks through a forward-only, read-only database cursor.
+     * <p>
+     * Only the two columns are selected, which keeps the scan cheap when building in-memory indexes over task names.
+     * The stream must be consumed inside a transaction and closed after use.
+     * </p>
+     *
+     * @param fetchSize the number of rows fetched from the database per round trip
+     * @return a {@link Stream} of {@link TaskDTO} with only {@code taskId} and {@code name} set
+     */
+    Stream<TaskDTO> streamNames(int fetchSize);
+
+    /**
+     * Finds the tasks matching a full-text search query, ordered by descending rank and ID.
+     * <p>
+     * A task matches if its name or description, or the text of one of its comments, matches the query. Matches in
+     * the name weigh more than matches in the description, and comment matches count half. The query uses web search
+     * syntax, e.g. {@code "login bug" -android}. Pages are selected with a keyset on rank and ID.
+     * </p>
+     *
+     * @param query     the search query
+     * @param afterRank the rank of the last task of the previous page, or {@code null} for the first page
+     * @param afterId   the ID of the last task of the previous page, or {@code null} for the first page
+     * @param limit     the maximum number of tasks to return
+     * @return the matching tasks with their ranks, without comment IDs
+     */
+    List<TaskSearchHitDTO> search(String query, Float afterRank, Long afterId, int limit);
+
+    /**
+     * Finds the board columns of an assignee: per task status, the first tasks ordered by priority and ID, and the
+     * number of all tasks with that status.
+     * <p>
+     * All columns are loaded with a single query using window functions. Comment IDs are not loaded.
+     * </p>
+     *
+     * @param assigneeId the ID of the assignee
+     * @param limit      the maximum number of tasks per column
+     * @return one {@link TaskBoardColumnDTO} per {@link com.demo.tms.utils.TaskStatus}, in declaration order
+     */
+    List<TaskBoardColumnDTO> findBoardColumns(Long assigneeId, int limit);
+
+    /**
+     * Counts the tasks per time interval of one of their timestamps, in a half-open time range.
+     * <p>
+     * The range condition is served by the BRIN index on {@code created_at} or the B-tree index on
+     * {@code updated_at}. Intervals without tasks are omitted.
+     * </p>
+     *
+     * @param column   the timestamp column, either {@code created_at} or {@code updated_at}
+     * @param interval the size of the intervals
+     * @param from     the inclusive lower bound of the range
+     * @param to       the exclusive upper bound of the range
+     * @param status   the status of the counted tasks, or {@code null} to count tasks of any status
+     * @return the non-empty intervals in ascending order
+     * @throws IllegalArgumentException if the column is not a task timestamp column
+     */
+    List<TimeBucketDTO> countPerInterval(String column, TimeInterval interval, Instant from, Instant to,
+                                         TaskStatus status);
+}
@@ -0,0 +1,338 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.dto.TaskBoardColumnDTO;
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.dto.TaskSearchHitDTO;
+import com.demo.tms.dto.TimeBucketDTO;
+import com.demo.tms.entity.Comment;
+import com.demo.tms.entity.Task;
+import com.demo.tms.utils.SparseFields;
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+import com.demo.tms.utils.TimeInterval;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@code TaskRepositoryCustomImpl} implements the custom query methods declared in {@link TaskRepositoryCustom}
+ * using the JPA Criteria API, and native SQL for the queries relying on PostgreSQL features.
+ */
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    /**
+     * SQL expression ordering task rows by {@link TaskPriority} declaration order, i.e. the most urgent first, as the
+     * priority column holds the enum names.
+     */
+    private static final String PRIORITY_ORDER = Arrays.stream(TaskPriority.values())
+            .map(priority -> "WHEN '" + priority.name() + "' THEN " + priority.ordinal())
+            .collect(Collectors.joining(" ", "CASE t.priority ", " END"));
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<TaskDTO> findAllProjected(Specification<Task> spec, Set<String> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("taskId").alias("taskId"));
+        for (String field : fields) {
+            Path<?> path = switch (field) {
+                case "name", "description", "status", "priority", "version" -> root.get(field);
+                case "authorId" -> root.get("author").get("userId");
+                case "assigneeId" -> root.get("assignee").get("userId");
+                default -> null; // taskId is always selected, commentIds are loaded separately
+            };
+            if (path != null) {
+                selections.add(path.alias(field));
+            }
+        }
+        query.multiselect(selections);
+        applySpecification(spec, root, query, cb);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<TaskDTO> content = typedQuery.getResultList().stream()
+                .map(tuple -> toTaskDTO(tuple, fields))
+                .toList();
+        if (fields.contains("commentIds")) {
+            loadCommentIds(content);
+        }
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Task> findWithUsersAndCommentIdsById(Long taskId) {
+        List<Task> tasks = entityManager.createQuery(
+                        "SELECT t FROM Task t JOIN FETCH t.author JOIN FETCH t.assignee WHERE t.taskId = :taskId",
+                        Task.class)
+                .setParameter("taskId", taskId)
+                .getResultList();
+        if (tasks.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Long> commentIds = entityManager.createQuery(
+                        "SELECT c.commentId FROM Comment c WHERE c.task.taskId = :taskId ORDER BY c.commentId",
+                        Long.class)
+                .setParameter("taskId", taskId)
+                .getResultList();
+
+        // Detached first, so that replacing the comment collection is never flushed as orphan removal
+        Task task = tasks.get(0);
+        entityManager.detach(task);
+        List<Comment> comments = new ArrayList<>(commentIds.size());
+        for (Long commentId : commentIds) {
+            Comment comment = new Comment();
+            comment.setCommentId(commentId);
+            comments.add(comment);
+        }
+        task.setComments(comments);
+        return Optional.of(task);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<TaskDTO> streamAll(int fetchSize) {
+        return entityManager.createQuery(
+                        "SELECT t.taskId AS taskId, t.name AS name, t.description AS description, " +
+                                "t.status AS status, t.priority AS priority, t.author.userId AS authorId, " +
+                                "t.assignee.userId AS assigneeId, t.version AS version " +
+                                "FROM Task t ORDER BY t.taskId", Tuple.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(tuple -> toTaskDTO(tuple, SparseFields.TASK_FIELDS));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<TaskDTO> streamNames(int fetchSize) {
+        return entityManager.createQuery("SELECT t.taskId AS taskId, t.name AS name FROM Task t", Tuple.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(tuple -> toTaskDTO(tuple, Set.of("name")));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskSearchHitDTO> search(String query, Float afterRank, Long afterId, int limit) {
+        Query nativeQuery = entityManager.createNativeQuery(
+                "WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query), " +
+                        "matches AS (SELECT t.id, ts_rank(t.search_vector, q.query) AS rank " +
+                        "FROM tms.tasks t, q WHERE t.search_vector @@ q.query " +
+                        "UNION ALL SELECT c.task_id, ts_rank(c.search_vector, q.query) * 0.5 " +
+                        "FROM tms.comments c, q WHERE c.search_vector @@ q.query), " +
+                        "ranked AS (SELECT id, CAST(MAX(rank) AS real) AS rank FROM matches GROUP BY id) " +
+                        "SELECT t.id, t.name, t.description, t.status, t.priority, t.author_id, t.assignee_id, " +
+                        "t.version, r.rank FROM ranked r JOIN tms.tasks t ON t.id = r.id " +
+                        (afterId != null ? "WHERE (r.rank, r.id) < (CAST(:afterRank AS real), :afterId) " : "") +
+                        "ORDER BY r.rank DESC, r.id DESC LIMIT :limit")
+                .setParameter("query", query)
+                .setParameter("limit", limit);
+        if (afterId != null) {
+            nativeQuery.setParameter("afterRank", afterRank).setParameter("afterId", afterId);
+        }
+        List<Object[]> rows = nativeQuery.getResultList();
+        return rows.stream()
+                .map(row -> new TaskSearchHitDTO(toTaskDTO(row), ((Number) row[8]).floatValue()))
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskBoardColumnDTO> findBoardColumns(Long assigneeId, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(
+                        "SELECT id, name, description, status, priority, author_id, assignee_id, version, " +
+                                "column_total FROM (SELECT t.id, t.name, t.description, t.status, t.priority, " +
+                                "t.author_id, t.assignee_id, t.version, ROW_NUMBER() OVER (PARTITION BY t.status " +
+                                "ORDER BY " + PRIORITY_ORDER + ", t.id) AS position, " +
+                                "COUNT(*) OVER (PARTITION BY t.status) AS column_total " +
+                                "FROM tms.tasks t WHERE t.assignee_id = :assigneeId) b " +
+                                "WHERE b.position <= :limit ORDER BY b.status, b.position")
+                .setParameter("assigneeId", assigneeId)
+                .setParameter("limit", limit)
+                .getResultList();
+
+        Map<TaskStatus, TaskBoardColumnDTO> columns = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            columns.put(status, new TaskBoardColumnDTO(status, 0, new ArrayList<>()));
+        }
+        for (Object[] row : rows) {
+            TaskDTO task = toTaskDTO(row);
+            TaskBoardColumnDTO column = columns.get(task.getStatus());
+            column.setTotal(((Number) row[8]).longValue());
+            column.getTasks().add(task);
+        }
+        return new ArrayList<>(columns.values());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimeBucketDTO> countPerInterval(String column, TimeInterval interval, Instant from, Instant to,
+                                                TaskStatus status) {
+        if (!"created_at".equals(column) && !"updated_at".equals(column)) {
+            throw new IllegalArgumentException("Invalid timestamp column: " + column);
+        }
+        Query query = entityManager.createNativeQuery(
+                        "SELECT CAST(EXTRACT(EPOCH FROM date_trunc(:unit, t." + column + " AT TIME ZONE 'UTC')) " +
+                                "AS bigint) AS bucket, COUNT(*) FROM tms.tasks t " +
+                                "WHERE t." + column + " >= :from AND t." + column + " < :to" +
+                                (status == null ? "" : " AND t.status = :status") +
+                                " GROUP BY bucket ORDER BY bucket")
+                .setParameter("unit", interval.getUnit())
+                .setParameter("from", from)
+                .setParameter("to", to);
+        if (status != null) {
+            query.setParameter("status", status.name());
+        }
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .map(row -> new TimeBucketDTO(Instant.ofEpochSecond(((Number) row[0]).longValue()),
+                        ((Number) row[1]).longValue()))
+                .toList();
+    }
+
+    /**
+     * Maps the leading columns of a native task row to a {@link TaskDTO} without comment IDs.
+     *
+     * @param row the row holding id, name, description, status, priority, author_id, assignee_id and version
+     * @return the {@link TaskDTO}
+     */
+    private TaskDTO toTaskDTO(Object[] row) {
+        return new TaskDTO(((Number) row[0]).longValue(), (String) row[1], (String) row[2],
+                TaskStatus.valueOf((String) row[3]), TaskPriority.valueOf((String) row[4]),
+                ((Number) row[5]).longValue(), ((Number) row[6]).longValue(), null, ((Number) row[7]).longValue(),
+                null, null);
+    }
+
+    /**
+     * Maps a result tuple to a {@link TaskDTO} with only the requested properties set.
+     *
+     * @param tuple  the result tuple
+     * @param fields the requested property names
+     * @return the partially populated {@link TaskDTO}
+     */
+    private TaskDTO toTaskDTO(Tuple tuple, Set<String> fields) {
+        TaskDTO dto = new TaskDTO();
+        dto.setTaskId(tuple.get("taskId", Long.class));
+        dto.setCommentIds(null);
+        if (fields.contains("name")) dto.setName(tuple.get("name", String.class));
+        if (fields.contains("description")) dto.setDescription(tuple.get("description", String.class));
+        if (fields.contains("status")) dto.setStatus(tuple.get("status", TaskStatus.class));
+        if (fields.contains("priority")) dto.setPriority(tuple.get("priority", TaskPriority.class));
+        if (fields.contains("authorId")) dto.setAuthorId(tuple.get("authorId", Long.class));
+        if (fields.contains("assigneeId")) dto.setAssigneeId(tuple.get("assigneeId", Long.class));
+        if (fields.contains("version")) dto.setVersion(tuple.get("version", Long.class));
+        return dto;
+    }
+
+    /**
+     * Loads the comment IDs of all given tasks with a single {@code IN} query.
+     *
+     * @param tasks the tasks whose comment IDs are loaded
+     */
+    private void loadCommentIds(List<TaskDTO> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        Map<Long, TaskDTO> tasksById = new HashMap<>();
+        for (TaskDTO task : tasks) {
+            task.setCommentIds(new ArrayList<>());
+            tasksById.put(task.getTaskId(), task);
+        }
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT c.task.taskId, c.commentId FROM Comment c WHERE c.task.taskId IN :taskIds " +
+                                "ORDER BY c.commentId", Object[].class)
+                .setParameter("taskIds", tasksById.keySet())
+                .getResultList();
+        for (Object[] row : rows) {
+            tasksById.get((Long) row[0]).getCommentIds().add((Long) row[1]);
+        }
+    }
+
+    /**
+     * Counts the tasks matching the given specification.
+     *
+     * @param spec the {@link Specification} restricting the tasks, may be {@code null}
+     * @return the number of matching tasks
+     */
+    private long count(Specification<Task> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.count(root));
+        applySpecification(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Applies the given specification as the {@code WHERE} clause of a query.
+     *
+     * @param spec  the {@link Specification} to apply, may be {@code null}
+     * @param root  the query root
+     * @param query the query
+     * @param cb    the criteria builder
+     */
+    private void applySpecification(Specification<Task> spec, Root<Task> root, CriteriaQuery<?> query,
+                                    CriteriaBuilder cb) {
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+    }
+}
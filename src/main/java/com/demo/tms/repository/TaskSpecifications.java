@@ -0,0 +1,101 @@
+package com.demo.tms.repository;
+
+import com.demo.tms.entity.Task;
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.Collection;
+
+/**
+ * {@code TaskSpecifications} provides reusable JPA {@link Specification} predicates for {@link Task} queries.
+ * <p>
+ * Each factory method returns {@code null} when its argument is {@code null}, so the specifications can be
+ * combined freely and absent criteria are simply ignored.
+ * </p>
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Restricts tasks to those created by the given author.
+     *
+     * @param authorId the ID of the author, or {@code null} for no restriction
+     * @return the specification, or {@code null} if {@code authorId} is {@code null}
+     */
+    public static Specification<Task> hasAuthor(Long authorId) {
+        return authorId == null ? null : (root, query, cb) -> cb.equal(root.get("author").get("userId"), authorId);
+    }
+
+    /**
+     * Restricts tasks to those assigned to the given assignee.
+     *
+     * @param assigneeId the ID of the assignee, or {@code null} for no restriction
+     * @return the specification, or {@code null} if {@code assigneeId} is {@code null}
+     */
+    public static Specification<Task> hasAssignee(Long assigneeId) {
+        return assigneeId == null ? null :
+                (root, query, cb) -> cb.equal(root.get("assignee").get("userId"), assigneeId);
+    }
+
+    /**
+     * Restricts tasks to those having one of the given statuses.
+     *
+     * @param statuses the accepted statuses, or {@code null} or empty for no restriction
+     * @return the specification, or {@code null} if no statuses are given
+     */
+    public static Specification<Task> hasStatusIn(Collection<TaskStatus> statuses) {
+        return statuses == null || statuses.isEmpty() ? null : (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    /**
+     * Restricts tasks to those having one of the given priorities.
+     *
+     * @param priorities the accepted priorities, or {@code null} or empty for no restriction
+     * @return the specification, or {@code null} if no priorities are given
+     */
+    public static Specification<Task> hasPriorityIn(Collection<TaskPriority> priorities) {
+        return priorities == null || priorities.isEmpty() ? null :
+                (root, query, cb) -> root.get("priority").in(priorities);
+    }
+
+    /**
+     * Restricts tasks to those created in the given half-open time range.
+     *
+     * @param from the inclusive lower bound, or {@code null} for no lower bound
+     * @param to   the exclusive upper bound, or {@code null} for no upper bound
+     * @return the specification, or {@code null} if both bounds are {@code null}
+     */
+    public static Specification<Task> createdBetween(Instant from, Instant to) {
+        return between("createdAt", from, to);
+    }
+
+    /**
+     * Restricts tasks to those last modified in the given half-open time range.
+     *
+     * @param from the inclusive lower bound, or {@code null} for no lower bound
+     * @param to   the exclusive upper bound, or {@code null} for no upper bound
+     * @return the specification, or {@code null} if both bounds are {@code null}
+     */
+    public static Specification<Task> updatedBetween(Instant from, Instant to) {
+        return between("updatedAt", from, to);
+    }
+
+    private static Specification<Task> between(String attribute, Instant from, Instant to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThan(root.get(attribute), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get(attribute), from);
+            }
+            return cb.and(cb.greaterThanOrEqualTo(root.get(attribute), from), cb.lessThan(root.get(attribute), to));
+        };
+    }
+}
@@ -1,10 +1,14 @@
 package com.demo.tms.repository;
 
 import com.demo.tms.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * {@code UserRepository} is a Spring Data JPA repository interface for performing CRUD operations
@@ -23,4 +27,43 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT u FROM User u WHERE u.email = ?1")
     Optional<User> findByEmail(String email);
+
+    /**
+     * Finds which of the given user IDs exist, in a single query.
+     *
+     * @param userIds the IDs of the users
+     * @return the {@link Set} of the given IDs that belong to existing users
+     */
+    @Query("SELECT u.userId FROM User u WHERE u.userId IN ?1")
+    Set<Long> findExistingIds(Collection<Long> userIds);
+
+    /**
+     * Finds the users with the given IDs together with their roles and created tasks in a single query.
+     *
+     * @param userIds the IDs of the users
+     * @return the {@link List} of found {@link User} entities, in no particular order
+     */
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.role LEFT JOIN FETCH u.createdTasks WHERE u.userId IN ?1")
+    List<User> findAllWithCreatedTasksByIdIn(Collection<Long> userIds);
+
+    /**
+     * Initializes the assigned tasks of the users with the given IDs in a single query. The users are usually
+     * already loaded by {@link #findAllWithCreatedTasksByIdIn(Collection)} in the same persistence context; fetching
+     * the two collections separately avoids the product of both in one result set.
+     *
+     * @param userIds the IDs of the users
+     * @return the {@link List} of found {@link User} entities, in no particular order
+     */
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.assignedTasks WHERE u.userId IN ?1")
+    List<User> findAllWithAssignedTasksByIdIn(Collection<Long> userIds);
+
+    /**
+     * Finds the IDs of the users following the given ID, in ascending order, for scanning all IDs page by page.
+     *
+     * @param afterId the ID to continue after, or {@code 0} to start with the first user
+     * @param limit   the maximum number of IDs to return
+     * @return the {@link List} of user IDs
+     */
+    @Query("SELECT u.userId FROM User u WHERE u.userId > ?1 ORDER BY u.userId")
+    List<Long> findIdsAfter(Long afterId, Limit limit);
 }
\ No newline at end of file
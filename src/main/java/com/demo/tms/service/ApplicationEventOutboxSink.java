@@ -0,0 +1,43 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.OutboxMessageDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code ApplicationEventOutboxSink} is the {@link OutboxSink} used when {@code tms.outbox.sink} is {@code event} or
+ * not set. It publishes every message as an application event to in-process
+ * {@link org.springframework.context.event.EventListener}s of {@link OutboxMessageDTO}.
+ * <p>
+ * Listeners run synchronously on the relay thread, so an exception thrown by a listener fails the batch and it is
+ * delivered again on the next poll.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "tms.outbox.sink", havingValue = "event", matchIfMissing = true)
+public class ApplicationEventOutboxSink implements OutboxSink {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Constructs a new {@code ApplicationEventOutboxSink}.
+     *
+     * @param eventPublisher the {@link ApplicationEventPublisher} used to publish the messages
+     */
+    @Autowired
+    public ApplicationEventOutboxSink(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deliver(List<OutboxMessageDTO> messages) {
+        messages.forEach(eventPublisher::publishEvent);
+    }
+}
@@ -0,0 +1,54 @@
+package com.demo.tms.service;
+
+import com.demo.tms.utils.ChangeAction;
+
+import java.util.Map;
+
+/**
+ * {@code AuditService} defines the contract for the audit trail of task, comment, user and role changes.
+ * <p>
+ * Callers capture the audited fields before and after a change with {@link com.demo.tms.utils.AuditUtils}. The
+ * changed fields are written to the append-only {@code tms.audit_log} table asynchronously, so auditing adds no
+ * database round trip to the audited write.
+ * </p>
+ */
+public interface AuditService {
+
+    /**
+     * Records the change of an entity. Nothing is recorded for an update that changed no audited field.
+     * <p>
+     * If called inside a transaction, the entry is queued once it commits, and dropped if it rolls back.
+     * </p>
+     *
+     * @param entityType the kind of the entity, {@code task}, {@code comment}, {@code user} or {@code role}
+     * @param entityId   the ID of the entity
+     * @param action     the kind of the change
+     * @param before     the audited fields before the change, or {@code null} if the entity was created
+     * @param after      the audited fields after the change, or {@code null} if the entity was deleted
+     */
+    void record(String entityType, Long entityId, ChangeAction action, Map<String, Object> before,
+                Map<String, Object> after);
+
+    /**
+     * Records the change of an entity made on behalf of the given user, for changes applied on another thread than
+     * the request that asked for them. Otherwise behaves like
+     * {@link #record(String, Long, ChangeAction, Map, Map)}.
+     *
+     * @param entityType the kind of the entity, {@code task}, {@code comment}, {@code user} or {@code role}
+     * @param entityId   the ID of the entity
+     * @param action     the kind of the change
+     * @param before     the audited fields before the change, or {@code null} if the entity was created
+     * @param after      the audited fields after the change, or {@code null} if the entity was deleted
+     * @param actor      the email of the user who asked for the change, or {@code null} if there was none
+     */
+    void record(String entityType, Long entityId, ChangeAction action, Map<String, Object> before,
+                Map<String, Object> after, String actor);
+
+    /**
+     * Returns the number of entries dropped because the buffer stayed full, which means the database cannot keep up
+     * with the audited writes. Dropped entries are logged.
+     *
+     * @return the number of dropped entries since the application started
+     */
+    long getDroppedCount();
+}
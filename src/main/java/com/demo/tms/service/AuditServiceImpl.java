@@ -0,0 +1,272 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.AuditEntryDTO;
+import com.demo.tms.dto.FieldChangeDTO;
+import com.demo.tms.repository.AuditRepository;
+import com.demo.tms.utils.AuditUtils;
+import com.demo.tms.utils.ChangeAction;
+import com.demo.tms.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code AuditServiceImpl} is the implementation of the {@link AuditService} interface.
+ * <p>
+ * Entries are diffed on the calling thread and queued in a bounded buffer once the audited transaction commits. A
+ * single writer thread drains the buffer into multi-row inserts of up to {@code tms.audit.batch-size} entries, so
+ * the number of statements shrinks as the write rate grows. When the buffer is full, callers block for up to
+ * {@code tms.audit.offer-timeout} milliseconds, slowing audited writes down to the rate the writer sustains; entries
+ * that still find no room are logged and dropped. A failed insert is retried until it succeeds, while the buffer
+ * applies back-pressure.
+ * </p>
+ * <p>
+ * The writer is stopped after the web server, once in-flight requests finished, and writes every buffered entry
+ * before the application shuts down. Entries that cannot be written on shutdown are logged. Entries recorded while
+ * the writer is not running are written synchronously.
+ * </p>
+ */
+@Service
+@Slf4j
+public class AuditServiceImpl implements AuditService, SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_MS = 200;
+    private static final long RETRY_DELAY_MS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_MS = 30_000;
+
+    private final AuditRepository auditRepository;
+    private final BlockingQueue<AuditEntryDTO> buffer;
+    private final int batchSize;
+    private final long offerTimeout;
+    private final ThreadFactory threadFactory;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running;
+    private Thread writer;
+
+    /**
+     * Constructs a new {@code AuditServiceImpl} writing on a dedicated platform thread.
+     *
+     * @param auditRepository the {@link AuditRepository} the entries are written to
+     * @param bufferSize      the maximum number of entries waiting to be written
+     * @param batchSize       the maximum number of entries written per insert
+     * @param offerTimeout    the time in milliseconds a caller waits for room in a full buffer
+     */
+    @Autowired
+    public AuditServiceImpl(AuditRepository auditRepository, @Value("${tms.audit.buffer-size:8192}") int bufferSize,
+                            @Value("${tms.audit.batch-size:500}") int batchSize,
+                            @Value("${tms.audit.offer-timeout:5000}") long offerTimeout) {
+        this(auditRepository, bufferSize, batchSize, offerTimeout,
+                Thread.ofPlatform().name("audit-writer").daemon(true).factory());
+    }
+
+    /**
+     * Constructs a new {@code AuditServiceImpl} writing on a thread of the given factory.
+     *
+     * @param auditRepository the {@link AuditRepository} the entries are written to
+     * @param bufferSize      the maximum number of entries waiting to be written
+     * @param batchSize       the maximum number of entries written per insert
+     * @param offerTimeout    the time in milliseconds a caller waits for room in a full buffer
+     * @param threadFactory   the {@link ThreadFactory} creating the writer thread
+     */
+    AuditServiceImpl(AuditRepository auditRepository, int bufferSize, int batchSize, long offerTimeout,
+                     ThreadFactory threadFactory) {
+        if (batchSize < 1 || batchSize > AuditRepository.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Audit batch size must be between 1 and " +
+                    AuditRepository.MAX_BATCH_SIZE);
+        }
+        this.auditRepository = auditRepository;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(String entityType, Long entityId, ChangeAction action, Map<String, Object> before,
+                       Map<String, Object> after) {
+        record(entityType, entityId, action, before, after, currentActor());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void record(String entityType, Long entityId, ChangeAction action, Map<String, Object> before,
+                       Map<String, Object> after, String actor) {
+        Map<String, FieldChangeDTO> changes = AuditUtils.diff(before, after);
+        if (changes.isEmpty() && action == ChangeAction.UPDATED) {
+            return;
+        }
+        AuditEntryDTO entry = new AuditEntryDTO(entityType, entityId, action, actor, changes, Instant.now());
+        TransactionUtils.afterCommit(() -> enqueue(entry));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Starts the writer thread.
+     */
+    @Override
+    public synchronized void start() {
+        if (!running) {
+            running = true;
+            writer = threadFactory.newThread(this::drain);
+            writer.start();
+        }
+    }
+
+    /**
+     * Stops the writer thread once it has written the buffered entries, and writes any entries queued meanwhile.
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<AuditEntryDTO> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            writeOrLog(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns a phase below the web server's, so the writer starts before and stops after it.
+     *
+     * @return the lifecycle phase
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Queues an entry, waiting for room if the buffer is full, or writes it synchronously if the writer is not
+     * running.
+     *
+     * @param entry the entry to queue
+     */
+    private void enqueue(AuditEntryDTO entry) {
+        if (!running) {
+            writeOrLog(List.of(entry));
+            return;
+        }
+        try {
+            if (buffer.offer(entry, offerTimeout, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.incrementAndGet();
+        log.error("Audit buffer is full, dropping entry: {}", entry);
+    }
+
+    /**
+     * Writes the buffered entries in batches until the writer is stopped and the buffer is empty.
+     */
+    private void drain() {
+        List<AuditEntryDTO> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditEntryDTO first = buffer.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+                // the repository may keep the written list, so each batch gets its own
+                batch = new ArrayList<>(batchSize);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeOrLog(batch);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes a batch, retrying while the writer is running. Once it is stopped, a failing batch is logged instead.
+     *
+     * @param batch the entries to write
+     * @throws InterruptedException if the writer thread is interrupted while waiting to retry
+     */
+    private void writeWithRetry(List<AuditEntryDTO> batch) throws InterruptedException {
+        while (running) {
+            try {
+                auditRepository.insertBatch(batch);
+                return;
+            } catch (DataAccessException e) {
+                log.warn("Failed to write {} audit entries, retrying: {}", batch.size(), e.getMessage());
+                Thread.sleep(RETRY_DELAY_MS);
+            }
+        }
+        writeOrLog(batch);
+    }
+
+    /**
+     * Writes a batch once, logging the entries if the write fails, so they are not lost silently.
+     *
+     * @param batch the entries to write
+     */
+    private void writeOrLog(List<AuditEntryDTO> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            auditRepository.insertBatch(batch);
+        } catch (RuntimeException e) {
+            log.error("Failed to write {} audit entries: {}", batch.size(), e.getMessage());
+            batch.forEach(entry -> log.error("Unwritten audit entry: {}", entry));
+        }
+    }
+
+    /**
+     * Returns the name of the authenticated user of the current thread.
+     *
+     * @return the email of the authenticated user, or {@code null} if there is none
+     */
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+}
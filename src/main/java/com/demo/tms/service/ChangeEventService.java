@@ -0,0 +1,64 @@
+package com.demo.tms.service;
+
+import com.demo.tms.entity.Comment;
+import com.demo.tms.entity.Task;
+import com.demo.tms.utils.ChangeAction;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * {@code ChangeEventService} defines the contract for pushing committed task and comment changes to clients over
+ * Server-Sent Events, so they do not have to poll for updates.
+ */
+public interface ChangeEventService {
+
+    /**
+     * Opens a subscription to the changes of a task, of the tasks of an assignee or of the tasks of an author,
+     * including the changes of their comments. Exactly one scope must be given.
+     *
+     * @param taskId     the ID of the task, or {@code null}
+     * @param assigneeId the ID of the assignee, or {@code null}
+     * @param authorId   the ID of the author, or {@code null}
+     * @return the {@link SseEmitter} the change events are sent to
+     * @throws IllegalArgumentException if not exactly one scope is given
+     */
+    SseEmitter subscribe(Long taskId, Long assigneeId, Long authorId);
+
+    /**
+     * Publishes a change of a task to the subscribers of the task, its assignee, its previous assignee and its
+     * author.
+     * <p>
+     * If called inside a transaction, the event is built and published once it commits, so it carries the version
+     * written by the transaction.
+     * </p>
+     *
+     * @param action             the kind of the change
+     * @param task               the changed {@link Task}
+     * @param previousAssigneeId the ID of the previous assignee if the task was reassigned, otherwise {@code null}
+     */
+    void publishTaskChange(ChangeAction action, Task task, Long previousAssigneeId);
+
+    /**
+     * Publishes a change of a comment to the subscribers of its task, and of the task's assignee and author.
+     * <p>
+     * If called inside a transaction, the event is built and published once it commits.
+     * </p>
+     *
+     * @param action  the kind of the change
+     * @param comment the changed {@link Comment}
+     * @param task    the {@link Task} of the comment
+     */
+    void publishCommentChange(ChangeAction action, Comment comment, Task task);
+
+    /**
+     * Sends a heartbeat to every subscriber, which detects closed connections and keeps idle ones open through
+     * proxies.
+     */
+    void sendHeartbeats();
+
+    /**
+     * Returns the number of open subscriptions.
+     *
+     * @return the number of subscribers
+     */
+    int getSubscriberCount();
+}
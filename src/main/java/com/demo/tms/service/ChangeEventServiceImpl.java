@@ -0,0 +1,273 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.ChangeEventDTO;
+import com.demo.tms.entity.Comment;
+import com.demo.tms.entity.Task;
+import com.demo.tms.entity.User;
+import com.demo.tms.utils.ChangeAction;
+import com.demo.tms.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code ChangeEventServiceImpl} is the implementation of the {@link ChangeEventService} interface.
+ * <p>
+ * Subscribers are indexed by scope, so publishing an event looks up at most four scopes regardless of the number of
+ * subscribers. Every subscriber has a bounded buffer drained by its own virtual thread, which blocks on the network
+ * without holding a platform thread, so tens of thousands of idle subscriptions only cost their buffers and parked
+ * virtual threads. Publishing never blocks: a subscriber whose buffer is full is considered too slow and is
+ * disconnected. Clients that reconnect catch up on missed changes through the change feed of {@link SyncService}.
+ * </p>
+ */
+@Service
+@Slf4j
+public class ChangeEventServiceImpl implements ChangeEventService {
+
+    private static final Message HEARTBEAT = new Message(0, null);
+    private static final Message CLOSE = new Message(-1, null);
+
+    private final ConcurrentMap<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong eventIds = new AtomicLong();
+    private final int bufferSize;
+    private final long timeout;
+    private final ThreadFactory threadFactory;
+
+    /**
+     * Constructs a new {@code ChangeEventServiceImpl} sending events on virtual threads.
+     *
+     * @param bufferSize the maximum number of events buffered per subscriber before it is disconnected
+     * @param timeout    the time in milliseconds after which a subscription is closed and the client reconnects
+     */
+    @Autowired
+    public ChangeEventServiceImpl(@Value("${tms.events.buffer-size:64}") int bufferSize,
+                                  @Value("${tms.events.timeout:1800000}") long timeout) {
+        this(bufferSize, timeout, Thread.ofVirtual().name("change-events-", 0).factory());
+    }
+
+    /**
+     * Constructs a new {@code ChangeEventServiceImpl} sending events on threads of the given factory.
+     *
+     * @param bufferSize    the maximum number of events buffered per subscriber before it is disconnected
+     * @param timeout       the time in milliseconds after which a subscription is closed
+     * @param threadFactory the {@link ThreadFactory} creating the sender thread of each subscriber
+     */
+    ChangeEventServiceImpl(int bufferSize, long timeout, ThreadFactory threadFactory) {
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SseEmitter subscribe(Long taskId, Long assigneeId, Long authorId) {
+        List<String> scopes = new ArrayList<>();
+        if (taskId != null) scopes.add(scope("task", taskId));
+        if (assigneeId != null) scopes.add(scope("assignee", assigneeId));
+        if (authorId != null) scopes.add(scope("author", authorId));
+        if (scopes.size() != 1) {
+            throw new IllegalArgumentException("Exactly one of taskId, assigneeId and authorId is required.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout);
+        Subscriber subscriber = new Subscriber(scopes.get(0), emitter, new ArrayBlockingQueue<>(bufferSize),
+                new AtomicBoolean());
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> close(subscriber));
+        subscribers.compute(subscriber.scope(), (scope, set) -> {
+            Set<Subscriber> result = set != null ? set : ConcurrentHashMap.newKeySet();
+            result.add(subscriber);
+            return result;
+        });
+        subscriberCount.incrementAndGet();
+        threadFactory.newThread(() -> send(subscriber)).start();
+        return emitter;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishTaskChange(ChangeAction action, Task task, Long previousAssigneeId) {
+        Long taskId = task.getTaskId();
+        Long authorId = userIdOf(task.getAuthor());
+        Long assigneeId = userIdOf(task.getAssignee());
+        // the version is read after the commit, once the flush has incremented it
+        TransactionUtils.afterCommit(() -> publish(new ChangeEventDTO("task", action, taskId, null,
+                action == ChangeAction.DELETED ? null : task.getVersion(), authorId, assigneeId,
+                previousAssigneeId)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void publishCommentChange(ChangeAction action, Comment comment, Task task) {
+        Long taskId = task.getTaskId();
+        Long authorId = userIdOf(task.getAuthor());
+        Long assigneeId = userIdOf(task.getAssignee());
+        TransactionUtils.afterCommit(() -> publish(new ChangeEventDTO("comment", action, taskId,
+                comment.getCommentId(), action == ChangeAction.DELETED ? null : comment.getVersion(), authorId,
+                assigneeId, null)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${tms.events.heartbeat-interval:30000}")
+    public void sendHeartbeats() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> offer(subscriber, HEARTBEAT)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Hands an event to the subscribers of every scope it belongs to.
+     *
+     * @param event the event to publish
+     */
+    private void publish(ChangeEventDTO event) {
+        Message message = new Message(eventIds.incrementAndGet(), event);
+        List<String> scopes = new ArrayList<>(4);
+        scopes.add(scope("task", event.getTaskId()));
+        if (event.getAssigneeId() != null) scopes.add(scope("assignee", event.getAssigneeId()));
+        if (event.getPreviousAssigneeId() != null) scopes.add(scope("assignee", event.getPreviousAssigneeId()));
+        if (event.getAuthorId() != null) scopes.add(scope("author", event.getAuthorId()));
+        for (String scope : scopes) {
+            Set<Subscriber> set = subscribers.get(scope);
+            if (set != null) {
+                set.forEach(subscriber -> offer(subscriber, message));
+            }
+        }
+    }
+
+    /**
+     * Buffers a message for a subscriber without blocking, and disconnects the subscriber if its buffer is full.
+     *
+     * @param subscriber the subscriber
+     * @param message    the message to buffer
+     */
+    private void offer(Subscriber subscriber, Message message) {
+        if (!subscriber.queue().offer(message)) {
+            log.warn("Disconnecting slow change event subscriber of {} with {} buffered events", subscriber.scope(),
+                    bufferSize);
+            close(subscriber);
+            subscriber.emitter().complete();
+        }
+    }
+
+    /**
+     * Sends the buffered messages of a subscriber until it is closed. Runs on the sender thread of the subscriber.
+     *
+     * @param subscriber the subscriber
+     */
+    private void send(Subscriber subscriber) {
+        try {
+            while (true) {
+                Message message = subscriber.queue().take();
+                if (message == CLOSE) {
+                    return;
+                }
+                if (message == HEARTBEAT) {
+                    subscriber.emitter().send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter().send(SseEmitter.event().id(String.valueOf(message.id()))
+                            .name(message.event().getEntity()).data(message.event(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Change event subscriber of {} disconnected: {}", subscriber.scope(), e.getMessage());
+            close(subscriber);
+        }
+    }
+
+    /**
+     * Unregisters a subscriber and stops its sender thread. Closing a subscriber more than once has no effect.
+     *
+     * @param subscriber the subscriber
+     */
+    private void close(Subscriber subscriber) {
+        if (!subscriber.closed().compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.scope(), (scope, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        subscriberCount.decrementAndGet();
+        subscriber.queue().clear();
+        subscriber.queue().offer(CLOSE);
+    }
+
+    /**
+     * Returns the key of a subscription scope.
+     *
+     * @param kind the kind of the scope, {@code task}, {@code assignee} or {@code author}
+     * @param id   the ID of the task or user
+     * @return the scope key
+     */
+    private static String scope(String kind, Long id) {
+        return kind + ":" + id;
+    }
+
+    /**
+     * Returns the ID of a user.
+     *
+     * @param user the {@link User}, or {@code null}
+     * @return the ID of the user, or {@code null} if there is no user
+     */
+    private static Long userIdOf(User user) {
+        return user != null ? user.getUserId() : null;
+    }
+
+    /**
+     * A subscription.
+     *
+     * @param scope   the scope of the subscription, e.g. {@code assignee:2}
+     * @param emitter the {@link SseEmitter} of the connection
+     * @param queue   the bounded buffer of messages not yet sent
+     * @param closed  whether the subscription was closed
+     */
+    private record Subscriber(String scope, SseEmitter emitter, BlockingQueue<Message> queue,
+                              AtomicBoolean closed) {
+    }
+
+    /**
+     * A message buffered for a subscriber.
+     *
+     * @param id    the ID of the event
+     * @param event the event, or {@code null} for heartbeats
+     */
+    private record Message(long id, ChangeEventDTO event) {
+    }
+}
@@ -0,0 +1,403 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.entity.Comment;
+import com.demo.tms.entity.Task;
+import com.demo.tms.entity.User;
+import com.demo.tms.exception.ResourceNotFoundException;
+import com.demo.tms.repository.CommentIngestionRepository;
+import com.demo.tms.repository.CommentIngestionRepository.TaskUsers;
+import com.demo.tms.utils.AuditUtils;
+import com.demo.tms.utils.CacheUtils;
+import com.demo.tms.utils.ChangeAction;
+import com.demo.tms.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * {@code CommentIngestionServiceImpl} is the implementation of the {@link CommentIngestionService} interface.
+ * <p>
+ * A single flusher thread collects submitted comments until {@code tms.comment-ingestion.batch-size} comments are
+ * waiting or {@code tms.comment-ingestion.window} milliseconds passed since the first, and writes them in one
+ * transaction: one query validates the users, one the tasks, one allocates the IDs and one multi-row
+ * {@code INSERT} writes the comments, instead of a task load, two existence checks and an insert per comment.
+ * Comments with a missing user or task are rejected individually without failing the batch. The outbox, change
+ * events and audit trail are fed exactly as for comments saved by {@link CommentService}.
+ * </p>
+ * <p>
+ * Callers block when {@code tms.comment-ingestion.queue-size} comments are waiting. The flusher is stopped after the
+ * web server and writes every queued comment before the application shuts down.
+ * </p>
+ */
+@Service
+@Slf4j
+public class CommentIngestionServiceImpl implements CommentIngestionService, SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_MS = 200;
+    private static final long SHUTDOWN_TIMEOUT_MS = 30_000;
+
+    private final CommentIngestionRepository commentIngestionRepository;
+    private final OutboxService outboxService;
+    private final ChangeEventService changeEventService;
+    private final AuditService auditService;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long windowNanos;
+    private final BlockingQueue<Submission> queue;
+    private final ThreadFactory threadFactory;
+    private volatile boolean running;
+    private Thread flusher;
+
+    /**
+     * Constructs a new {@code CommentIngestionServiceImpl} flushing on a dedicated platform thread.
+     *
+     * @param commentIngestionRepository the {@link CommentIngestionRepository} used to validate and insert batches
+     * @param outboxService              the {@link OutboxService} the new comments are written to
+     * @param changeEventService         the {@link ChangeEventService} notified of the new comments
+     * @param auditService               the {@link AuditService} the new comments are audited by
+     * @param cacheManager               the {@link CacheManager} the tasks of the new comments are evicted from
+     * @param transactionManager         the {@link PlatformTransactionManager} used for the batch transactions
+     * @param enabled                    whether the ingestion mode is enabled
+     * @param batchSize                  the maximum number of comments per batch
+     * @param window                     the maximum time in milliseconds a comment waits for its batch to fill
+     * @param queueSize                  the maximum number of comments waiting for a batch
+     */
+    @Autowired
+    public CommentIngestionServiceImpl(CommentIngestionRepository commentIngestionRepository,
+                                       OutboxService outboxService, ChangeEventService changeEventService,
+                                       AuditService auditService, CacheManager cacheManager,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${tms.comment-ingestion.enabled:false}") boolean enabled,
+                                       @Value("${tms.comment-ingestion.batch-size:200}") int batchSize,
+                                       @Value("${tms.comment-ingestion.window:5}") long window,
+                                       @Value("${tms.comment-ingestion.queue-size:10000}") int queueSize) {
+        this(commentIngestionRepository, outboxService, changeEventService, auditService, cacheManager,
+                transactionManager, enabled, batchSize, window, queueSize,
+                Thread.ofPlatform().name("comment-ingestion").daemon(true).factory());
+    }
+
+    /**
+     * Constructs a new {@code CommentIngestionServiceImpl} flushing on a thread of the given factory.
+     *
+     * @param commentIngestionRepository the {@link CommentIngestionRepository} used to validate and insert batches
+     * @param outboxService              the {@link OutboxService} the new comments are written to
+     * @param changeEventService         the {@link ChangeEventService} notified of the new comments
+     * @param auditService               the {@link AuditService} the new comments are audited by
+     * @param cacheManager               the {@link CacheManager} the tasks of the new comments are evicted from
+     * @param transactionManager         the {@link PlatformTransactionManager} used for the batch transactions
+     * @param enabled                    whether the ingestion mode is enabled
+     * @param batchSize                  the maximum number of comments per batch
+     * @param window                     the maximum time in milliseconds a comment waits for its batch to fill
+     * @param queueSize                  the maximum number of comments waiting for a batch
+     * @param threadFactory              the {@link ThreadFactory} creating the flusher thread
+     */
+    CommentIngestionServiceImpl(CommentIngestionRepository commentIngestionRepository, OutboxService outboxService,
+                                ChangeEventService changeEventService, AuditService auditService,
+                                CacheManager cacheManager, PlatformTransactionManager transactionManager,
+                                boolean enabled, int batchSize,
+                                long window, int queueSize, ThreadFactory threadFactory) {
+        if (batchSize < 1 || batchSize > CommentIngestionRepository.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Comment ingestion batch size must be between 1 and " +
+                    CommentIngestionRepository.MAX_BATCH_SIZE);
+        }
+        this.commentIngestionRepository = commentIngestionRepository;
+        this.outboxService = outboxService;
+        this.changeEventService = changeEventService;
+        this.auditService = auditService;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(window);
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.threadFactory = threadFactory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<CommentDTO> submit(CommentDTO comment) {
+        if (!running) {
+            throw new IllegalStateException("Comment ingestion is not running");
+        }
+        Submission submission = new Submission(comment, currentActor(), new CompletableFuture<>());
+        try {
+            queue.put(submission);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing comment", e);
+        }
+        // stop() may have drained the queue between the check above and the put, in which case nothing would ever
+        // complete the submission; if it is still queued, take it back. Otherwise a flush has taken it and completes it
+        if (!running && queue.remove(submission)) {
+            submission.result().completeExceptionally(
+                    new IllegalStateException("Comment ingestion stopped before the comment was written"));
+        }
+        return submission.result();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CommentDTO ingest(CommentDTO comment) {
+        try {
+            return submit(comment).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Starts the flusher thread if the ingestion mode is enabled.
+     */
+    @Override
+    public synchronized void start() {
+        if (enabled && !running) {
+            running = true;
+            flusher = threadFactory.newThread(this::drain);
+            flusher.start();
+        }
+    }
+
+    /**
+     * Stops the flusher thread once it has written the queued comments, and writes any comments queued meanwhile.
+     */
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Submission> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns a phase below the web server's and above the audit writer's, so the flusher stops after requests
+     * finished and before the audit trail is flushed.
+     *
+     * @return the lifecycle phase
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 3072;
+    }
+
+    /**
+     * Collects and writes batches until the flusher is stopped and the queue is empty. If the thread is interrupted,
+     * the comments still queued are written by {@link #stop()}.
+     */
+    private void drain() {
+        List<Submission> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + windowNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Submission next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                flush(batch);
+                return;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes a batch in one transaction. If the transaction fails, every comment of the batch fails with it.
+     *
+     * @param batch the submitted comments
+     */
+    private void flush(List<Submission> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+        } catch (RuntimeException e) {
+            log.warn("Failed to insert batch of {} comments: {}", batch.size(), e.getMessage());
+            batch.forEach(submission -> submission.result().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Validates and inserts a batch. Must run in a transaction. Comments with a missing user or task are rejected at
+     * once, the others are completed once the transaction commits.
+     *
+     * @param batch the submitted comments
+     */
+    private void insert(List<Submission> batch) {
+        Set<Long> userIds = commentIngestionRepository.findExistingUserIds(batch.stream()
+                .map(submission -> submission.comment().getUserId()).collect(Collectors.toSet()));
+        Map<Long, TaskUsers> tasks = commentIngestionRepository.findTaskUsers(batch.stream()
+                .map(submission -> submission.comment().getTaskId()).collect(Collectors.toSet()));
+
+        List<Submission> accepted = new ArrayList<>(batch.size());
+        for (Submission submission : batch) {
+            CommentDTO comment = submission.comment();
+            if (!userIds.contains(comment.getUserId())) {
+                submission.result().completeExceptionally(
+                        new ResourceNotFoundException("User with ID " + comment.getUserId() + " not found"));
+            } else if (!tasks.containsKey(comment.getTaskId())) {
+                submission.result().completeExceptionally(
+                        new ResourceNotFoundException("Task with ID " + comment.getTaskId() + " not found"));
+            } else {
+                accepted.add(submission);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = commentIngestionRepository.nextIds(accepted.size());
+        List<CommentDTO> created = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            CommentDTO comment = accepted.get(i).comment();
+            created.add(new CommentDTO(ids.get(i), comment.getText(), comment.getUserId(), comment.getTaskId(), 0L,
+                    null, null));
+        }
+        Instant createdAt = commentIngestionRepository.insertAll(created);
+        Set<Long> taskIds = created.stream().map(CommentDTO::getTaskId).collect(Collectors.toSet());
+        CacheUtils.evictAfterCommit(cacheManager, taskIds, "tasks", "taskResponses");
+
+        List<Comment> entities = new ArrayList<>(created.size());
+        for (CommentDTO comment : created) {
+            comment.setCreatedAt(createdAt);
+            comment.setUpdatedAt(createdAt);
+            entities.add(toEntity(comment, tasks.get(comment.getTaskId())));
+        }
+        outboxService.appendCommentChanges(ChangeAction.CREATED, entities);
+        for (int i = 0; i < accepted.size(); i++) {
+            Submission submission = accepted.get(i);
+            Comment entity = entities.get(i);
+            CommentDTO comment = created.get(i);
+            changeEventService.publishCommentChange(ChangeAction.CREATED, entity, entity.getTask());
+            auditService.record("comment", entity.getCommentId(), ChangeAction.CREATED, null,
+                    AuditUtils.snapshot(entity), submission.actor());
+            TransactionUtils.afterCommit(() -> submission.result().complete(comment));
+        }
+    }
+
+    /**
+     * Builds a detached {@link Comment} of an inserted comment, with its user and task holding IDs only.
+     *
+     * @param comment the inserted comment
+     * @param task    the users of the task of the comment
+     * @return the {@link Comment}
+     */
+    private static Comment toEntity(CommentDTO comment, TaskUsers task) {
+        Task commentTask = new Task();
+        commentTask.setTaskId(comment.getTaskId());
+        commentTask.setAuthor(user(task.authorId()));
+        commentTask.setAssignee(user(task.assigneeId()));
+        Comment entity = new Comment(comment.getText(), user(comment.getUserId()), commentTask,
+                comment.getVersion());
+        entity.setCommentId(comment.getCommentId());
+        entity.setCreatedAt(comment.getCreatedAt());
+        entity.setUpdatedAt(comment.getUpdatedAt());
+        return entity;
+    }
+
+    /**
+     * Builds a detached {@link User} holding an ID only.
+     *
+     * @param userId the ID of the user, or {@code null}
+     * @return the {@link User}, or {@code null} if there is no ID
+     */
+    private static User user(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        User user = new User();
+        user.setUserId(userId);
+        return user;
+    }
+
+    /**
+     * Returns the name of the authenticated user of the current thread.
+     *
+     * @return the email of the authenticated user, or {@code null} if there is none
+     */
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+
+    /**
+     * A submitted comment.
+     *
+     * @param comment the {@link CommentDTO} of the new comment
+     * @param actor   the email of the user who submitted it, or {@code null} if there was none
+     * @param result  the future completed with the created comment
+     */
+    record Submission(CommentDTO comment, String actor, CompletableFuture<CommentDTO> result) {
+    }
+}
@@ -1,9 +1,13 @@
 package com.demo.tms.service;
 
+import com.demo.tms.dto.CommentDTO;
 import com.demo.tms.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Map;
+import java.util.Set;
+
 /**
  * {@code CommentService} provides an interface for performing operations related to {@link Comment} entities.
  * <p>
@@ -46,6 +50,27 @@ public interface CommentService {
      */
     Comment getCommentById(Long commentId);
 
+    /**
+     * Retrieves the comments with the given IDs. Cached comments are used when available and the others are loaded
+     * with one query.
+     *
+     * @param commentIds the IDs of the comments to retrieve
+     * @return a {@link Map} of the found {@link Comment} entities by their IDs, without the IDs that were not found
+     */
+    Map<Long, Comment> getCommentsByIds(Set<Long> commentIds);
+
+    /**
+     * Retrieves the current optimistic locking version of a comment.
+     * <p>
+     * The version is taken from the comment cache when the comment is cached, so conditional requests can be
+     * answered without loading the comment.
+     * </p>
+     *
+     * @param commentId the ID of the comment
+     * @return the current version of the comment
+     */
+    Long getCommentVersion(Long commentId);
+
     /**
      * Retrieves all comments with pagination.
      *
@@ -63,6 +88,15 @@ public interface CommentService {
      */
     Page<Comment> getCommentsByTask(Long taskId, Pageable pageable);
 
+    /**
+     * Retrieves comments for a specific task with pagination, with the user of each comment initialized.
+     *
+     * @param taskId the ID of the task for which to retrieve comments
+     * @param pageable the {@link Pageable} object containing pagination information
+     * @return a {@link Page} of {@link Comment} entities associated with the task
+     */
+    Page<Comment> getCommentsWithUsersByTask(Long taskId, Pageable pageable);
+
     /**
      * Retrieves comments by a specific user with pagination.
      *
@@ -71,4 +105,15 @@ public interface CommentService {
      * @return a {@link Page} of {@link Comment} entities created by the user
      */
     Page<Comment> getCommentsByUser(Long userId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves comments with only the requested fields loaded, optionally restricted to a task and/or a user.
+     *
+     * @param taskId the ID of the task, or {@code null} for comments on any task
+     * @param userId the ID of the user, or {@code null} for comments by any user
+     * @param fields the requested {@link CommentDTO} property names
+     * @param pageable the {@link Pageable} object containing pagination information
+     * @return a {@link Page} of {@link CommentDTO} with only the requested properties set
+     */
+    Page<CommentDTO> getCommentFields(Long taskId, Long userId, Set<String> fields, Pageable pageable);
+}
@@ -1,22 +1,37 @@
 package com.demo.tms.service;
 
+import com.demo.tms.cache.ExistenceIndex;
+import com.demo.tms.dto.CommentDTO;
 import com.demo.tms.entity.Comment;
+import com.demo.tms.entity.Task;
+import com.demo.tms.entity.User;
 import com.demo.tms.exception.OptimisticLockingException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import com.demo.tms.exception.ResourceNotFoundException;
 import com.demo.tms.repository.CommentRepository;
+import com.demo.tms.repository.CommentSpecifications;
 import com.demo.tms.repository.TaskRepository;
-import com.demo.tms.repository.UserRepository;
+import com.demo.tms.utils.AuditUtils;
+import com.demo.tms.utils.CacheUtils;
+import com.demo.tms.utils.ChangeAction;
+import com.demo.tms.utils.MultiGet;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * {@code CommentServiceImpl} is the implementation of the {@link CommentService} interface.
  * <p>
@@ -30,26 +45,45 @@ import org.springframework.transaction.annotation.Transactional;
 public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
+    private final ExistenceIndex existenceIndex;
     private final TaskRepository taskRepository;
+    private final CacheManager cacheManager;
+    private final ChangeEventService changeEventService;
+    private final OutboxService outboxService;
+    private final AuditService auditService;
 
     /**
      * Constructs a new {@code CommentServiceImpl} with the specified repositories.
      *
      * @param commentRepository the {@link CommentRepository} to interact with comment data
-     * @param userRepository    the {@link UserRepository} to interact with user data
+     * @param existenceIndex    the {@link ExistenceIndex} validating user and task IDs
      * @param taskRepository    the {@link TaskRepository} to interact with task data
+     * @param cacheManager       the {@link CacheManager} holding the comment cache
+     * @param changeEventService the {@link ChangeEventService} notified of comment changes
+     * @param outboxService      the {@link OutboxService} comment changes are written to
+     * @param auditService       the {@link AuditService} comment changes are audited by
      */
     @Autowired
-    public CommentServiceImpl(CommentRepository commentRepository, UserRepository userRepository,
-                              TaskRepository taskRepository) {
+    public CommentServiceImpl(CommentRepository commentRepository, ExistenceIndex existenceIndex,
+                              TaskRepository taskRepository, CacheManager cacheManager,
+                              ChangeEventService changeEventService, OutboxService outboxService,
+                              AuditService auditService) {
         this.commentRepository = commentRepository;
-        this.userRepository = userRepository;
+        this.existenceIndex = existenceIndex;
         this.taskRepository = taskRepository;
+        this.cacheManager = cacheManager;
+        this.changeEventService = changeEventService;
+        this.outboxService = outboxService;
+        this.auditService = auditService;
     }
 
     /**
      * Saves a new comment. This method is retried if an {@link OptimisticLockingException} is thrown.
+     * <p>
+     * The task of the comment is usually a lazy reference. The IDs of its author and assignee, which the change
+     * events are addressed to, are read together with the validation of the references, so the task itself is never
+     * loaded.
+     * </p>
      *
      * @param comment the {@link Comment} entity to be saved
      * @return the saved {@link Comment} entity
@@ -58,8 +92,13 @@ public class CommentServiceImpl implements CommentService {
     @Transactional
     @Retryable(retryFor = OptimisticLockingException.class, backoff = @Backoff(delay = 1000, multiplier = 2))
     public Comment saveComment(Comment comment) {
-        validateCommentUsersAndTasks(comment);
-        return commentRepository.save(comment);
+        Task taskUsers = validateNewComment(comment);
+        Comment savedComment = commentRepository.save(comment);
+        evictTask(savedComment);
+        publishChange(ChangeAction.CREATED, savedComment, taskUsers);
+        auditService.record("comment", savedComment.getCommentId(), ChangeAction.CREATED, null,
+                AuditUtils.snapshot(savedComment));
+        return savedComment;
     }
 
     /**
@@ -73,7 +112,7 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional
     @Retryable(retryFor = OptimisticLockingException.class, backoff = @Backoff(delay = 1000, multiplier = 2))
-    @CacheEvict(value = "comments", key = "#commentId")
+    @CacheEvict(value = {"comments", "commentResponses"}, key = "#commentId")
     public Comment updateComment(Long commentId, Comment updatedComment) {
         try {
             Comment existingComment = commentRepository.findById(commentId).orElseThrow(() ->
@@ -81,6 +120,7 @@ public class CommentServiceImpl implements CommentService {
 
             // validating user and task
             validateCommentUsersAndTasks(updatedComment);
+            Map<String, Object> before = AuditUtils.snapshot(existingComment);
 
             // Manual update of each field to avoid detached entity state
             existingComment.setText(updatedComment.getText());
@@ -88,7 +128,11 @@ public class CommentServiceImpl implements CommentService {
             existingComment.setText(updatedComment.getText());
             existingComment.setVersion(updatedComment.getVersion());
 
-            return commentRepository.save(existingComment);
+            Comment savedComment = commentRepository.save(existingComment);
+            publishChange(ChangeAction.UPDATED, savedComment);
+            auditService.record("comment", commentId, ChangeAction.UPDATED, before,
+                    AuditUtils.snapshot(savedComment));
+            return savedComment;
         } catch (OptimisticLockingException e) {
             log.warn("Comment was updated by another transaction: {}", e.getMessage());
             throw new OptimisticLockingException(
@@ -104,11 +148,14 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "comments", allEntries = true)
+    @CacheEvict(value = {"comments", "commentResponses"}, allEntries = true)
     public boolean deleteComment(Long commentId) {
         Comment comment = commentRepository.findById(commentId).orElse(null);
         if (comment != null) {
             commentRepository.deleteById(commentId);
+            evictTask(comment);
+            publishChange(ChangeAction.DELETED, comment);
+            auditService.record("comment", commentId, ChangeAction.DELETED, AuditUtils.snapshot(comment), null);
             return true;
         }
         return false;
@@ -129,6 +176,50 @@ public class CommentServiceImpl implements CommentService {
                 new ResourceNotFoundException("Comment not found"));
     }
 
+    /**
+     * Retrieves the comments with the given IDs. The comment cache is read with one bulk lookup, and the remaining
+     * comments are loaded in one query and added to the cache.
+     *
+     * @param commentIds the IDs of the comments to retrieve
+     * @return a {@link Map} of the found {@link Comment} entities by their IDs
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Comment> getCommentsByIds(Set<Long> commentIds) {
+        Cache cache = cacheManager.getCache("comments");
+        Map<Long, Comment> comments = MultiGet.findCached(cache, commentIds, Comment.class);
+        List<Long> missingIds = commentIds.stream().filter(commentId -> !comments.containsKey(commentId)).toList();
+        if (!missingIds.isEmpty()) {
+            for (Comment comment : commentRepository.findAllById(missingIds)) {
+                comments.put(comment.getCommentId(), comment);
+                if (cache != null) {
+                    cache.put(comment.getCommentId(), comment);
+                }
+            }
+        }
+        return comments;
+    }
+
+    /**
+     * Retrieves the current version of a comment. A cached comment is used when available, otherwise only the
+     * version column is queried.
+     *
+     * @param commentId the ID of the comment
+     * @return the current version of the comment
+     * @throws ResourceNotFoundException if the comment is not found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Long getCommentVersion(Long commentId) {
+        Cache cache = cacheManager.getCache("comments");
+        Comment cachedComment = cache != null ? cache.get(commentId, Comment.class) : null;
+        if (cachedComment != null) {
+            return cachedComment.getVersion();
+        }
+        return commentRepository.findVersionById(commentId).orElseThrow(() ->
+                new ResourceNotFoundException("Comment not found"));
+    }
+
     /**
      * Retrieves all comments, paginated.
      *
@@ -155,6 +246,20 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.findByTaskId(taskId, pageable);
     }
 
+    /**
+     * Retrieves comments for a specific task, paginated. The users of the comments are fetched in the same
+     * query as the comments.
+     *
+     * @param taskId   the ID of the task for which to retrieve comments
+     * @param pageable the {@link Pageable} object containing pagination information
+     * @return a {@link Page} of {@link Comment} entities associated with the task
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Comment> getCommentsWithUsersByTask(Long taskId, Pageable pageable) {
+        return commentRepository.findWithUserByTaskId(taskId, pageable);
+    }
+
     /**
      * Retrieves comments by a specific user, paginated.
      *
@@ -170,18 +275,161 @@ public class CommentServiceImpl implements CommentService {
         return commentRepository.findByUserId(userId, pageable);
     }
 
+    /**
+     * Retrieves comments with only the requested fields loaded. Only the columns backing the requested fields
+     * are selected.
+     *
+     * @param taskId   the ID of the task, or {@code null} for comments on any task
+     * @param userId   the ID of the user, or {@code null} for comments by any user
+     * @param fields   the requested {@link CommentDTO} property names
+     * @param pageable the {@link Pageable} object containing pagination information
+     * @return a {@link Page} of {@link CommentDTO} with only the requested properties set
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CommentDTO> getCommentFields(Long taskId, Long userId, Set<String> fields, Pageable pageable) {
+        Specification<Comment> spec = Specification.where(CommentSpecifications.hasTask(taskId))
+                .and(CommentSpecifications.hasUser(userId));
+        return commentRepository.findAllProjected(spec, fields, pageable);
+    }
+
+    /**
+     * Writes a change of a comment to the outbox and publishes it to the change event subscribers of its task.
+     *
+     * @param action  the kind of the change
+     * @param comment the changed {@link Comment}
+     */
+    private void publishChange(ChangeAction action, Comment comment) {
+        publishChange(action, comment, comment.getTask());
+    }
+
+    /**
+     * Writes a change of a comment to the outbox and publishes it to the change event subscribers of a task.
+     *
+     * @param action  the kind of the change
+     * @param comment the changed {@link Comment}
+     * @param task    the {@link Task} of the comment, with its author and assignee, or {@code null} if it has none
+     */
+    private void publishChange(ChangeAction action, Comment comment, Task task) {
+        if (task != null) {
+            outboxService.appendCommentChange(action, comment, task);
+            changeEventService.publishCommentChange(action, comment, task);
+        }
+    }
+
+    /**
+     * Evicts the task of a created or deleted comment from the caches once the transaction commits. The comment IDs
+     * are part of the cached task, whose representation version, and so its ETag, is derived from them. The task row
+     * itself is left untouched.
+     *
+     * @param comment the created or deleted {@link Comment}
+     */
+    private void evictTask(Comment comment) {
+        if (comment.getTask() != null) {
+            CacheUtils.evictAfterCommit(cacheManager, List.of(comment.getTask().getTaskId()), "tasks",
+                    "taskResponses");
+        }
+    }
+
     /**
      * Validates that the {@link Comment} entity has valid user and task references.
+     * <p>
+     * References the {@link ExistenceIndex} can answer for are checked in memory. If it can answer for neither, both
+     * are checked with a single query, and only if that fails are they checked one by one, to report which one does
+     * not exist.
+     * </p>
      *
      * @param comment the {@link Comment} entity to validate
      * @throws ResourceNotFoundException if the user or task does not exist
      */
     private void validateCommentUsersAndTasks(Comment comment) {
-        if (comment.getUser() != null && !userRepository.existsById(comment.getUser().getUserId())) {
+        Long userId = comment.getUser() != null ? comment.getUser().getUserId() : null;
+        Long taskId = comment.getTask() != null ? comment.getTask().getTaskId() : null;
+        if (existenceIndex.checkUser(userId) == ExistenceIndex.Existence.UNKNOWN
+                && existenceIndex.checkTask(taskId) == ExistenceIndex.Existence.UNKNOWN
+                && taskRepository.existsWithUser(taskId, userId)) {
+            existenceIndex.confirmUser(userId);
+            existenceIndex.confirmTask(taskId);
+            return;
+        }
+        if (comment.getUser() != null && !existenceIndex.userExists(comment.getUser().getUserId())) {
             throw new ResourceNotFoundException("User with ID " + comment.getUser().getUserId() + " not found");
         }
-        if (comment.getTask() != null && !taskRepository.existsById(comment.getTask().getTaskId())) {
+        if (comment.getTask() != null && !existenceIndex.taskExists(comment.getTask().getTaskId())) {
             throw new ResourceNotFoundException("Task with ID " + comment.getTask().getTaskId() + " not found");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Validates the user and task references of a new comment and reads the author and assignee of its task.
+     * <p>
+     * If the {@link ExistenceIndex} cannot answer for the user, the user is checked by the query reading the task.
+     * Only if that query finds nothing are the references checked one by one, to report which one does not exist.
+     * </p>
+     *
+     * @param comment the new {@link Comment} to validate
+     * @return a detached {@link Task} holding the IDs of the task, its author and its assignee, or {@code null} if the
+     * comment has no task
+     * @throws ResourceNotFoundException if the user or task does not exist
+     */
+    private Task validateNewComment(Comment comment) {
+        Long userId = comment.getUser() != null ? comment.getUser().getUserId() : null;
+        Long taskId = comment.getTask() != null ? comment.getTask().getTaskId() : null;
+        if (taskId != null && existenceIndex.checkTask(taskId) != ExistenceIndex.Existence.ABSENT
+                && existenceIndex.checkUser(userId) == ExistenceIndex.Existence.UNKNOWN) {
+            Task task = taskWithUsers(taskId, taskRepository.findUserIdsByIdWithUser(taskId, userId));
+            if (task != null) {
+                existenceIndex.confirmUser(userId);
+                existenceIndex.confirmTask(taskId);
+                return task;
+            }
+        }
+        if (comment.getUser() != null && !existenceIndex.userExists(userId)) {
+            throw new ResourceNotFoundException("User with ID " + userId + " not found");
+        }
+        if (taskId == null) {
+            return null;
+        }
+        Task task = existenceIndex.checkTask(taskId) != ExistenceIndex.Existence.ABSENT
+                ? taskWithUsers(taskId, taskRepository.findUserIdsById(taskId))
+                : null;
+        if (task == null) {
+            throw new ResourceNotFoundException("Task with ID " + taskId + " not found");
+        }
+        existenceIndex.confirmTask(taskId);
+        return task;
+    }
+
+    /**
+     * Builds a detached {@link Task} holding the IDs of a task, its author and its assignee only.
+     *
+     * @param taskId  the ID of the task
+     * @param userIds the {@code [authorId, assigneeId]} row of the task, or no rows if it does not exist
+     * @return the {@link Task}, or {@code null} if there is no row
+     */
+    private static Task taskWithUsers(Long taskId, List<Object[]> userIds) {
+        if (userIds.isEmpty()) {
+            return null;
+        }
+        Task task = new Task();
+        task.setTaskId(taskId);
+        task.setAuthor(user((Long) userIds.get(0)[0]));
+        task.setAssignee(user((Long) userIds.get(0)[1]));
+        return task;
+    }
+
+    /**
+     * Builds a detached {@link User} holding an ID only.
+     *
+     * @param userId the ID of the user, or {@code null}
+     * @return the {@link User}, or {@code null} if there is no ID
+     */
+    private static User user(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        User user = new User();
+        user.setUserId(userId);
+        return user;
+    }
+}
@@ -0,0 +1,34 @@
+package com.demo.tms.service;
+
+import com.demo.tms.utils.ExportFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * {@code ExportService} defines the contract for exporting all tasks and comments as a stream of rows.
+ * <p>
+ * Exports are read through a single database cursor and written row by row as they are read, so exporting
+ * any number of rows uses constant memory and a single query.
+ * </p>
+ */
+public interface ExportService {
+
+    /**
+     * Writes all tasks, ordered by ID, to the given writer.
+     *
+     * @param format the {@link ExportFormat} of the rows
+     * @param writer the {@link Writer} the rows are written to
+     * @throws IOException if writing to the writer fails
+     */
+    void exportTasks(ExportFormat format, Writer writer) throws IOException;
+
+    /**
+     * Writes all comments, ordered by ID, to the given writer.
+     *
+     * @param format the {@link ExportFormat} of the rows
+     * @param writer the {@link Writer} the rows are written to
+     * @throws IOException if writing to the writer fails
+     */
+    void exportComments(ExportFormat format, Writer writer) throws IOException;
+}
@@ -0,0 +1,127 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.repository.CommentRepository;
+import com.demo.tms.repository.TaskRepository;
+import com.demo.tms.utils.CsvUtils;
+import com.demo.tms.utils.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * {@code ExportServiceImpl} is the implementation of the {@link ExportService} interface.
+ * <p>
+ * Rows are streamed from the repositories through a forward-only, read-only cursor with a configurable fetch size,
+ * inside a read-only transaction so the PostgreSQL driver keeps the cursor open instead of materializing the whole
+ * result set. Each row is written as soon as it is read and is not kept afterwards.
+ * </p>
+ */
+@Service
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+
+    private static final List<String> TASK_COLUMNS = List.of("taskId", "name", "description", "status", "priority",
+            "authorId", "assigneeId", "version");
+    private static final List<String> COMMENT_COLUMNS = List.of("commentId", "text", "userId", "taskId", "version");
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    /**
+     * Constructs a new {@code ExportServiceImpl}.
+     *
+     * @param taskRepository    the {@link TaskRepository} the tasks are streamed from
+     * @param commentRepository the {@link CommentRepository} the comments are streamed from
+     * @param objectMapper      the {@link ObjectMapper} used to write NDJSON rows
+     * @param fetchSize         the number of rows fetched from the database per round trip
+     */
+    @Autowired
+    public ExportServiceImpl(TaskRepository taskRepository, CommentRepository commentRepository,
+                             ObjectMapper objectMapper, @Value("${tms.export.fetch-size:1000}") int fetchSize) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes all tasks, ordered by ID, to the given writer. Comment IDs are not exported; the comment export
+     * contains the task ID of every comment.
+     *
+     * @param format the {@link ExportFormat} of the rows
+     * @param writer the {@link Writer} the rows are written to
+     * @throws IOException if writing to the writer fails
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(ExportFormat format, Writer writer) throws IOException {
+        try (Stream<TaskDTO> tasks = taskRepository.streamAll(fetchSize)) {
+            write(tasks, format, TASK_COLUMNS, task -> new Object[]{task.getTaskId(), task.getName(),
+                    task.getDescription(), task.getStatus(), task.getPriority(), task.getAuthorId(),
+                    task.getAssigneeId(), task.getVersion()}, writer);
+        }
+    }
+
+    /**
+     * Writes all comments, ordered by ID, to the given writer.
+     *
+     * @param format the {@link ExportFormat} of the rows
+     * @param writer the {@link Writer} the rows are written to
+     * @throws IOException if writing to the writer fails
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportComments(ExportFormat format, Writer writer) throws IOException {
+        try (Stream<CommentDTO> comments = commentRepository.streamAll(fetchSize)) {
+            write(comments, format, COMMENT_COLUMNS, comment -> new Object[]{comment.getCommentId(),
+                    comment.getText(), comment.getUserId(), comment.getTaskId(), comment.getVersion()}, writer);
+        }
+    }
+
+    /**
+     * Writes the rows of a stream in the given format.
+     *
+     * @param rows    the rows to write
+     * @param format  the {@link ExportFormat} of the rows
+     * @param columns the CSV column names
+     * @param values  function extracting the CSV column values of a row
+     * @param writer  the {@link Writer} the rows are written to
+     * @param <T>     the row type
+     * @throws IOException if writing to the writer fails
+     */
+    private <T> void write(Stream<T> rows, ExportFormat format, List<String> columns, Function<T, Object[]> values,
+                           Writer writer) throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write(String.join(",", columns));
+            writer.write('\n');
+        }
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (format == ExportFormat.CSV) {
+                writer.write(CsvUtils.toLine(values.apply(row)));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+            count++;
+        }
+        writer.flush();
+        log.info("Exported {} rows as {}", count, format);
+    }
+}
@@ -0,0 +1,66 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.OutboxMessageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * {@code FileOutboxSink} is the {@link OutboxSink} used when {@code tms.outbox.sink} is {@code file}. It appends every
+ * message as a line of JSON to the file at {@code tms.outbox.file}.
+ * <p>
+ * A batch is written with a single write and forced to disk before it is removed from the outbox. If the
+ * application stops between the two, the batch is appended again on restart, so readers should skip messages with
+ * an ID they have already seen.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "tms.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    /**
+     * Constructs a new {@code FileOutboxSink}.
+     *
+     * @param objectMapper the {@link ObjectMapper} used to serialize the messages
+     * @param file         the file the messages are appended to, created with its directories if missing
+     */
+    @Autowired
+    public FileOutboxSink(ObjectMapper objectMapper, @Value("${tms.outbox.file:outbox/events.ndjson}") Path file) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void deliver(List<OutboxMessageDTO> messages) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (OutboxMessageDTO message : messages) {
+            lines.append(objectMapper.writeValueAsString(message)).append('\n');
+        }
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            Channels.newOutputStream(channel).write(lines.toString().getBytes(StandardCharsets.UTF_8));
+            channel.force(false);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.demo.tms.service;
+
+import java.util.function.Supplier;
+
+/**
+ * {@code IdempotencyService} defines the contract for executing create requests at most once per
+ * {@code Idempotency-Key}.
+ * <p>
+ * The first request with a key is executed and its response stored with the key. Requests repeating the key return
+ * the stored response without executing again, and concurrent requests with the same key wait for the first one.
+ * Keys are scoped to the authenticated user and kept for a limited time.
+ * </p>
+ */
+public interface IdempotencyService {
+
+    /**
+     * The request header carrying the idempotency key.
+     */
+    String KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * The response header telling whether the response was replayed from an earlier request.
+     */
+    String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /**
+     * Executes an action once per key, in a transaction the key is claimed in.
+     * <p>
+     * If the action fails, the key is released and a repeated request executes the action again.
+     * </p>
+     *
+     * @param key          the idempotency key sent by the client
+     * @param endpoint     the method and path of the request, e.g. {@code "POST /api/tasks"}
+     * @param request      the request body, whose hash must match the hash of the first request with the key
+     * @param responseType the type of the response body, used to read a stored response
+     * @param action       the action creating the resource and returning the response body
+     * @param <T>          the type of the response body
+     * @return the {@link Outcome} holding the response body
+     * @throws IllegalArgumentException if the key is blank or too long, or was used for a different request
+     */
+    <T> Outcome<T> execute(String key, String endpoint, Object request, Class<T> responseType, Supplier<T> action);
+
+    /**
+     * Deletes the keys that have expired.
+     */
+    void purge();
+
+    /**
+     * The response of an idempotent request.
+     *
+     * @param body     the response body
+     * @param replayed {@code true} if the body was stored by an earlier request with the same key
+     * @param <T>      the type of the response body
+     */
+    record Outcome<T>(T body, boolean replayed) {
+    }
+}
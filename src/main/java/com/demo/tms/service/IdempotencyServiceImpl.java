@@ -0,0 +1,250 @@
+package com.demo.tms.service;
+
+import com.demo.tms.repository.IdempotencyRepository;
+import com.demo.tms.repository.IdempotencyRepository.StoredResponse;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * {@code IdempotencyServiceImpl} is the implementation of the {@link IdempotencyService} interface.
+ * <p>
+ * Stored responses are read through a bounded in-memory cache, so most replays cost no query. On a miss, the key is
+ * claimed in the {@code tms.idempotency_keys} table in the transaction that executes the action, and the response is
+ * stored in the same transaction. Concurrent requests with the same key wait in memory for the first one; across
+ * application instances they wait on the primary key of the table and then read the stored response.
+ * </p>
+ * <p>
+ * A request is identified by its endpoint and a SHA-256 hash of its JSON body. Repeating a key with a different
+ * request is rejected rather than replayed.
+ * </p>
+ */
+@Service
+@Slf4j
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper responseReader;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final Cache<Scope, StoredResponse> responses;
+    private final ConcurrentMap<Scope, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code IdempotencyServiceImpl}.
+     *
+     * @param idempotencyRepository the {@link IdempotencyRepository} the keys and responses are stored in
+     * @param objectMapper          the {@link ObjectMapper} used to hash requests and store responses
+     * @param transactionManager    the {@link PlatformTransactionManager} used for the transaction of a request
+     * @param cacheSize             the maximum number of responses kept in memory
+     * @param retentionHours        the number of hours a key is kept
+     */
+    @Autowired
+    public IdempotencyServiceImpl(IdempotencyRepository idempotencyRepository, ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${tms.idempotency.cache-size:10000}") long cacheSize,
+                                  @Value("${tms.idempotency.retention-hours:24}") long retentionHours) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+        // Stored responses are read back whole, including the read-only properties set by the server
+        this.responseReader = objectMapper.copy().setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
+            @Override
+            public JsonProperty.Access findPropertyAccess(Annotated annotated) {
+                return JsonProperty.Access.AUTO;
+            }
+        });
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = Duration.ofHours(retentionHours);
+        this.responses = Caffeine.newBuilder().maximumSize(cacheSize).expireAfterWrite(retention).build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Outcome<T> execute(String key, String endpoint, Object request, Class<T> responseType,
+                                  Supplier<T> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("The " + KEY_HEADER + " header must not be blank or longer than " +
+                    MAX_KEY_LENGTH + " characters.");
+        }
+        Scope scope = new Scope(currentPrincipal(), key);
+        String requestHash = hash(endpoint, request);
+        while (true) {
+            StoredResponse stored = responses.getIfPresent(scope);
+            if (stored != null) {
+                return replay(stored, endpoint, requestHash, responseType);
+            }
+            CompletableFuture<Void> running = new CompletableFuture<>();
+            CompletableFuture<Void> first = inFlight.putIfAbsent(scope, running);
+            if (first != null) {
+                // Wait for the request that came first, then replay its response or, if it failed, execute again
+                first.join();
+                continue;
+            }
+            try {
+                return executeOnce(scope, endpoint, requestHash, responseType, action);
+            } finally {
+                inFlight.remove(scope, running);
+                running.complete(null);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Scheduled(cron = "${tms.idempotency.purge-cron:0 15 * * * *}")
+    public void purge() {
+        int purged = idempotencyRepository.purge(Instant.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    /**
+     * Claims a key and executes the action in one transaction, or reads the response stored for the key if another
+     * transaction claimed it first.
+     *
+     * @param scope        the key and the user it belongs to
+     * @param endpoint     the method and path of the request
+     * @param requestHash  the hash of the request
+     * @param responseType the type of the response body
+     * @param action       the action creating the resource
+     * @param <T>          the type of the response body
+     * @return the {@link Outcome} holding the response body
+     */
+    private <T> Outcome<T> executeOnce(Scope scope, String endpoint, String requestHash, Class<T> responseType,
+                                       Supplier<T> action) {
+        Execution<T> execution = transactionTemplate.execute(status -> {
+            if (!idempotencyRepository.claim(scope.principal(), scope.key(), endpoint, requestHash,
+                    Instant.now().minus(retention))) {
+                StoredResponse stored = idempotencyRepository.find(scope.principal(), scope.key())
+                        .orElseThrow(() -> new IllegalStateException("Claimed idempotency key not found"));
+                return new Execution<T>(stored, null);
+            }
+            T body = action.get();
+            String response = toJson(body);
+            idempotencyRepository.complete(scope.principal(), scope.key(), response);
+            return new Execution<>(new StoredResponse(endpoint, requestHash, response), body);
+        });
+        responses.put(scope, execution.stored());
+        if (execution.body() != null) {
+            return new Outcome<>(execution.body(), false);
+        }
+        return replay(execution.stored(), endpoint, requestHash, responseType);
+    }
+
+    /**
+     * Reads a stored response, after checking that it was stored for the same request.
+     *
+     * @param stored       the stored response
+     * @param endpoint     the method and path of the repeated request
+     * @param requestHash  the hash of the repeated request
+     * @param responseType the type of the response body
+     * @param <T>          the type of the response body
+     * @return the replayed {@link Outcome}
+     * @throws IllegalArgumentException if the key was used for a different request
+     */
+    private <T> Outcome<T> replay(StoredResponse stored, String endpoint, String requestHash,
+                                  Class<T> responseType) {
+        if (!stored.endpoint().equals(endpoint) || !stored.requestHash().equals(requestHash)) {
+            throw new IllegalArgumentException("The " + KEY_HEADER + " was already used for a different request.");
+        }
+        try {
+            return new Outcome<>(responseReader.readValue(stored.response(), responseType), true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read stored response", e);
+        }
+    }
+
+    /**
+     * Hashes a request by its endpoint and JSON body.
+     *
+     * @param endpoint the method and path of the request
+     * @param request  the request body
+     * @return the hex-encoded SHA-256 hash
+     */
+    private String hash(String endpoint, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(endpoint.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Failed to hash request", e);
+        }
+    }
+
+    /**
+     * Serializes a response body to JSON.
+     *
+     * @param body the response body
+     * @return the JSON of the body
+     */
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+    }
+
+    /**
+     * Returns the name of the authenticated user of the current thread.
+     *
+     * @return the email of the authenticated user, or an empty string if there is none
+     */
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "";
+    }
+
+    /**
+     * An idempotency key and the user it belongs to.
+     *
+     * @param principal the name of the authenticated user
+     * @param key       the idempotency key
+     */
+    record Scope(String principal, String key) {
+    }
+
+    /**
+     * The result of a transaction executing a request.
+     *
+     * @param stored the response stored for the key
+     * @param body   the response body if the action was executed, or {@code null} if the key was claimed earlier
+     * @param <T>    the type of the response body
+     */
+    private record Execution<T>(StoredResponse stored, T body) {
+    }
+}
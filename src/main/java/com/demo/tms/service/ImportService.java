@@ -0,0 +1,30 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.ImportResultDTO;
+import com.demo.tms.utils.ExportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * {@code ImportService} defines the contract for bulk importing tasks and comments, e.g. when migrating data
+ * from another tracker.
+ * <p>
+ * Imports bypass the per-entity save paths: the input is streamed into the database, validated and merged with a
+ * small, fixed number of statements. Invalid rows are rejected and reported without failing the import.
+ * </p>
+ */
+public interface ImportService {
+
+    /**
+     * Imports tasks and comments in a single transaction. Tasks are imported first, so comments may refer to tasks
+     * of the same import.
+     *
+     * @param format   the {@link ExportFormat} of the inputs, the same as produced by the export endpoints
+     * @param tasks    the task input, or {@code null} to import no tasks
+     * @param comments the comment input, or {@code null} to import no comments
+     * @return an {@link ImportResultDTO} with the number of imported and rejected rows
+     * @throws IOException if reading an input fails
+     */
+    ImportResultDTO importData(ExportFormat format, InputStream tasks, InputStream comments) throws IOException;
+}
@@ -0,0 +1,150 @@
+package com.demo.tms.service;
+
+import com.demo.tms.cache.ExistenceIndex;
+import com.demo.tms.cache.TaskNameIndex;
+import com.demo.tms.cache.TaskQueue;
+import com.demo.tms.dto.ImportResultDTO;
+import com.demo.tms.dto.RejectedRowDTO;
+import com.demo.tms.repository.ImportRepository;
+import com.demo.tms.utils.CacheUtils;
+import com.demo.tms.utils.ExportFormat;
+import com.demo.tms.utils.NdjsonCsvReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code ImportServiceImpl} is the implementation of the {@link ImportService} interface.
+ * <p>
+ * CSV input is passed to PostgreSQL's {@code COPY} as it is. NDJSON input is converted to CSV line by line while it
+ * is copied. Either way the input is never held in memory as a whole. Since rows are written with plain SQL,
+ * all task and comment caches are cleared once the import commits.
+ * </p>
+ */
+@Service
+@Slf4j
+public class ImportServiceImpl implements ImportService {
+
+    private static final List<String> TASK_FIELDS = List.of("taskId", "name", "description", "status", "priority",
+            "authorId", "assigneeId", "version");
+    private static final List<String> COMMENT_FIELDS = List.of("commentId", "text", "userId", "taskId", "version");
+    private static final int MAX_REPORTED_REJECTS = 1000;
+
+    private final ImportRepository importRepository;
+    private final ObjectMapper objectMapper;
+    private final TaskNameIndex taskNameIndex;
+    private final TaskStatisticsService taskStatisticsService;
+    private final TaskQueue taskQueue;
+    private final ExistenceIndex existenceIndex;
+    private final CacheManager cacheManager;
+
+    /**
+     * Constructs a new {@code ImportServiceImpl}.
+     *
+     * @param importRepository      the {@link ImportRepository} used to stage and merge the rows
+     * @param objectMapper          the {@link ObjectMapper} used to parse NDJSON input
+     * @param taskNameIndex         the {@link TaskNameIndex} rebuilt after tasks were imported
+     * @param taskStatisticsService the {@link TaskStatisticsService} reconciled after tasks were imported
+     * @param taskQueue             the {@link TaskQueue} rebuilt after tasks were imported
+     * @param existenceIndex        the {@link ExistenceIndex} rebuilt after tasks were imported
+     * @param cacheManager          the {@link CacheManager} holding the task and comment caches
+     */
+    @Autowired
+    public ImportServiceImpl(ImportRepository importRepository, ObjectMapper objectMapper,
+                             TaskNameIndex taskNameIndex, TaskStatisticsService taskStatisticsService,
+                             TaskQueue taskQueue, ExistenceIndex existenceIndex, CacheManager cacheManager) {
+        this.importRepository = importRepository;
+        this.objectMapper = objectMapper;
+        this.taskNameIndex = taskNameIndex;
+        this.taskStatisticsService = taskStatisticsService;
+        this.taskQueue = taskQueue;
+        this.existenceIndex = existenceIndex;
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Imports tasks and comments in a single transaction. At most the first {@value #MAX_REPORTED_REJECTS}
+     * rejected rows are reported individually.
+     *
+     * @param format   the {@link ExportFormat} of the inputs
+     * @param tasks    the task input, or {@code null} to import no tasks
+     * @param comments the comment input, or {@code null} to import no comments
+     * @return an {@link ImportResultDTO} with the number of imported and rejected rows
+     * @throws IOException if reading an input fails
+     */
+    @Override
+    @Transactional
+    public ImportResultDTO importData(ExportFormat format, InputStream tasks, InputStream comments)
+            throws IOException {
+        if (tasks == null && comments == null) {
+            throw new IllegalArgumentException("At least one of tasks or comments is required.");
+        }
+        CacheUtils.clearAfterCommit(cacheManager, "tasks", "taskResponses", "comments", "commentResponses");
+        boolean numbered = format == ExportFormat.NDJSON;
+        ImportResultDTO result = new ImportResultDTO(0, 0, 0, 0, new ArrayList<>());
+
+        if (tasks != null) {
+            try (Reader reader = toCsv(tasks, format, TASK_FIELDS)) {
+                importRepository.stageTasks(reader, numbered);
+            }
+            result.setTasksImported(importRepository.mergeTasks());
+            result.setTasksRejected(importRepository.countRejectedTasks());
+            addRejectedRows(result, importRepository.findRejectedTasks(MAX_REPORTED_REJECTS));
+            if (result.getTasksImported() > 0) {
+                taskNameIndex.rebuild();
+                taskStatisticsService.reconcile();
+                taskQueue.rebuild();
+                existenceIndex.rebuild();
+            }
+        }
+        if (comments != null) {
+            try (Reader reader = toCsv(comments, format, COMMENT_FIELDS)) {
+                importRepository.stageComments(reader, numbered);
+            }
+            result.setCommentsImported(importRepository.mergeComments());
+            result.setCommentsRejected(importRepository.countRejectedComments());
+            addRejectedRows(result, importRepository.findRejectedComments(
+                    MAX_REPORTED_REJECTS - result.getRejectedRows().size()));
+        }
+
+        log.info("Imported {} tasks ({} rejected) and {} comments ({} rejected)", result.getTasksImported(),
+                result.getTasksRejected(), result.getCommentsImported(), result.getCommentsRejected());
+        return result;
+    }
+
+    /**
+     * Creates a reader of CSV rows for an input.
+     *
+     * @param input  the input
+     * @param format the {@link ExportFormat} of the input
+     * @param fields the fields of an NDJSON input, in CSV column order
+     * @return a {@link Reader} of CSV rows
+     */
+    private Reader toCsv(InputStream input, ExportFormat format, List<String> fields) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return format == ExportFormat.NDJSON ? new NdjsonCsvReader(reader, objectMapper, fields) : reader;
+    }
+
+    /**
+     * Adds rejected rows to the result, up to the reporting limit.
+     *
+     * @param result the import result
+     * @param rows   the rejected rows to add
+     */
+    private void addRejectedRows(ImportResultDTO result, List<RejectedRowDTO> rows) {
+        int remaining = MAX_REPORTED_REJECTS - result.getRejectedRows().size();
+        result.getRejectedRows().addAll(rows.subList(0, Math.min(remaining, rows.size())));
+    }
+}
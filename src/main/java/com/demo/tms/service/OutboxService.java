@@ -0,0 +1,60 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.OutboxStatusDTO;
+import com.demo.tms.entity.Comment;
+import com.demo.tms.entity.Task;
+import com.demo.tms.utils.ChangeAction;
+
+import java.util.List;
+
+/**
+ * {@code OutboxService} defines the contract for the transactional outbox of task and comment changes.
+ * <p>
+ * Changes are written to the outbox in the transaction that makes them, and a background relay delivers them in
+ * batches to the configured {@link OutboxSink}. A change is delivered at least once if and only if it committed.
+ * </p>
+ */
+public interface OutboxService {
+
+    /**
+     * Writes a change of a task to the outbox. Must be called inside the transaction that changes the task.
+     *
+     * @param action             the kind of the change
+     * @param task               the changed {@link Task}
+     * @param previousAssigneeId the ID of the previous assignee if the task was reassigned, otherwise {@code null}
+     */
+    void appendTaskChange(ChangeAction action, Task task, Long previousAssigneeId);
+
+    /**
+     * Writes a change of a comment to the outbox. Must be called inside the transaction that changes the comment.
+     *
+     * @param action  the kind of the change
+     * @param comment the changed {@link Comment}
+     * @param task    the {@link Task} of the comment
+     */
+    void appendCommentChange(ChangeAction action, Comment comment, Task task);
+
+    /**
+     * Writes the same kind of change of several comments to the outbox with one batched statement. Must be called
+     * inside the transaction that changes the comments.
+     *
+     * @param action   the kind of the change
+     * @param comments the changed {@link Comment}s, with their tasks set
+     */
+    void appendCommentChanges(ChangeAction action, List<Comment> comments);
+
+    /**
+     * Delivers the messages in the outbox to the sink, one batch per transaction, until the outbox is drained or a
+     * batch fails. A failed batch stays in the outbox and is delivered again on the next run.
+     *
+     * @return the number of messages delivered
+     */
+    int relay();
+
+    /**
+     * Returns the lag of the relay.
+     *
+     * @return the {@link OutboxStatusDTO} holding the backlog and delivery statistics
+     */
+    OutboxStatusDTO getStatus();
+}
@@ -0,0 +1,243 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.ChangeEventDTO;
+import com.demo.tms.dto.OutboxMessageDTO;
+import com.demo.tms.dto.OutboxStatusDTO;
+import com.demo.tms.entity.Comment;
+import com.demo.tms.entity.Task;
+import com.demo.tms.entity.User;
+import com.demo.tms.repository.OutboxRepository;
+import com.demo.tms.utils.ChangeAction;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code OutboxServiceImpl} is the implementation of the {@link OutboxService} interface.
+ * <p>
+ * A message holds the same {@link ChangeEventDTO} that is pushed to change event subscribers. Pending entity changes
+ * are flushed before a message is written, so it carries the version the change committed with, and consumers can
+ * use the version to discard messages delivered again or out of order. Messages are claimed in ID order, but a
+ * transaction that commits after a later one may have its messages delivered in a later batch.
+ * </p>
+ * <p>
+ * The relay runs on a fixed delay of {@code tms.outbox.poll-interval} milliseconds and claims up to
+ * {@code tms.outbox.batch-size} messages per transaction. The claimed messages are deleted in the same transaction
+ * as they are delivered, so a failed delivery rolls the deletion back.
+ * </p>
+ */
+@Service
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxSink outboxSink;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final AtomicLong relayed = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private volatile Batch lastBatch;
+
+    /**
+     * Constructs a new {@code OutboxServiceImpl}.
+     *
+     * @param outboxRepository   the {@link OutboxRepository} used to write and claim messages
+     * @param outboxSink         the {@link OutboxSink} the messages are delivered to
+     * @param objectMapper       the {@link ObjectMapper} used to serialize the change events
+     * @param transactionManager the {@link PlatformTransactionManager} used for the relay transactions
+     * @param batchSize          the maximum number of messages delivered per transaction
+     */
+    @Autowired
+    public OutboxServiceImpl(OutboxRepository outboxRepository, OutboxSink outboxSink, ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${tms.outbox.batch-size:100}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Outbox batch size must be positive");
+        }
+        this.outboxRepository = outboxRepository;
+        this.outboxSink = outboxSink;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendTaskChange(ChangeAction action, Task task, Long previousAssigneeId) {
+        outboxRepository.flush();
+        append(task.getTaskId(), new ChangeEventDTO("task", action, task.getTaskId(), null,
+                action == ChangeAction.DELETED ? null : task.getVersion(), userIdOf(task.getAuthor()),
+                userIdOf(task.getAssignee()), previousAssigneeId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendCommentChange(ChangeAction action, Comment comment, Task task) {
+        outboxRepository.flush();
+        append(comment.getCommentId(), commentEvent(action, comment, task));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendCommentChanges(ChangeAction action, List<Comment> comments) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        outboxRepository.flush();
+        List<OutboxMessageDTO> messages = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            ChangeEventDTO event = commentEvent(action, comment, comment.getTask());
+            messages.add(new OutboxMessageDTO(null, event.getEntity(), comment.getCommentId(), action.name(),
+                    toJson(event), null));
+        }
+        outboxRepository.appendAll(messages);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${tms.outbox.poll-interval:1000}",
+            initialDelayString = "${tms.outbox.poll-interval:1000}")
+    public int relay() {
+        int delivered = 0;
+        while (true) {
+            Batch batch;
+            try {
+                batch = transactionTemplate.execute(status -> relayBatch());
+            } catch (RuntimeException e) {
+                failedBatches.incrementAndGet();
+                log.warn("Failed to relay outbox batch, retrying on next poll: {}", e.getMessage());
+                return delivered;
+            }
+            if (batch == null) {
+                return delivered;
+            }
+            delivered += batch.size();
+            relayed.addAndGet(batch.size());
+            lastBatch = batch;
+            if (batch.size() < batchSize) {
+                return delivered;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OutboxStatusDTO getStatus() {
+        OutboxRepository.Backlog backlog = outboxRepository.findBacklog();
+        Instant now = Instant.now();
+        Batch batch = lastBatch;
+        return new OutboxStatusDTO(backlog.pending(), backlog.oldestCreatedAt() != null
+                ? Duration.between(backlog.oldestCreatedAt(), now).toMillis() : 0, relayed.get(),
+                failedBatches.get(), batch != null ? batch.relayedAt() : null, batch != null ? batch.size() : 0,
+                batch != null ? batch.lagMillis() : 0);
+    }
+
+    /**
+     * Claims a batch of messages and delivers it to the sink. Must run in a transaction.
+     *
+     * @return the delivered {@link Batch}, or {@code null} if the outbox is empty
+     */
+    private Batch relayBatch() {
+        List<OutboxMessageDTO> messages = outboxRepository.claimBatch(batchSize);
+        if (messages.isEmpty()) {
+            return null;
+        }
+        try {
+            outboxSink.deliver(messages);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deliver outbox messages", e);
+        }
+        Instant now = Instant.now();
+        return new Batch(messages.size(), now, Duration.between(messages.get(0).getCreatedAt(), now).toMillis());
+    }
+
+    /**
+     * Writes a change event to the outbox.
+     *
+     * @param aggregateId the ID of the changed task or comment
+     * @param event       the {@link ChangeEventDTO} describing the change
+     */
+    private void append(Long aggregateId, ChangeEventDTO event) {
+        outboxRepository.append(event.getEntity(), aggregateId, event.getAction().name(), toJson(event));
+    }
+
+    /**
+     * Builds the change event of a comment.
+     *
+     * @param action  the kind of the change
+     * @param comment the changed {@link Comment}
+     * @param task    the {@link Task} of the comment
+     * @return the {@link ChangeEventDTO} describing the change
+     */
+    private ChangeEventDTO commentEvent(ChangeAction action, Comment comment, Task task) {
+        return new ChangeEventDTO("comment", action, task.getTaskId(), comment.getCommentId(),
+                action == ChangeAction.DELETED ? null : comment.getVersion(), userIdOf(task.getAuthor()),
+                userIdOf(task.getAssignee()), null);
+    }
+
+    /**
+     * Serializes a change event.
+     *
+     * @param event the {@link ChangeEventDTO}
+     * @return the JSON of the event
+     */
+    private String toJson(ChangeEventDTO event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize change event", e);
+        }
+    }
+
+    /**
+     * Returns the ID of a user.
+     *
+     * @param user the {@link User}, or {@code null}
+     * @return the ID of the user, or {@code null} if there is no user
+     */
+    private static Long userIdOf(User user) {
+        return user != null ? user.getUserId() : null;
+    }
+
+    /**
+     * A delivered batch.
+     *
+     * @param size      the number of messages
+     * @param relayedAt the time the batch was delivered
+     * @param lagMillis the time in milliseconds the oldest message waited in the outbox
+     */
+    record Batch(int size, Instant relayedAt, long lagMillis) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.OutboxMessageDTO;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * {@code OutboxSink} defines the contract for the destination the outbox relay delivers change events to.
+ * <p>
+ * The sink is selected with the {@code tms.outbox.sink} property. A batch is removed from the outbox only if
+ * {@link #deliver(List)} returns normally, so sinks must tolerate a batch being delivered again after a failure.
+ * </p>
+ */
+public interface OutboxSink {
+
+    /**
+     * Delivers a batch of messages.
+     *
+     * @param messages the messages, in ID order
+     * @throws IOException if the batch could not be delivered
+     */
+    void deliver(List<OutboxMessageDTO> messages) throws IOException;
+}
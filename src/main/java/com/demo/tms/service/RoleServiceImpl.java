@@ -1,15 +1,18 @@
 package com.demo.tms.service;
 
+import com.demo.tms.cache.ExistenceIndex;
 import com.demo.tms.entity.Role;
 import com.demo.tms.exception.ResourceNotFoundException;
 import com.demo.tms.repository.RoleRepository;
-import com.demo.tms.repository.UserRepository;
+import com.demo.tms.utils.AuditUtils;
+import com.demo.tms.utils.ChangeAction;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * {@code RoleServiceImpl} is the implementation of the {@link RoleService} interface.
@@ -24,18 +27,21 @@ import java.util.List;
 public class RoleServiceImpl implements RoleService {
 
     private final RoleRepository roleRepository;
-    private final UserRepository userRepository;
+    private final ExistenceIndex existenceIndex;
+    private final AuditService auditService;
 
     /**
      * Constructs a new {@code RoleServiceImpl} with the specified repositories.
      *
      * @param roleRepository the {@link RoleRepository} to interact with role data
-     * @param userRepository the {@link UserRepository} to interact with user data
+     * @param existenceIndex the {@link ExistenceIndex} validating user IDs
+     * @param auditService   the {@link AuditService} role changes are audited by
      */
     @Autowired
-    public RoleServiceImpl(RoleRepository roleRepository, UserRepository userRepository) {
+    public RoleServiceImpl(RoleRepository roleRepository, ExistenceIndex existenceIndex, AuditService auditService) {
         this.roleRepository = roleRepository;
-        this.userRepository = userRepository;
+        this.existenceIndex = existenceIndex;
+        this.auditService = auditService;
     }
 
     /**
@@ -48,7 +54,9 @@ public class RoleServiceImpl implements RoleService {
     @Transactional
     public Role saveRole(Role role) {
         validateUser(role);
-        return roleRepository.save(role);
+        Role savedRole = roleRepository.save(role);
+        auditService.record("role", savedRole.getRoleId(), ChangeAction.CREATED, null, AuditUtils.snapshot(savedRole));
+        return savedRole;
     }
 
     /**
@@ -66,11 +74,15 @@ public class RoleServiceImpl implements RoleService {
             Role existingRole = roleRepository.findById(roleId).orElseThrow(() ->
                     new ResourceNotFoundException("Role with ID " + roleId + " not found"));
 
+            Map<String, Object> before = AuditUtils.snapshot(existingRole);
+
             // Update role fields
             existingRole.setAuthority(updatedRole.getAuthority());
             existingRole.setUser(updatedRole.getUser());
 
-            return roleRepository.save(existingRole);
+            Role savedRole = roleRepository.save(existingRole);
+            auditService.record("role", roleId, ChangeAction.UPDATED, before, AuditUtils.snapshot(savedRole));
+            return savedRole;
         } catch (Exception e) {
             log.error("Error updating role with ID {}: {}", roleId, e.getMessage(), e);
             throw new ResourceNotFoundException("Error updating role with ID " + roleId);
@@ -89,6 +101,7 @@ public class RoleServiceImpl implements RoleService {
         Role role = roleRepository.findById(roleId).orElse(null);
         if (role != null) {
             roleRepository.deleteById(roleId);
+            auditService.record("role", roleId, ChangeAction.DELETED, AuditUtils.snapshot(role), null);
             return true;
         }
         return false;
@@ -125,7 +138,7 @@ public class RoleServiceImpl implements RoleService {
      * @throws ResourceNotFoundException if the user associated with the role does not exist
      */
     private void validateUser(Role role) {
-        if (role.getUser() != null && !userRepository.existsById(role.getUser().getUserId())) {
+        if (role.getUser() != null && !existenceIndex.userExists(role.getUser().getUserId())) {
             throw new ResourceNotFoundException("User with ID " + role.getUser().getUserId() + " not found");
         }
     }
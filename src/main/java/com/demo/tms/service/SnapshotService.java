@@ -0,0 +1,22 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.SnapshotManifestDTO;
+
+/**
+ * {@code SnapshotService} defines the contract for exporting consistent full snapshots of the users, tasks and
+ * comments tables, e.g. for nightly backups and analytics.
+ */
+public interface SnapshotService {
+
+    /**
+     * Exports a snapshot of all users, tasks and comments to a new snapshot directory.
+     * <p>
+     * Every table is split into primary key ranges that are exported in parallel over several database connections.
+     * All connections read from the same exported database snapshot, so the part files form a consistent copy even
+     * while the tables are being modified.
+     * </p>
+     *
+     * @return the {@link SnapshotManifestDTO} describing the written part files
+     */
+    SnapshotManifestDTO createSnapshot();
+}
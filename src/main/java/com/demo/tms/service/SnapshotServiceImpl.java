@@ -0,0 +1,247 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.SnapshotManifestDTO;
+import com.demo.tms.dto.SnapshotPartDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * {@code SnapshotServiceImpl} is the implementation of the {@link SnapshotService} interface.
+ * <p>
+ * A coordinator connection opens a read-only {@code REPEATABLE READ} transaction, exports its snapshot with
+ * {@code pg_export_snapshot()} and determines the primary key bounds of every table. Each table is then split into
+ * equally wide key ranges, and the ranges are exported by a fixed pool of workers. Every worker imports the
+ * coordinator's snapshot with {@code SET TRANSACTION SNAPSHOT} on its own connection and streams its range with
+ * {@code COPY ... TO STDOUT} into a gzip compressed CSV part file. The coordinator transaction stays open until all
+ * parts are written, which keeps the snapshot importable.
+ * </p>
+ * <p>
+ * Snapshots can be triggered on demand or on the schedule configured by {@code tms.snapshot.cron}. The connection
+ * pool must allow {@code tms.snapshot.parallelism} plus one connections besides those needed by regular requests.
+ * </p>
+ */
+@Service
+@Slf4j
+public class SnapshotServiceImpl implements SnapshotService {
+
+    private static final List<String> TABLES = List.of("users", "tasks", "comments");
+    // exported columns per table, leaving out password hashes and the generated search vectors
+    private static final Map<String, String> COLUMNS = Map.of(
+            "users", "id, username, email, enabled",
+            "tasks", "id, name, description, status, priority, author_id, assignee_id, version, created_at, " +
+                    "updated_at, change_xid, change_seq",
+            "comments", "id, text, user_id, task_id, version, created_at, updated_at, change_xid, change_seq");
+    private static final DateTimeFormatter DIRECTORY_FORMAT =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final Path baseDirectory;
+    private final int parallelism;
+    private final int rangesPerTable;
+
+    /**
+     * Constructs a new {@code SnapshotServiceImpl}.
+     *
+     * @param dataSource     the {@link DataSource} the coordinator and worker connections are taken from
+     * @param objectMapper   the {@link ObjectMapper} used to write the manifest
+     * @param baseDirectory  the directory the snapshot directories are created in
+     * @param parallelism    the number of ranges exported concurrently
+     * @param rangesPerTable the number of primary key ranges every table is split into
+     */
+    @Autowired
+    public SnapshotServiceImpl(DataSource dataSource, ObjectMapper objectMapper,
+                               @Value("${tms.snapshot.directory:snapshots}") String baseDirectory,
+                               @Value("${tms.snapshot.parallelism:4}") int parallelism,
+                               @Value("${tms.snapshot.ranges-per-table:8}") int rangesPerTable) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.baseDirectory = Path.of(baseDirectory);
+        this.parallelism = parallelism;
+        this.rangesPerTable = rangesPerTable;
+    }
+
+    /**
+     * Exports a snapshot of all users, tasks and comments to a new directory named after the start time.
+     *
+     * @return the {@link SnapshotManifestDTO} describing the written part files
+     * @throws IllegalStateException if the snapshot cannot be read or written
+     */
+    @Override
+    @Scheduled(cron = "${tms.snapshot.cron:-}")
+    public SnapshotManifestDTO createSnapshot() {
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        Path directory = baseDirectory.resolve(DIRECTORY_FORMAT.format(startedAt));
+
+        try (Connection coordinator = dataSource.getConnection();
+             ExecutorService executor = Executors.newFixedThreadPool(parallelism)) {
+            coordinator.setAutoCommit(false);
+            try {
+                String snapshotId;
+                List<Range> ranges = new ArrayList<>();
+                try (Statement statement = coordinator.createStatement()) {
+                    statement.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY");
+                    try (ResultSet rs = statement.executeQuery("SELECT pg_export_snapshot()")) {
+                        rs.next();
+                        snapshotId = rs.getString(1);
+                    }
+                    for (String table : TABLES) {
+                        try (ResultSet rs = statement.executeQuery("SELECT MIN(id), MAX(id) FROM tms." + table)) {
+                            rs.next();
+                            long min = rs.getLong(1);
+                            if (!rs.wasNull()) {
+                                ranges.addAll(split(table, min, rs.getLong(2), rangesPerTable));
+                            }
+                        }
+                    }
+                }
+                Files.createDirectories(directory);
+
+                List<CompletableFuture<SnapshotPartDTO>> futures = ranges.stream()
+                        .map(range -> CompletableFuture.supplyAsync(
+                                () -> exportRange(snapshotId, directory, range), executor))
+                        .toList();
+                List<SnapshotPartDTO> parts = futures.stream().map(CompletableFuture::join).toList();
+
+                SnapshotManifestDTO manifest = createManifest(snapshotId, directory, startedAt, start, parts);
+                objectMapper.writerWithDefaultPrettyPrinter()
+                        .writeValue(directory.resolve("manifest.json").toFile(), manifest);
+                log.info("Exported snapshot {} to {}: {} rows in {} parts, {} ms, {} rows/s", snapshotId,
+                        directory, manifest.getTotalRows(), parts.size(), manifest.getDurationMillis(),
+                        manifest.getRowsPerSecond());
+                return manifest;
+            } finally {
+                coordinator.rollback();
+            }
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("Snapshot export failed", e);
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Snapshot export failed", e.getCause());
+        }
+    }
+
+    /**
+     * Exports one primary key range of a table from the given snapshot into a gzip compressed CSV part file.
+     *
+     * @param snapshotId the identifier of the exported snapshot to read from
+     * @param directory  the snapshot directory
+     * @param range      the range to export
+     * @return the {@link SnapshotPartDTO} describing the written part file
+     */
+    private SnapshotPartDTO exportRange(String snapshotId, Path directory, Range range) {
+        String file = String.format("%s-%04d.csv.gz", range.table(), range.part());
+        Path path = directory.resolve(file);
+        long start = System.nanoTime();
+        long rows;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET TRANSACTION ISOLATION LEVEL REPEATABLE READ, READ ONLY");
+                statement.execute("SET TRANSACTION SNAPSHOT '" + snapshotId + "'");
+            }
+            try (OutputStream out = new GZIPOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE), BUFFER_SIZE)) {
+                rows = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(copyStatement(range), out);
+            } finally {
+                connection.rollback();
+            }
+            long durationMillis = (System.nanoTime() - start) / 1_000_000;
+            log.debug("Exported {} rows of {} ids {}-{} in {} ms", rows, range.table(), range.fromId(),
+                    range.toId(), durationMillis);
+            return new SnapshotPartDTO(range.table(), file, range.fromId(), range.toId(), rows, Files.size(path),
+                    durationMillis);
+        } catch (SQLException | IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Creates the manifest of a completed snapshot.
+     *
+     * @param snapshotId the identifier of the exported snapshot
+     * @param directory  the snapshot directory
+     * @param startedAt  the start time of the export
+     * @param start      the {@link System#nanoTime()} at the start of the export
+     * @param parts      the written part files
+     * @return the {@link SnapshotManifestDTO}
+     */
+    private SnapshotManifestDTO createManifest(String snapshotId, Path directory, Instant startedAt, long start,
+                                               List<SnapshotPartDTO> parts) {
+        long durationMillis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        long totalRows = parts.stream().mapToLong(SnapshotPartDTO::getRows).sum();
+        long totalBytes = parts.stream().mapToLong(SnapshotPartDTO::getBytes).sum();
+        return new SnapshotManifestDTO(snapshotId, directory.toString(), startedAt.toString(), durationMillis,
+                parallelism, totalRows, totalBytes, totalRows * 1000 / durationMillis, parts);
+    }
+
+    /**
+     * Builds the {@code COPY} statement exporting a range as CSV with a header line.
+     *
+     * @param range the range to export
+     * @return the {@code COPY ... TO STDOUT} statement
+     */
+    static String copyStatement(Range range) {
+        return "COPY (SELECT " + COLUMNS.get(range.table()) + " FROM tms." + range.table() + " WHERE id BETWEEN " +
+                range.fromId() + " AND " + range.toId() + " ORDER BY id) TO STDOUT WITH (FORMAT csv, HEADER true)";
+    }
+
+    /**
+     * Splits the primary key interval {@code [min, max]} of a table into at most {@code count} consecutive ranges
+     * of equal width.
+     *
+     * @param table the name of the table
+     * @param min   the lowest primary key of the table
+     * @param max   the highest primary key of the table
+     * @param count the maximum number of ranges
+     * @return the ranges, ordered by primary key
+     */
+    static List<Range> split(String table, long min, long max, int count) {
+        long span = max - min + 1;
+        long width = (span + count - 1) / count;
+        List<Range> ranges = new ArrayList<>();
+        for (long from = min; from <= max; from += width) {
+            ranges.add(new Range(table, ranges.size() + 1, from, Math.min(max, from + width - 1)));
+        }
+        return ranges;
+    }
+
+    /**
+     * A primary key range of a table.
+     *
+     * @param table  the name of the table
+     * @param part   the number of the part within the table, starting at 1
+     * @param fromId the lowest primary key of the range, inclusive
+     * @param toId   the highest primary key of the range, inclusive
+     */
+    record Range(String table, int part, long fromId, long toId) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.ChangeSetDTO;
+
+/**
+ * {@code SyncService} defines the contract for the change feed that lets clients keep a local copy of the tasks of
+ * an assignee and their comments in sync without downloading them again.
+ */
+public interface SyncService {
+
+    /**
+     * Retrieves the tasks and comments of an assignee that were created, updated or deleted after a watermark.
+     * <p>
+     * Without a watermark, all tasks and comments of the assignee are returned, in change sets of at most
+     * {@code limit} changes. If no changes were made after the watermark, the returned watermark equals it.
+     * </p>
+     *
+     * @param assigneeId the ID of the assignee
+     * @param watermark  the watermark of the previous change set, or {@code null} for a full sync
+     * @param limit      the maximum number of changes to return
+     * @return the {@link ChangeSetDTO} holding the changes and the next watermark
+     * @throws IllegalArgumentException if the limit is out of range, or the watermark is invalid or so old that
+     *                                  deletions after it were purged and a full sync is required
+     */
+    ChangeSetDTO getChanges(Long assigneeId, String watermark, int limit);
+
+    /**
+     * Purges the tombstones of deletions older than the configured retention period. Clients whose watermark
+     * predates a purged tombstone must do a full sync.
+     */
+    void purgeTombstones();
+}
@@ -0,0 +1,162 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.ChangeSetDTO;
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.repository.SyncRepository;
+import com.demo.tms.repository.SyncRepository.Change;
+import com.demo.tms.repository.SyncRepository.Position;
+import com.demo.tms.repository.SyncRepository.Tombstone;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * {@code SyncServiceImpl} is the implementation of the {@link SyncService} interface.
+ * <p>
+ * The watermark encodes the {@link Position} of the last change returned. Tasks, comments and tombstones after it
+ * are read with three index range scans and merged in position order, and the change set is cut after
+ * {@code limit} changes, so the next change set continues exactly where this one ends.
+ * </p>
+ */
+@Service
+@Slf4j
+public class SyncServiceImpl implements SyncService {
+
+    private static final int MAX_CHANGES = 1000;
+    private static final Position START = new Position(0, 0);
+
+    private final SyncRepository syncRepository;
+    private final Duration tombstoneRetention;
+
+    /**
+     * Constructs a new {@code SyncServiceImpl}.
+     *
+     * @param syncRepository         the {@link SyncRepository} used to read the changes
+     * @param tombstoneRetentionDays the number of days tombstones of deletions are kept
+     */
+    @Autowired
+    public SyncServiceImpl(SyncRepository syncRepository,
+                           @Value("${tms.sync.tombstone-retention-days:30}") int tombstoneRetentionDays) {
+        this.syncRepository = syncRepository;
+        this.tombstoneRetention = Duration.ofDays(tombstoneRetentionDays);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public ChangeSetDTO getChanges(Long assigneeId, String watermark, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_CHANGES + ".");
+        }
+        Position after = START;
+        if (watermark != null) {
+            after = decode(watermark);
+            if (after.compareTo(syncRepository.findPurgedPosition()) < 0) {
+                throw new IllegalArgumentException("Watermark " + watermark +
+                        " has expired, a full sync is required.");
+            }
+        }
+
+        long horizon = syncRepository.findHorizon();
+        List<Change<TaskDTO>> tasks = syncRepository.findTaskChanges(assigneeId, after, horizon, limit + 1);
+        List<Change<CommentDTO>> comments = syncRepository.findCommentChanges(assigneeId, after, horizon, limit + 1);
+        List<Change<Tombstone>> tombstones = syncRepository.findTombstones(assigneeId, after, horizon, limit + 1);
+
+        List<Position> positions = Stream.of(tasks, comments, tombstones)
+                .flatMap(changes -> changes.stream().map(Change::position))
+                .sorted()
+                .toList();
+        if (positions.isEmpty()) {
+            return new ChangeSetDTO(List.of(), List.of(), List.of(), List.of(), encode(after), false);
+        }
+        boolean hasMore = positions.size() > limit;
+        Position last = positions.get(Math.min(positions.size(), limit) - 1);
+
+        List<TaskDTO> changedTasks = valuesUpTo(tasks, last);
+        Set<Long> changedTaskIds = new HashSet<>();
+        changedTasks.forEach(task -> changedTaskIds.add(task.getTaskId()));
+        List<Long> deletedTaskIds = new ArrayList<>();
+        List<Long> deletedCommentIds = new ArrayList<>();
+        for (Tombstone tombstone : valuesUpTo(tombstones, last)) {
+            if ("COMMENT".equals(tombstone.entityType())) {
+                deletedCommentIds.add(tombstone.entityId());
+            } else if (!changedTaskIds.contains(tombstone.entityId())) {
+                // a task reassigned away and back is current again
+                deletedTaskIds.add(tombstone.entityId());
+            }
+        }
+        return new ChangeSetDTO(changedTasks, valuesUpTo(comments, last), deletedTaskIds, deletedCommentIds,
+                encode(last), hasMore);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Scheduled(cron = "${tms.sync.purge-cron:0 30 3 * * *}")
+    public void purgeTombstones() {
+        int purged = syncRepository.purgeTombstones(Instant.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info("Purged {} tombstones older than {} days", purged, tombstoneRetention.toDays());
+        }
+    }
+
+    /**
+     * Returns the values of the changes positioned at or before a position.
+     *
+     * @param changes the changes in position order
+     * @param last    the position of the last change to include
+     * @param <T>     the type of the changed values
+     * @return the values of the included changes
+     */
+    private <T> List<T> valuesUpTo(List<Change<T>> changes, Position last) {
+        return changes.stream()
+                .takeWhile(change -> change.position().compareTo(last) <= 0)
+                .map(Change::value)
+                .toList();
+    }
+
+    /**
+     * Encodes a position as an opaque watermark.
+     *
+     * @param position the position of the last change returned
+     * @return the watermark
+     */
+    private String encode(Position position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (position.xid() + ":" + position.seq()).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a watermark into the position it was created from.
+     *
+     * @param watermark the watermark
+     * @return the position
+     * @throws IllegalArgumentException if the watermark is invalid
+     */
+    private Position decode(String watermark) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.UTF_8)
+                    .split(":");
+            return new Position(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid watermark: " + watermark);
+        }
+    }
+}
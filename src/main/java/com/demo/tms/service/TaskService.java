@@ -1,10 +1,22 @@
 package com.demo.tms.service;
 
+import com.demo.tms.dto.CursorPageDTO;
+import com.demo.tms.dto.TaskBoardDTO;
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.dto.TaskFilterDTO;
+import com.demo.tms.dto.TaskSearchHitDTO;
+import com.demo.tms.dto.TimeBucketDTO;
 import com.demo.tms.entity.Task;
 import com.demo.tms.utils.TaskStatus;
+import com.demo.tms.utils.TimeInterval;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * {@code TaskService} defines the contract for managing {@link Task} entities.
  * <p>
@@ -59,6 +71,37 @@ public interface TaskService {
      */
     Task getTaskById(Long taskId);
 
+    /**
+     * Retrieves the tasks with the given IDs. Cached tasks are used when available and the others are loaded with
+     * one query.
+     *
+     * @param taskIds the IDs of the tasks to retrieve
+     * @return a {@link Map} of the found {@link Task} entities by their IDs, without the IDs that were not found
+     */
+    Map<Long, Task> getTasksByIds(Set<Long> taskIds);
+
+    /**
+     * Retrieves a task by its ID with its author and assignee initialized and comments holding only their IDs.
+     *
+     * @param taskId the ID of the task to retrieve
+     * @return the {@link Task} entity with the specified ID
+     */
+    Task getTaskWithUsers(Long taskId);
+
+    /**
+     * Retrieves the current version of the representation of a task, which covers the task's optimistic locking
+     * version and the IDs of its comments.
+     * <p>
+     * The version is computed from the task cache when the task is cached, so conditional requests can be answered
+     * without loading the task.
+     * </p>
+     *
+     * @param taskId the ID of the task
+     * @return the current representation version of the task
+     * @see com.demo.tms.utils.ETagUtils#representationVersion(Long, java.util.Collection)
+     */
+    Long getTaskRepresentationVersion(Long taskId);
+
     /**
      * Retrieves all tasks in the system.
      *
@@ -84,4 +127,95 @@ public interface TaskService {
      * @return a {@link Page} of {@link Task} entities assigned to the specified assignee
      */
     Page<Task> getTasksByAssignee(Long assigneeId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the tasks matching all given criteria with pagination. Criteria that are {@code null} or empty are
+     * ignored, and several statuses or priorities match tasks having any of them.
+     *
+     * @param filter   the {@link TaskFilterDTO} holding the criteria
+     * @param pageable the pagination information
+     * @return a {@link Page} of {@link Task} entities matching the criteria
+     * @throws IllegalArgumentException if a time range ends before it starts
+     */
+    Page<Task> filterTasks(TaskFilterDTO filter, Pageable pageable);
+
+    /**
+     * Counts the tasks per time interval in which they were created or last modified, e.g. the tasks completed per
+     * day when counting completed tasks by modification time.
+     *
+     * @param timestamp the timestamp to bucket by, either {@code "created"} or {@code "updated"}
+     * @param interval  the size of the intervals
+     * @param from      the inclusive start of the time range
+     * @param to        the exclusive end of the time range
+     * @param status    the status of the counted tasks, or {@code null} to count tasks of any status
+     * @return the non-empty intervals in ascending order
+     * @throws IllegalArgumentException if the timestamp is invalid, or the range is empty or has too many intervals
+     */
+    List<TimeBucketDTO> getTaskTimeline(String timestamp, TimeInterval interval, Instant from, Instant to,
+                                        TaskStatus status);
+
+    /**
+     * Retrieves tasks with only the requested fields loaded, optionally restricted to an author and/or an assignee.
+     *
+     * @param authorId   the ID of the author, or {@code null} for tasks of any author
+     * @param assigneeId the ID of the assignee, or {@code null} for tasks of any assignee
+     * @param fields     the requested {@link TaskDTO} property names
+     * @param pageable   the pagination information
+     * @return a {@link Page} of {@link TaskDTO} with only the requested properties set
+     */
+    Page<TaskDTO> getTaskFields(Long authorId, Long assigneeId, Set<String> fields, Pageable pageable);
+
+    /**
+     * Searches tasks by keywords in their name, description and comments.
+     * <p>
+     * Results are ordered by relevance and paginated with an opaque cursor: the first page is requested without
+     * a cursor, and each following page with the {@code nextCursor} of the previous page.
+     * </p>
+     *
+     * @param query  the search query in web search syntax, e.g. {@code "login bug" -android}
+     * @param cursor the cursor of the requested page, or {@code null} for the first page
+     * @param size   the maximum number of tasks per page
+     * @return a {@link CursorPageDTO} of {@link TaskSearchHitDTO} ordered by descending relevance
+     */
+    CursorPageDTO<TaskSearchHitDTO> searchTasks(String query, String cursor, int size);
+
+    /**
+     * Retrieves the kanban board of an assignee, with one column per task status holding the most urgent tasks of
+     * that status and the number of all tasks in it.
+     *
+     * @param assigneeId the ID of the assignee
+     * @param limit      the maximum number of tasks per column
+     * @return the {@link TaskBoardDTO} of the assignee
+     */
+    TaskBoardDTO getTaskBoard(Long assigneeId, int limit);
+
+    /**
+     * Retrieves the pending task of an assignee that should be worked on next: the highest priority first and,
+     * within a priority, the oldest task first.
+     *
+     * @param assigneeId the ID of the assignee
+     * @return the next pending {@link Task} of the assignee
+     */
+    Task getNextTask(Long assigneeId);
+
+    /**
+     * Atomically claims the next pending task of an assignee by moving it to {@link TaskStatus#PROCESSING}. Concurrent
+     * claims never return the same task.
+     *
+     * @param assigneeId the ID of the assignee
+     * @return the claimed {@link Task}
+     */
+    Task claimNextTask(Long assigneeId);
+
+    /**
+     * Suggests tasks whose names start with the given prefix, for type-ahead task pickers.
+     * <p>
+     * Suggestions are served from memory without querying the database.
+     * </p>
+     *
+     * @param prefix the prefix of the task name, matched ignoring case
+     * @param limit  the maximum number of suggestions
+     * @return a list of {@link TaskDTO} with only {@code taskId} and {@code name} set, ordered by name
+     */
+    List<TaskDTO> suggestTasks(String prefix, int limit);
+}
@@ -1,22 +1,52 @@
 package com.demo.tms.service;
 
+import com.demo.tms.cache.ExistenceIndex;
+import com.demo.tms.cache.TaskNameIndex;
+import com.demo.tms.cache.TaskQueue;
+import com.demo.tms.dto.CursorPageDTO;
+import com.demo.tms.dto.TaskBoardDTO;
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.dto.TaskFilterDTO;
+import com.demo.tms.dto.TaskSearchHitDTO;
+import com.demo.tms.dto.TimeBucketDTO;
 import com.demo.tms.exception.OptimisticLockingException;
 import com.demo.tms.exception.ResourceNotFoundException;
 import com.demo.tms.repository.TaskRepository;
+import com.demo.tms.repository.TaskSpecifications;
 import com.demo.tms.entity.Task;
+import com.demo.tms.utils.AuditUtils;
+import com.demo.tms.utils.ChangeAction;
+import com.demo.tms.utils.ETagUtils;
+import com.demo.tms.utils.MultiGet;
+import com.demo.tms.utils.TaskPriority;
 import com.demo.tms.utils.TaskStatus;
+import com.demo.tms.utils.TimeInterval;
+import com.demo.tms.utils.TransactionUtils;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
-import com.demo.tms.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
 /**
  * {@code TaskServiceImpl} is the implementation of the {@link TaskService} interface.
  * <p>
@@ -29,19 +59,49 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final int MAX_BOARD_COLUMN_SIZE = 100;
+    private static final int MAX_CLAIM_ATTEMPTS = 10;
+    private static final int MAX_TIMELINE_BUCKETS = 1000;
+
     private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
+    private final ExistenceIndex existenceIndex;
+    private final CacheManager cacheManager;
+    private final TaskNameIndex taskNameIndex;
+    private final TaskStatisticsService taskStatisticsService;
+    private final TaskQueue taskQueue;
+    private final ChangeEventService changeEventService;
+    private final OutboxService outboxService;
+    private final AuditService auditService;
 
     /**
      * Constructs a new {@code TaskServiceImpl} with the specified repositories.
      *
-     * @param taskRepository the {@link TaskRepository} to interact with task data
-     * @param userRepository the {@link UserRepository} to interact with user data
+     * @param taskRepository        the {@link TaskRepository} to interact with task data
+     * @param existenceIndex        the {@link ExistenceIndex} validating user IDs and kept current with task IDs
+     * @param cacheManager          the {@link CacheManager} holding the task cache
+     * @param taskNameIndex         the {@link TaskNameIndex} kept current with task names
+     * @param taskStatisticsService the {@link TaskStatisticsService} kept current with task counts
+     * @param taskQueue             the {@link TaskQueue} kept current with pending tasks
+     * @param changeEventService    the {@link ChangeEventService} notified of task changes
+     * @param outboxService         the {@link OutboxService} task changes are written to
+     * @param auditService          the {@link AuditService} task changes are audited by
      */
     @Autowired
-    public TaskServiceImpl(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskServiceImpl(TaskRepository taskRepository, ExistenceIndex existenceIndex, CacheManager cacheManager,
+                           TaskNameIndex taskNameIndex, TaskStatisticsService taskStatisticsService,
+                           TaskQueue taskQueue, ChangeEventService changeEventService,
+                           OutboxService outboxService, AuditService auditService) {
         this.taskRepository = taskRepository;
-        this.userRepository = userRepository;
+        this.existenceIndex = existenceIndex;
+        this.cacheManager = cacheManager;
+        this.taskNameIndex = taskNameIndex;
+        this.taskStatisticsService = taskStatisticsService;
+        this.taskQueue = taskQueue;
+        this.changeEventService = changeEventService;
+        this.outboxService = outboxService;
+        this.auditService = auditService;
     }
 
     /**
@@ -55,12 +115,21 @@ public class TaskServiceImpl implements TaskService {
     @Retryable(retryFor = OptimisticLockingException.class, backoff = @Backoff(delay = 1000, multiplier = 2))
     public Task saveTask(Task task) {
         validateTaskUsers(task);
-        return taskRepository.save(task);
+        Task savedTask = taskRepository.save(task);
+        existenceIndex.addTask(savedTask.getTaskId());
+        taskNameIndex.put(savedTask.getTaskId(), savedTask.getName());
+        taskStatisticsService.increment(assigneeIdOf(savedTask), savedTask.getStatus(), savedTask.getPriority());
+        taskQueue.update(savedTask.getTaskId(), assigneeIdOf(savedTask), savedTask.getStatus(),
+                savedTask.getPriority());
+        publishChange(ChangeAction.CREATED, savedTask, null);
+        auditService.record("task", savedTask.getTaskId(), ChangeAction.CREATED, null, AuditUtils.snapshot(savedTask));
+        return savedTask;
     }
 
     /**
      * Updates an existing task. If the task does not exist, an exception is thrown.
-     * The assignee and author are validated before updating.
+     * The assignee and author are validated before updating. The update is not retried here, as it runs under the
+     * lock of the {@link TaskWriteSerializer}, which retries it after releasing the lock.
      *
      * @param taskId      the ID of the task to be updated
      * @param updatedTask the updated {@link Task} entity
@@ -69,8 +138,7 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @Transactional
-    @Retryable(retryFor = OptimisticLockingException.class, backoff = @Backoff(delay = 1000, multiplier = 2))
-    @CacheEvict(value = "tasks", key = "#taskId")
+    @CacheEvict(value = {"tasks", "taskResponses"}, key = "#taskId")
     public Task updateTask(Long taskId, Task updatedTask) {
         try {
             Task existingTask = taskRepository.findById(taskId).orElseThrow(() ->
@@ -78,6 +146,10 @@ public class TaskServiceImpl implements TaskService {
 
             // Validate assignee and author before updating
             validateTaskUsers(updatedTask);
+            Long oldAssigneeId = assigneeIdOf(existingTask);
+            TaskStatus oldStatus = existingTask.getStatus();
+            TaskPriority oldPriority = existingTask.getPriority();
+            Map<String, Object> before = AuditUtils.snapshot(existingTask);
 
             // Manual update of each field to avoid detached entity state
             existingTask.setName(updatedTask.getName());
@@ -88,7 +160,16 @@ public class TaskServiceImpl implements TaskService {
             existingTask.setAssignee(updatedTask.getAssignee());
             existingTask.setVersion(updatedTask.getVersion());
 
-            return taskRepository.save(existingTask);
+            Task savedTask = taskRepository.save(existingTask);
+            taskNameIndex.put(savedTask.getTaskId(), savedTask.getName());
+            taskStatisticsService.decrement(oldAssigneeId, oldStatus, oldPriority);
+            taskStatisticsService.increment(assigneeIdOf(savedTask), savedTask.getStatus(), savedTask.getPriority());
+            taskQueue.update(savedTask.getTaskId(), assigneeIdOf(savedTask), savedTask.getStatus(),
+                    savedTask.getPriority());
+            publishChange(ChangeAction.UPDATED, savedTask,
+                    Objects.equals(oldAssigneeId, assigneeIdOf(savedTask)) ? null : oldAssigneeId);
+            auditService.record("task", taskId, ChangeAction.UPDATED, before, AuditUtils.snapshot(savedTask));
+            return savedTask;
         } catch (OptimisticLockingException e) {
             log.warn("Task was updated by another transaction: {}", e.getMessage());
             throw new OptimisticLockingException(
@@ -106,14 +187,22 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "tasks", key = "#taskId")
+    @CacheEvict(value = {"tasks", "taskResponses"}, key = "#taskId")
     public Task updateTaskStatus(Long taskId, TaskStatus newStatus) {
         try {
             Task existingTask = taskRepository.findById(taskId).orElseThrow(() ->
                     new ResourceNotFoundException("Task with ID " + taskId + " not found"));
 
+            TaskStatus oldStatus = existingTask.getStatus();
+            Map<String, Object> before = AuditUtils.snapshot(existingTask);
             existingTask.setStatus(newStatus);
-            return taskRepository.save(existingTask);
+            Task savedTask = taskRepository.save(existingTask);
+            taskStatisticsService.decrement(assigneeIdOf(savedTask), oldStatus, savedTask.getPriority());
+            taskStatisticsService.increment(assigneeIdOf(savedTask), newStatus, savedTask.getPriority());
+            taskQueue.update(savedTask.getTaskId(), assigneeIdOf(savedTask), newStatus, savedTask.getPriority());
+            publishChange(ChangeAction.UPDATED, savedTask, null);
+            auditService.record("task", taskId, ChangeAction.UPDATED, before, AuditUtils.snapshot(savedTask));
+            return savedTask;
         } catch (OptimisticLockingException e) {
             log.warn("Optimistic locking failure while updating task {}: {}", taskId, e.getMessage());
             throw new OptimisticLockingException("Task was modified by another transaction. Please retry.");
@@ -128,18 +217,24 @@ public class TaskServiceImpl implements TaskService {
      */
     @Override
     @Transactional
-    @CacheEvict(value = "tasks", allEntries = true)
+    @CacheEvict(value = {"tasks", "taskResponses"}, allEntries = true)
     public boolean deleteTask(Long taskId) {
         Task task = taskRepository.findById(taskId).orElse(null);
         if (task != null) {
             taskRepository.deleteById(taskId);
+            existenceIndex.removeTask(taskId);
+            taskNameIndex.remove(taskId);
+            taskStatisticsService.decrement(assigneeIdOf(task), task.getStatus(), task.getPriority());
+            taskQueue.remove(taskId);
+            publishChange(ChangeAction.DELETED, task, null);
+            auditService.record("task", taskId, ChangeAction.DELETED, AuditUtils.snapshot(task), null);
             return true;
         }
         return false;
     }
 
     /**
-     * Retrieves a task by its ID.
+     * Retrieves a task by its ID. IDs the {@link ExistenceIndex} knows to be absent are rejected without a query.
      *
      * @param taskId the ID of the task to retrieve
      * @return the {@link Task} entity with the specified ID
@@ -149,6 +244,9 @@ public class TaskServiceImpl implements TaskService {
     @Transactional(readOnly = true)
     @Cacheable(value = "tasks", key = "#taskId")
     public Task getTaskById(Long taskId) {
+        if (existenceIndex.checkTask(taskId) == ExistenceIndex.Existence.ABSENT) {
+            throw new ResourceNotFoundException("Task not found");
+        }
         Task task = taskRepository.findById(taskId).orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
         // Force loading of comments before caching to avoid LazyInitialization Exception
@@ -157,6 +255,79 @@ public class TaskServiceImpl implements TaskService {
         return task;
     }
 
+    /**
+     * Retrieves the tasks with the given IDs. The task cache is read with one bulk lookup, IDs the
+     * {@link ExistenceIndex} knows to be absent are skipped, and the remaining tasks are loaded together with their
+     * comments in one query and added to the cache.
+     *
+     * @param taskIds the IDs of the tasks to retrieve
+     * @return a {@link Map} of the found {@link Task} entities by their IDs
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Task> getTasksByIds(Set<Long> taskIds) {
+        Cache cache = cacheManager.getCache("tasks");
+        Map<Long, Task> tasks = MultiGet.findCached(cache, taskIds, Task.class);
+        List<Long> missingIds = taskIds.stream()
+                .filter(taskId -> !tasks.containsKey(taskId))
+                .filter(taskId -> existenceIndex.checkTask(taskId) != ExistenceIndex.Existence.ABSENT)
+                .toList();
+        if (!missingIds.isEmpty()) {
+            for (Task task : taskRepository.findAllWithCommentsByIdIn(missingIds)) {
+                tasks.put(task.getTaskId(), task);
+                if (cache != null) {
+                    cache.put(task.getTaskId(), task);
+                }
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Retrieves a task by its ID with its author, assignee and comment IDs initialized. The author and assignee
+     * are fetched together with the task, and the comment IDs are selected with one additional query.
+     *
+     * @param taskId the ID of the task to retrieve
+     * @return the {@link Task} entity with the specified ID
+     * @throws ResourceNotFoundException if the task is not found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Task getTaskWithUsers(Long taskId) {
+        // Only the comment IDs are selected, the comments themselves are not loaded
+        return taskRepository.findWithUsersAndCommentIdsById(taskId).orElseThrow(() ->
+                new ResourceNotFoundException("Task not found"));
+    }
+
+    /**
+     * Retrieves the current representation version of a task. A cached task is used when available, otherwise only
+     * the version and the comment IDs are queried.
+     *
+     * @param taskId the ID of the task
+     * @return the current representation version of the task
+     * @throws ResourceNotFoundException if the task is not found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Long getTaskRepresentationVersion(Long taskId) {
+        Cache cache = cacheManager.getCache("tasks");
+        Task cachedTask = cache != null ? cache.get(taskId, Task.class) : null;
+        if (cachedTask != null) {
+            return ETagUtils.representationVersion(cachedTask);
+        }
+        List<Object[]> rows = taskRepository.findVersionAndCommentIdsById(taskId);
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("Task not found");
+        }
+        List<Long> commentIds = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[1] != null) {
+                commentIds.add((Long) row[1]);
+            }
+        }
+        return ETagUtils.representationVersion((Long) rows.get(0)[0], commentIds);
+    }
+
     /**
      * Retrieves all tasks with pagination.
      *
@@ -200,17 +371,286 @@ public class TaskServiceImpl implements TaskService {
     }
 
     /**
-     * Validates that the assignee and author associated with the task exist.
+     * Retrieves the tasks matching all given criteria with pagination.
+     * <p>
+     * The criteria are combined into a single query. The composite indexes on {@code (assignee_id, status, priority)}
+     * and {@code (author_id, status, priority)} cover the common combinations, such as the pending high priority
+     * tasks of an assignee. The creation and modification time ranges are served by the BRIN index on
+     * {@code created_at} and the B-tree index on {@code updated_at}.
+     * </p>
+     *
+     * @param filter   the {@link TaskFilterDTO} holding the criteria
+     * @param pageable the pagination information
+     * @return a {@link Page} of {@link Task} entities matching the criteria
+     * @throws IllegalArgumentException if a time range ends before it starts
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Task> filterTasks(TaskFilterDTO filter, Pageable pageable) {
+        validateRange(filter.getCreatedFrom(), filter.getCreatedTo());
+        validateRange(filter.getUpdatedFrom(), filter.getUpdatedTo());
+        Specification<Task> spec = Specification.where(TaskSpecifications.hasAuthor(filter.getAuthorId()))
+                .and(TaskSpecifications.hasAssignee(filter.getAssigneeId()))
+                .and(TaskSpecifications.hasStatusIn(filter.getStatus()))
+                .and(TaskSpecifications.hasPriorityIn(filter.getPriority()))
+                .and(TaskSpecifications.createdBetween(filter.getCreatedFrom(), filter.getCreatedTo()))
+                .and(TaskSpecifications.updatedBetween(filter.getUpdatedFrom(), filter.getUpdatedTo()));
+        return taskRepository.findAll(spec, pageable);
+    }
+
+    /**
+     * Counts the tasks per time interval in a single grouped query over the indexed timestamp column.
+     *
+     * @param timestamp the timestamp to bucket by, either {@code "created"} or {@code "updated"}
+     * @param interval  the size of the intervals
+     * @param from      the inclusive start of the time range
+     * @param to        the exclusive end of the time range
+     * @param status    the status of the counted tasks, or {@code null} to count tasks of any status
+     * @return the non-empty intervals in ascending order
+     * @throws IllegalArgumentException if the timestamp is invalid, or the range is empty or spans more than
+     *                                  {@value #MAX_TIMELINE_BUCKETS} intervals
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeBucketDTO> getTaskTimeline(String timestamp, TimeInterval interval, Instant from, Instant to,
+                                               TaskStatus status) {
+        String column = switch (timestamp == null ? "" : timestamp.toLowerCase()) {
+            case "created" -> "created_at";
+            case "updated" -> "updated_at";
+            default -> throw new IllegalArgumentException("Invalid timestamp: " + timestamp);
+        };
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("The time range must end after it starts.");
+        }
+        if (Duration.between(from, to).dividedBy(interval.getMinimumLength()) >= MAX_TIMELINE_BUCKETS) {
+            throw new IllegalArgumentException("The time range must span at most " + MAX_TIMELINE_BUCKETS +
+                    " intervals.");
+        }
+        return taskRepository.countPerInterval(column, interval, from, to, status);
+    }
+
+    /**
+     * Retrieves tasks with only the requested fields loaded. Only the columns backing the requested fields
+     * are selected, and comment IDs are only loaded when requested.
+     *
+     * @param authorId   the ID of the author, or {@code null} for tasks of any author
+     * @param assigneeId the ID of the assignee, or {@code null} for tasks of any assignee
+     * @param fields     the requested {@link TaskDTO} property names
+     * @param pageable   the pagination information
+     * @return a {@link Page} of {@link TaskDTO} with only the requested properties set
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TaskDTO> getTaskFields(Long authorId, Long assigneeId, Set<String> fields, Pageable pageable) {
+        Specification<Task> spec = Specification.where(TaskSpecifications.hasAuthor(authorId))
+                .and(TaskSpecifications.hasAssignee(assigneeId));
+        return taskRepository.findAllProjected(spec, fields, pageable);
+    }
+
+    /**
+     * Searches tasks by keywords in their name, description and comments. One task more than requested is loaded
+     * to find out whether there is a next page.
+     *
+     * @param query  the search query in web search syntax
+     * @param cursor the cursor of the requested page, or {@code null} for the first page
+     * @param size   the maximum number of tasks per page, between 1 and {@value #MAX_SEARCH_PAGE_SIZE}
+     * @return a {@link CursorPageDTO} of {@link TaskSearchHitDTO} ordered by descending relevance
+     * @throws IllegalArgumentException if the query is blank, the size is out of range or the cursor is invalid
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TaskSearchHitDTO> searchTasks(String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required.");
+        }
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE + ".");
+        }
+        Float afterRank = null;
+        Long afterId = null;
+        if (cursor != null) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                        .split(":");
+                afterRank = Float.parseFloat(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+
+        List<TaskSearchHitDTO> hits = new ArrayList<>(taskRepository.search(query, afterRank, afterId, size + 1));
+        String nextCursor = null;
+        if (hits.size() > size) {
+            hits = hits.subList(0, size);
+            TaskSearchHitDTO last = hits.get(size - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (last.getRank() + ":" + last.getTask().getTaskId()).getBytes(StandardCharsets.UTF_8));
+        }
+        return new CursorPageDTO<>(hits, nextCursor);
+    }
+
+    /**
+     * Retrieves the kanban board of an assignee. All columns and their totals are loaded in one query, and the tasks
+     * are projected straight into DTOs without loading entities.
+     *
+     * @param assigneeId the ID of the assignee
+     * @param limit      the maximum number of tasks per column, between 1 and {@value #MAX_BOARD_COLUMN_SIZE}
+     * @return the {@link TaskBoardDTO} of the assignee
+     * @throws IllegalArgumentException if the limit is out of range
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskBoardDTO getTaskBoard(Long assigneeId, int limit) {
+        if (limit < 1 || limit > MAX_BOARD_COLUMN_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_BOARD_COLUMN_SIZE + ".");
+        }
+        return new TaskBoardDTO(assigneeId, taskRepository.findBoardColumns(assigneeId, limit));
+    }
+
+    /**
+     * Retrieves the next task of an assignee from the in-memory {@link TaskQueue}. The queued candidates are checked
+     * against the database, so a task changed by a transaction that has not yet reached the queue is skipped.
+     *
+     * @param assigneeId the ID of the assignee
+     * @return the pending {@link Task} with the highest priority, the oldest first within a priority
+     * @throws ResourceNotFoundException if the assignee has no pending task
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Task getNextTask(Long assigneeId) {
+        for (Long taskId : taskQueue.peek(assigneeId, MAX_CLAIM_ATTEMPTS)) {
+            Task task = taskRepository.findById(taskId).orElse(null);
+            if (task != null && task.getStatus() == TaskStatus.PENDING && assigneeId.equals(assigneeIdOf(task))) {
+                return task;
+            }
+        }
+        throw new ResourceNotFoundException("No pending task assigned to user with ID " + assigneeId);
+    }
+
+    /**
+     * Claims the next task of an assignee by moving it to {@link TaskStatus#PROCESSING}.
+     * <p>
+     * Each queued candidate is claimed with a conditional {@code UPDATE} that only matches while the task is still
+     * pending and assigned to the assignee. When several workers race for the same task, the database row lock lets
+     * exactly one update succeed; the others match no row and move on to the next candidate.
+     * </p>
+     * <p>
+     * Claims do not go through the {@link TaskWriteSerializer}: the task is not known before it is claimed, and each
+     * attempt is a single atomic conditional {@code UPDATE} that never fails optimistic locking. The claim increments
+     * the version, so a serialized write that read the task before the claim fails optimistic locking as usual.
+     * </p>
+     *
+     * @param assigneeId the ID of the assignee
+     * @return the claimed {@link Task}
+     * @throws ResourceNotFoundException if the assignee has no pending task left to claim
+     */
+    @Override
+    @Transactional
+    public Task claimNextTask(Long assigneeId) {
+        for (Long taskId : taskQueue.peek(assigneeId, MAX_CLAIM_ATTEMPTS)) {
+            taskQueue.remove(taskId);
+            if (taskRepository.claimPendingTask(taskId, assigneeId, Instant.now()) == 1) {
+                Task task = taskRepository.findById(taskId).orElseThrow(() ->
+                        new ResourceNotFoundException("Task with ID " + taskId + " not found"));
+                taskStatisticsService.decrement(assigneeId, TaskStatus.PENDING, task.getPriority());
+                taskStatisticsService.increment(assigneeId, TaskStatus.PROCESSING, task.getPriority());
+                TransactionUtils.afterCommit(() -> evictTask(taskId));
+                publishChange(ChangeAction.UPDATED, task, null);
+                auditService.record("task", taskId, ChangeAction.UPDATED, Map.of("status", TaskStatus.PENDING),
+                        Map.of("status", TaskStatus.PROCESSING));
+                return task;
+            }
+        }
+        throw new ResourceNotFoundException("No pending task assigned to user with ID " + assigneeId);
+    }
+
+    /**
+     * Suggests tasks whose names start with the given prefix, answered from the in-memory {@link TaskNameIndex}.
+     *
+     * @param prefix the prefix of the task name, matched ignoring case
+     * @param limit  the maximum number of suggestions
+     * @return a list of {@link TaskDTO} with only {@code taskId} and {@code name} set, ordered by name
+     * @throws IllegalArgumentException if the prefix is blank or the limit is out of range
+     */
+    @Override
+    public List<TaskDTO> suggestTasks(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Prefix is required.");
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SUGGESTIONS + ".");
+        }
+        return taskNameIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * Validates that the assignee and author associated with the task exist, with at most a single query.
      *
      * @param task the {@link Task} entity to validate
      * @throws ResourceNotFoundException if the assignee or author does not exist
      */
     private void validateTaskUsers(Task task) {
-        if (task.getAssignee() != null && !userRepository.existsById(task.getAssignee().getUserId())) {
-            throw new ResourceNotFoundException("Assignee with ID " + task.getAssignee().getUserId() + " not found");
+        Long assigneeId = task.getAssignee() != null ? task.getAssignee().getUserId() : null;
+        Long authorId = task.getAuthor() != null ? task.getAuthor().getUserId() : null;
+        Set<Long> userIds = new HashSet<>();
+        if (assigneeId != null) userIds.add(assigneeId);
+        if (authorId != null) userIds.add(authorId);
+        Set<Long> existingIds = userIds.isEmpty() ? Set.of() : existenceIndex.findExistingUserIds(userIds);
+        if (task.getAssignee() != null && (assigneeId == null || !existingIds.contains(assigneeId))) {
+            throw new ResourceNotFoundException("Assignee with ID " + assigneeId + " not found");
+        }
+        if (task.getAuthor() != null && (authorId == null || !existingIds.contains(authorId))) {
+            throw new ResourceNotFoundException("Author with ID " + authorId + " not found");
         }
-        if (task.getAuthor() != null && !userRepository.existsById(task.getAuthor().getUserId())) {
-            throw new ResourceNotFoundException("Author with ID " + task.getAuthor().getUserId() + " not found");
+    }
+
+    /**
+     * Validates that a half-open time range does not end before it starts.
+     *
+     * @param from the inclusive lower bound, or {@code null}
+     * @param to   the exclusive upper bound, or {@code null}
+     * @throws IllegalArgumentException if both bounds are given and {@code to} is before {@code from}
+     */
+    private void validateRange(Instant from, Instant to) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new IllegalArgumentException("The time range must not end before it starts.");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes a change of a task to the outbox and publishes it to the change event subscribers.
+     *
+     * @param action             the kind of the change
+     * @param task               the changed {@link Task}
+     * @param previousAssigneeId the ID of the previous assignee if the task was reassigned, otherwise {@code null}
+     */
+    private void publishChange(ChangeAction action, Task task, Long previousAssigneeId) {
+        outboxService.appendTaskChange(action, task, previousAssigneeId);
+        changeEventService.publishTaskChange(action, task, previousAssigneeId);
+    }
+
+    /**
+     * Evicts a task from the entity and response body caches.
+     *
+     * @param taskId the ID of the task
+     */
+    private void evictTask(Long taskId) {
+        for (String cacheName : new String[]{"tasks", "taskResponses"}) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(taskId);
+            }
+        }
+    }
+
+    /**
+     * Returns the ID of the assignee of a task.
+     *
+     * @param task the {@link Task} entity
+     * @return the ID of the assignee, or {@code null} if the task has no assignee
+     */
+    private Long assigneeIdOf(Task task) {
+        return task.getAssignee() != null ? task.getAssignee().getUserId() : null;
+    }
+}
@@ -0,0 +1,52 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.TaskStatisticsDTO;
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+
+/**
+ * {@code TaskStatisticsService} defines the contract for task counts by assignee, status and priority that are kept
+ * in memory, so dashboards can read them without aggregating over the tasks table.
+ */
+public interface TaskStatisticsService {
+
+    /**
+     * Counts a task that was created, or that moved into the given assignee, status and priority.
+     * <p>
+     * If called inside a transaction, the counters are updated once it commits.
+     * </p>
+     *
+     * @param assigneeId the ID of the assignee of the task
+     * @param status     the status of the task
+     * @param priority   the priority of the task
+     */
+    void increment(Long assigneeId, TaskStatus status, TaskPriority priority);
+
+    /**
+     * Uncounts a task that was deleted, or that moved out of the given assignee, status and priority.
+     * <p>
+     * If called inside a transaction, the counters are updated once it commits.
+     * </p>
+     *
+     * @param assigneeId the ID of the assignee of the task
+     * @param status     the status of the task
+     * @param priority   the priority of the task
+     */
+    void decrement(Long assigneeId, TaskStatus status, TaskPriority priority);
+
+    /**
+     * Returns the task counts by status and priority, in constant time.
+     *
+     * @param assigneeId the ID of the assignee to count the tasks of, or {@code null} to count all tasks
+     * @return the {@link TaskStatisticsDTO} holding the counts
+     */
+    TaskStatisticsDTO getStatistics(Long assigneeId);
+
+    /**
+     * Recounts the tasks in the database and corrects the counters, e.g. after a bulk import.
+     * <p>
+     * If called inside a transaction, the recount runs once it commits.
+     * </p>
+     */
+    void reconcile();
+}
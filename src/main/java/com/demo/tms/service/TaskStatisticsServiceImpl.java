@@ -0,0 +1,173 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.TaskStatisticsDTO;
+import com.demo.tms.repository.TaskRepository;
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+import com.demo.tms.utils.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code TaskStatisticsServiceImpl} is the implementation of the {@link TaskStatisticsService} interface.
+ * <p>
+ * Every combination of assignee, status and priority has a {@link LongAdder}, and so has every combination of status
+ * and priority over all assignees. Updates never block each other, and reading the statistics of an assignee or of
+ * all tasks sums a fixed number of counters regardless of the number of tasks.
+ * </p>
+ * <p>
+ * The counters are seeded from a {@code GROUP BY} query when the application is ready and recounted with the same
+ * query on a fixed delay, which corrects any drift, e.g. from tasks changed outside the application. A write racing
+ * with a recount may leave a counter off by one until the next recount.
+ * </p>
+ */
+@Service
+@Slf4j
+public class TaskStatisticsServiceImpl implements TaskStatisticsService {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentMap<Key, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code TaskStatisticsServiceImpl}.
+     *
+     * @param taskRepository     the {@link TaskRepository} used to count the tasks
+     * @param transactionManager the {@link PlatformTransactionManager} used for the read-only recount
+     */
+    @Autowired
+    public TaskStatisticsServiceImpl(TaskRepository taskRepository, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void increment(Long assigneeId, TaskStatus status, TaskPriority priority) {
+        TransactionUtils.afterCommit(() -> add(assigneeId, status, priority, 1));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void decrement(Long assigneeId, TaskStatus status, TaskPriority priority) {
+        TransactionUtils.afterCommit(() -> add(assigneeId, status, priority, -1));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TaskStatisticsDTO getStatistics(Long assigneeId) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        Map<TaskStatus, Map<TaskPriority, Long>> byStatusAndPriority = new EnumMap<>(TaskStatus.class);
+        long total = 0;
+        for (TaskStatus status : TaskStatus.values()) {
+            Map<TaskPriority, Long> counts = new EnumMap<>(TaskPriority.class);
+            for (TaskPriority priority : TaskPriority.values()) {
+                LongAdder counter = counters.get(new Key(assigneeId, status, priority));
+                long count = counter == null ? 0 : counter.sum();
+                counts.put(priority, count);
+                byStatus.merge(status, count, Long::sum);
+                byPriority.merge(priority, count, Long::sum);
+                total += count;
+            }
+            byStatusAndPriority.put(status, counts);
+        }
+        return new TaskStatisticsDTO(assigneeId, total, byStatus, byPriority, byStatusAndPriority);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${tms.statistics.reconcile-interval:60000}",
+            initialDelayString = "${tms.statistics.reconcile-interval:60000}")
+    public void reconcile() {
+        TransactionUtils.afterCommit(this::recount);
+    }
+
+    /**
+     * Counts the tasks in the database and adds the difference to every counter that is off.
+     */
+    private synchronized void recount() {
+        long start = System.nanoTime();
+        List<Object[]> rows = transactionTemplate.execute(
+                status -> taskRepository.countByAssigneeStatusAndPriority());
+        Map<Key, Long> actual = new HashMap<>();
+        for (Object[] row : rows) {
+            TaskStatus status = (TaskStatus) row[1];
+            TaskPriority priority = (TaskPriority) row[2];
+            long count = (Long) row[3];
+            if (row[0] != null) {
+                actual.merge(new Key((Long) row[0], status, priority), count, Long::sum);
+            }
+            actual.merge(new Key(null, status, priority), count, Long::sum);
+        }
+
+        Set<Key> keys = new HashSet<>(counters.keySet());
+        keys.addAll(actual.keySet());
+        int corrected = 0;
+        for (Key key : keys) {
+            LongAdder counter = counters.computeIfAbsent(key, k -> new LongAdder());
+            long difference = actual.getOrDefault(key, 0L) - counter.sum();
+            if (difference != 0) {
+                counter.add(difference);
+                corrected++;
+            }
+        }
+        if (corrected > 0) {
+            log.info("Reconciled {} task statistics counters, {} corrected, in {} ms", keys.size(), corrected,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Adds a delta to the counters of the assignee and of all tasks.
+     *
+     * @param assigneeId the ID of the assignee
+     * @param status     the status of the task
+     * @param priority   the priority of the task
+     * @param delta      the number to add
+     */
+    private void add(Long assigneeId, TaskStatus status, TaskPriority priority, long delta) {
+        if (assigneeId != null) {
+            counters.computeIfAbsent(new Key(assigneeId, status, priority), k -> new LongAdder()).add(delta);
+        }
+        counters.computeIfAbsent(new Key(null, status, priority), k -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * The key of a counter.
+     *
+     * @param assigneeId the ID of the assignee, or {@code null} for the counters over all tasks
+     * @param status     the status of the counted tasks
+     * @param priority   the priority of the counted tasks
+     */
+    record Key(Long assigneeId, TaskStatus status, TaskPriority priority) {
+    }
+}
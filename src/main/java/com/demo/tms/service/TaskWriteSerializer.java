@@ -0,0 +1,34 @@
+package com.demo.tms.service;
+
+import java.util.function.Supplier;
+
+/**
+ * {@code TaskWriteSerializer} defines the contract for serializing concurrent writes to the same task within this
+ * application instance.
+ * <p>
+ * Writes to the same task wait for each other in arrival order instead of racing to the database, where all but one
+ * of them would fail optimistic locking. Each write therefore reads the task as committed by the previous one.
+ * Optimistic locking still detects conflicting writes from other application instances, and such writes are retried
+ * without holding the lock. Claims of the next task of an assignee are not serialized, as each is a single atomic
+ * conditional {@code UPDATE}.
+ * </p>
+ */
+public interface TaskWriteSerializer {
+
+    /**
+     * Executes a write to a task after the writes to the same task that arrived earlier have completed.
+     * <p>
+     * The write must open and commit its own transaction, so it must not be called inside a transaction. A write
+     * failing optimistic locking is executed again after a backoff, without holding back the writes queued after it.
+     * </p>
+     *
+     * @param taskId the ID of the task written
+     * @param write  the write, usually a call of a transactional {@link TaskService} method
+     * @param <T>    the type of the result of the write
+     * @return the result of the write
+     * @throws org.springframework.dao.CannotAcquireLockException        if the earlier writes do not complete in time
+     * @throws org.springframework.dao.OptimisticLockingFailureException if the write still conflicts after the retries
+     * @throws IllegalStateException                                      if called inside a transaction
+     */
+    <T> T execute(Long taskId, Supplier<T> write);
+}
@@ -0,0 +1,107 @@
+package com.demo.tms.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * {@code TaskWriteSerializerImpl} is the implementation of the {@link TaskWriteSerializer} interface.
+ * <p>
+ * Task IDs are hashed onto a fixed number of fair locks, so memory use does not grow with the number of tasks and
+ * waiting writers are served first come, first served. Distinct tasks sharing a lock are serialized as well, which
+ * costs little with enough stripes. The lock is held until the write's transaction has committed, so the next
+ * writer always sees the committed version. A writer that waits longer than the lock timeout fails with a
+ * {@link CannotAcquireLockException}, answered with {@code 409 Conflict}, instead of holding its request thread
+ * indefinitely; it is not retried, as it would only queue up again behind the same writes.
+ * </p>
+ * <p>
+ * A write whose commit fails optimistic locking against another application instance is retried here, around the
+ * lock, so the lock is released during the backoff and the writes queued behind it are not held up. Each attempt
+ * reads the task again in a new transaction. The writes themselves must not retry.
+ * </p>
+ */
+@Service
+@Slf4j
+public class TaskWriteSerializerImpl implements TaskWriteSerializer {
+
+    private final ReentrantLock[] stripes;
+    private final long lockTimeout;
+
+    /**
+     * Constructs a new {@code TaskWriteSerializerImpl}.
+     *
+     * @param stripes     the number of locks task IDs are hashed onto, rounded up to a power of two
+     * @param lockTimeout the maximum time (ms) a write waits for the earlier writes to the same task
+     */
+    @Autowired
+    public TaskWriteSerializerImpl(@Value("${tms.task-writes.stripes:1024}") int stripes,
+                                   @Value("${tms.task-writes.lock-timeout:10000}") long lockTimeout) {
+        if (stripes < 1 || stripes > 1 << 20) {
+            throw new IllegalArgumentException("tms.task-writes.stripes must be between 1 and " + (1 << 20));
+        }
+        this.stripes = new ReentrantLock[stripes == 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock(true);
+        }
+        this.lockTimeout = lockTimeout;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Retryable(retryFor = OptimisticLockingFailureException.class,
+            maxAttemptsExpression = "${tms.task-writes.retry-attempts:3}",
+            backoff = @Backoff(delayExpression = "${tms.task-writes.retry-delay:1000}", multiplier = 2))
+    public <T> T execute(Long taskId, Supplier<T> write) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Task writes must be serialized outside of a transaction");
+        }
+        ReentrantLock lock = stripeOf(taskId);
+        if (!tryLock(lock)) {
+            log.warn("Timed out waiting for concurrent writes to task {}", taskId);
+            throw new CannotAcquireLockException("Timed out waiting for concurrent writes to task " + taskId);
+        }
+        try {
+            return write.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Waits for a lock for at most the lock timeout.
+     *
+     * @param lock the lock
+     * @return {@code true} if the lock was acquired, {@code false} if the timeout elapsed or the thread was interrupted
+     */
+    private boolean tryLock(ReentrantLock lock) {
+        try {
+            return lock.tryLock(lockTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Returns the lock of a task. The ID is mixed first, so consecutive IDs spread over all stripes.
+     *
+     * @param taskId the ID of the task
+     * @return the {@link ReentrantLock} guarding the writes to the task
+     */
+    private ReentrantLock stripeOf(Long taskId) {
+        long hash = taskId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (hash >>> 32) & (stripes.length - 1)];
+    }
+}
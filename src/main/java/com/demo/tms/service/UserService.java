@@ -4,6 +4,9 @@ import com.demo.tms.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Map;
+import java.util.Set;
+
 /**
  * {@code UserService} defines the contract for managing {@link User} entities.
  * <p>
@@ -48,6 +51,14 @@ public interface UserService {
      */
     User getUserById(Long userId);
 
+    /**
+     * Retrieves the users with the given IDs together with their roles and task IDs, with a fixed number of queries.
+     *
+     * @param userIds the IDs of the users to retrieve
+     * @return a {@link Map} of the found {@link User} entities by their IDs, without the IDs that were not found
+     */
+    Map<Long, User> getUsersByIds(Set<Long> userIds);
+
     /**
      * Retrieves all users in the system.
      *
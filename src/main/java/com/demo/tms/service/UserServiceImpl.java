@@ -1,8 +1,12 @@
 package com.demo.tms.service;
 
+import com.demo.tms.cache.ExistenceIndex;
 import com.demo.tms.exception.ResourceNotFoundException;
+import com.demo.tms.entity.Task;
 import com.demo.tms.entity.User;
 import com.demo.tms.repository.UserRepository;
+import com.demo.tms.utils.AuditUtils;
+import com.demo.tms.utils.ChangeAction;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -11,6 +15,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * {@code UserServiceImpl} is the implementation of the {@link UserService} interface.
  * <p>
@@ -25,17 +34,24 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AuditService auditService;
+    private final ExistenceIndex existenceIndex;
 
     /**
      * Constructs a new {@code UserServiceImpl} with the specified repositories and password encoder.
      *
      * @param userRepository  the {@link UserRepository} to interact with user data
      * @param passwordEncoder the {@link PasswordEncoder} to encode user passwords
+     * @param auditService    the {@link AuditService} user changes are audited by
+     * @param existenceIndex  the {@link ExistenceIndex} kept current with user and task IDs
      */
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                           AuditService auditService, ExistenceIndex existenceIndex) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.auditService = auditService;
+        this.existenceIndex = existenceIndex;
     }
 
     /**
@@ -50,7 +66,10 @@ public class UserServiceImpl implements UserService {
         String password = passwordEncoder.encode(user.getPassword());
         user.setPassword(password);
         user.setEnabled(true);
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        existenceIndex.addUser(savedUser.getUserId());
+        auditService.record("user", savedUser.getUserId(), ChangeAction.CREATED, null, AuditUtils.snapshot(savedUser));
+        return savedUser;
     }
 
     /**
@@ -69,6 +88,8 @@ public class UserServiceImpl implements UserService {
             User existingUser = userRepository.findById(userId).orElseThrow(() ->
                     new ResourceNotFoundException("User with ID " + userId + " not found"));
 
+            Map<String, Object> before = AuditUtils.snapshot(existingUser);
+
             // Update user fields
             existingUser.setUsername(updatedUser.getUsername());
             existingUser.setEmail(updatedUser.getEmail());
@@ -76,7 +97,9 @@ public class UserServiceImpl implements UserService {
             existingUser.setRole(updatedUser.getRole());
             existingUser.setEnabled(updatedUser.isEnabled());
 
-            return userRepository.save(existingUser);
+            User savedUser = userRepository.save(existingUser);
+            auditService.record("user", userId, ChangeAction.UPDATED, before, AuditUtils.snapshot(savedUser));
+            return savedUser;
         } catch (Exception e) {
             log.error("Error updating user with ID {}: {}", userId, e.getMessage(), e);
             throw new ResourceNotFoundException("Error updating user with ID " + userId);
@@ -95,13 +118,18 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId).orElse(null);
         if (user != null) {
             userRepository.deleteById(userId);
+            existenceIndex.removeUser(userId);
+            // The created and assigned tasks of the user are deleted with it
+            removeTasks(user.getCreatedTasks());
+            removeTasks(user.getAssignedTasks());
+            auditService.record("user", userId, ChangeAction.DELETED, AuditUtils.snapshot(user), null);
             return true;
         }
         return false;
     }
 
     /**
-     * Retrieves a user by its ID.
+     * Retrieves a user by its ID. IDs the {@link ExistenceIndex} knows to be absent are rejected without a query.
      *
      * @param userId the ID of the user to retrieve
      * @return the {@link User} entity with the specified ID
@@ -110,9 +138,39 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public User getUserById(Long userId) {
+        if (existenceIndex.checkUser(userId) == ExistenceIndex.Existence.ABSENT) {
+            throw new ResourceNotFoundException("User not found");
+        }
         return userRepository.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
+    /**
+     * Retrieves the users with the given IDs. IDs the {@link ExistenceIndex} knows to be absent are skipped. The
+     * remaining users are loaded with their roles and created tasks in one query, and their assigned tasks are
+     * initialized with a second one.
+     *
+     * @param userIds the IDs of the users to retrieve
+     * @return a {@link Map} of the found {@link User} entities by their IDs
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, User> getUsersByIds(Set<Long> userIds) {
+        Map<Long, User> users = new HashMap<>();
+        List<Long> candidateIds = userIds.stream()
+                .filter(userId -> existenceIndex.checkUser(userId) != ExistenceIndex.Existence.ABSENT)
+                .toList();
+        if (candidateIds.isEmpty()) {
+            return users;
+        }
+        for (User user : userRepository.findAllWithCreatedTasksByIdIn(candidateIds)) {
+            users.put(user.getUserId(), user);
+        }
+        if (!users.isEmpty()) {
+            userRepository.findAllWithAssignedTasksByIdIn(users.keySet());
+        }
+        return users;
+    }
+
     /**
      * Retrieves all users with pagination.
      *
@@ -124,4 +182,15 @@ public class UserServiceImpl implements UserService {
     public Page<User> getAllUsers(Pageable pageable) {
         return userRepository.findAll(pageable);
     }
-}
\ No newline at end of file
+
+    /**
+     * Removes deleted tasks from the {@link ExistenceIndex}.
+     *
+     * @param tasks the deleted tasks, or {@code null}
+     */
+    private void removeTasks(Set<Task> tasks) {
+        if (tasks != null) {
+            tasks.forEach(task -> existenceIndex.removeTask(task.getTaskId()));
+        }
+    }
+}
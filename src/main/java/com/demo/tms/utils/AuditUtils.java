@@ -0,0 +1,117 @@
+package com.demo.tms.utils;
+
+import com.demo.tms.dto.FieldChangeDTO;
+import com.demo.tms.entity.Comment;
+import com.demo.tms.entity.Role;
+import com.demo.tms.entity.Task;
+import com.demo.tms.entity.User;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * {@code AuditUtils} provides helper methods for capturing the audited fields of entities and diffing them.
+ * <p>
+ * Snapshots hold the business fields only. Related entities are represented by their IDs, and versions and
+ * timestamps are left out, as they change on every write. Password hashes are never audited.
+ * </p>
+ */
+public final class AuditUtils {
+
+    private AuditUtils() {
+    }
+
+    /**
+     * Captures the audited fields of a task.
+     *
+     * @param task the {@link Task}
+     * @return the audited fields by name
+     */
+    public static Map<String, Object> snapshot(Task task) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("name", task.getName());
+        fields.put("description", task.getDescription());
+        fields.put("status", task.getStatus());
+        fields.put("priority", task.getPriority());
+        fields.put("authorId", userIdOf(task.getAuthor()));
+        fields.put("assigneeId", userIdOf(task.getAssignee()));
+        return fields;
+    }
+
+    /**
+     * Captures the audited fields of a comment.
+     *
+     * @param comment the {@link Comment}
+     * @return the audited fields by name
+     */
+    public static Map<String, Object> snapshot(Comment comment) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("text", comment.getText());
+        fields.put("userId", userIdOf(comment.getUser()));
+        fields.put("taskId", comment.getTask() != null ? comment.getTask().getTaskId() : null);
+        return fields;
+    }
+
+    /**
+     * Captures the audited fields of a user.
+     *
+     * @param user the {@link User}
+     * @return the audited fields by name
+     */
+    public static Map<String, Object> snapshot(User user) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("username", user.getUsername());
+        fields.put("email", user.getEmail());
+        fields.put("enabled", user.isEnabled());
+        return fields;
+    }
+
+    /**
+     * Captures the audited fields of a role.
+     *
+     * @param role the {@link Role}
+     * @return the audited fields by name
+     */
+    public static Map<String, Object> snapshot(Role role) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("authority", role.getAuthority());
+        fields.put("userId", userIdOf(role.getUser()));
+        return fields;
+    }
+
+    /**
+     * Diffs two snapshots. Fields missing from a snapshot are treated as {@code null}.
+     *
+     * @param before the fields before the change, or {@code null} if the entity was created
+     * @param after  the fields after the change, or {@code null} if the entity was deleted
+     * @return the changed fields by name, in snapshot order
+     */
+    public static Map<String, FieldChangeDTO> diff(Map<String, Object> before, Map<String, Object> after) {
+        Map<String, Object> from = before != null ? before : Map.of();
+        Map<String, Object> to = after != null ? after : Map.of();
+        Set<String> names = new LinkedHashSet<>(from.keySet());
+        names.addAll(to.keySet());
+        Map<String, FieldChangeDTO> changes = new LinkedHashMap<>();
+        for (String name : names) {
+            Object oldValue = from.get(name);
+            Object newValue = to.get(name);
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.put(name, new FieldChangeDTO(oldValue, newValue));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the ID of a user.
+     *
+     * @param user the {@link User}, or {@code null}
+     * @return the ID of the user, or {@code null} if there is no user
+     */
+    private static Long userIdOf(User user) {
+        return user != null ? user.getUserId() : null;
+    }
+}
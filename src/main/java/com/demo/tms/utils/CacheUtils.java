@@ -0,0 +1,55 @@
+package com.demo.tms.utils;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+
+/**
+ * {@code CacheUtils} provides helper methods for evicting cache entries of rows written in a transaction.
+ * <p>
+ * Entries are evicted once the transaction commits, so that a concurrent read cannot cache the previous state of a
+ * row again between the eviction and the commit.
+ * </p>
+ */
+public final class CacheUtils {
+
+    private CacheUtils() {
+    }
+
+    /**
+     * Evicts the entries of the given keys from the given caches once the current transaction commits, or
+     * immediately if there is no transaction.
+     *
+     * @param cacheManager the {@link CacheManager} holding the caches
+     * @param keys         the keys of the entries to evict
+     * @param cacheNames   the names of the caches
+     */
+    public static void evictAfterCommit(CacheManager cacheManager, Collection<?> keys, String... cacheNames) {
+        TransactionUtils.afterCommit(() -> {
+            for (String cacheName : cacheNames) {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache != null) {
+                    keys.forEach(cache::evict);
+                }
+            }
+        });
+    }
+
+    /**
+     * Clears the given caches once the current transaction commits, or immediately if there is no transaction.
+     *
+     * @param cacheManager the {@link CacheManager} holding the caches
+     * @param cacheNames   the names of the caches
+     */
+    public static void clearAfterCommit(CacheManager cacheManager, String... cacheNames) {
+        TransactionUtils.afterCommit(() -> {
+            for (String cacheName : cacheNames) {
+                Cache cache = cacheManager.getCache(cacheName);
+                if (cache != null) {
+                    cache.clear();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,21 @@
+package com.demo.tms.utils;
+
+/**
+ * {@code ChangeAction} is an enum that represents the kinds of changes pushed to change event subscribers.
+ */
+public enum ChangeAction {
+    /**
+     * Indicates that the task or comment was created.
+     */
+    CREATED,
+
+    /**
+     * Indicates that the task or comment was updated.
+     */
+    UPDATED,
+
+    /**
+     * Indicates that the task or comment was deleted.
+     */
+    DELETED
+}
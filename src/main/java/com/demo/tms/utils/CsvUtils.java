@@ -0,0 +1,53 @@
+package com.demo.tms.utils;
+
+/**
+ * {@code CsvUtils} provides helper methods for writing CSV lines in the dialect read by PostgreSQL's
+ * {@code COPY ... WITH (FORMAT csv)}.
+ * <p>
+ * Values containing a comma, a quote or a line break are quoted, and quotes inside them are doubled.
+ * {@code null} values are written as empty unquoted fields, which {@code COPY} reads back as {@code NULL}.
+ * </p>
+ */
+public final class CsvUtils {
+
+    private CsvUtils() {
+    }
+
+    /**
+     * Formats the given values as a single CSV line.
+     *
+     * @param values the column values of the line, may contain {@code null}
+     * @return the CSV line, terminated by {@code \n}
+     */
+    public static String toLine(Object... values) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            if (values[i] != null) {
+                appendValue(line, values[i].toString());
+            }
+        }
+        return line.append('\n').toString();
+    }
+
+    /**
+     * Appends a single value, quoting it if necessary.
+     *
+     * @param line  the line to append to
+     * @param value the value to append
+     */
+    private static void appendValue(StringBuilder line, String value) {
+        boolean quote = value.isEmpty();
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (quote) {
+            line.append('"').append(value.replace("\"", "\"\"")).append('"');
+        } else {
+            line.append(value);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.demo.tms.utils;
+
+import com.demo.tms.entity.Comment;
+import com.demo.tms.entity.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * {@code ETagUtils} provides helper methods for building and matching HTTP entity tags (ETags).
+ * <p>
+ * Single-resource ETags are strong validators derived from the resource type, its ID and its optimistic locking
+ * version, so they can be computed without serializing the resource. Tasks list the IDs of their comments, so their
+ * tags are derived from a representation version that covers the comment IDs as well. Page ETags are derived from the
+ * IDs and versions of the page content together with the pagination metadata.
+ * </p>
+ * <p>
+ * JSON, CBOR and Smile representations of the same resource differ byte by byte, so a strong tag must differ too:
+ * the binary representations get a suffix naming their encoding, and responses vary by the {@code Accept} header.
+ * </p>
+ */
+public final class ETagUtils {
+
+    private static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private ETagUtils() {
+    }
+
+    /**
+     * Builds a strong ETag for a single versioned resource.
+     *
+     * @param resource the resource type, e.g. {@code "task"}
+     * @param id       the ID of the resource
+     * @param version  the optimistic locking version of the resource
+     * @return a quoted ETag value such as {@code "task-1-3"}
+     */
+    public static String forResource(String resource, Long id, Long version) {
+        return "\"" + resource + "-" + id + "-" + version + "\"";
+    }
+
+    /**
+     * Combines the version of a task with the IDs of its comments into the version of the task representation.
+     * <p>
+     * The comment IDs are part of the task representation, but creating or deleting a comment leaves the task row
+     * and its version untouched. The IDs are hashed independently of their order and mixed into the version, so the
+     * result changes whenever the task or its set of comments changes. A task without comments keeps its version.
+     * </p>
+     *
+     * @param version    the optimistic locking version of the task
+     * @param commentIds the IDs of the comments of the task
+     * @return the version of the task representation, never negative
+     */
+    public static Long representationVersion(Long version, Collection<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return version;
+        }
+        long commentHash = 0;
+        for (Long commentId : commentIds) {
+            commentHash += mix(hashOf(commentId));
+        }
+        long hash = 31 * (31 * hashOf(version) + commentIds.size()) + commentHash;
+        return hash & Long.MAX_VALUE;
+    }
+
+    /**
+     * Returns the version of the representation of a task, whose comments must be loaded.
+     *
+     * @param task the task
+     * @return the version of the task representation
+     * @see #representationVersion(Long, Collection)
+     */
+    public static Long representationVersion(Task task) {
+        List<Long> commentIds = task.getComments() != null
+                ? task.getComments().stream().map(Comment::getCommentId).toList()
+                : List.of();
+        return representationVersion(task.getVersion(), commentIds);
+    }
+
+    /**
+     * Builds a strong ETag for a page of versioned resources.
+     * <p>
+     * The tag is a 64-bit hash over the page number, page size, total number of elements and the ID and version of
+     * every element, so any insert, delete or update affecting the page changes the tag.
+     * </p>
+     *
+     * @param resource  the resource type, e.g. {@code "tasks"}
+     * @param page      the page of resources
+     * @param idFn      function extracting the ID of an element
+     * @param versionFn function extracting the version of an element
+     * @param <T>       the element type
+     * @return a quoted ETag value for the page
+     */
+    public static <T> String forPage(String resource, Page<T> page, Function<T, Long> idFn,
+                                     Function<T, Long> versionFn) {
+        long hash = 1125899906842597L;
+        hash = 31 * hash + page.getNumber();
+        hash = 31 * hash + page.getSize();
+        hash = 31 * hash + page.getTotalElements();
+        for (T element : page.getContent()) {
+            hash = 31 * hash + hashOf(idFn.apply(element));
+            hash = 31 * hash + hashOf(versionFn.apply(element));
+        }
+        return "\"" + resource + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Makes an ETag specific to the representation negotiated for an {@code Accept} request header.
+     * <p>
+     * The representation is determined by {@link #negotiatedMediaType(String)}. JSON, the default representation,
+     * keeps the tag as it is; CBOR and Smile append {@code -cbor} and {@code -smile}, e.g. {@code "task-1-3-cbor"}.
+     * </p>
+     *
+     * @param eTag   the quoted ETag of the resource
+     * @param accept the raw {@code Accept} request header value, may be {@code null}
+     * @return the quoted ETag of the negotiated representation
+     */
+    public static String forRepresentation(String eTag, String accept) {
+        String encoding = binaryEncoding(accept);
+        return encoding != null ? eTag.substring(0, eTag.length() - 1) + "-" + encoding + "\"" : eTag;
+    }
+
+    /**
+     * Checks whether the value of an {@code If-None-Match} request header matches the given ETag.
+     * <p>
+     * The header may contain {@code *} or a comma separated list of tags. Weak tags ({@code W/"..."}) are compared
+     * using the weak comparison function, as required for {@code If-None-Match}.
+     * </p>
+     *
+     * @param ifNoneMatch the raw {@code If-None-Match} header value, may be {@code null}
+     * @param eTag        the current quoted ETag of the resource
+     * @return {@code true} if the client's cached representation is still current, otherwise {@code false}
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank() || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines which of the supported representations is negotiated for an {@code Accept} request header.
+     * <p>
+     * The acceptable media types are ranked by quality and specificity, and the first one that includes JSON or is
+     * compatible with CBOR or Smile wins, regardless of media type parameters. Both the representation ETags and the
+     * response body cache rely on this method, so they always agree on the negotiated representation.
+     * </p>
+     *
+     * @param accept the raw {@code Accept} request header value, may be {@code null}
+     * @return {@link MediaType#APPLICATION_JSON}, {@link MediaType#APPLICATION_CBOR} or
+     * {@code application/x-jackson-smile}, or {@code null} if the header is invalid or accepts none of them
+     */
+    public static MediaType negotiatedMediaType(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MimeTypeUtils.sortBySpecificity(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.getQualityValue() == 0) {
+                continue;
+            }
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                return MediaType.APPLICATION_JSON;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+            if (mediaType.isCompatibleWith(APPLICATION_SMILE)) {
+                return APPLICATION_SMILE;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the binary encoding negotiated for an {@code Accept} request header.
+     *
+     * @param accept the raw {@code Accept} request header value, may be {@code null}
+     * @return {@code "cbor"} or {@code "smile"}, or {@code null} if JSON is negotiated
+     */
+    private static String binaryEncoding(String accept) {
+        MediaType mediaType = negotiatedMediaType(accept);
+        if (MediaType.APPLICATION_CBOR.equals(mediaType)) {
+            return "cbor";
+        }
+        if (APPLICATION_SMILE.equals(mediaType)) {
+            return "smile";
+        }
+        return null;
+    }
+
+    /**
+     * Spreads the bits of a value, so that sums of mixed IDs do not collide for nearby IDs (SplitMix64 finalizer).
+     *
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Null-safe hash of a {@link Long} value.
+     *
+     * @param value the value to hash
+     * @return the hash of the value, or {@code 0} for {@code null}
+     */
+    private static long hashOf(Long value) {
+        return value != null ? value : 0L;
+    }
+}
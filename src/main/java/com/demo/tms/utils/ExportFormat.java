@@ -0,0 +1,51 @@
+package com.demo.tms.utils;
+
+/**
+ * {@code ExportFormat} is an enum that represents the formats supported by the streaming export and bulk import
+ * endpoints.
+ * <p>
+ * Both formats hold one row per line, so they can be written and consumed as a stream.
+ * </p>
+ */
+public enum ExportFormat {
+    /**
+     * Newline delimited JSON, one JSON object per line.
+     */
+    NDJSON("application/x-ndjson"),
+
+    /**
+     * Comma separated values with a header line.
+     */
+    CSV("text/csv");
+
+    private final String contentType;
+
+    ExportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * Returns the media type of the export format.
+     *
+     * @return the media type used as the {@code Content-Type} of export responses
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    /**
+     * Resolves an export format from a case-insensitive request parameter value.
+     *
+     * @param value the request parameter value, e.g. {@code "ndjson"} or {@code "csv"}
+     * @return the matching {@link ExportFormat}
+     * @throws IllegalArgumentException if the value does not match a supported format
+     */
+    public static ExportFormat fromParameter(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Invalid export format: " + value);
+    }
+}
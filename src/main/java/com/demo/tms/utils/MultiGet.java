@@ -0,0 +1,115 @@
+package com.demo.tms.utils;
+
+import com.demo.tms.dto.MultiGetResponseDTO;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * {@code MultiGet} validates the {@code ids} query parameter of multi-get requests and assembles their responses.
+ * <p>
+ * A multi-get request retrieves several resources by their IDs at once, e.g. {@code GET /api/tasks?ids=3,1,2}.
+ * The resources are returned in the order their IDs were requested, and the IDs that were not found are reported
+ * instead of failing the request. Services look the IDs up in their entity caches first, with one bulk lookup,
+ * and load only the missing ones from the database.
+ * </p>
+ */
+public final class MultiGet {
+
+    /**
+     * The maximum number of distinct IDs of a multi-get request.
+     */
+    public static final int MAX_IDS = 100;
+
+    private MultiGet() {
+    }
+
+    /**
+     * Validates the requested IDs and removes duplicates.
+     *
+     * @param ids the requested IDs
+     * @return the distinct IDs in request order
+     * @throws IllegalArgumentException if no ID, a {@code null} ID or more than {@link #MAX_IDS} distinct IDs are
+     *                                  requested
+     */
+    public static Set<Long> parse(List<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id == null) {
+                throw new IllegalArgumentException("IDs must not be blank.");
+            }
+            distinct.add(id);
+        }
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("At least one ID is required.");
+        }
+        if (distinct.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " IDs can be requested at once.");
+        }
+        return distinct;
+    }
+
+    /**
+     * Creates the response of a multi-get request.
+     *
+     * @param ids       the distinct requested IDs in request order
+     * @param found     the found resources by their IDs
+     * @param converter the function converting a found resource to its DTO
+     * @param <E>       the type of the found resources
+     * @param <D>       the type of the DTOs
+     * @return a {@link MultiGetResponseDTO} with the DTOs of the found resources and the missing IDs in request order
+     */
+    public static <E, D> MultiGetResponseDTO<D> toResponse(Set<Long> ids, Map<Long, E> found,
+                                                           Function<E, D> converter) {
+        List<D> items = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            E resource = found.get(id);
+            if (resource != null) {
+                items.add(converter.apply(resource));
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new MultiGetResponseDTO<>(items, missingIds);
+    }
+
+    /**
+     * Looks up the cached entities with the given IDs.
+     * <p>
+     * Caffeine caches are read with a single bulk lookup; other caches are read entry by entry.
+     * </p>
+     *
+     * @param cache the cache holding entities by their IDs, may be {@code null}
+     * @param ids   the IDs to look up
+     * @param type  the type of the entities
+     * @param <T>   the type of the entities
+     * @return a mutable {@link Map} of the cached entities by their IDs
+     */
+    public static <T> Map<Long, T> findCached(Cache cache, Collection<Long> ids, Class<T> type) {
+        Map<Long, T> found = new HashMap<>();
+        if (cache instanceof CaffeineCache caffeineCache) {
+            caffeineCache.getNativeCache().getAllPresent(ids).forEach((id, value) -> {
+                if (type.isInstance(value)) {
+                    found.put((Long) id, type.cast(value));
+                }
+            });
+        } else if (cache != null) {
+            for (Long id : ids) {
+                T value = cache.get(id, type);
+                if (value != null) {
+                    found.put(id, value);
+                }
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,107 @@
+package com.demo.tms.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * {@code NdjsonCsvReader} converts NDJSON input to CSV on the fly, one line at a time, so NDJSON can be fed to
+ * PostgreSQL's {@code COPY ... WITH (FORMAT csv)} without buffering the input.
+ * <p>
+ * Every CSV row starts with the line number of the JSON object and an error column, followed by the values of the
+ * given fields as text. Missing fields and JSON {@code null} values become {@code NULL}. Lines that are not valid
+ * JSON objects are not rejected here; they produce a row with only the line number and an error message, so they are
+ * reported together with the rows rejected by the database. Blank lines are skipped.
+ * </p>
+ */
+public class NdjsonCsvReader extends Reader {
+
+    private final BufferedReader lines;
+    private final ObjectMapper objectMapper;
+    private final List<String> fields;
+
+    private String row = "";
+    private int position;
+    private long lineNumber;
+
+    /**
+     * Constructs a new {@code NdjsonCsvReader}.
+     *
+     * @param lines        the NDJSON input
+     * @param objectMapper the {@link ObjectMapper} used to parse the JSON objects
+     * @param fields       the JSON fields written as CSV columns, in column order
+     */
+    public NdjsonCsvReader(BufferedReader lines, ObjectMapper objectMapper, List<String> fields) {
+        this.lines = lines;
+        this.objectMapper = objectMapper;
+        this.fields = fields;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        while (position >= row.length()) {
+            if (!nextRow()) {
+                return -1;
+            }
+        }
+        int count = Math.min(length, row.length() - position);
+        row.getChars(position, position + count, buffer, offset);
+        position += count;
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        lines.close();
+    }
+
+    /**
+     * Reads the next non-blank input line and converts it to a CSV row.
+     *
+     * @return {@code true} if a row was read, {@code false} at the end of the input
+     * @throws IOException if reading the input fails
+     */
+    private boolean nextRow() throws IOException {
+        String line;
+        do {
+            line = lines.readLine();
+            if (line == null) {
+                return false;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        Object[] values = new Object[fields.size() + 2];
+        values[0] = lineNumber;
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (node.isObject()) {
+                for (int i = 0; i < fields.size(); i++) {
+                    JsonNode value = node.get(fields.get(i));
+                    values[i + 2] = value == null || value.isNull() ? null : value.asText();
+                }
+            } else {
+                values[1] = "not a JSON object";
+            }
+        } catch (JsonProcessingException e) {
+            values[1] = "invalid JSON";
+        }
+        row = CsvUtils.toLine(values);
+        position = 0;
+        return true;
+    }
+}
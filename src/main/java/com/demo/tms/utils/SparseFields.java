@@ -0,0 +1,55 @@
+package com.demo.tms.utils;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@code SparseFields} parses and validates the {@code fields} query parameter used for sparse fieldsets.
+ * <p>
+ * A sparse fieldset is a comma separated list of DTO property names, e.g. {@code fields=name,status,assigneeId}.
+ * Only the listed columns are selected from the database and only the listed properties are serialized.
+ * The identifier of the resource is always included.
+ * </p>
+ */
+public final class SparseFields {
+
+    /**
+     * The properties of {@code TaskDTO} that can be requested.
+     */
+    public static final Set<String> TASK_FIELDS = Set.of("taskId", "name", "description", "status", "priority",
+            "authorId", "assigneeId", "commentIds", "version");
+
+    /**
+     * The properties of {@code CommentDTO} that can be requested.
+     */
+    public static final Set<String> COMMENT_FIELDS = Set.of("commentId", "text", "userId", "taskId", "version");
+
+    private SparseFields() {
+    }
+
+    /**
+     * Parses a {@code fields} parameter and validates it against the allowed property names.
+     *
+     * @param fields  the raw comma separated {@code fields} parameter
+     * @param allowed the property names that can be requested
+     * @return the requested property names in request order
+     * @throws IllegalArgumentException if the parameter is empty or contains an unknown property name
+     */
+    public static Set<String> parse(String fields, Set<String> allowed) {
+        Set<String> requested = new LinkedHashSet<>();
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(field -> {
+                    if (!allowed.contains(field)) {
+                        throw new IllegalArgumentException("Unknown field: " + field);
+                    }
+                    requested.add(field);
+                });
+        if (requested.isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required.");
+        }
+        return requested;
+    }
+}
@@ -0,0 +1,73 @@
+package com.demo.tms.utils;
+
+import java.time.Duration;
+
+/**
+ * {@code TimeInterval} is an enum that represents the bucket sizes supported by the task timeline endpoint.
+ * <p>
+ * Buckets are aligned to calendar boundaries in UTC, with weeks starting on Monday.
+ * </p>
+ */
+public enum TimeInterval {
+    /**
+     * One bucket per hour.
+     */
+    HOUR("hour", Duration.ofHours(1)),
+
+    /**
+     * One bucket per day.
+     */
+    DAY("day", Duration.ofDays(1)),
+
+    /**
+     * One bucket per week.
+     */
+    WEEK("week", Duration.ofDays(7)),
+
+    /**
+     * One bucket per month.
+     */
+    MONTH("month", Duration.ofDays(28));
+
+    private final String unit;
+    private final Duration minimumLength;
+
+    TimeInterval(String unit, Duration minimumLength) {
+        this.unit = unit;
+        this.minimumLength = minimumLength;
+    }
+
+    /**
+     * Returns the field name passed to the PostgreSQL {@code date_trunc} function.
+     *
+     * @return the {@code date_trunc} field name
+     */
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * Returns the shortest possible length of one interval, used to bound the number of buckets of a range.
+     *
+     * @return the shortest length of one interval
+     */
+    public Duration getMinimumLength() {
+        return minimumLength;
+    }
+
+    /**
+     * Resolves a time interval from a case-insensitive request parameter value.
+     *
+     * @param value the request parameter value, e.g. {@code "day"}
+     * @return the matching {@link TimeInterval}
+     * @throws IllegalArgumentException if the value does not match a supported interval
+     */
+    public static TimeInterval fromParameter(String value) {
+        for (TimeInterval interval : values()) {
+            if (interval.name().equalsIgnoreCase(value)) {
+                return interval;
+            }
+        }
+        throw new IllegalArgumentException("Invalid time interval: " + value);
+    }
+}
@@ -0,0 +1,35 @@
+package com.demo.tms.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@code TransactionUtils} provides helper methods for keeping in-memory state in step with committed data.
+ */
+public final class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * Runs an action once the current transaction commits, or immediately if there is no transaction.
+     * <p>
+     * The action is dropped if the transaction rolls back. Actions that access the database must run in a new
+     * transaction, as the committed transaction's resources are still bound when the action runs.
+     * </p>
+     *
+     * @param action the action to run
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -42,10 +42,30 @@ create table tms.tasks
     author_id   bigserial    not null,
     assignee_id bigserial    not null,
     version     bigint       not null default 0,
+    created_at  timestamptz  not null default now(),
+    updated_at  timestamptz  not null default now(),
+    change_xid  bigint       not null,
+    change_seq  bigint       not null,
+    search_vector tsvector generated always as (
+        setweight(to_tsvector('english', name), 'A') ||
+        setweight(to_tsvector('english', description), 'B')) stored,
     foreign key (author_id) references tms.users (id),
     foreign key (assignee_id) references tms.users (id)
 );
 
+create index tasks_search_vector_idx on tms.tasks using gin (search_vector);
+-- task filters: equality columns first, so any prefix of (user, status, priority) is served by one index
+create index tasks_assignee_status_priority_idx on tms.tasks (assignee_id, status, priority);
+create index tasks_author_status_priority_idx on tms.tasks (author_id, status, priority);
+create index tasks_status_priority_idx on tms.tasks (status, priority);
+-- pending tasks only: the task queue is loaded with status = 'PENDING' reading (id, assignee_id, priority), which
+-- this index returns with an index-only scan; processed and completed tasks, the bulk of the table, stay out of it
+create index tasks_pending_assignee_priority_idx on tms.tasks (assignee_id, priority, id) where status = 'PENDING';
+-- rows are appended in creation order, so block range summaries stay small and selective for time range queries
+create index tasks_created_at_brin_idx on tms.tasks using brin (created_at);
+-- updates scatter new timestamps over old blocks, which would widen every block range, so updated_at needs a B-tree
+create index tasks_updated_at_idx on tms.tasks (updated_at);
+
 drop table if exists tms.comments;
 create table tms.comments
 (
@@ -54,10 +74,141 @@ create table tms.comments
     user_id bigserial not null,
     task_id bigserial not null,
     version bigint    not null default 0,
+    created_at timestamptz not null default now(),
+    updated_at timestamptz not null default now(),
+    change_xid bigint      not null,
+    change_seq bigint      not null,
+    search_vector tsvector generated always as (to_tsvector('english', text)) stored,
     foreign key (user_id) references tms.users (id),
     foreign key (task_id) references tms.tasks (id)
 );
 
+create index comments_search_vector_idx on tms.comments using gin (search_vector);
+create index comments_created_at_brin_idx on tms.comments using brin (created_at);
+create index comments_updated_at_idx on tms.comments (updated_at);
+
+-- change feed: the triggers below stamp every written row with the writing transaction ID and a sequence number.
+-- Clients sync from a (change_xid, change_seq) watermark, and only transactions older than the oldest running one
+-- are returned, so a transaction committing after a later one is never skipped.
+create sequence tms.change_seq;
+
+drop table if exists tms.tombstones;
+create table tms.tombstones
+(
+    change_seq  bigint primary key default nextval('tms.change_seq'),
+    change_xid  bigint      not null default pg_current_xact_id()::text::bigint,
+    entity_type varchar(16) not null,
+    entity_id   bigint      not null,
+    assignee_id bigint      not null,
+    deleted_at  timestamptz not null default now()
+);
+
+-- position of the newest purged tombstone, watermarks before it can no longer be synced incrementally
+drop table if exists tms.sync_state;
+create table tms.sync_state
+(
+    id         int primary key check (id = 1),
+    purged_xid bigint not null,
+    purged_seq bigint not null
+);
+insert into tms.sync_state (id, purged_xid, purged_seq) values (1, 0, 0);
+
+create index tasks_assignee_change_idx on tms.tasks (assignee_id, change_xid, change_seq);
+create index comments_change_idx on tms.comments (change_xid, change_seq);
+create index comments_task_idx on tms.comments (task_id);
+create index tombstones_assignee_change_idx on tms.tombstones (assignee_id, change_xid, change_seq);
+create index tombstones_deleted_at_brin_idx on tms.tombstones using brin (deleted_at);
+
+create function tms.track_task_change() returns trigger language plpgsql as
+$$
+begin
+    if tg_op = 'DELETE' then
+        insert into tms.tombstones (entity_type, entity_id, assignee_id) values ('TASK', old.id, old.assignee_id);
+        return old;
+    end if;
+    new.change_xid := pg_current_xact_id()::text::bigint;
+    new.change_seq := nextval('tms.change_seq');
+    if tg_op = 'UPDATE' and new.assignee_id <> old.assignee_id then
+        -- the task leaves the feed of the previous assignee and enters the new one's together with its comments
+        insert into tms.tombstones (entity_type, entity_id, assignee_id) values ('TASK', old.id, old.assignee_id);
+        update tms.comments set task_id = task_id where task_id = new.id;
+    end if;
+    return new;
+end;
+$$;
+
+create function tms.track_comment_change() returns trigger language plpgsql as
+$$
+begin
+    if tg_op = 'DELETE' then
+        insert into tms.tombstones (entity_type, entity_id, assignee_id)
+        select 'COMMENT', old.id, t.assignee_id from tms.tasks t where t.id = old.task_id;
+        return old;
+    end if;
+    new.change_xid := pg_current_xact_id()::text::bigint;
+    new.change_seq := nextval('tms.change_seq');
+    return new;
+end;
+$$;
+
+create trigger tasks_change_trg before insert or update or delete on tms.tasks
+    for each row execute function tms.track_task_change();
+create trigger comments_change_trg before insert or update or delete on tms.comments
+    for each row execute function tms.track_comment_change();
+
+-- transactional outbox: change events are written in the transaction of the change and relayed in batches
+drop table if exists tms.outbox;
+create table tms.outbox
+(
+    id             bigserial primary key,
+    aggregate_type varchar(16) not null,
+    aggregate_id   bigint      not null,
+    event_type     varchar(16) not null,
+    payload        jsonb       not null,
+    created_at     timestamptz not null default now()
+);
+
+-- audit trail of task, comment, user and role changes, append-only
+drop table if exists tms.audit_log;
+create table tms.audit_log
+(
+    id          bigserial primary key,
+    entity_type varchar(16) not null,
+    entity_id   bigint,
+    action      varchar(16) not null,
+    actor       varchar(100),
+    changes     jsonb       not null,
+    recorded_at timestamptz not null
+);
+
+create index audit_log_entity_idx on tms.audit_log (entity_type, entity_id, id);
+create index audit_log_recorded_at_brin_idx on tms.audit_log using brin (recorded_at);
+
+create function tms.reject_audit_change() returns trigger language plpgsql as
+$$
+begin
+    raise exception 'tms.audit_log is append-only';
+end;
+$$;
+
+create trigger audit_log_append_only_trg before update or delete or truncate on tms.audit_log
+    for each statement execute function tms.reject_audit_change();
+
+-- idempotency keys of create requests with the response of their first execution, written in its transaction
+drop table if exists tms.idempotency_keys;
+create table tms.idempotency_keys
+(
+    principal       varchar(100) not null,
+    idempotency_key varchar(255) not null,
+    endpoint        varchar(64)  not null,
+    request_hash    varchar(64)  not null,
+    response        jsonb,
+    created_at      timestamptz  not null default now(),
+    primary key (principal, idempotency_key)
+);
+
+create index idempotency_keys_created_at_brin_idx on tms.idempotency_keys using brin (created_at);
+
 insert into tms.users (id, username, email, password, enabled)
 values (1, 'admin', 'admin@example.com',
         '$2a$10$U.TJCuMA4c6lka5Xq7i43OK9iDoA1/niZU3Gi6Xez1JzB7wNwvQzu', true),
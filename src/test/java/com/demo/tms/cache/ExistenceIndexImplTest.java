@@ -0,0 +1,182 @@
+package com.demo.tms.cache;
+
+import com.demo.tms.cache.ExistenceIndex.Existence;
+import com.demo.tms.repository.TaskRepository;
+import com.demo.tms.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExistenceIndexImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExistenceIndexImpl existenceIndex;
+
+    @BeforeEach
+    void setUp() {
+        existenceIndex = new ExistenceIndexImpl(userRepository, taskRepository, transactionManager, 1e-9, 100, 3600000, 2);
+    }
+
+    @Test
+    void check_ShouldBeUnknownUntilBuilt() {
+        assertEquals(Existence.UNKNOWN, existenceIndex.checkUser(1L));
+        assertEquals(Existence.UNKNOWN, existenceIndex.checkTask(1L));
+        assertEquals(Existence.ABSENT, existenceIndex.checkUser(null));
+    }
+
+    @Test
+    void rebuild_ShouldScanIdsPageByPage_AndAnswerAbsentIdsWithoutQuery() {
+        build(List.of(1L, 3L, 5L), List.of(7L, 9L));
+
+        assertEquals(Existence.UNKNOWN, existenceIndex.checkUser(3L));
+        assertEquals(Existence.UNKNOWN, existenceIndex.checkTask(7L));
+        assertFalse(existenceIndex.userExists(4L));
+        assertFalse(existenceIndex.taskExists(8L));
+        verify(userRepository, times(2)).findIdsAfter(eq(3L), any(Limit.class));
+        verify(userRepository, never()).existsById(any());
+        verify(taskRepository, never()).existsById(any());
+    }
+
+    @Test
+    void check_ShouldBeUnknown_ForIdsAboveScannedRange() {
+        build(List.of(1L, 2L), List.of());
+        when(userRepository.existsById(3L)).thenReturn(true);
+
+        assertEquals(Existence.UNKNOWN, existenceIndex.checkUser(3L));
+        assertEquals(Existence.UNKNOWN, existenceIndex.checkTask(1L));
+        assertTrue(existenceIndex.userExists(3L));
+        verify(userRepository).existsById(3L);
+    }
+
+    @Test
+    void check_ShouldBeUnknown_ForIdsCommittedAfterFirstScan_BelowItsHighestId() {
+        stubBuild(List.of(1L, 3L), List.of());
+        existenceIndex.rebuild();
+        when(userRepository.existsById(2L)).thenReturn(true);
+
+        assertEquals(Existence.UNKNOWN, existenceIndex.checkUser(2L));
+        assertTrue(existenceIndex.userExists(2L));
+    }
+
+    @Test
+    void check_ShouldRuleOutOnlyIdsReadByPreviousScan() {
+        stubBuild(List.of(1L, 3L), List.of());
+        existenceIndex.rebuild();
+        stubBuild(List.of(1L, 3L, 5L), List.of());
+        existenceIndex.rebuild();
+
+        assertEquals(Existence.ABSENT, existenceIndex.checkUser(2L));
+        assertEquals(Existence.UNKNOWN, existenceIndex.checkUser(4L));
+    }
+
+    @Test
+    void check_ShouldExpireConfirmations_AfterRebuildInterval() throws InterruptedException {
+        ExistenceIndexImpl shortLivedIndex =
+                new ExistenceIndexImpl(userRepository, taskRepository, transactionManager, 1e-9, 100, 10, 2);
+
+        shortLivedIndex.confirmUser(1L);
+        assertEquals(Existence.PRESENT, shortLivedIndex.checkUser(1L));
+
+        Thread.sleep(50);
+        assertEquals(Existence.UNKNOWN, shortLivedIndex.checkUser(1L));
+    }
+
+    @Test
+    void userExists_ShouldQueryUnknownIdOnce_AndConfirmIt() {
+        build(List.of(1L), List.of());
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        assertTrue(existenceIndex.userExists(1L));
+        assertTrue(existenceIndex.userExists(1L));
+
+        assertEquals(Existence.PRESENT, existenceIndex.checkUser(1L));
+        verify(userRepository, times(1)).existsById(1L);
+    }
+
+    @Test
+    void findExistingUserIds_ShouldQueryOnlyUnknownIds() {
+        build(List.of(1L, 2L, 4L), List.of());
+        existenceIndex.confirmUser(2L);
+        when(userRepository.findExistingIds(List.of(1L))).thenReturn(Set.of(1L));
+
+        Set<Long> existingIds = existenceIndex.findExistingUserIds(List.of(1L, 2L, 3L));
+
+        assertEquals(Set.of(1L, 2L), existingIds);
+        assertEquals(Existence.PRESENT, existenceIndex.checkUser(1L));
+    }
+
+    @Test
+    void addTask_ShouldMakeTaskPresent_AndRemoveTaskShouldUnconfirmIt() {
+        build(List.of(), List.of());
+
+        existenceIndex.addTask(5L);
+        assertEquals(Existence.PRESENT, existenceIndex.checkTask(5L));
+
+        existenceIndex.removeTask(5L);
+        assertEquals(Existence.UNKNOWN, existenceIndex.checkTask(5L));
+    }
+
+    @Test
+    void rebuild_ShouldSetFiltersAside_WhenScanFails() {
+        build(List.of(1L), List.of());
+        when(userRepository.count()).thenReturn(1L);
+        when(userRepository.findIdsAfter(eq(0L), any(Limit.class))).thenThrow(new IllegalStateException("down"));
+
+        existenceIndex.rebuild();
+
+        assertEquals(Existence.UNKNOWN, existenceIndex.checkUser(4L));
+        assertEquals(Existence.UNKNOWN, existenceIndex.checkTask(4L));
+    }
+
+    private void build(List<Long> userIds, List<Long> taskIds) {
+        stubBuild(userIds, taskIds);
+        existenceIndex.rebuild();
+        existenceIndex.rebuild();
+    }
+
+    private void stubBuild(List<Long> userIds, List<Long> taskIds) {
+        when(userRepository.count()).thenReturn((long) userIds.size());
+        stubPages(userIds, (afterId, page) -> when(userRepository.findIdsAfter(eq(afterId), any(Limit.class)))
+                .thenReturn(page));
+        when(taskRepository.count()).thenReturn((long) taskIds.size());
+        stubPages(taskIds, (afterId, page) -> when(taskRepository.findIdsAfter(eq(afterId), any(Limit.class)))
+                .thenReturn(page));
+    }
+
+    private void stubPages(List<Long> ids, PageStub stub) {
+        long afterId = 0;
+        for (int from = 0; ; from += 2) {
+            List<Long> page = ids.subList(from, Math.min(from + 2, ids.size()));
+            stub.apply(afterId, page);
+            if (page.size() < 2) {
+                return;
+            }
+            afterId = page.get(page.size() - 1);
+        }
+    }
+
+    interface PageStub {
+        void apply(long afterId, List<Long> page);
+    }
+}
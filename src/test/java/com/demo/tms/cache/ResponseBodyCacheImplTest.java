@@ -0,0 +1,107 @@
+package com.demo.tms.cache;
+
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.utils.ETagUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseBodyCacheImplTest {
+
+    private CacheManager cacheManager;
+    private ResponseBodyCacheImpl responseBodyCache;
+    private TaskDTO taskDTO;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager("taskResponses");
+        responseBodyCache = new ResponseBodyCacheImpl(cacheManager, new ObjectMapper(), true);
+
+        taskDTO = new TaskDTO();
+        taskDTO.setTaskId(1L);
+        taskDTO.setName("Test Task");
+        taskDTO.setVersion(2L);
+    }
+
+    @Test
+    void get_ShouldReturnBody_WhenVersionMatches() {
+        responseBodyCache.put("taskResponses", 1L, 2L, taskDTO);
+
+        byte[] body = responseBodyCache.get("taskResponses", 1L, 2L);
+
+        assertNotNull(body);
+        assertTrue(new String(body).contains("\"name\":\"Test Task\""));
+    }
+
+    @Test
+    void get_ShouldReturnNull_WhenVersionDiffers() {
+        responseBodyCache.put("taskResponses", 1L, 2L, taskDTO);
+
+        assertNull(responseBodyCache.get("taskResponses", 1L, 3L));
+    }
+
+    @Test
+    void get_ShouldReturnNull_WhenEvicted() {
+        responseBodyCache.put("taskResponses", 1L, 2L, taskDTO);
+        cacheManager.getCache("taskResponses").evict(1L);
+
+        assertNull(responseBodyCache.get("taskResponses", 1L, 2L));
+    }
+
+    @Test
+    void get_ShouldReturnNull_WhenDisabled() {
+        ResponseBodyCacheImpl disabledCache = new ResponseBodyCacheImpl(cacheManager, new ObjectMapper(), false);
+        disabledCache.put("taskResponses", 1L, 2L, taskDTO);
+
+        assertFalse(disabledCache.isEnabledFor(null));
+        assertNull(disabledCache.get("taskResponses", 1L, 2L));
+    }
+
+    @Test
+    void isEnabledFor_ShouldAcceptJsonAndRejectBinaryFormats() {
+        assertTrue(responseBodyCache.isEnabledFor(null));
+        assertTrue(responseBodyCache.isEnabledFor("application/json"));
+        assertTrue(responseBodyCache.isEnabledFor("*/*"));
+        assertFalse(responseBodyCache.isEnabledFor("application/cbor"));
+        assertFalse(responseBodyCache.isEnabledFor("application/x-jackson-smile, */*;q=0.1"));
+        assertFalse(responseBodyCache.isEnabledFor("text/csv"));
+    }
+
+    @Test
+    void isEnabledFor_ShouldAgreeWithRepresentationETag_WhenAcceptHasQualityValues() {
+        String[] acceptHeaders = {
+                "application/cbor;q=0.9, application/json",
+                "application/json;q=0.5, application/cbor;q=0.9",
+                "application/x-jackson-smile;q=0.8, application/json;q=0.4",
+                "application/cbor;q=0, application/json;q=0.1",
+                "application/*;q=0.5, application/cbor;q=0.2"
+        };
+        boolean[] expectedEnabled = {true, false, false, true, true};
+
+        for (int i = 0; i < acceptHeaders.length; i++) {
+            String accept = acceptHeaders[i];
+            String eTag = ETagUtils.forRepresentation("\"task-1-2\"", accept);
+
+            assertEquals(expectedEnabled[i], responseBodyCache.isEnabledFor(accept), accept);
+            assertEquals(expectedEnabled[i], eTag.equals("\"task-1-2\""), accept);
+        }
+    }
+
+    @Test
+    void write_ShouldWriteBodyAndHeaders() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] body = "{\"taskId\":1}".getBytes();
+
+        responseBodyCache.write(response, "\"task-1-2\"", body);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("\"task-1-2\"", response.getHeader("ETag"));
+        assertEquals("application/json", response.getContentType());
+        assertArrayEquals(body, response.getContentAsByteArray());
+    }
+}
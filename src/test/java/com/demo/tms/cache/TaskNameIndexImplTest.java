@@ -0,0 +1,101 @@
+package com.demo.tms.cache;
+
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskNameIndexImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskNameIndexImpl taskNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        taskNameIndex = new TaskNameIndexImpl(taskRepository, transactionManager, 1000);
+        when(taskRepository.streamNames(1000)).thenReturn(Stream.of(task(3L, "Fix login"), task(1L, "fix Logout"),
+                task(2L, "Deploy"), task(4L, "Fix login")));
+        taskNameIndex.rebuild();
+    }
+
+    @Test
+    void suggest_ShouldMatchPrefixIgnoringCase_OrderedByNameAndId() {
+        List<TaskDTO> suggestions = taskNameIndex.suggest("FIX LOG", 10);
+
+        assertEquals(List.of(3L, 4L, 1L), suggestions.stream().map(TaskDTO::getTaskId).toList());
+        assertEquals("fix Logout", suggestions.get(2).getName());
+        assertNull(suggestions.get(0).getDescription());
+    }
+
+    @Test
+    void suggest_ShouldRespectLimit() {
+        assertEquals(2, taskNameIndex.suggest("fix", 2).size());
+        assertTrue(taskNameIndex.suggest("nothing", 10).isEmpty());
+    }
+
+    @Test
+    void put_ShouldReplaceNameOfIndexedTask() {
+        taskNameIndex.put(2L, "Fix deployment");
+        taskNameIndex.put(5L, "Deploy again");
+
+        assertEquals(List.of(2L), taskNameIndex.suggest("fix d", 10).stream().map(TaskDTO::getTaskId).toList());
+        assertEquals(List.of(5L), taskNameIndex.suggest("dep", 10).stream().map(TaskDTO::getTaskId).toList());
+        assertEquals(5, taskNameIndex.size());
+    }
+
+    @Test
+    void remove_ShouldDropTask() {
+        taskNameIndex.remove(3L);
+        taskNameIndex.remove(42L);
+
+        assertEquals(List.of(4L, 1L), taskNameIndex.suggest("fix", 10).stream().map(TaskDTO::getTaskId).toList());
+        assertEquals(3, taskNameIndex.size());
+    }
+
+    @Test
+    void put_ShouldKeepSuggestionsOrdered_WhenDeltaIsMergedIntoBase() {
+        for (long taskId = 10; taskId < 10 + TaskNameIndexImpl.MAX_DELTA; taskId++) {
+            taskNameIndex.put(taskId, "Task " + taskId);
+        }
+        taskNameIndex.put(1L, "Fix login");
+        taskNameIndex.remove(4L);
+
+        assertEquals(List.of(1L, 3L), taskNameIndex.suggest("fix", 10).stream().map(TaskDTO::getTaskId).toList());
+        assertEquals(List.of(10L, 100L), taskNameIndex.suggest("task 10", 2).stream().map(TaskDTO::getTaskId)
+                .toList());
+        assertEquals(3 + TaskNameIndexImpl.MAX_DELTA, taskNameIndex.size());
+    }
+
+    @Test
+    void estimatedMemoryBytes_ShouldGrowWithNames() {
+        long before = taskNameIndex.estimatedMemoryBytes();
+
+        taskNameIndex.put(5L, "A much longer task name than any other in the index");
+
+        assertTrue(before > 0);
+        assertTrue(taskNameIndex.estimatedMemoryBytes() > before);
+    }
+
+    private TaskDTO task(Long taskId, String name) {
+        TaskDTO task = new TaskDTO();
+        task.setTaskId(taskId);
+        task.setName(name);
+        return task;
+    }
+}
@@ -0,0 +1,66 @@
+package com.demo.tms.cache;
+
+import com.demo.tms.repository.TaskRepository;
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskQueueImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskQueueImpl taskQueue;
+
+    @BeforeEach
+    void setUp() {
+        taskQueue = new TaskQueueImpl(taskRepository, transactionManager);
+        when(taskRepository.findPendingQueueEntries()).thenReturn(List.of(
+                new Object[]{4L, 1L, TaskPriority.LOW},
+                new Object[]{7L, 1L, TaskPriority.HIGH},
+                new Object[]{3L, 1L, TaskPriority.HIGH},
+                new Object[]{5L, 2L, TaskPriority.MEDIUM}));
+        taskQueue.rebuild();
+    }
+
+    @Test
+    void peek_ShouldOrderByPriorityThenAge() {
+        assertEquals(List.of(3L, 7L, 4L), taskQueue.peek(1L, 10));
+        assertEquals(List.of(3L), taskQueue.peek(1L, 1));
+        assertEquals(List.of(), taskQueue.peek(9L, 10));
+    }
+
+    @Test
+    void update_ShouldRequeueOrDequeue() {
+        taskQueue.update(4L, 1L, TaskStatus.PENDING, TaskPriority.HIGH);
+        taskQueue.update(3L, 1L, TaskStatus.PROCESSING, TaskPriority.HIGH);
+        taskQueue.update(5L, 1L, TaskStatus.PENDING, TaskPriority.MEDIUM);
+
+        assertEquals(List.of(4L, 7L, 5L), taskQueue.peek(1L, 10));
+        assertEquals(List.of(), taskQueue.peek(2L, 10));
+        assertEquals(3, taskQueue.size());
+    }
+
+    @Test
+    void remove_ShouldDequeueTask() {
+        taskQueue.remove(7L);
+        taskQueue.remove(42L);
+
+        assertEquals(List.of(3L, 4L), taskQueue.peek(1L, 10));
+        assertEquals(3, taskQueue.size());
+    }
+}
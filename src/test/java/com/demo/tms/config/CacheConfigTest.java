@@ -30,5 +30,9 @@ class CacheConfigTest {
                 "CacheManager should contain 'tasks' cache");
         assertTrue(caffeineCacheManager.getCacheNames().contains("comments"),
                 "CacheManager should contain 'comments' cache");
+        assertTrue(caffeineCacheManager.getCacheNames().contains("taskResponses"),
+                "CacheManager should contain 'taskResponses' cache");
+        assertTrue(caffeineCacheManager.getCacheNames().contains("commentResponses"),
+                "CacheManager should contain 'commentResponses' cache");
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.demo.tms.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentNegotiationConfigTest {
+
+    private final ContentNegotiationConfig config = new ContentNegotiationConfig();
+
+    @Test
+    void cborHttpMessageConverter_ShouldUseCborFactory() {
+        MappingJackson2CborHttpMessageConverter converter =
+                config.cborHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+
+        assertInstanceOf(CBORFactory.class, converter.getObjectMapper().getFactory());
+        assertTrue(converter.getSupportedMediaTypes().contains(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    void smileHttpMessageConverter_ShouldUseSmileFactory() {
+        MappingJackson2SmileHttpMessageConverter converter =
+                config.smileHttpMessageConverter(new Jackson2ObjectMapperBuilder());
+
+        assertInstanceOf(SmileFactory.class, converter.getObjectMapper().getFactory());
+        assertTrue(converter.getSupportedMediaTypes().contains(MediaType.valueOf("application/x-jackson-smile")));
+    }
+
+    @Test
+    void varyAcceptFilter_ShouldAddVaryHeaderToApiResponses() throws Exception {
+        FilterRegistrationBean<OncePerRequestFilter> registration = config.varyAcceptFilter();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        registration.getFilter().doFilter(new MockHttpServletRequest("GET", "/api/tasks/1"), response,
+                new MockFilterChain());
+
+        assertTrue(registration.getUrlPatterns().contains("/api/*"));
+        assertEquals("Accept", response.getHeader(HttpHeaders.VARY));
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
@@ -84,6 +85,15 @@ class SecurityConfigTest {
         verify(httpSecurity, times(1)).build();
     }
 
+    @Test
+    void testIsTaskOrCommentMultiGet() {
+        assertTrue(SecurityConfig.isTaskOrCommentMultiGet(request("GET", "/api/tasks", "1,2")));
+        assertTrue(SecurityConfig.isTaskOrCommentMultiGet(request("GET", "/api/comments", "3")));
+        assertFalse(SecurityConfig.isTaskOrCommentMultiGet(request("GET", "/api/tasks", null)));
+        assertFalse(SecurityConfig.isTaskOrCommentMultiGet(request("GET", "/api/users", "1")));
+        assertFalse(SecurityConfig.isTaskOrCommentMultiGet(request("DELETE", "/api/tasks", "1")));
+    }
+
     @Test
     void testUserDetailsServiceBean() {
         UserDetailsService userDetailsService = securityConfig.userDetailsService();
@@ -136,6 +146,14 @@ class SecurityConfigTest {
         verify(builder, times(1)).authenticationProvider(authProvider);
     }
 
+    private MockHttpServletRequest request(String method, String path, String ids) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        if (ids != null) {
+            request.setParameter("ids", ids);
+        }
+        return request;
+    }
+
 //    @Test
 //    void testSecurityFilterChainBean() throws Exception {
 //        HttpSecurity httpSecurity = mock(HttpSecurity.class);
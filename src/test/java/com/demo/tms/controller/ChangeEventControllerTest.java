@@ -0,0 +1,30 @@
+package com.demo.tms.controller;
+
+import com.demo.tms.service.ChangeEventService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeEventControllerTest {
+
+    @Mock
+    private ChangeEventService changeEventService;
+
+    @InjectMocks
+    private ChangeEventController changeEventController;
+
+    @Test
+    void subscribe_ShouldReturnEmitter() {
+        SseEmitter emitter = new SseEmitter();
+        when(changeEventService.subscribe(null, 2L, null)).thenReturn(emitter);
+
+        assertSame(emitter, changeEventController.subscribe(null, 2L, null));
+    }
+}
@@ -1,11 +1,15 @@
 package com.demo.tms.controller;
 
+import com.demo.tms.cache.ResponseBodyCache;
 import com.demo.tms.converter.Converter;
 import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.dto.MultiGetResponseDTO;
 import com.demo.tms.dto.PagedResponseDTO;
 import com.demo.tms.entity.Comment;
 import com.demo.tms.exception.ResourceNotFoundException;
+import com.demo.tms.service.CommentIngestionService;
 import com.demo.tms.service.CommentService;
+import com.demo.tms.service.IdempotencyService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +22,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +38,15 @@ class CommentControllerTest {
     @Mock
     private Converter converter;
 
+    @Mock
+    private ResponseBodyCache responseBodyCache;
+
+    @Mock
+    private CommentIngestionService commentIngestionService;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
     @InjectMocks
     private CommentController commentController;
 
@@ -54,13 +70,41 @@ class CommentControllerTest {
         when(commentService.saveComment(comment)).thenReturn(comment);
         when(converter.convertToCommentDTO(comment)).thenReturn(commentDTO);
 
-        ResponseEntity<CommentDTO> response = commentController.createComment(commentDTO);
+        ResponseEntity<CommentDTO> response = commentController.createComment(commentDTO, null);
 
         assertNotNull(response);
         assertEquals(commentDTO, response.getBody());
         verify(commentService, times(1)).saveComment(comment);
     }
 
+    @Test
+    void createComment_ShouldIngestInBatch_WhenIngestionEnabled() {
+        when(commentIngestionService.isEnabled()).thenReturn(true);
+        when(commentIngestionService.ingest(commentDTO)).thenReturn(commentDTO);
+
+        ResponseEntity<CommentDTO> response = commentController.createComment(commentDTO, null);
+
+        assertEquals(commentDTO, response.getBody());
+        verifyNoInteractions(converter, commentService);
+    }
+
+    @Test
+    void createComment_ShouldSaveThroughIdempotencyService_WhenIdempotencyKeySent() {
+        when(converter.convertToComment(commentDTO)).thenReturn(comment);
+        when(commentService.saveComment(comment)).thenReturn(comment);
+        when(converter.convertToCommentDTO(comment)).thenReturn(commentDTO);
+        when(idempotencyService.execute(eq("key-1"), eq("POST /api/comments"), eq(commentDTO), eq(CommentDTO.class),
+                any())).thenAnswer(invocation -> new IdempotencyService.Outcome<>(
+                invocation.<Supplier<CommentDTO>>getArgument(4).get(), false));
+
+        ResponseEntity<CommentDTO> response = commentController.createComment(commentDTO, "key-1");
+
+        assertEquals(commentDTO, response.getBody());
+        assertEquals("false", response.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        verify(commentService, times(1)).saveComment(comment);
+        verifyNoInteractions(commentIngestionService);
+    }
+
     @Test
     void updateComment_ShouldReturnUpdatedCommentDTO() {
         when(converter.convertToComment(commentDTO)).thenReturn(comment);
@@ -101,11 +145,11 @@ class CommentControllerTest {
     }
 
     @Test
-    void getCommentById_ShouldReturnCommentDTO_WhenCommentExists() {
+    void getCommentById_ShouldReturnCommentDTO_WhenCommentExists() throws Exception {
         when(commentService.getCommentById(1L)).thenReturn(comment);
         when(converter.convertToCommentDTO(comment)).thenReturn(commentDTO);
 
-        ResponseEntity<CommentDTO> response = commentController.getCommentById(1L);
+        ResponseEntity<CommentDTO> response = commentController.getCommentById(1L, null, null, null);
 
         assertNotNull(response);
         assertEquals(commentDTO, response.getBody());
@@ -113,15 +157,27 @@ class CommentControllerTest {
     }
 
     @Test
-    void getCommentById_ShouldReturnNotFound_WhenCommentDoesNotExist() {
+    void getCommentById_ShouldReturnNotFound_WhenCommentDoesNotExist() throws Exception {
         when(commentService.getCommentById(1L)).thenReturn(null);
 
-        ResponseEntity<CommentDTO> response = commentController.getCommentById(1L);
+        ResponseEntity<CommentDTO> response = commentController.getCommentById(1L, null, null, null);
 
         assertNotNull(response);
         assertEquals(404, response.getStatusCodeValue());
     }
 
+    @Test
+    void getCommentsByIds_ShouldReturnCommentsInRequestOrder_AndReportMissingIds() {
+        when(commentService.getCommentsByIds(Set.of(1L, 2L))).thenReturn(Map.of(1L, comment));
+        when(converter.convertToCommentDTO(comment)).thenReturn(commentDTO);
+
+        ResponseEntity<MultiGetResponseDTO<CommentDTO>> response = commentController.getCommentsByIds(List.of(2L, 1L));
+
+        assertNotNull(response.getBody());
+        assertEquals(List.of(commentDTO), response.getBody().getItems());
+        assertEquals(List.of(2L), response.getBody().getMissingIds());
+    }
+
     @Test
     void getAllComments_ShouldReturnPagedResponse() {
         Page<Comment> commentPage = new PageImpl<>(List.of(comment));
@@ -131,10 +187,38 @@ class CommentControllerTest {
         when(commentService.getAllComments(any(Pageable.class))).thenReturn(commentPage);
         when(converter.convertToCommentDTO(comment)).thenReturn(commentDTO);
 
-        ResponseEntity<PagedResponseDTO<CommentDTO>> response = commentController.getAllComments(Pageable.unpaged());
+        ResponseEntity<PagedResponseDTO<CommentDTO>> response =
+                commentController.getAllComments(Pageable.unpaged(), null, null, null);
 
         assertNotNull(response);
         assertEquals(pagedResponseDTO.getContent(), response.getBody().getContent());
         verify(commentService, times(1)).getAllComments(any(Pageable.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCommentById_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        when(commentService.getCommentVersion(1L)).thenReturn(2L);
+
+        ResponseEntity<CommentDTO> response = commentController.getCommentById(1L, "W/\"comment-1-2\"", null, null);
+
+        assertEquals(304, response.getStatusCode().value());
+        assertNull(response.getBody());
+        verify(commentService, never()).getCommentById(1L);
+    }
+
+    @Test
+    void getCommentsByTask_ShouldReturnSparseFields_WhenFieldsRequested() {
+        CommentDTO sparse = new CommentDTO();
+        sparse.setCommentId(1L);
+        sparse.setText("Test comment");
+        when(commentService.getCommentFields(eq(1L), isNull(), eq(Set.of("commentId", "text")),
+                any(Pageable.class))).thenReturn(new PageImpl<>(List.of(sparse)));
+
+        ResponseEntity<PagedResponseDTO<CommentDTO>> response =
+                commentController.getCommentsByTask(1L, Pageable.unpaged(), "commentId,text", null, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(List.of(sparse), response.getBody().getContent());
+        verify(commentService, never()).getCommentsByTask(anyLong(), any(Pageable.class));
+    }
+}
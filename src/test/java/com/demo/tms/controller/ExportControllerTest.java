@@ -0,0 +1,55 @@
+package com.demo.tms.controller;
+
+import com.demo.tms.service.ExportService;
+import com.demo.tms.utils.ExportFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.Writer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportControllerTest {
+
+    @Mock
+    private ExportService exportService;
+
+    @InjectMocks
+    private ExportController exportController;
+
+    @Test
+    void exportTasks_ShouldStreamNdjsonByDefault() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        exportController.exportTasks("ndjson", response);
+
+        assertEquals(200, response.getStatus());
+        assertTrue(response.getContentType().startsWith("application/x-ndjson"));
+        assertEquals("attachment; filename=\"tasks.ndjson\"", response.getHeader("Content-Disposition"));
+        verify(exportService, times(1)).exportTasks(eq(ExportFormat.NDJSON), any(Writer.class));
+    }
+
+    @Test
+    void exportComments_ShouldStreamCsv() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        exportController.exportComments("CSV", response);
+
+        assertTrue(response.getContentType().startsWith("text/csv"));
+        verify(exportService, times(1)).exportComments(eq(ExportFormat.CSV), any(Writer.class));
+    }
+
+    @Test
+    void exportTasks_ShouldThrowException_WhenFormatIsInvalid() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThrows(IllegalArgumentException.class, () -> exportController.exportTasks("xml", response));
+        verifyNoInteractions(exportService);
+    }
+}
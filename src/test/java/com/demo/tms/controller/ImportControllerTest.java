@@ -0,0 +1,47 @@
+package com.demo.tms.controller;
+
+import com.demo.tms.dto.ImportResultDTO;
+import com.demo.tms.service.ImportService;
+import com.demo.tms.utils.ExportFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportControllerTest {
+
+    @Mock
+    private ImportService importService;
+
+    @InjectMocks
+    private ImportController importController;
+
+    @Test
+    void importData_ShouldReturnImportResult() throws Exception {
+        MockMultipartFile tasks = new MockMultipartFile("tasks", "tasks.ndjson", "application/x-ndjson",
+                "{\"name\":\"Task\"}\n".getBytes());
+        ImportResultDTO result = new ImportResultDTO(1, 0, 0, 0, List.of());
+        when(importService.importData(eq(ExportFormat.NDJSON), any(InputStream.class), isNull())).thenReturn(result);
+
+        ResponseEntity<ImportResultDTO> response = importController.importData("ndjson", tasks, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(result, response.getBody());
+    }
+
+    @Test
+    void importData_ShouldThrowException_WhenFormatIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> importController.importData("xml", null, null));
+        verifyNoInteractions(importService);
+    }
+}
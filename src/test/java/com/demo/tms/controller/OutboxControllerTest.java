@@ -0,0 +1,37 @@
+package com.demo.tms.controller;
+
+import com.demo.tms.dto.OutboxStatusDTO;
+import com.demo.tms.service.OutboxService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxControllerTest {
+
+    @Mock
+    private OutboxService outboxService;
+
+    @InjectMocks
+    private OutboxController outboxController;
+
+    @Test
+    void getStatus_ShouldReturnRelayLag() {
+        OutboxStatusDTO status = new OutboxStatusDTO(12, 1500, 340, 1, Instant.parse("2026-01-01T00:00:00Z"), 100,
+                900);
+        when(outboxService.getStatus()).thenReturn(status);
+
+        ResponseEntity<OutboxStatusDTO> response = outboxController.getStatus();
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(status, response.getBody());
+    }
+}
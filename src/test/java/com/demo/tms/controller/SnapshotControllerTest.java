@@ -0,0 +1,37 @@
+package com.demo.tms.controller;
+
+import com.demo.tms.dto.SnapshotManifestDTO;
+import com.demo.tms.service.SnapshotService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotControllerTest {
+
+    @Mock
+    private SnapshotService snapshotService;
+
+    @InjectMocks
+    private SnapshotController snapshotController;
+
+    @Test
+    void createSnapshot_ShouldReturnManifest() {
+        SnapshotManifestDTO manifest = new SnapshotManifestDTO("00000003-0000001B-1", "snapshots/20260101-020000",
+                "2026-01-01T02:00:00Z", 10, 4, 100, 2048, 10000, List.of());
+        when(snapshotService.createSnapshot()).thenReturn(manifest);
+
+        ResponseEntity<SnapshotManifestDTO> response = snapshotController.createSnapshot();
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(manifest, response.getBody());
+    }
+}
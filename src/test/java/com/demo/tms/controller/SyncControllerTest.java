@@ -0,0 +1,47 @@
+package com.demo.tms.controller;
+
+import com.demo.tms.dto.ChangeSetDTO;
+import com.demo.tms.service.SyncService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncControllerTest {
+
+    @Mock
+    private SyncService syncService;
+
+    @InjectMocks
+    private SyncController syncController;
+
+    @Test
+    void getChanges_ShouldReturnChangeSet() {
+        ChangeSetDTO changes = new ChangeSetDTO(List.of(), List.of(), List.of(4L), List.of(), "NzAxOjQy", false);
+        when(syncService.getChanges(2L, "NzAwOjQw", 500)).thenReturn(changes);
+
+        ResponseEntity<ChangeSetDTO> response = syncController.getChanges(2L, "NzAwOjQw", 500);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(changes, response.getBody());
+    }
+
+    @Test
+    void getChanges_ShouldReturnNotModified_WhenWatermarkUnchanged() {
+        ChangeSetDTO changes = new ChangeSetDTO(List.of(), List.of(), List.of(), List.of(), "NzAwOjQw", false);
+        when(syncService.getChanges(2L, "NzAwOjQw", 500)).thenReturn(changes);
+
+        ResponseEntity<ChangeSetDTO> response = syncController.getChanges(2L, "NzAwOjQw", 500);
+
+        assertEquals(304, response.getStatusCode().value());
+        assertNull(response.getBody());
+    }
+}
@@ -1,25 +1,52 @@
 package com.demo.tms.controller;
 
+import com.demo.tms.cache.ResponseBodyCache;
 import com.demo.tms.converter.Converter;
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.dto.CursorPageDTO;
+import com.demo.tms.dto.MultiGetResponseDTO;
 import com.demo.tms.dto.PagedResponseDTO;
+import com.demo.tms.dto.TaskBoardColumnDTO;
+import com.demo.tms.dto.TaskBoardDTO;
 import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.dto.TaskDetailsDTO;
+import com.demo.tms.dto.TaskFilterDTO;
+import com.demo.tms.dto.TaskSearchHitDTO;
+import com.demo.tms.dto.TaskStatisticsDTO;
+import com.demo.tms.dto.TimeBucketDTO;
+import com.demo.tms.entity.Comment;
 import com.demo.tms.entity.Task;
+import com.demo.tms.entity.User;
 import com.demo.tms.exception.ResourceNotFoundException;
+import com.demo.tms.service.CommentService;
+import com.demo.tms.service.IdempotencyService;
 import com.demo.tms.service.TaskService;
+import com.demo.tms.service.TaskStatisticsService;
+import com.demo.tms.service.TaskWriteSerializer;
+import com.demo.tms.service.TaskWriteSerializerImpl;
+import com.demo.tms.utils.ETagUtils;
+import com.demo.tms.utils.TaskPriority;
 import com.demo.tms.utils.TaskStatus;
+import com.demo.tms.utils.TimeInterval;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,9 +57,24 @@ class TaskControllerTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private CommentService commentService;
+
     @Mock
     private Converter converter;
 
+    @Mock
+    private ResponseBodyCache responseBodyCache;
+
+    @Mock
+    private TaskStatisticsService taskStatisticsService;
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    @Spy
+    private TaskWriteSerializer taskWriteSerializer = new TaskWriteSerializerImpl(16, 1000);
+
     @InjectMocks
     private TaskController taskController;
 
@@ -60,11 +102,24 @@ class TaskControllerTest {
         when(taskService.saveTask(task)).thenReturn(task);
         when(converter.convertToTaskDTO(task)).thenReturn(taskDTO);
 
-        ResponseEntity<TaskDTO> response = taskController.createTask(taskDTO);
+        ResponseEntity<TaskDTO> response = taskController.createTask(taskDTO, null);
 
         assertNotNull(response);
         assertEquals(taskDTO, response.getBody());
         verify(taskService, times(1)).saveTask(task);
+        verifyNoInteractions(idempotencyService);
+    }
+
+    @Test
+    void createTask_ShouldReplayStoredTask_WhenIdempotencyKeyRepeated() {
+        when(idempotencyService.execute(eq("key-1"), eq("POST /api/tasks"), eq(taskDTO), eq(TaskDTO.class), any()))
+                .thenReturn(new IdempotencyService.Outcome<>(taskDTO, true));
+
+        ResponseEntity<TaskDTO> response = taskController.createTask(taskDTO, "key-1");
+
+        assertEquals(taskDTO, response.getBody());
+        assertEquals("true", response.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER));
+        verifyNoInteractions(taskService);
     }
 
     @Test
@@ -78,6 +133,7 @@ class TaskControllerTest {
         assertNotNull(response);
         assertEquals(taskDTO, response.getBody());
         verify(taskService, times(1)).updateTask(1L, task);
+        verify(taskWriteSerializer).execute(eq(1L), any());
     }
 
     @Test
@@ -127,11 +183,11 @@ class TaskControllerTest {
     }
 
     @Test
-    void getTaskById_ShouldReturnTaskDTO_WhenTaskExists() {
+    void getTaskById_ShouldReturnTaskDTO_WhenTaskExists() throws Exception {
         when(taskService.getTaskById(1L)).thenReturn(task);
         when(converter.convertToTaskDTO(task)).thenReturn(taskDTO);
 
-        ResponseEntity<TaskDTO> response = taskController.getTaskById(1L);
+        ResponseEntity<TaskDTO> response = taskController.getTaskById(1L, null, null, null);
 
         assertNotNull(response);
         assertEquals(taskDTO, response.getBody());
@@ -139,15 +195,41 @@ class TaskControllerTest {
     }
 
     @Test
-    void getTaskById_ShouldReturnNotFound_WhenTaskDoesNotExist() {
+    void getTaskById_ShouldReturnNotFound_WhenTaskDoesNotExist() throws Exception {
         when(taskService.getTaskById(1L)).thenReturn(null);
 
-        ResponseEntity<TaskDTO> response = taskController.getTaskById(1L);
+        ResponseEntity<TaskDTO> response = taskController.getTaskById(1L, null, null, null);
 
         assertNotNull(response);
         assertEquals(404, response.getStatusCodeValue());
     }
 
+    @Test
+    void getTasksByIds_ShouldReturnTasksInRequestOrder_AndReportMissingIds() {
+        Task otherTask = new Task();
+        otherTask.setTaskId(2L);
+        TaskDTO otherTaskDTO = new TaskDTO();
+        otherTaskDTO.setTaskId(2L);
+        when(taskService.getTasksByIds(Set.of(1L, 2L, 3L))).thenReturn(Map.of(1L, task, 2L, otherTask));
+        when(converter.convertToTaskDTO(task)).thenReturn(taskDTO);
+        when(converter.convertToTaskDTO(otherTask)).thenReturn(otherTaskDTO);
+
+        ResponseEntity<MultiGetResponseDTO<TaskDTO>> response =
+                taskController.getTasksByIds(List.of(2L, 3L, 1L, 2L));
+
+        assertNotNull(response.getBody());
+        assertEquals(List.of(otherTaskDTO, taskDTO), response.getBody().getItems());
+        assertEquals(List.of(3L), response.getBody().getMissingIds());
+    }
+
+    @Test
+    void getTasksByIds_ShouldThrowException_WhenTooManyIds() {
+        List<Long> ids = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> taskController.getTasksByIds(ids));
+        verifyNoInteractions(taskService);
+    }
+
     @Test
     void getAllTasks_ShouldReturnPagedResponse() {
         Page<Task> taskPage = new PageImpl<>(List.of(task));
@@ -157,10 +239,259 @@ class TaskControllerTest {
         when(taskService.getAllTasks(any(Pageable.class))).thenReturn(taskPage);
         when(converter.convertToTaskDTO(task)).thenReturn(taskDTO);
 
-        ResponseEntity<PagedResponseDTO<TaskDTO>> response = taskController.getAllTasks(Pageable.unpaged());
+        ResponseEntity<PagedResponseDTO<TaskDTO>> response = taskController.getAllTasks(Pageable.unpaged(), null, null,
+                null);
 
         assertNotNull(response);
         assertEquals(pagedResponseDTO.getContent(), response.getBody().getContent());
         verify(taskService, times(1)).getAllTasks(any(Pageable.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getTaskById_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        when(taskService.getTaskRepresentationVersion(1L)).thenReturn(3L);
+
+        ResponseEntity<TaskDTO> response = taskController.getTaskById(1L, "\"task-1-3\"", null, null);
+
+        assertEquals(304, response.getStatusCode().value());
+        assertEquals("\"task-1-3\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+        verify(taskService, never()).getTaskById(1L);
+        verify(converter, never()).convertToTaskDTO(any());
+    }
+
+    @Test
+    void getTaskById_ShouldReturnTaskWithETag_WhenETagIsStale() throws Exception {
+        task.setVersion(4L);
+        when(taskService.getTaskRepresentationVersion(1L)).thenReturn(4L);
+        when(taskService.getTaskById(1L)).thenReturn(task);
+        when(converter.convertToTaskDTO(task)).thenReturn(taskDTO);
+
+        ResponseEntity<TaskDTO> response = taskController.getTaskById(1L, "\"task-1-3\"", null, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("\"task-1-4\"", response.getHeaders().getETag());
+        assertEquals(taskDTO, response.getBody());
+    }
+
+    @Test
+    void getTaskById_ShouldChangeETag_WhenCommentAddedWithoutNewTaskVersion() throws Exception {
+        Comment comment = new Comment();
+        comment.setCommentId(7L);
+        task.setVersion(3L);
+        task.setComments(new ArrayList<>(List.of(comment)));
+        when(taskService.getTaskRepresentationVersion(1L)).thenReturn(ETagUtils.representationVersion(3L, List.of(7L)));
+        when(taskService.getTaskById(1L)).thenReturn(task);
+        when(converter.convertToTaskDTO(task)).thenReturn(taskDTO);
+
+        ResponseEntity<TaskDTO> response = taskController.getTaskById(1L, "\"task-1-3\"", null, null);
+        ResponseEntity<TaskDTO> repeated = taskController.getTaskById(1L, response.getHeaders().getETag(), null, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertNotEquals("\"task-1-3\"", response.getHeaders().getETag());
+        assertEquals(304, repeated.getStatusCode().value());
+    }
+
+    @Test
+    void getTaskById_ShouldTagBinaryRepresentationsApart() throws Exception {
+        task.setVersion(3L);
+        when(taskService.getTaskRepresentationVersion(1L)).thenReturn(3L);
+        when(taskService.getTaskById(1L)).thenReturn(task);
+        when(converter.convertToTaskDTO(task)).thenReturn(taskDTO);
+
+        ResponseEntity<TaskDTO> cbor = taskController.getTaskById(1L, "\"task-1-3\"", "application/cbor", null);
+        ResponseEntity<TaskDTO> smile = taskController.getTaskById(1L, "\"task-1-3-smile\"",
+                "application/x-jackson-smile, application/json;q=0.5", null);
+
+        assertEquals(200, cbor.getStatusCode().value());
+        assertEquals("\"task-1-3-cbor\"", cbor.getHeaders().getETag());
+        assertEquals(304, smile.getStatusCode().value());
+        assertEquals("\"task-1-3-smile\"", smile.getHeaders().getETag());
+    }
+
+    @Test
+    void getAllTasks_ShouldReturnNotModified_WhenListETagMatches() {
+        Page<Task> taskPage = new PageImpl<>(List.of(task));
+        when(taskService.getAllTasks(any(Pageable.class))).thenReturn(taskPage);
+
+        String eTag = taskController.getAllTasks(Pageable.unpaged(), null, null, null).getHeaders().getETag();
+        ResponseEntity<PagedResponseDTO<TaskDTO>> response = taskController.getAllTasks(Pageable.unpaged(), null, eTag,
+                null);
+
+        assertEquals(304, response.getStatusCode().value());
+        verify(converter, times(1)).convertToTaskDTO(task);
+    }
+
+    @Test
+    void getTaskById_ShouldWriteCachedBody_WhenResponseCacheHits() throws Exception {
+        byte[] body = "{\"taskId\":1}".getBytes();
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        when(responseBodyCache.isEnabledFor(null)).thenReturn(true);
+        when(taskService.getTaskRepresentationVersion(1L)).thenReturn(3L);
+        when(responseBodyCache.get("taskResponses", 1L, 3L)).thenReturn(body);
+
+        ResponseEntity<TaskDTO> response = taskController.getTaskById(1L, null, null, servletResponse);
+
+        assertNull(response);
+        verify(responseBodyCache, times(1)).write(servletResponse, "\"task-1-3\"", body);
+        verify(taskService, never()).getTaskById(1L);
+        verify(converter, never()).convertToTaskDTO(any());
+    }
+
+    @Test
+    void getTasksByAuthor_ShouldReturnSparseFields_WhenFieldsRequested() {
+        TaskDTO sparse = new TaskDTO();
+        sparse.setTaskId(1L);
+        sparse.setName("Test Task");
+        when(taskService.getTaskFields(eq(2L), isNull(), eq(Set.of("name")), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(sparse)));
+
+        ResponseEntity<PagedResponseDTO<TaskDTO>> response =
+                taskController.getTasksByAuthor(2L, Pageable.unpaged(), "name", null, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertNull(response.getHeaders().getETag());
+        assertEquals(List.of(sparse), response.getBody().getContent());
+        verify(taskService, never()).getTasksByAuthor(anyLong(), any(Pageable.class));
+        verify(converter, never()).convertToTaskDTO(any());
+    }
+
+    @Test
+    void getAllTasks_ShouldThrowException_WhenFieldIsUnknown() {
+        assertThrows(IllegalArgumentException.class,
+                () -> taskController.getAllTasks(Pageable.unpaged(), "name,password", null, null));
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void getTaskDetails_ShouldReturnTaskCommentsAndUsernames() {
+        User author = new User();
+        author.setUserId(1L);
+        author.setUsername("admin");
+        User assignee = new User();
+        assignee.setUserId(2L);
+        assignee.setUsername("user");
+        task.setAuthor(author);
+        task.setAssignee(assignee);
+        Comment comment = new Comment();
+        comment.setCommentId(5L);
+        comment.setUser(author);
+        CommentDTO commentDTO = new CommentDTO();
+        commentDTO.setCommentId(5L);
+
+        when(taskService.getTaskWithUsers(1L)).thenReturn(task);
+        when(commentService.getCommentsWithUsersByTask(eq(1L), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(comment)));
+        when(converter.convertToTaskDTO(task)).thenReturn(taskDTO);
+        when(converter.convertToCommentDTO(comment)).thenReturn(commentDTO);
+
+        ResponseEntity<TaskDetailsDTO> response = taskController.getTaskDetails(1L, Pageable.unpaged());
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(taskDTO, response.getBody().getTask());
+        assertEquals(List.of(commentDTO), response.getBody().getComments().getContent());
+        assertEquals(Map.of(1L, "admin", 2L, "user"), response.getBody().getUsernames());
+        verify(taskService, never()).getTaskById(anyLong());
+    }
+
+    @Test
+    void getTaskDetails_ShouldThrowException_WhenTaskNotFound() {
+        when(taskService.getTaskWithUsers(1L)).thenThrow(new ResourceNotFoundException("Task not found"));
+
+        assertThrows(ResourceNotFoundException.class, () -> taskController.getTaskDetails(1L, Pageable.unpaged()));
+        verifyNoInteractions(commentService);
+    }
+
+    @Test
+    void searchTasks_ShouldReturnCursorPage() {
+        CursorPageDTO<TaskSearchHitDTO> page = new CursorPageDTO<>(List.of(new TaskSearchHitDTO(taskDTO, 0.6f)),
+                "MC42OjE");
+        when(taskService.searchTasks("test", null, 20)).thenReturn(page);
+
+        ResponseEntity<CursorPageDTO<TaskSearchHitDTO>> response = taskController.searchTasks("test", null, 20);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(page, response.getBody());
+    }
+
+    @Test
+    void suggestTasks_ShouldReturnSuggestions() {
+        when(taskService.suggestTasks("te", 10)).thenReturn(List.of(taskDTO));
+
+        ResponseEntity<List<TaskDTO>> response = taskController.suggestTasks("te", 10);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(List.of(taskDTO), response.getBody());
+    }
+
+    @Test
+    void filterTasks_ShouldReturnMatchingTasks() {
+        Page<Task> page = new PageImpl<>(List.of(task));
+        TaskFilterDTO filter = new TaskFilterDTO(null, 2L, Set.of(TaskStatus.PENDING), Set.of(TaskPriority.HIGH),
+                null, null, null, null);
+        when(taskService.filterTasks(filter, Pageable.unpaged())).thenReturn(page);
+        when(converter.convertToTaskDTO(task)).thenReturn(taskDTO);
+
+        ResponseEntity<PagedResponseDTO<TaskDTO>> response = taskController.filterTasks(filter, Pageable.unpaged(),
+                null, null);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(List.of(taskDTO), response.getBody().getContent());
+    }
+
+    @Test
+    void getTaskStatistics_ShouldReturnCounts() {
+        TaskStatisticsDTO statistics = new TaskStatisticsDTO(2L, 5, Map.of(), Map.of(), Map.of());
+        when(taskStatisticsService.getStatistics(2L)).thenReturn(statistics);
+
+        ResponseEntity<TaskStatisticsDTO> response = taskController.getTaskStatistics(2L);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(statistics, response.getBody());
+    }
+
+    @Test
+    void getTaskTimeline_ShouldReturnBuckets() {
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-01-08T00:00:00Z");
+        List<TimeBucketDTO> buckets = List.of(new TimeBucketDTO(from, 4));
+        when(taskService.getTaskTimeline("updated", TimeInterval.DAY, from, to, TaskStatus.COMPLETED))
+                .thenReturn(buckets);
+
+        ResponseEntity<List<TimeBucketDTO>> response = taskController.getTaskTimeline("updated", "Day", from, to,
+                TaskStatus.COMPLETED);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(buckets, response.getBody());
+    }
+
+    @Test
+    void getTaskBoard_ShouldReturnBoard() {
+        TaskBoardDTO board = new TaskBoardDTO(2L,
+                List.of(new TaskBoardColumnDTO(TaskStatus.PENDING, 12, List.of(taskDTO))));
+        when(taskService.getTaskBoard(2L, 1)).thenReturn(board);
+
+        ResponseEntity<TaskBoardDTO> response = taskController.getTaskBoard(2L, 1);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(board, response.getBody());
+    }
+
+    @Test
+    void claimNextTask_ShouldReturnClaimedTask() {
+        when(taskService.claimNextTask(2L)).thenReturn(task);
+        when(converter.convertToTaskDTO(task)).thenReturn(taskDTO);
+
+        ResponseEntity<TaskDTO> response = taskController.claimNextTask(2L);
+
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals(taskDTO, response.getBody());
+    }
+
+    @Test
+    void getNextTask_ShouldPropagateNotFound() {
+        when(taskService.getNextTask(2L)).thenThrow(new ResourceNotFoundException("No pending task"));
+
+        assertThrows(ResourceNotFoundException.class, () -> taskController.getNextTask(2L));
+    }
+}
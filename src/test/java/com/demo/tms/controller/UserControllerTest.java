@@ -1,6 +1,7 @@
 package com.demo.tms.controller;
 
 import com.demo.tms.converter.Converter;
+import com.demo.tms.dto.MultiGetResponseDTO;
 import com.demo.tms.dto.PagedResponseDTO;
 import com.demo.tms.dto.UserDTO;
 import com.demo.tms.entity.User;
@@ -18,7 +19,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -125,6 +128,17 @@ class UserControllerTest {
         assertEquals(404, response.getStatusCodeValue());
     }
 
+    @Test
+    void getUsersByIds_ShouldReturnUsersInRequestOrder_AndReportMissingIds() {
+        when(userService.getUsersByIds(Set.of(1L, 5L))).thenReturn(Map.of(1L, user));
+        when(converter.convertToUserDTO(user)).thenReturn(userDTO);
+
+        ResponseEntity<MultiGetResponseDTO<UserDTO>> response = userController.getUsersByIds(List.of(5L, 1L));
+
+        assertEquals(List.of(userDTO), Objects.requireNonNull(response.getBody()).getItems());
+        assertEquals(List.of(5L), response.getBody().getMissingIds());
+    }
+
     @Test
     void getAllUsers_ShouldReturnPagedResponse() {
         Page<User> userPage = new PageImpl<>(List.of(user));
@@ -0,0 +1,75 @@
+package com.demo.tms.converter;
+
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.entity.Comment;
+import com.demo.tms.entity.Task;
+import com.demo.tms.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConverterImplTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private ConverterImpl converter;
+
+    @Test
+    void convertToComment_ShouldBindReferencesWithoutLoading() {
+        User user = new User();
+        Task task = new Task();
+        when(entityManager.getReference(User.class, 2L)).thenReturn(user);
+        when(entityManager.getReference(Task.class, 3L)).thenReturn(task);
+        CommentDTO dto = new CommentDTO();
+        dto.setText("Looks good");
+        dto.setUserId(2L);
+        dto.setTaskId(3L);
+
+        Comment comment = converter.convertToComment(dto);
+
+        assertSame(user, comment.getUser());
+        assertSame(task, comment.getTask());
+        verify(entityManager, never()).find(any(), any());
+    }
+
+    @Test
+    void convertToTask_ShouldBindReferencesWithoutLoading() {
+        User user = new User();
+        Comment comment = new Comment();
+        when(entityManager.getReference(User.class, 1L)).thenReturn(user);
+        when(entityManager.getReference(Comment.class, 5L)).thenReturn(comment);
+        TaskDTO dto = new TaskDTO();
+        dto.setName("Release");
+        dto.setAuthorId(1L);
+        dto.setAssigneeId(1L);
+        dto.setCommentIds(List.of(5L));
+
+        Task task = converter.convertToTask(dto);
+
+        assertSame(user, task.getAuthor());
+        assertSame(user, task.getAssignee());
+        assertSame(comment, task.getComments().get(0));
+        verify(entityManager, never()).find(any(), any());
+    }
+
+    @Test
+    void convertToComment_ShouldLeaveMissingReferencesUnset() {
+        Comment comment = converter.convertToComment(new CommentDTO());
+
+        assertNull(comment.getUser());
+        assertNull(comment.getTask());
+        verifyNoInteractions(entityManager);
+    }
+}
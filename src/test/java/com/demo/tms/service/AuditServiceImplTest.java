@@ -0,0 +1,113 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.AuditEntryDTO;
+import com.demo.tms.dto.FieldChangeDTO;
+import com.demo.tms.entity.Task;
+import com.demo.tms.repository.AuditRepository;
+import com.demo.tms.utils.AuditUtils;
+import com.demo.tms.utils.ChangeAction;
+import com.demo.tms.utils.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditServiceImplTest {
+
+    @Mock
+    private AuditRepository auditRepository;
+
+    @Test
+    void record_ShouldWriteChangedFieldsOnly() {
+        AuditServiceImpl auditService = new AuditServiceImpl(auditRepository, 10, 10, 0, Thread::new);
+        Task task = new Task();
+        task.setName("Task1");
+        task.setStatus(TaskStatus.PENDING);
+        Map<String, Object> before = AuditUtils.snapshot(task);
+        task.setStatus(TaskStatus.COMPLETED);
+
+        auditService.record("task", 1L, ChangeAction.UPDATED, before, AuditUtils.snapshot(task));
+
+        AuditEntryDTO entry = captureWritten().get(0);
+        assertEquals("task", entry.getEntityType());
+        assertEquals(Map.of("status", new FieldChangeDTO(TaskStatus.PENDING, TaskStatus.COMPLETED)),
+                entry.getChanges());
+        assertNotNull(entry.getRecordedAt());
+    }
+
+    @Test
+    void record_ShouldSkipUpdatesWithoutChanges() {
+        AuditServiceImpl auditService = new AuditServiceImpl(auditRepository, 10, 10, 0, Thread::new);
+
+        auditService.record("role", 1L, ChangeAction.UPDATED, Map.of("authority", "ROLE_USER"),
+                Map.of("authority", "ROLE_USER"));
+
+        verifyNoInteractions(auditRepository);
+    }
+
+    @Test
+    void stop_ShouldWriteBufferedEntriesInBatches() {
+        // a writer thread that exits at once, so entries stay buffered until the shutdown flush
+        AuditServiceImpl auditService = new AuditServiceImpl(auditRepository, 10, 2, 0, runnable -> new Thread(() -> {
+        }));
+        auditService.start();
+        for (long id = 1; id <= 3; id++) {
+            auditService.record("comment", id, ChangeAction.DELETED, Map.of("text", "Comment " + id), null);
+        }
+        verifyNoInteractions(auditRepository);
+
+        auditService.stop();
+
+        ArgumentCaptor<List<AuditEntryDTO>> captor = ArgumentCaptor.captor();
+        verify(auditRepository, times(2)).insertBatch(captor.capture());
+        assertEquals(List.of(2, 1), captor.getAllValues().stream().map(List::size).toList());
+        assertFalse(auditService.isRunning());
+    }
+
+    @Test
+    void record_ShouldDropEntries_WhenBufferStaysFull() {
+        AuditServiceImpl auditService = new AuditServiceImpl(auditRepository, 1, 10, 0, runnable -> new Thread(() -> {
+        }));
+        auditService.start();
+
+        auditService.record("user", 1L, ChangeAction.CREATED, null, Map.of("username", "user1"));
+        auditService.record("user", 2L, ChangeAction.CREATED, null, Map.of("username", "user2"));
+
+        assertEquals(1, auditService.getDroppedCount());
+        auditService.stop();
+        assertEquals(1L, captureWritten().get(0).getEntityId());
+    }
+
+    @Test
+    void writer_ShouldDrainBufferInBackground() {
+        AuditServiceImpl auditService = new AuditServiceImpl(auditRepository, 10, 10, 1000, Thread::new);
+        auditService.start();
+
+        auditService.record("task", 1L, ChangeAction.DELETED, Map.of("name", "Task1"), null);
+
+        verify(auditRepository, timeout(5000)).insertBatch(argThat(entries -> entries.size() == 1));
+        auditService.stop();
+    }
+
+    @Test
+    void constructor_ShouldRejectInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AuditServiceImpl(auditRepository, 10, 0, 0, Thread::new));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AuditServiceImpl(auditRepository, 10, AuditRepository.MAX_BATCH_SIZE + 1, 0, Thread::new));
+    }
+
+    private List<AuditEntryDTO> captureWritten() {
+        ArgumentCaptor<List<AuditEntryDTO>> captor = ArgumentCaptor.captor();
+        verify(auditRepository).insertBatch(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,88 @@
+package com.demo.tms.service;
+
+import com.demo.tms.entity.Comment;
+import com.demo.tms.entity.Task;
+import com.demo.tms.entity.User;
+import com.demo.tms.utils.ChangeAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeEventServiceImplTest {
+
+    private ChangeEventServiceImpl changeEventService;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        // sender threads that never drain, so every buffered event stays buffered
+        changeEventService = new ChangeEventServiceImpl(1, 60000, runnable -> new Thread(() -> {
+        }));
+        task = new Task();
+        task.setTaskId(5L);
+        task.setVersion(1L);
+        task.setAuthor(user(1L));
+        task.setAssignee(user(2L));
+    }
+
+    @Test
+    void subscribe_ShouldRequireExactlyOneScope() {
+        assertThrows(IllegalArgumentException.class, () -> changeEventService.subscribe(null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> changeEventService.subscribe(5L, 2L, null));
+
+        assertNotNull(changeEventService.subscribe(null, null, 1L));
+        assertEquals(1, changeEventService.getSubscriberCount());
+    }
+
+    @Test
+    void publishTaskChange_ShouldDisconnectSlowSubscribers() {
+        changeEventService.subscribe(null, 2L, null);
+        changeEventService.subscribe(null, 9L, null);
+
+        changeEventService.publishTaskChange(ChangeAction.UPDATED, task, null);
+        assertEquals(2, changeEventService.getSubscriberCount());
+
+        changeEventService.publishTaskChange(ChangeAction.UPDATED, task, null);
+        assertEquals(1, changeEventService.getSubscriberCount());
+    }
+
+    @Test
+    void publishTaskChange_ShouldReachPreviousAssignee() {
+        changeEventService.subscribe(null, 3L, null);
+
+        changeEventService.publishTaskChange(ChangeAction.UPDATED, task, 3L);
+        changeEventService.publishTaskChange(ChangeAction.UPDATED, task, 3L);
+
+        assertEquals(0, changeEventService.getSubscriberCount());
+    }
+
+    @Test
+    void publishCommentChange_ShouldReachTaskSubscribers() {
+        Comment comment = new Comment();
+        comment.setCommentId(7L);
+        changeEventService.subscribe(5L, null, null);
+
+        changeEventService.publishCommentChange(ChangeAction.CREATED, comment, task);
+        changeEventService.publishCommentChange(ChangeAction.DELETED, comment, task);
+
+        assertEquals(0, changeEventService.getSubscriberCount());
+    }
+
+    @Test
+    void sendHeartbeats_ShouldDisconnectSubscribersThatStoppedReading() {
+        changeEventService.subscribe(5L, null, null);
+
+        changeEventService.sendHeartbeats();
+        assertEquals(1, changeEventService.getSubscriberCount());
+
+        changeEventService.sendHeartbeats();
+        assertEquals(0, changeEventService.getSubscriberCount());
+    }
+
+    private User user(Long userId) {
+        User user = new User();
+        user.setUserId(userId);
+        return user;
+    }
+}
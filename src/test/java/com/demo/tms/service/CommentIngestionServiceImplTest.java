@@ -0,0 +1,155 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.exception.ResourceNotFoundException;
+import com.demo.tms.repository.CommentIngestionRepository;
+import com.demo.tms.repository.CommentIngestionRepository.TaskUsers;
+import com.demo.tms.utils.ChangeAction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentIngestionServiceImplTest {
+
+    // a flusher thread that exits at once, so submitted comments stay queued until the shutdown flush
+    private static final ThreadFactory IDLE_FLUSHER = runnable -> new Thread(() -> {
+    });
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private CommentIngestionRepository commentIngestionRepository;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ChangeEventService changeEventService;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    @Test
+    void submit_ShouldBeRejected_WhenIngestionDisabled() {
+        CommentIngestionServiceImpl service = service(false, Thread::new);
+        service.start();
+
+        assertFalse(service.isRunning());
+        assertThrows(IllegalStateException.class, () -> service.submit(comment(2L, 5L)));
+    }
+
+    @Test
+    void stop_ShouldInsertValidCommentsAndRejectOthers() throws Exception {
+        when(commentIngestionRepository.findExistingUserIds(Set.of(2L, 9L))).thenReturn(Set.of(2L));
+        when(commentIngestionRepository.findTaskUsers(Set.of(5L, 6L))).thenReturn(Map.of(5L, new TaskUsers(1L, 2L)));
+        when(commentIngestionRepository.nextIds(1)).thenReturn(List.of(42L));
+        when(commentIngestionRepository.insertAll(anyList())).thenReturn(CREATED_AT);
+        cacheManager.getCache("taskResponses").put(5L, new byte[0]);
+        CommentIngestionServiceImpl service = service(true, IDLE_FLUSHER);
+        service.start();
+
+        CompletableFuture<CommentDTO> valid = service.submit(comment(2L, 5L));
+        CompletableFuture<CommentDTO> unknownUser = service.submit(comment(9L, 5L));
+        CompletableFuture<CommentDTO> unknownTask = service.submit(comment(2L, 6L));
+        service.stop();
+
+        CommentDTO created = valid.get();
+        assertEquals(42L, created.getCommentId());
+        assertEquals(0L, created.getVersion());
+        assertEquals(CREATED_AT, created.getCreatedAt());
+        assertInstanceOf(ResourceNotFoundException.class, cause(unknownUser));
+        assertInstanceOf(ResourceNotFoundException.class, cause(unknownTask));
+        verify(commentIngestionRepository).insertAll(argThat(comments -> comments.size() == 1
+                && comments.get(0).getCommentId().equals(42L)));
+        assertNull(cacheManager.getCache("taskResponses").get(5L));
+        verify(outboxService).appendCommentChanges(eq(ChangeAction.CREATED), argThat(comments -> comments.size() == 1
+                && comments.get(0).getTask().getAssignee().getUserId().equals(2L)));
+        verify(changeEventService).publishCommentChange(eq(ChangeAction.CREATED),
+                argThat(comment -> comment.getCommentId().equals(42L)), any());
+        verify(auditService).record(eq("comment"), eq(42L), eq(ChangeAction.CREATED), isNull(), anyMap(), isNull());
+    }
+
+    @Test
+    void stop_ShouldFailWholeBatch_WhenInsertFails() {
+        when(commentIngestionRepository.findExistingUserIds(any())).thenReturn(Set.of(2L));
+        when(commentIngestionRepository.findTaskUsers(any())).thenReturn(Map.of(5L, new TaskUsers(1L, null)));
+        when(commentIngestionRepository.nextIds(2)).thenReturn(List.of(42L, 43L));
+        when(commentIngestionRepository.insertAll(anyList())).thenThrow(new DataIntegrityViolationException("fk"));
+        CommentIngestionServiceImpl service = service(true, IDLE_FLUSHER);
+        service.start();
+
+        CompletableFuture<CommentDTO> first = service.submit(comment(2L, 5L));
+        CompletableFuture<CommentDTO> second = service.submit(comment(2L, 5L));
+        service.stop();
+
+        assertInstanceOf(DataIntegrityViolationException.class, cause(first));
+        assertInstanceOf(DataIntegrityViolationException.class, cause(second));
+        verify(transactionManager).rollback(any());
+        verifyNoInteractions(outboxService, changeEventService, auditService);
+    }
+
+    @Test
+    void flusher_ShouldCompleteSubmittedComments() throws Exception {
+        when(commentIngestionRepository.findExistingUserIds(any())).thenReturn(Set.of(2L));
+        when(commentIngestionRepository.findTaskUsers(any())).thenReturn(Map.of(5L, new TaskUsers(1L, 2L)));
+        when(commentIngestionRepository.nextIds(anyInt())).thenAnswer(invocation ->
+                LongStream.rangeClosed(1, invocation.<Integer>getArgument(0)).boxed().toList());
+        when(commentIngestionRepository.insertAll(anyList())).thenReturn(CREATED_AT);
+        CommentIngestionServiceImpl service = service(true, Thread::new);
+        service.start();
+
+        CompletableFuture<CommentDTO> first = service.submit(comment(2L, 5L));
+        CompletableFuture<CommentDTO> second = service.submit(comment(2L, 5L));
+
+        assertNotNull(first.get(5, TimeUnit.SECONDS).getCommentId());
+        assertNotNull(second.get(5, TimeUnit.SECONDS).getCommentId());
+        service.stop();
+    }
+
+    @Test
+    void ingest_ShouldThrowCauseOfRejection() {
+        when(commentIngestionRepository.findExistingUserIds(any())).thenReturn(Set.of());
+        when(commentIngestionRepository.findTaskUsers(any())).thenReturn(Map.of());
+        CommentIngestionServiceImpl service = service(true, Thread::new);
+        service.start();
+
+        assertThrows(ResourceNotFoundException.class, () -> service.ingest(comment(2L, 5L)));
+        service.stop();
+    }
+
+    private CommentIngestionServiceImpl service(boolean enabled, ThreadFactory threadFactory) {
+        return new CommentIngestionServiceImpl(commentIngestionRepository, outboxService, changeEventService,
+                auditService, cacheManager, transactionManager, enabled, 10, 5, 100, threadFactory);
+    }
+
+    private CommentDTO comment(Long userId, Long taskId) {
+        return new CommentDTO(null, "Comment", userId, taskId, null, null, null);
+    }
+
+    private Throwable cause(CompletableFuture<CommentDTO> future) {
+        return assertThrows(ExecutionException.class, future::get).getCause();
+    }
+}
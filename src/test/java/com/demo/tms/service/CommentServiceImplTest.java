@@ -1,5 +1,6 @@
 package com.demo.tms.service;
 
+import com.demo.tms.cache.ExistenceIndex;
 import com.demo.tms.entity.Comment;
 import com.demo.tms.entity.User;
 import com.demo.tms.entity.Task;
@@ -7,17 +8,24 @@ import com.demo.tms.exception.ResourceNotFoundException;
 import com.demo.tms.exception.OptimisticLockingException;
 import com.demo.tms.repository.CommentRepository;
 import com.demo.tms.repository.TaskRepository;
-import com.demo.tms.repository.UserRepository;
+import com.demo.tms.utils.ChangeAction;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -33,11 +41,23 @@ public class CommentServiceImplTest {
     private CommentRepository commentRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private ExistenceIndex existenceIndex;
 
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ChangeEventService changeEventService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private AuditService auditService;
+
     @InjectMocks
     private CommentServiceImpl commentService;
 
@@ -76,8 +96,10 @@ public class CommentServiceImplTest {
     @Test
     void testSaveComment_Success() {
         // Mock repository behavior
-        when(userRepository.existsById(user.getUserId())).thenReturn(true);
-        when(taskRepository.existsById(task.getTaskId())).thenReturn(true);
+        when(existenceIndex.checkUser(user.getUserId())).thenReturn(ExistenceIndex.Existence.UNKNOWN);
+        when(existenceIndex.checkTask(task.getTaskId())).thenReturn(ExistenceIndex.Existence.UNKNOWN);
+        when(taskRepository.findUserIdsByIdWithUser(task.getTaskId(), user.getUserId()))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 3L}));
         when(commentRepository.save(any(Comment.class))).thenReturn(comment);
 
         Comment savedComment = commentService.saveComment(comment);
@@ -85,16 +107,73 @@ public class CommentServiceImplTest {
         assertNotNull(savedComment);
         assertEquals(commentId, savedComment.getCommentId());
         verify(commentRepository, times(1)).save(any(Comment.class));
-        verify(userRepository, times(1)).existsById(user.getUserId());
-        verify(taskRepository, times(1)).existsById(task.getTaskId());
+        verify(taskRepository, times(1)).findUserIdsByIdWithUser(task.getTaskId(), user.getUserId());
+        verify(existenceIndex).confirmUser(user.getUserId());
+        verify(existenceIndex).confirmTask(task.getTaskId());
+        ArgumentCaptor<Task> taskUsers = ArgumentCaptor.forClass(Task.class);
+        verify(changeEventService).publishCommentChange(eq(ChangeAction.CREATED), eq(comment), taskUsers.capture());
+        verify(outboxService).appendCommentChange(ChangeAction.CREATED, comment, taskUsers.getValue());
+        assertEquals(1L, taskUsers.getValue().getTaskId());
+        assertEquals(2L, taskUsers.getValue().getAuthor().getUserId());
+        assertEquals(3L, taskUsers.getValue().getAssignee().getUserId());
+    }
+
+    @Test
+    void testSaveComment_ShouldRunOneQuery_AndNotLoadTaskReference() {
+        Task taskReference = mock(Task.class);
+        when(taskReference.getTaskId()).thenReturn(1L);
+        comment.setTask(taskReference);
+        when(existenceIndex.checkTask(1L)).thenReturn(ExistenceIndex.Existence.UNKNOWN);
+        when(existenceIndex.checkUser(user.getUserId())).thenReturn(ExistenceIndex.Existence.PRESENT);
+        when(existenceIndex.userExists(user.getUserId())).thenReturn(true);
+        when(taskRepository.findUserIdsById(1L)).thenReturn(List.<Object[]>of(new Object[]{2L, 3L}));
+        when(commentRepository.save(comment)).thenReturn(comment);
+
+        commentService.saveComment(comment);
+
+        verify(taskRepository).findUserIdsById(1L);
+        verify(commentRepository).save(comment);
+        verifyNoMoreInteractions(taskRepository, commentRepository);
+        verify(taskReference, never()).getAuthor();
+        verify(taskReference, never()).getAssignee();
+        verify(taskReference, never()).getName();
+    }
+
+    @Test
+    void testSaveComment_TaskNotFound() {
+        when(existenceIndex.checkUser(user.getUserId())).thenReturn(ExistenceIndex.Existence.UNKNOWN);
+        when(existenceIndex.checkTask(task.getTaskId())).thenReturn(ExistenceIndex.Existence.UNKNOWN);
+        when(taskRepository.findUserIdsByIdWithUser(task.getTaskId(), user.getUserId())).thenReturn(List.of());
+        when(existenceIndex.userExists(user.getUserId())).thenReturn(true);
+        when(taskRepository.findUserIdsById(task.getTaskId())).thenReturn(List.of());
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+            commentService.saveComment(comment);
+        });
+
+        assertEquals("Task with ID " + task.getTaskId() + " not found", exception.getMessage());
+        verify(commentRepository, never()).save(any(Comment.class));
+    }
+
+    @Test
+    void testSaveComment_UserAbsentFromIndex() {
+        when(existenceIndex.checkUser(user.getUserId())).thenReturn(ExistenceIndex.Existence.ABSENT);
+        when(existenceIndex.userExists(user.getUserId())).thenReturn(false);
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+            commentService.saveComment(comment);
+        });
+
+        assertEquals("User with ID " + user.getUserId() + " not found", exception.getMessage());
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
     void testUpdateComment_Success() {
         // Mock repository behavior
         when(commentRepository.findById(commentId)).thenReturn(java.util.Optional.of(comment));
-        when(userRepository.existsById(user.getUserId())).thenReturn(true);
-        when(taskRepository.existsById(task.getTaskId())).thenReturn(true);
+        when(existenceIndex.userExists(user.getUserId())).thenReturn(true);
+        when(existenceIndex.taskExists(task.getTaskId())).thenReturn(true);
         when(commentRepository.save(any(Comment.class))).thenReturn(updatedComment);
 
         Comment updated = commentService.updateComment(commentId, updatedComment);
@@ -115,8 +194,8 @@ public class CommentServiceImplTest {
         Task task = new Task();
         task.setTaskId(1L);  // Mock the task ID
 
-        when(userRepository.existsById(author.getUserId())).thenReturn(true);  // Mock user existence
-        when(taskRepository.existsById(task.getTaskId())).thenReturn(true);  // Mock task existence
+        when(existenceIndex.userExists(author.getUserId())).thenReturn(true);  // Mock user existence
+        when(existenceIndex.taskExists(task.getTaskId())).thenReturn(true);  // Mock task existence
 
         // Mock comment repository behavior
         when(commentRepository.findById(commentId)).thenReturn(java.util.Optional.of(comment));
@@ -134,12 +213,22 @@ public class CommentServiceImplTest {
     void testDeleteComment_Success() {
         // Mock repository behavior
         when(commentRepository.findById(commentId)).thenReturn(java.util.Optional.of(comment));
+        CaffeineCache tasks = new CaffeineCache("tasks", Caffeine.newBuilder().build());
+        tasks.put(task.getTaskId(), task);
+        CaffeineCache taskResponses = new CaffeineCache("taskResponses", Caffeine.newBuilder().build());
+        taskResponses.put(task.getTaskId(), new byte[0]);
+        when(cacheManager.getCache("tasks")).thenReturn(tasks);
+        when(cacheManager.getCache("taskResponses")).thenReturn(taskResponses);
 
         boolean isDeleted = commentService.deleteComment(commentId);
 
         assertTrue(isDeleted);
+        assertNull(tasks.get(task.getTaskId()));
+        assertNull(taskResponses.get(task.getTaskId()));
         verify(commentRepository, times(1)).findById(commentId);
         verify(commentRepository, times(1)).deleteById(commentId);
+        verify(changeEventService).publishCommentChange(ChangeAction.DELETED, comment, task);
+        verify(outboxService).appendCommentChange(ChangeAction.DELETED, comment, task);
     }
 
     @Test
@@ -178,6 +267,23 @@ public class CommentServiceImplTest {
         assertEquals("Comment not found", exception.getMessage());
     }
 
+    @Test
+    void testGetCommentsByIds_ServesCachedCommentsAndLoadsOthersInOneQuery() {
+        CaffeineCache cache = new CaffeineCache("comments", Caffeine.newBuilder().build());
+        cache.put(commentId, comment);
+        Comment otherComment = new Comment();
+        otherComment.setCommentId(2L);
+        when(cacheManager.getCache("comments")).thenReturn(cache);
+        when(commentRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(otherComment));
+
+        Map<Long, Comment> comments = commentService.getCommentsByIds(new LinkedHashSet<>(List.of(commentId, 2L, 3L)));
+
+        assertEquals(2, comments.size());
+        assertSame(comment, comments.get(commentId));
+        assertSame(otherComment, comments.get(2L));
+        assertSame(otherComment, cache.get(2L, Comment.class));
+    }
+
     @Test
     void testGetAllComments() {
         Pageable pageable = PageRequest.of(0, 10);
@@ -203,6 +309,18 @@ public class CommentServiceImplTest {
         verify(commentRepository, times(1)).findByTaskId(anyLong(), eq(pageable));
     }
 
+    @Test
+    void testGetCommentsWithUsersByTask() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Comment> commentPage = mock(Page.class);
+        when(commentRepository.findWithUserByTaskId(1L, pageable)).thenReturn(commentPage);
+
+        Page<Comment> comments = commentService.getCommentsWithUsersByTask(1L, pageable);
+
+        assertEquals(commentPage, comments);
+        verify(commentRepository, never()).findByTaskId(anyLong(), any(Pageable.class));
+    }
+
     @Test
     void testGetCommentsByUser() {
         Pageable pageable = PageRequest.of(0, 10);
@@ -214,4 +332,14 @@ public class CommentServiceImplTest {
         assertNotNull(comments);
         verify(commentRepository, times(1)).findByUserId(anyLong(), eq(pageable));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetCommentVersion_FromRepository() {
+        when(commentRepository.findVersionById(commentId)).thenReturn(Optional.of(1L));
+
+        Long version = commentService.getCommentVersion(commentId);
+
+        assertEquals(1L, version);
+        verify(commentRepository, times(1)).findVersionById(commentId);
+    }
+}
@@ -0,0 +1,88 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.repository.CommentRepository;
+import com.demo.tms.repository.TaskRepository;
+import com.demo.tms.utils.ExportFormat;
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringWriter;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    private ExportServiceImpl exportService;
+
+    private TaskDTO taskDTO;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportServiceImpl(taskRepository, commentRepository, new ObjectMapper(), 500);
+
+        taskDTO = new TaskDTO(1L, "Task, one", "Says \"hi\"", TaskStatus.PENDING, TaskPriority.HIGH, 1L, 2L,
+                null, 0L, null, null);
+    }
+
+    @Test
+    void exportTasks_ShouldWriteNdjsonLinePerTask() throws Exception {
+        when(taskRepository.streamAll(500)).thenReturn(Stream.of(taskDTO, taskDTO));
+        StringWriter writer = new StringWriter();
+
+        exportService.exportTasks(ExportFormat.NDJSON, writer);
+
+        String[] lines = writer.toString().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"taskId\":1,\"name\":\"Task, one\""));
+        assertFalse(lines[0].contains("commentIds"));
+    }
+
+    @Test
+    void exportTasks_ShouldWriteQuotedCsv() throws Exception {
+        when(taskRepository.streamAll(500)).thenReturn(Stream.of(taskDTO));
+        StringWriter writer = new StringWriter();
+
+        exportService.exportTasks(ExportFormat.CSV, writer);
+
+        assertEquals("taskId,name,description,status,priority,authorId,assigneeId,version\n" +
+                "1,\"Task, one\",\"Says \"\"hi\"\"\",PENDING,HIGH,1,2,0\n", writer.toString());
+    }
+
+    @Test
+    void exportComments_ShouldWriteEmptyFieldsForNullValues() throws Exception {
+        CommentDTO commentDTO = new CommentDTO(3L, "Looks good", null, 1L, 0L, null, null);
+        when(commentRepository.streamAll(500)).thenReturn(Stream.of(commentDTO));
+        StringWriter writer = new StringWriter();
+
+        exportService.exportComments(ExportFormat.CSV, writer);
+
+        assertEquals("commentId,text,userId,taskId,version\n3,Looks good,,1,0\n", writer.toString());
+    }
+
+    @Test
+    void exportTasks_ShouldCloseStream() throws Exception {
+        Runnable onClose = mock(Runnable.class);
+        when(taskRepository.streamAll(500)).thenReturn(Stream.of(taskDTO).onClose(onClose));
+
+        exportService.exportTasks(ExportFormat.NDJSON, new StringWriter());
+
+        verify(onClose, times(1)).run();
+    }
+}
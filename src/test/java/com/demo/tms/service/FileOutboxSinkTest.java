@@ -0,0 +1,36 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.OutboxMessageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileOutboxSinkTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void deliver_ShouldAppendOneJsonLinePerMessage() throws IOException {
+        Path file = directory.resolve("outbox/events.ndjson");
+        FileOutboxSink sink = new FileOutboxSink(new ObjectMapper().registerModule(new JavaTimeModule()), file);
+        Instant createdAt = Instant.parse("2026-01-01T00:00:00Z");
+
+        sink.deliver(List.of(new OutboxMessageDTO(1L, "task", 5L, "CREATED", "{\"taskId\":5}", createdAt)));
+        sink.deliver(List.of(new OutboxMessageDTO(2L, "comment", 7L, "DELETED", "{\"commentId\":7}", createdAt)));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"payload\":{\"taskId\":5}"));
+        assertTrue(lines.get(1).startsWith("{\"id\":2,\"aggregateType\":\"comment\""));
+    }
+}
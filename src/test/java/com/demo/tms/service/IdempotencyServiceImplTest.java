@@ -0,0 +1,166 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.repository.IdempotencyRepository;
+import com.demo.tms.repository.IdempotencyRepository.StoredResponse;
+import com.demo.tms.service.IdempotencyService.Outcome;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceImplTest {
+
+    private static final String ENDPOINT = "POST /api/comments";
+
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private IdempotencyServiceImpl idempotencyService;
+
+    private CommentDTO request;
+    private CommentDTO created;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl(idempotencyRepository,
+                new ObjectMapper().registerModule(new JavaTimeModule()), transactionManager, 100, 24);
+        request = new CommentDTO();
+        request.setText("Retried comment");
+        request.setUserId(1L);
+        request.setTaskId(2L);
+        created = new CommentDTO();
+        created.setCommentId(10L);
+        created.setText("Retried comment");
+        created.setUserId(1L);
+        created.setTaskId(2L);
+        created.setCreatedAt(Instant.parse("2026-01-01T10:00:00Z"));
+    }
+
+    @Test
+    void execute_ShouldExecuteOnce_AndReplayRepeatedKeyFromCache() {
+        when(idempotencyRepository.claim(eq(""), eq("key-1"), eq(ENDPOINT), anyString(), any(Instant.class)))
+                .thenReturn(true);
+        AtomicInteger executions = new AtomicInteger();
+
+        Outcome<CommentDTO> first = idempotencyService.execute("key-1", ENDPOINT, request, CommentDTO.class, () -> {
+            executions.incrementAndGet();
+            return created;
+        });
+        Outcome<CommentDTO> second = idempotencyService.execute("key-1", ENDPOINT, request, CommentDTO.class, () -> {
+            executions.incrementAndGet();
+            return created;
+        });
+
+        assertFalse(first.replayed());
+        assertTrue(second.replayed());
+        assertEquals(created, second.body());
+        assertEquals(1, executions.get());
+        verify(idempotencyRepository, times(1)).claim(any(), any(), any(), any(), any());
+        verify(idempotencyRepository).complete(eq(""), eq("key-1"), anyString());
+    }
+
+    @Test
+    void execute_ShouldReplayStoredResponse_WhenKeyClaimedEarlier() {
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        when(idempotencyRepository.claim(eq(""), eq("key-1"), eq(ENDPOINT), hash.capture(), any(Instant.class)))
+                .thenReturn(false);
+        when(idempotencyRepository.find("", "key-1")).thenAnswer(invocation -> Optional.of(new StoredResponse(
+                ENDPOINT, hash.getValue(), "{\"commentId\":10,\"text\":\"Retried comment\",\"userId\":1,\"taskId\":2," +
+                        "\"createdAt\":\"2026-01-01T10:00:00Z\"}")));
+
+        Outcome<CommentDTO> outcome = idempotencyService.execute("key-1", ENDPOINT, request, CommentDTO.class,
+                () -> fail("The request must not be executed again"));
+
+        assertTrue(outcome.replayed());
+        assertEquals(created, outcome.body());
+        verify(idempotencyRepository, never()).complete(any(), any(), any());
+    }
+
+    @Test
+    void execute_ShouldReject_WhenKeyReusedForDifferentRequest() {
+        when(idempotencyRepository.claim(any(), any(), any(), any(), any())).thenReturn(true);
+        idempotencyService.execute("key-1", ENDPOINT, request, CommentDTO.class, () -> created);
+        CommentDTO other = new CommentDTO();
+        other.setText("Another comment");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotencyService.execute("key-1", ENDPOINT, other, CommentDTO.class, () -> created));
+    }
+
+    @Test
+    void execute_ShouldThrowIllegalArgumentException_WhenKeyBlank() {
+        assertThrows(IllegalArgumentException.class,
+                () -> idempotencyService.execute(" ", ENDPOINT, request, CommentDTO.class, () -> created));
+        verifyNoInteractions(idempotencyRepository);
+    }
+
+    @Test
+    void execute_ShouldCoalesceConcurrentRequestsWithSameKey() throws Exception {
+        when(idempotencyRepository.claim(any(), any(), any(), any(), any())).thenReturn(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        CompletableFuture<Outcome<CommentDTO>> first = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", ENDPOINT, request, CommentDTO.class, () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return created;
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Outcome<CommentDTO>> second = CompletableFuture.supplyAsync(() ->
+                idempotencyService.execute("key-1", ENDPOINT, request, CommentDTO.class, () -> {
+                    executions.incrementAndGet();
+                    return created;
+                }));
+        release.countDown();
+
+        assertFalse(first.get(5, TimeUnit.SECONDS).replayed());
+        assertTrue(second.get(5, TimeUnit.SECONDS).replayed());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    void purge_ShouldDeleteKeysOlderThanRetention() {
+        when(idempotencyRepository.purge(any(Instant.class))).thenReturn(3);
+
+        idempotencyService.purge();
+
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(idempotencyRepository).purge(cutoff.capture());
+        assertTrue(cutoff.getValue().isBefore(Instant.now().minusSeconds(23 * 3600)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
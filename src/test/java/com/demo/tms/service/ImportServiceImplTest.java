@@ -0,0 +1,114 @@
+package com.demo.tms.service;
+
+import com.demo.tms.cache.ExistenceIndex;
+import com.demo.tms.cache.TaskNameIndex;
+import com.demo.tms.cache.TaskQueue;
+import com.demo.tms.dto.ImportResultDTO;
+import com.demo.tms.dto.RejectedRowDTO;
+import com.demo.tms.repository.ImportRepository;
+import com.demo.tms.utils.ExportFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceImplTest {
+
+    @Mock
+    private ImportRepository importRepository;
+
+    @Mock
+    private TaskNameIndex taskNameIndex;
+
+    @Mock
+    private TaskStatisticsService taskStatisticsService;
+
+    @Mock
+    private TaskQueue taskQueue;
+
+    @Mock
+    private ExistenceIndex existenceIndex;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+
+    private ImportServiceImpl importService;
+
+    private final StringWriter staged = new StringWriter();
+
+    @BeforeEach
+    void setUp() {
+        importService = new ImportServiceImpl(importRepository, new ObjectMapper(), taskNameIndex,
+                taskStatisticsService, taskQueue, existenceIndex, cacheManager);
+    }
+
+    @Test
+    void importData_ShouldStageCsvAsIs() throws Exception {
+        String csv = "taskId,name,description,status,priority,authorId,assigneeId,version\n" +
+                ",Task,Descr,PENDING,HIGH,1,2,0\n";
+        when(importRepository.stageTasks(any(Reader.class), eq(false))).thenAnswer(invocation -> {
+            ((Reader) invocation.getArgument(0)).transferTo(staged);
+            return 1L;
+        });
+        when(importRepository.mergeTasks()).thenReturn(1L);
+        when(importRepository.findRejectedTasks(anyInt())).thenReturn(List.of());
+        cacheManager.getCache("tasks").put(1L, "cached");
+
+        ImportResultDTO result = importService.importData(ExportFormat.CSV, input(csv), null);
+
+        assertEquals(csv, staged.toString());
+        assertEquals(1L, result.getTasksImported());
+        assertEquals(0L, result.getTasksRejected());
+        assertNull(cacheManager.getCache("tasks").get(1L));
+        verify(importRepository, never()).stageComments(any(Reader.class), anyBoolean());
+        verify(taskNameIndex).rebuild();
+        verify(taskStatisticsService).reconcile();
+        verify(taskQueue).rebuild();
+        verify(existenceIndex).rebuild();
+    }
+
+    @Test
+    void importData_ShouldConvertNdjsonToNumberedCsv() throws Exception {
+        String ndjson = "{\"commentId\":null,\"text\":\"Hi, there\",\"userId\":2,\"taskId\":1}\n" +
+                "\n" +
+                "not json\n";
+        when(importRepository.stageComments(any(Reader.class), eq(true))).thenAnswer(invocation -> {
+            ((Reader) invocation.getArgument(0)).transferTo(staged);
+            return 2L;
+        });
+        when(importRepository.mergeComments()).thenReturn(1L);
+        when(importRepository.countRejectedComments()).thenReturn(1L);
+        when(importRepository.findRejectedComments(1000))
+                .thenReturn(List.of(new RejectedRowDTO("comments", 3, "invalid JSON")));
+
+        ImportResultDTO result = importService.importData(ExportFormat.NDJSON, null, input(ndjson));
+
+        assertEquals("1,,,\"Hi, there\",2,1,\n3,invalid JSON,,,,,\n", staged.toString());
+        assertEquals(1L, result.getCommentsImported());
+        assertEquals(1L, result.getCommentsRejected());
+        assertEquals(3, result.getRejectedRows().get(0).getRow());
+    }
+
+    @Test
+    void importData_ShouldThrowException_WhenNoInputIsGiven() {
+        assertThrows(IllegalArgumentException.class, () -> importService.importData(ExportFormat.CSV, null, null));
+        verifyNoInteractions(importRepository);
+    }
+
+    private InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
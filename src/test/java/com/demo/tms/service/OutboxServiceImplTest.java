@@ -0,0 +1,159 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.OutboxMessageDTO;
+import com.demo.tms.dto.OutboxStatusDTO;
+import com.demo.tms.entity.Comment;
+import com.demo.tms.entity.Task;
+import com.demo.tms.entity.User;
+import com.demo.tms.repository.OutboxRepository;
+import com.demo.tms.utils.ChangeAction;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceImplTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxSink outboxSink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxServiceImpl outboxService;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxServiceImpl(outboxRepository, outboxSink, new ObjectMapper(), transactionManager, 2);
+        task = new Task();
+        task.setTaskId(5L);
+        task.setVersion(3L);
+        task.setAuthor(user(1L));
+        task.setAssignee(user(2L));
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositiveBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new OutboxServiceImpl(outboxRepository, outboxSink,
+                new ObjectMapper(), transactionManager, 0));
+    }
+
+    @Test
+    void appendTaskChange_ShouldFlushBeforeWritingEvent() {
+        outboxService.appendTaskChange(ChangeAction.UPDATED, task, 4L);
+
+        InOrder inOrder = inOrder(outboxRepository);
+        inOrder.verify(outboxRepository).flush();
+        inOrder.verify(outboxRepository).append(eq("task"), eq(5L), eq("UPDATED"), argThat(payload ->
+                payload.contains("\"version\":3") && payload.contains("\"previousAssigneeId\":4")
+                        && !payload.contains("commentId")));
+    }
+
+    @Test
+    void appendCommentChange_ShouldOmitVersion_WhenDeleted() {
+        Comment comment = new Comment();
+        comment.setCommentId(7L);
+        comment.setVersion(1L);
+
+        outboxService.appendCommentChange(ChangeAction.DELETED, comment, task);
+
+        verify(outboxRepository).append(eq("comment"), eq(7L), eq("DELETED"), argThat(payload ->
+                payload.contains("\"taskId\":5") && payload.contains("\"commentId\":7")
+                        && !payload.contains("version")));
+    }
+
+    @Test
+    void appendCommentChanges_ShouldWriteOneBatch() {
+        Comment first = new Comment("First", user(2L), task, 0L);
+        first.setCommentId(7L);
+        Comment second = new Comment("Second", user(2L), task, 0L);
+        second.setCommentId(8L);
+
+        outboxService.appendCommentChanges(ChangeAction.CREATED, List.of(first, second));
+
+        verify(outboxRepository).flush();
+        verify(outboxRepository).appendAll(argThat(messages -> messages.size() == 2
+                && messages.get(1).getAggregateId().equals(8L)
+                && messages.get(1).getPayload().contains("\"commentId\":8")));
+        verify(outboxRepository, never()).append(any(), any(), any(), any());
+    }
+
+    @Test
+    void relay_ShouldDeliverBatchesUntilDrained() throws IOException {
+        Instant createdAt = Instant.now().minusSeconds(2);
+        when(outboxRepository.claimBatch(2)).thenReturn(messages(createdAt, 1L, 2L))
+                .thenReturn(messages(createdAt, 3L));
+
+        assertEquals(3, outboxService.relay());
+
+        verify(outboxSink, times(2)).deliver(anyList());
+        verify(transactionManager, times(2)).commit(any());
+        OutboxStatusDTO status = statusWithBacklog();
+        assertEquals(3, status.getRelayed());
+        assertEquals(1, status.getLastBatchSize());
+        assertTrue(status.getLastLagMillis() >= 2000);
+        assertNotNull(status.getLastRelayAt());
+    }
+
+    @Test
+    void relay_ShouldKeepBatch_WhenSinkFails() throws IOException {
+        when(outboxRepository.claimBatch(2)).thenReturn(messages(Instant.now(), 1L));
+        doThrow(new IOException("disk full")).when(outboxSink).deliver(anyList());
+
+        assertEquals(0, outboxService.relay());
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        OutboxStatusDTO status = statusWithBacklog();
+        assertEquals(1, status.getFailedBatches());
+        assertEquals(0, status.getRelayed());
+    }
+
+    @Test
+    void getStatus_ShouldReportAgeOfOldestPendingMessage() {
+        when(outboxRepository.findBacklog())
+                .thenReturn(new OutboxRepository.Backlog(4, Instant.now().minusSeconds(5)));
+
+        OutboxStatusDTO status = outboxService.getStatus();
+
+        assertEquals(4, status.getPending());
+        assertTrue(status.getOldestPendingAgeMillis() >= 5000);
+        assertNull(status.getLastRelayAt());
+    }
+
+    private OutboxStatusDTO statusWithBacklog() {
+        when(outboxRepository.findBacklog()).thenReturn(new OutboxRepository.Backlog(0, null));
+        return outboxService.getStatus();
+    }
+
+    private List<OutboxMessageDTO> messages(Instant createdAt, Long... ids) {
+        List<OutboxMessageDTO> messages = new ArrayList<>();
+        for (Long id : ids) {
+            messages.add(new OutboxMessageDTO(id, "task", 5L, "UPDATED", "{\"entity\":\"task\"}", createdAt));
+        }
+        return messages;
+    }
+
+    private User user(Long userId) {
+        User user = new User();
+        user.setUserId(userId);
+        return user;
+    }
+}
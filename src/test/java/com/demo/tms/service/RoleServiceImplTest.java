@@ -1,10 +1,11 @@
 package com.demo.tms.service;
 
+import com.demo.tms.cache.ExistenceIndex;
 import com.demo.tms.entity.Role;
 import com.demo.tms.entity.User;
 import com.demo.tms.exception.ResourceNotFoundException;
 import com.demo.tms.repository.RoleRepository;
-import com.demo.tms.repository.UserRepository;
+import com.demo.tms.utils.ChangeAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,6 +14,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,7 +27,10 @@ class RoleServiceImplTest {
     private RoleRepository roleRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private ExistenceIndex existenceIndex;
+
+    @Mock
+    private AuditService auditService;
 
     @InjectMocks
     private RoleServiceImpl roleService;
@@ -49,7 +54,7 @@ class RoleServiceImplTest {
     @Test
     void testSaveRole_WhenUserExists_ShouldSaveRole() {
         // Given - The user exists
-        when(userRepository.existsById(user.getUserId())).thenReturn(true);
+        when(existenceIndex.userExists(user.getUserId())).thenReturn(true);
         when(roleRepository.save(role)).thenReturn(role);
 
         // When - Saving the role
@@ -59,12 +64,14 @@ class RoleServiceImplTest {
         assertNotNull(savedRole);
         assertEquals("ADMIN", savedRole.getAuthority());
         verify(roleRepository).save(role);
+        verify(auditService).record(eq("role"), eq(role.getRoleId()), eq(ChangeAction.CREATED), isNull(),
+                eq(Map.of("authority", "ADMIN", "userId", user.getUserId())));
     }
 
     @Test
     void testSaveRole_WhenUserDoesNotExist_ShouldThrowException() {
         // Given - The user does not exist
-        when(userRepository.existsById(user.getUserId())).thenReturn(false);
+        when(existenceIndex.userExists(user.getUserId())).thenReturn(false);
 
         // When & Then - Expecting exception
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class,
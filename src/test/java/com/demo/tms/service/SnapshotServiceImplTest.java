@@ -0,0 +1,48 @@
+package com.demo.tms.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotServiceImplTest {
+
+    @Test
+    void split_ShouldCoverKeyIntervalWithEqualRanges() {
+        List<SnapshotServiceImpl.Range> ranges = SnapshotServiceImpl.split("tasks", 1, 100, 4);
+
+        assertEquals(List.of(
+                new SnapshotServiceImpl.Range("tasks", 1, 1, 25),
+                new SnapshotServiceImpl.Range("tasks", 2, 26, 50),
+                new SnapshotServiceImpl.Range("tasks", 3, 51, 75),
+                new SnapshotServiceImpl.Range("tasks", 4, 76, 100)), ranges);
+    }
+
+    @Test
+    void split_ShouldShortenLastRange_WhenIntervalIsNotDivisible() {
+        List<SnapshotServiceImpl.Range> ranges = SnapshotServiceImpl.split("comments", 5, 14, 3);
+
+        assertEquals(3, ranges.size());
+        assertEquals(5, ranges.get(0).fromId());
+        assertEquals(8, ranges.get(0).toId());
+        assertEquals(13, ranges.get(2).fromId());
+        assertEquals(14, ranges.get(2).toId());
+    }
+
+    @Test
+    void split_ShouldReturnFewerRanges_WhenTableHasFewerKeys() {
+        List<SnapshotServiceImpl.Range> ranges = SnapshotServiceImpl.split("users", 1, 3, 8);
+
+        assertEquals(3, ranges.size());
+        assertEquals(3, ranges.get(2).toId());
+    }
+
+    @Test
+    void copyStatement_ShouldNotExportPasswords() {
+        String statement = SnapshotServiceImpl.copyStatement(new SnapshotServiceImpl.Range("users", 1, 1, 50));
+
+        assertEquals("COPY (SELECT id, username, email, enabled FROM tms.users WHERE id BETWEEN 1 AND 50 " +
+                "ORDER BY id) TO STDOUT WITH (FORMAT csv, HEADER true)", statement);
+    }
+}
@@ -0,0 +1,126 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.ChangeSetDTO;
+import com.demo.tms.dto.CommentDTO;
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.repository.SyncRepository;
+import com.demo.tms.repository.SyncRepository.Change;
+import com.demo.tms.repository.SyncRepository.Position;
+import com.demo.tms.repository.SyncRepository.Tombstone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceImplTest {
+
+    @Mock
+    private SyncRepository syncRepository;
+
+    private SyncServiceImpl syncService;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncServiceImpl(syncRepository, 30);
+    }
+
+    @Test
+    void getChanges_ShouldMergeChangesInPositionOrder_AndCutAtLimit() {
+        Position start = new Position(0, 0);
+        when(syncRepository.findHorizon()).thenReturn(800L);
+        when(syncRepository.findTaskChanges(2L, start, 800L, 5)).thenReturn(List.of(
+                new Change<>(new Position(700, 1), task(1L)), new Change<>(new Position(701, 3), task(4L)),
+                new Change<>(new Position(702, 5), task(7L))));
+        when(syncRepository.findCommentChanges(2L, start, 800L, 5)).thenReturn(List.of(
+                new Change<>(new Position(700, 2), comment(10L))));
+        when(syncRepository.findTombstones(2L, start, 800L, 5)).thenReturn(List.of(
+                new Change<>(new Position(700, 0), new Tombstone("TASK", 4L)),
+                new Change<>(new Position(703, 6), new Tombstone("COMMENT", 11L))));
+
+        ChangeSetDTO changes = syncService.getChanges(2L, null, 4);
+
+        assertEquals(List.of(1L, 4L), changes.getTasks().stream().map(TaskDTO::getTaskId).toList());
+        assertEquals(List.of(10L), changes.getComments().stream().map(CommentDTO::getCommentId).toList());
+        assertTrue(changes.getDeletedTaskIds().isEmpty());
+        assertTrue(changes.getDeletedCommentIds().isEmpty());
+        assertEquals("NzAxOjM", changes.getWatermark());
+        assertTrue(changes.isHasMore());
+        verify(syncRepository, never()).findPurgedPosition();
+    }
+
+    @Test
+    void getChanges_ShouldReturnTombstones() {
+        Position after = new Position(700, 40);
+        when(syncRepository.findPurgedPosition()).thenReturn(new Position(500, 7));
+        when(syncRepository.findHorizon()).thenReturn(800L);
+        when(syncRepository.findTaskChanges(2L, after, 800L, 11)).thenReturn(List.of());
+        when(syncRepository.findCommentChanges(2L, after, 800L, 11)).thenReturn(List.of());
+        when(syncRepository.findTombstones(2L, after, 800L, 11)).thenReturn(List.of(
+                new Change<>(new Position(701, 41), new Tombstone("COMMENT", 11L)),
+                new Change<>(new Position(701, 42), new Tombstone("TASK", 4L))));
+
+        ChangeSetDTO changes = syncService.getChanges(2L, "NzAwOjQw", 10);
+
+        assertEquals(List.of(4L), changes.getDeletedTaskIds());
+        assertEquals(List.of(11L), changes.getDeletedCommentIds());
+        assertEquals("NzAxOjQy", changes.getWatermark());
+        assertFalse(changes.isHasMore());
+    }
+
+    @Test
+    void getChanges_ShouldKeepWatermark_WhenNothingChanged() {
+        when(syncRepository.findPurgedPosition()).thenReturn(new Position(0, 0));
+        when(syncRepository.findHorizon()).thenReturn(800L);
+        when(syncRepository.findTaskChanges(eq(2L), any(), eq(800L), eq(11))).thenReturn(List.of());
+        when(syncRepository.findCommentChanges(eq(2L), any(), eq(800L), eq(11))).thenReturn(List.of());
+        when(syncRepository.findTombstones(eq(2L), any(), eq(800L), eq(11))).thenReturn(List.of());
+
+        ChangeSetDTO changes = syncService.getChanges(2L, "NzAwOjQw", 10);
+
+        assertEquals("NzAwOjQw", changes.getWatermark());
+        assertTrue(changes.getTasks().isEmpty());
+    }
+
+    @Test
+    void getChanges_InvalidArguments() {
+        when(syncRepository.findPurgedPosition()).thenReturn(new Position(701, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> syncService.getChanges(2L, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> syncService.getChanges(2L, "not a watermark", 10));
+        assertThrows(IllegalArgumentException.class, () -> syncService.getChanges(2L, "NzAwOjQw", 10));
+        verify(syncRepository, never()).findHorizon();
+    }
+
+    @Test
+    void purgeTombstones_ShouldPurgeBeforeRetention() {
+        Instant before = Instant.now();
+        when(syncRepository.purgeTombstones(any(Instant.class))).thenReturn(3);
+
+        syncService.purgeTombstones();
+
+        verify(syncRepository).purgeTombstones(argThat(cutoff ->
+                !cutoff.isAfter(Instant.now().minusSeconds(30L * 24 * 3600)) &&
+                        !cutoff.isBefore(before.minusSeconds(30L * 24 * 3600))));
+    }
+
+    private TaskDTO task(Long taskId) {
+        TaskDTO task = new TaskDTO();
+        task.setTaskId(taskId);
+        return task;
+    }
+
+    private CommentDTO comment(Long commentId) {
+        CommentDTO comment = new CommentDTO();
+        comment.setCommentId(commentId);
+        return comment;
+    }
+}
@@ -1,23 +1,46 @@
 package com.demo.tms.service;
 
+import com.demo.tms.cache.ExistenceIndex;
+import com.demo.tms.cache.TaskNameIndex;
+import com.demo.tms.cache.TaskQueue;
+import com.demo.tms.dto.CursorPageDTO;
+import com.demo.tms.dto.TaskBoardColumnDTO;
+import com.demo.tms.dto.TaskBoardDTO;
+import com.demo.tms.dto.TaskDTO;
+import com.demo.tms.dto.TaskFilterDTO;
+import com.demo.tms.dto.TaskSearchHitDTO;
+import com.demo.tms.dto.TimeBucketDTO;
 import com.demo.tms.entity.Role;
 import com.demo.tms.entity.Task;
 import com.demo.tms.entity.User;
 import com.demo.tms.exception.OptimisticLockingException;
 import com.demo.tms.exception.ResourceNotFoundException;
 import com.demo.tms.repository.TaskRepository;
-import com.demo.tms.repository.UserRepository;
+import com.demo.tms.utils.ChangeAction;
 import com.demo.tms.utils.TaskPriority;
 import com.demo.tms.utils.TaskStatus;
+import com.demo.tms.utils.TimeInterval;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -31,7 +54,28 @@ public class TaskServiceImplTest {
     private TaskRepository taskRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private ExistenceIndex existenceIndex;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private TaskNameIndex taskNameIndex;
+
+    @Mock
+    private TaskStatisticsService taskStatisticsService;
+
+    @Mock
+    private TaskQueue taskQueue;
+
+    @Mock
+    private ChangeEventService changeEventService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private AuditService auditService;
 
     @InjectMocks
     private TaskServiceImpl taskService;
@@ -79,7 +123,7 @@ public class TaskServiceImplTest {
     @Test
     void testSaveTask_Success() {
         // Mock repository save behavior
-        when(userRepository.existsById(1L)).thenReturn(true);
+        when(existenceIndex.findExistingUserIds(Set.of(1L))).thenReturn(Set.of(1L));
         when(taskRepository.save(any(Task.class))).thenReturn(task);
 
         Task savedTask = taskService.saveTask(task);
@@ -87,13 +131,21 @@ public class TaskServiceImplTest {
         assertNotNull(savedTask);
         assertEquals(taskId, savedTask.getTaskId());
         verify(taskRepository, times(1)).save(any(Task.class));
-        verify(userRepository, times(2)).existsById(1L);
+        verify(existenceIndex, times(1)).findExistingUserIds(Set.of(1L));
+        verify(existenceIndex).addTask(taskId);
+        verify(taskNameIndex).put(taskId, task.getName());
+        verify(taskStatisticsService).increment(1L, TaskStatus.PENDING, TaskPriority.HIGH);
+        verify(taskQueue).update(taskId, 1L, TaskStatus.PENDING, TaskPriority.HIGH);
+        verify(changeEventService).publishTaskChange(ChangeAction.CREATED, task, null);
+        verify(outboxService).appendTaskChange(ChangeAction.CREATED, task, null);
+        verify(auditService).record(eq("task"), eq(taskId), eq(ChangeAction.CREATED), isNull(),
+                argThat(after -> after.get("status") == TaskStatus.PENDING && after.get("assigneeId").equals(1L)));
     }
 
     @Test
     void testUpdateTask_Success() {
         // Mock task retrieval and save behavior
-        when(userRepository.existsById(1L)).thenReturn(true);
+        when(existenceIndex.findExistingUserIds(Set.of(1L))).thenReturn(Set.of(1L));
         when(taskRepository.findById(taskId)).thenReturn(java.util.Optional.of(task));
         when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
 
@@ -104,7 +156,9 @@ public class TaskServiceImplTest {
         assertEquals(updatedTask.getDescription(), updated.getDescription());
         verify(taskRepository, times(1)).findById(taskId);
         verify(taskRepository, times(1)).save(any(Task.class));
-        verify(userRepository, times(2)).existsById(1L);
+        verify(existenceIndex, times(1)).findExistingUserIds(Set.of(1L));
+        verify(taskStatisticsService).decrement(1L, TaskStatus.PENDING, TaskPriority.HIGH);
+        verify(taskStatisticsService).increment(1L, TaskStatus.PROCESSING, TaskPriority.LOW);
     }
 
     @Test
@@ -124,7 +178,7 @@ public class TaskServiceImplTest {
         String message = "Optimistic locking failure: Task was updated by another transaction";
 
         // Mock task retrieval
-        when(userRepository.existsById(1L)).thenReturn(true);
+        when(existenceIndex.findExistingUserIds(Set.of(1L))).thenReturn(Set.of(1L));
         when(taskRepository.findById(taskId)).thenReturn(java.util.Optional.of(task));
         when(taskRepository.save(any(Task.class))).thenThrow(new OptimisticLockingException(message));
 
@@ -147,6 +201,11 @@ public class TaskServiceImplTest {
         assertTrue(isDeleted);
         verify(taskRepository, times(1)).findById(taskId);
         verify(taskRepository, times(1)).deleteById(taskId);
+        verify(existenceIndex).removeTask(taskId);
+        verify(taskNameIndex).remove(taskId);
+        verify(taskStatisticsService).decrement(1L, TaskStatus.PENDING, TaskPriority.HIGH);
+        verify(changeEventService).publishTaskChange(ChangeAction.DELETED, task, null);
+        verify(outboxService).appendTaskChange(ChangeAction.DELETED, task, null);
     }
 
     @Test
@@ -185,6 +244,38 @@ public class TaskServiceImplTest {
         assertEquals("Task not found", exception.getMessage());
     }
 
+    @Test
+    void testGetTaskById_AbsentFromIndex() {
+        when(existenceIndex.checkTask(taskId)).thenReturn(ExistenceIndex.Existence.ABSENT);
+
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+            taskService.getTaskById(taskId);
+        });
+
+        assertEquals("Task not found", exception.getMessage());
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    void testGetTasksByIds_ServesCachedTasksAndLoadsOthersInOneQuery() {
+        CaffeineCache cache = new CaffeineCache("tasks", Caffeine.newBuilder().build());
+        cache.put(taskId, task);
+        Task otherTask = new Task();
+        otherTask.setTaskId(2L);
+        when(cacheManager.getCache("tasks")).thenReturn(cache);
+        when(existenceIndex.checkTask(2L)).thenReturn(ExistenceIndex.Existence.UNKNOWN);
+        when(existenceIndex.checkTask(3L)).thenReturn(ExistenceIndex.Existence.ABSENT);
+        when(taskRepository.findAllWithCommentsByIdIn(List.of(2L))).thenReturn(List.of(otherTask));
+
+        Map<Long, Task> tasks = taskService.getTasksByIds(new LinkedHashSet<>(List.of(taskId, 2L, 3L)));
+
+        assertEquals(2, tasks.size());
+        assertSame(task, tasks.get(taskId));
+        assertSame(otherTask, tasks.get(2L));
+        assertSame(otherTask, cache.get(2L, Task.class));
+        verify(taskRepository, never()).findById(any());
+    }
+
     @Test
     void testGetAllTasks() {
         Pageable pageable = PageRequest.of(0, 10);
@@ -228,7 +319,8 @@ public class TaskServiceImplTest {
         task.setAssignee(user2);  // Assignee does not exist
 
         // Mock the user repository behavior
-        when(userRepository.existsById(user2.getUserId())).thenReturn(false); // Assignee does not exist
+        when(existenceIndex.findExistingUserIds(Set.of(user1.getUserId())))
+                .thenReturn(Set.of(user1.getUserId())); // Only the author exists
 
         // Call saveTask, which will invoke validateTaskUsers
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -245,8 +337,8 @@ public class TaskServiceImplTest {
         task.setAuthor(user2);    // Author does not exist
 
         // Mock the user repository behavior
-        when(userRepository.existsById(user1.getUserId())).thenReturn(true);  // Assignee exists
-        when(userRepository.existsById(user2.getUserId())).thenReturn(false); // Author does not exist
+        when(existenceIndex.findExistingUserIds(Set.of(user1.getUserId())))
+                .thenReturn(Set.of(user1.getUserId())); // Only the assignee exists
 
         // Call saveTask, which will invoke validateTaskUsers
         ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
@@ -256,4 +348,224 @@ public class TaskServiceImplTest {
         // Assert that the exception message matches the expected output for the author not being found
         assertEquals("Author with ID " + user2.getUserId() + " not found", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetTaskRepresentationVersion_FromCache() {
+        Cache cache = mock(Cache.class);
+        task.setVersion(5L);
+        task.setComments(new ArrayList<>());
+        when(cacheManager.getCache("tasks")).thenReturn(cache);
+        when(cache.get(taskId, Task.class)).thenReturn(task);
+
+        Long version = taskService.getTaskRepresentationVersion(taskId);
+
+        assertEquals(5L, version);
+        verify(taskRepository, never()).findVersionAndCommentIdsById(anyLong());
+    }
+
+    @Test
+    void testGetTaskRepresentationVersion_FromRepository() {
+        when(taskRepository.findVersionAndCommentIdsById(taskId))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, null}));
+
+        Long version = taskService.getTaskRepresentationVersion(taskId);
+
+        assertEquals(2L, version);
+        verify(taskRepository, times(1)).findVersionAndCommentIdsById(taskId);
+    }
+
+    @Test
+    void testGetTaskRepresentationVersion_ShouldChangeWithCommentIds_WhileTaskVersionStays() {
+        when(taskRepository.findVersionAndCommentIdsById(taskId))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 7L}))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 7L}, new Object[]{2L, 8L}))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 8L}, new Object[]{2L, 7L}));
+
+        Long oneComment = taskService.getTaskRepresentationVersion(taskId);
+        Long twoComments = taskService.getTaskRepresentationVersion(taskId);
+        Long reordered = taskService.getTaskRepresentationVersion(taskId);
+
+        assertNotEquals(2L, oneComment);
+        assertNotEquals(oneComment, twoComments);
+        assertEquals(twoComments, reordered);
+    }
+
+    @Test
+    void testGetTaskRepresentationVersion_TaskNotFound() {
+        when(taskRepository.findVersionAndCommentIdsById(taskId)).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskRepresentationVersion(taskId));
+    }
+
+    @Test
+    void testGetTaskWithUsers_Success() {
+        when(taskRepository.findWithUsersAndCommentIdsById(taskId)).thenReturn(java.util.Optional.of(task));
+
+        Task foundTask = taskService.getTaskWithUsers(taskId);
+
+        assertEquals(user1, foundTask.getAuthor());
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void testGetTaskWithUsers_TaskNotFound() {
+        when(taskRepository.findWithUsersAndCommentIdsById(taskId)).thenReturn(java.util.Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.getTaskWithUsers(taskId));
+    }
+
+    @Test
+    void testSearchTasks_ShouldReturnCursorOfLastHit_WhenMoreResultsExist() {
+        TaskDTO first = new TaskDTO();
+        first.setTaskId(7L);
+        TaskDTO second = new TaskDTO();
+        second.setTaskId(3L);
+        TaskDTO third = new TaskDTO();
+        third.setTaskId(9L);
+        when(taskRepository.search("login bug", null, null, 3)).thenReturn(List.of(
+                new TaskSearchHitDTO(first, 0.9f), new TaskSearchHitDTO(second, 0.5f),
+                new TaskSearchHitDTO(third, 0.1f)));
+
+        CursorPageDTO<TaskSearchHitDTO> page = taskService.searchTasks("login bug", null, 2);
+
+        assertEquals(2, page.getContent().size());
+        assertNotNull(page.getNextCursor());
+
+        when(taskRepository.search("login bug", 0.5f, 3L, 3)).thenReturn(List.of(new TaskSearchHitDTO(third, 0.1f)));
+
+        CursorPageDTO<TaskSearchHitDTO> nextPage = taskService.searchTasks("login bug", page.getNextCursor(), 2);
+
+        assertEquals(1, nextPage.getContent().size());
+        assertNull(nextPage.getNextCursor());
+    }
+
+    @Test
+    void testSearchTasks_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks(" ", null, 20));
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks("bug", null, 0));
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks("bug", "not-a-cursor", 20));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testSuggestTasks_ShouldDelegateToIndex() {
+        TaskDTO suggestion = new TaskDTO();
+        suggestion.setTaskId(taskId);
+        suggestion.setName("Task1");
+        when(taskNameIndex.suggest("ta", 10)).thenReturn(List.of(suggestion));
+
+        assertEquals(List.of(suggestion), taskService.suggestTasks("ta", 10));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testSuggestTasks_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> taskService.suggestTasks(" ", 10));
+        assertThrows(IllegalArgumentException.class, () -> taskService.suggestTasks("ta", 51));
+        verifyNoInteractions(taskNameIndex);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFilterTasks_ShouldQueryWithSpecification() {
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Task> page = mock(Page.class);
+        when(taskRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
+
+        TaskFilterDTO filter = new TaskFilterDTO(null, 1L, Set.of(TaskStatus.PENDING), Set.of(TaskPriority.HIGH),
+                Instant.parse("2025-01-01T00:00:00Z"), Instant.parse("2025-02-01T00:00:00Z"), null, null);
+
+        Page<Task> result = taskService.filterTasks(filter, pageable);
+
+        assertEquals(page, result);
+        verify(taskRepository).findAll(any(Specification.class), eq(pageable));
+    }
+
+    @Test
+    void testFilterTasks_InvalidTimeRange() {
+        TaskFilterDTO filter = new TaskFilterDTO();
+        filter.setUpdatedFrom(Instant.parse("2025-02-01T00:00:00Z"));
+        filter.setUpdatedTo(Instant.parse("2025-01-01T00:00:00Z"));
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.filterTasks(filter, PageRequest.of(0, 10)));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testGetTaskTimeline_ShouldCountByTimestampColumn() {
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2025-01-08T00:00:00Z");
+        List<TimeBucketDTO> buckets = List.of(new TimeBucketDTO(from, 3));
+        when(taskRepository.countPerInterval("updated_at", TimeInterval.DAY, from, to, TaskStatus.COMPLETED))
+                .thenReturn(buckets);
+
+        assertEquals(buckets, taskService.getTaskTimeline("updated", TimeInterval.DAY, from, to,
+                TaskStatus.COMPLETED));
+    }
+
+    @Test
+    void testGetTaskTimeline_InvalidArguments() {
+        Instant from = Instant.parse("2025-01-01T00:00:00Z");
+        Instant to = Instant.parse("2026-01-01T00:00:00Z");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTaskTimeline("deleted", TimeInterval.DAY, from, to, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTaskTimeline("created", TimeInterval.DAY, to, from, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTaskTimeline("created", TimeInterval.HOUR, from, to, null));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void testGetTaskBoard_ShouldWrapColumns() {
+        List<TaskBoardColumnDTO> columns = List.of(new TaskBoardColumnDTO(TaskStatus.PENDING, 0, List.of()));
+        when(taskRepository.findBoardColumns(1L, 5)).thenReturn(columns);
+
+        TaskBoardDTO board = taskService.getTaskBoard(1L, 5);
+
+        assertEquals(1L, board.getAssigneeId());
+        assertEquals(columns, board.getColumns());
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTaskBoard(1L, 0));
+    }
+
+    @Test
+    void testClaimNextTask_ShouldSkipTasksClaimedConcurrently() {
+        Task claimed = new Task();
+        claimed.setTaskId(6L);
+        claimed.setStatus(TaskStatus.PROCESSING);
+        claimed.setPriority(TaskPriority.HIGH);
+        when(taskQueue.peek(1L, 10)).thenReturn(List.of(5L, 6L));
+        when(taskRepository.claimPendingTask(eq(5L), eq(1L), any(Instant.class))).thenReturn(0);
+        when(taskRepository.claimPendingTask(eq(6L), eq(1L), any(Instant.class))).thenReturn(1);
+        when(taskRepository.findById(6L)).thenReturn(java.util.Optional.of(claimed));
+
+        Task result = taskService.claimNextTask(1L);
+
+        assertEquals(6L, result.getTaskId());
+        verify(taskQueue).remove(5L);
+        verify(taskQueue).remove(6L);
+        verify(taskStatisticsService).decrement(1L, TaskStatus.PENDING, TaskPriority.HIGH);
+        verify(taskStatisticsService).increment(1L, TaskStatus.PROCESSING, TaskPriority.HIGH);
+    }
+
+    @Test
+    void testClaimNextTask_NoPendingTask() {
+        when(taskQueue.peek(1L, 10)).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> taskService.claimNextTask(1L));
+    }
+
+    @Test
+    void testGetNextTask_ShouldSkipTasksNoLongerPending() {
+        Task completed = new Task();
+        completed.setTaskId(5L);
+        completed.setStatus(TaskStatus.COMPLETED);
+        completed.setAssignee(user1);
+        when(taskQueue.peek(1L, 10)).thenReturn(List.of(5L, taskId));
+        when(taskRepository.findById(5L)).thenReturn(java.util.Optional.of(completed));
+        when(taskRepository.findById(taskId)).thenReturn(java.util.Optional.of(task));
+
+        assertEquals(task, taskService.getNextTask(1L));
+    }
+}
@@ -0,0 +1,75 @@
+package com.demo.tms.service;
+
+import com.demo.tms.dto.TaskStatisticsDTO;
+import com.demo.tms.repository.TaskRepository;
+import com.demo.tms.utils.TaskPriority;
+import com.demo.tms.utils.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatisticsServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskStatisticsServiceImpl taskStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        taskStatisticsService = new TaskStatisticsServiceImpl(taskRepository, transactionManager);
+        when(taskRepository.countByAssigneeStatusAndPriority()).thenReturn(List.of(
+                new Object[]{1L, TaskStatus.PENDING, TaskPriority.HIGH, 3L},
+                new Object[]{2L, TaskStatus.PENDING, TaskPriority.HIGH, 2L},
+                new Object[]{2L, TaskStatus.COMPLETED, TaskPriority.LOW, 4L}));
+        taskStatisticsService.reconcile();
+    }
+
+    @Test
+    void getStatistics_ShouldReturnSeededCounts() {
+        TaskStatisticsDTO all = taskStatisticsService.getStatistics(null);
+        TaskStatisticsDTO assignee = taskStatisticsService.getStatistics(2L);
+
+        assertEquals(9L, all.getTotal());
+        assertEquals(5L, all.getByStatus().get(TaskStatus.PENDING));
+        assertEquals(0L, all.getByStatus().get(TaskStatus.PROCESSING));
+        assertEquals(4L, all.getByPriority().get(TaskPriority.LOW));
+        assertEquals(6L, assignee.getTotal());
+        assertEquals(2L, assignee.getByStatusAndPriority().get(TaskStatus.PENDING).get(TaskPriority.HIGH));
+        assertEquals(0L, taskStatisticsService.getStatistics(3L).getTotal());
+    }
+
+    @Test
+    void incrementAndDecrement_ShouldMoveCounts() {
+        taskStatisticsService.decrement(1L, TaskStatus.PENDING, TaskPriority.HIGH);
+        taskStatisticsService.increment(1L, TaskStatus.PROCESSING, TaskPriority.HIGH);
+
+        TaskStatisticsDTO assignee = taskStatisticsService.getStatistics(1L);
+        assertEquals(3L, assignee.getTotal());
+        assertEquals(2L, assignee.getByStatus().get(TaskStatus.PENDING));
+        assertEquals(1L, assignee.getByStatus().get(TaskStatus.PROCESSING));
+        assertEquals(1L, taskStatisticsService.getStatistics(null).getByStatus().get(TaskStatus.PROCESSING));
+    }
+
+    @Test
+    void reconcile_ShouldCorrectDrift() {
+        taskStatisticsService.increment(1L, TaskStatus.PROCESSING, TaskPriority.MEDIUM);
+
+        taskStatisticsService.reconcile();
+
+        assertEquals(3L, taskStatisticsService.getStatistics(1L).getTotal());
+        assertEquals(9L, taskStatisticsService.getStatistics(null).getTotal());
+    }
+}
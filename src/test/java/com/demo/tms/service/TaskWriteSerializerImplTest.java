@@ -0,0 +1,150 @@
+package com.demo.tms.service;
+
+import com.demo.tms.entity.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.annotation.EnableRetry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskWriteSerializerImplTest {
+
+    @Test
+    void execute_ShouldReturnResultOfWrite() {
+        TaskWriteSerializerImpl serializer = new TaskWriteSerializerImpl(16, 1000);
+
+        assertEquals("written", serializer.execute(1L, () -> "written"));
+    }
+
+    @Test
+    void execute_ShouldRunWritesToSameTaskOneAfterAnother() throws Exception {
+        TaskWriteSerializerImpl serializer = new TaskWriteSerializerImpl(16, 5000);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicBoolean firstRunning = new AtomicBoolean();
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> serializer.execute(1L, () -> {
+            firstRunning.set(true);
+            firstStarted.countDown();
+            await(releaseFirst);
+            firstRunning.set(false);
+            return null;
+        }));
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> second = CompletableFuture.supplyAsync(() -> serializer.execute(1L,
+                firstRunning::get));
+        Thread.sleep(50);
+        assertFalse(second.isDone());
+        releaseFirst.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        assertFalse(second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_ShouldThrowConflict_WhenEarlierWriteDoesNotCompleteInTime() throws Exception {
+        TaskWriteSerializerImpl serializer = new TaskWriteSerializerImpl(1, 50);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> serializer.execute(1L, () -> {
+            firstStarted.countDown();
+            await(releaseFirst);
+            return null;
+        }));
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+        assertThrows(CannotAcquireLockException.class, () -> serializer.execute(2L, () -> "written"));
+        releaseFirst.countDown();
+        first.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void execute_ShouldRetryWrite_WhenCommitFailsOptimisticLocking() {
+        try (AnnotationConfigApplicationContext context = retryingContext()) {
+            TaskWriteSerializer serializer = context.getBean(TaskWriteSerializer.class);
+            AtomicInteger attempts = new AtomicInteger();
+
+            String result = serializer.execute(1L, () -> {
+                if (attempts.incrementAndGet() == 1) {
+                    // a commit whose version check found the row changed by another instance
+                    throw new ObjectOptimisticLockingFailureException(Task.class, 1L);
+                }
+                return "written";
+            });
+
+            assertEquals("written", result);
+            assertEquals(2, attempts.get());
+        }
+    }
+
+    @Test
+    void execute_ShouldNotRetry_WhenLockTimesOut() throws Exception {
+        try (AnnotationConfigApplicationContext context = retryingContext()) {
+            TaskWriteSerializer serializer = context.getBean(TaskWriteSerializer.class);
+            CountDownLatch firstStarted = new CountDownLatch(1);
+            CountDownLatch releaseFirst = new CountDownLatch(1);
+            AtomicInteger attempts = new AtomicInteger();
+            CompletableFuture<Void> first = CompletableFuture.runAsync(() -> serializer.execute(1L, () -> {
+                firstStarted.countDown();
+                await(releaseFirst);
+                return null;
+            }));
+            assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+            long start = System.nanoTime();
+            assertThrows(CannotAcquireLockException.class, () -> serializer.execute(1L, attempts::incrementAndGet));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            releaseFirst.countDown();
+            first.get(5, TimeUnit.SECONDS);
+
+            assertEquals(0, attempts.get());
+            assertTrue(elapsedMillis < 1000, "a timed-out write must fail after one lock timeout");
+        }
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositiveStripeCount() {
+        assertThrows(IllegalArgumentException.class, () -> new TaskWriteSerializerImpl(0, 1000));
+    }
+
+    private static AnnotationConfigApplicationContext retryingContext() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test",
+                Map.of("tms.task-writes.retry-delay", "1")));
+        context.register(RetryConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    @Configuration
+    @EnableRetry
+    static class RetryConfig {
+
+        @Bean
+        TaskWriteSerializer taskWriteSerializer() {
+            return new TaskWriteSerializerImpl(1, 200);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
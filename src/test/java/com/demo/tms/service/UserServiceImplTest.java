@@ -1,7 +1,9 @@
 package com.demo.tms.service;
+import com.demo.tms.cache.ExistenceIndex;
 import com.demo.tms.entity.User;
 import com.demo.tms.exception.ResourceNotFoundException;
 import com.demo.tms.repository.UserRepository;
+import com.demo.tms.utils.ChangeAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +13,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -23,6 +30,12 @@ class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private ExistenceIndex existenceIndex;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -51,6 +64,7 @@ class UserServiceImplTest {
         assertNotNull(savedUser);
         assertEquals("encoded_password", savedUser.getPassword());
         verify(userRepository, times(1)).save(user);
+        verify(existenceIndex).addUser(user.getUserId());
     }
 
     // Test updateUser - User exists
@@ -106,6 +120,10 @@ class UserServiceImplTest {
         // Assert
         assertTrue(result);
         verify(userRepository, times(1)).deleteById(userId);
+        verify(existenceIndex).removeUser(userId);
+        verify(auditService).record(eq("user"), eq(userId), eq(ChangeAction.DELETED),
+                argThat(before -> before.get("email").equals("john@example.com") && !before.containsKey("password")),
+                isNull());
     }
 
     // Test deleteUser - User not found
@@ -156,6 +174,40 @@ class UserServiceImplTest {
         assertTrue(exception.getMessage().contains("User not found"));
     }
 
+    // Test getUserById - User absent from the existence index
+    @Test
+    void testGetUserById_AbsentFromIndex() {
+        Long userId = 1L;
+
+        // Arrange
+        when(existenceIndex.checkUser(userId)).thenReturn(ExistenceIndex.Existence.ABSENT);
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+            userService.getUserById(userId);
+        });
+        assertTrue(exception.getMessage().contains("User not found"));
+        verify(userRepository, never()).findById(any());
+    }
+
+    // Test getUsersByIds - absent IDs skipped, users and their tasks loaded with two queries
+    @Test
+    void testGetUsersByIds() {
+        // Arrange
+        when(existenceIndex.checkUser(1L)).thenReturn(ExistenceIndex.Existence.UNKNOWN);
+        when(existenceIndex.checkUser(2L)).thenReturn(ExistenceIndex.Existence.ABSENT);
+        when(existenceIndex.checkUser(3L)).thenReturn(ExistenceIndex.Existence.PRESENT);
+        when(userRepository.findAllWithCreatedTasksByIdIn(List.of(1L, 3L))).thenReturn(List.of(updatedUser));
+
+        // Act
+        Map<Long, User> users = userService.getUsersByIds(new LinkedHashSet<>(List.of(1L, 2L, 3L)));
+
+        // Assert
+        assertEquals(Map.of(1L, updatedUser), users);
+        verify(userRepository).findAllWithAssignedTasksByIdIn(Set.of(1L));
+        verify(userRepository, never()).findById(any());
+    }
+
     // Test getAllUsers
     @Test
     void testGetAllUsers() {